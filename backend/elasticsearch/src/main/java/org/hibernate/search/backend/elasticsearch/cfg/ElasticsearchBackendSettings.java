@@ -148,6 +148,20 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * Whether HTTP compression is enabled.
+	 * <p>
+	 * When enabled, request bodies are compressed using gzip,
+	 * and Elasticsearch is asked to compress response bodies as well.
+	 * This reduces network usage at the cost of CPU usage, on both the client and the server.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -239,6 +253,34 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to load the hits of queries executed asynchronously,
+	 * e.g. through {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer)}.
+	 * <p>
+	 * Loading hits may block (e.g. when loading entities from a database),
+	 * so it is never performed in the threads of the HTTP client.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 */
+	public static final String READ_THREAD_POOL_SIZE = "read_thread_pool.size";
+
+	/**
+	 * The maximum number of asynchronous query results waiting for a thread of the
+	 * {@link #READ_THREAD_POOL_SIZE read thread pool}.
+	 * <p>
+	 * When the queue is full, the results of an asynchronous query will not be loaded:
+	 * the returned future will be completed exceptionally instead.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#READ_QUEUE_SIZE}.
+	 */
+	public static final String READ_QUEUE_SIZE = "read_thread_pool.queue_size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -254,11 +296,13 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final int READ_QUEUE_SIZE = 1000;
 	}
 }
@@ -82,6 +82,77 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size in bytes of the payload of bulk requests created when processing indexing queues.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed to such long value.
+	 * <p>
+	 * Defaults to no limit: bulks are only limited by {@link #INDEXING_MAX_BULK_SIZE the number of works}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE_BYTES;
+
+	/**
+	 * Whether the number of works in each bulk request should be adjusted automatically
+	 * based on the latency of previous bulk requests and on rejections from Elasticsearch.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE;
+
+	/**
+	 * The bulk request latency to aim for when {@link #INDEXING_ADAPTIVE_BULK_SIZE adaptive bulk size} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 1000},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY =
+			INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE_TARGET_LATENCY;
+
+	/**
+	 * Whether indexing works made pointless by later works should be eliminated before they are executed.
+	 * <p>
+	 * When enabled, if an indexing queue holds multiple works for the same document,
+	 * e.g. multiple updates caused by transactions updating the same entity in quick succession,
+	 * only the latest work is executed, and previous works complete when the latest one does.
+	 * Works are only coalesced within a batch, i.e. among works that were waiting in the same queue
+	 * when the queue was processed: see {@link #INDEXING_QUEUE_SIZE}
+	 * and {@link #INDEXING_COALESCING_DELAY}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCING}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_COALESCING = INDEXING_PREFIX + IndexingRadicals.COALESCING;
+
+	/**
+	 * How long to wait before processing works submitted to an idle indexing queue,
+	 * so that more works can accumulate in the queue and be {@link #INDEXING_COALESCING coalesced}.
+	 * <p>
+	 * Higher values increase the chance of coalescing works, but also increase indexing latency.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 100},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCING_DELAY}.
+	 */
+	public static final String INDEXING_COALESCING_DELAY = INDEXING_PREFIX + IndexingRadicals.COALESCING_DELAY;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -93,6 +164,11 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_SIZE_BYTES = "max_bulk_size_bytes";
+		public static final String ADAPTIVE_BULK_SIZE = "adaptive_bulk_size";
+		public static final String ADAPTIVE_BULK_SIZE_TARGET_LATENCY = "adaptive_bulk_size_target_latency";
+		public static final String COALESCING = "coalescing";
+		public static final String COALESCING_DELAY = "coalescing_delay";
 	}
 
 	/**
@@ -108,6 +184,10 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final boolean INDEXING_ADAPTIVE_BULK_SIZE = false;
+		public static final int INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY = 1000;
+		public static final boolean INDEXING_COALESCING = false;
+		public static final int INDEXING_COALESCING_DELAY = 0;
 	}
 
 }
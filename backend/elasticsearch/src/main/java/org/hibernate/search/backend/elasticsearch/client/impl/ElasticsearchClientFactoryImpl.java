@@ -106,6 +106,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS_PER_ROUTE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> DISCOVERY_ENABLED =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DISCOVERY_ENABLED )
 					.asBoolean()
@@ -138,7 +144,8 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, timeoutExecutorService,
 				requestTimeoutMs, TimeUnit.MILLISECONDS,
-				gsonProvider.getGson(), gsonProvider.getLogHelper()
+				gsonProvider.getGson(), gsonProvider.getLogHelper(),
+				COMPRESSION_ENABLED.get( propertySource )
 		);
 	}
 
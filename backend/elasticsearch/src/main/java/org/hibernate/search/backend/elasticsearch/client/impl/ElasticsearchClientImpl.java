@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -19,10 +21,15 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
@@ -49,6 +56,12 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final String GZIP_ENCODING = "gzip";
+
+	private static final RequestOptions GZIP_REQUEST_OPTIONS = RequestOptions.DEFAULT.toBuilder()
+			.addHeader( HttpHeaders.ACCEPT_ENCODING, GZIP_ENCODING )
+			.build();
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
@@ -61,10 +74,12 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
+	private final boolean compressionEnabled;
+
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
 			int globalTimeoutValue, TimeUnit globalTimeoutUnit,
-			Gson gson, JsonLogHelper jsonLogHelper) {
+			Gson gson, JsonLogHelper jsonLogHelper, boolean compressionEnabled) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
@@ -72,12 +87,13 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 		this.globalTimeoutUnit = globalTimeoutUnit;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
+		this.compressionEnabled = compressionEnabled;
 	}
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( request, response ) );
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -99,7 +115,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -157,7 +173,7 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
@@ -166,16 +182,36 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 
 		request.setEntity( entity );
 
+		if ( compressionEnabled ) {
+			request.setOptions( GZIP_REQUEST_OPTIONS );
+		}
+
 		return request;
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
-			JsonObject body = parseBody( response );
-			return new ElasticsearchResponse(
-					response.getStatusLine().getStatusCode(),
-					response.getStatusLine().getReasonPhrase(),
-					body );
+			HttpEntity entity = response.getEntity();
+			byte[] rawBody = null;
+			Charset charset = null;
+			if ( entity != null ) {
+				rawBody = toByteArray( entity );
+				charset = getCharset( entity );
+			}
+			if ( request.streamedResponse() ) {
+				// Parsing is deferred: the work will stream through the parts of the body it needs.
+				return new ElasticsearchResponse(
+						response.getStatusLine().getStatusCode(),
+						response.getStatusLine().getReasonPhrase(),
+						gson, rawBody, charset );
+			}
+			else {
+				// Parse eagerly, so that malformed bodies are reported even if the work ignores the body.
+				return new ElasticsearchResponse(
+						response.getStatusLine().getStatusCode(),
+						response.getStatusLine().getReasonPhrase(),
+						parseBody( rawBody, charset ) );
+			}
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.failedToParseElasticsearchResponse(
@@ -185,19 +221,36 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
-		HttpEntity entity = response.getEntity();
-		if ( entity == null ) {
+	private JsonObject parseBody(byte[] rawBody, Charset charset) throws IOException {
+		if ( rawBody == null ) {
 			return null;
 		}
 
-		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, charset ) ) {
+		try ( Reader reader = new InputStreamReader( new ByteArrayInputStream( rawBody ), charset ) ) {
 			return gson.fromJson( reader, JsonObject.class );
 		}
 	}
 
+	private static byte[] toByteArray(HttpEntity entity) throws IOException {
+		Header contentEncoding = entity.getContentEncoding();
+		if ( contentEncoding == null || !GZIP_ENCODING.equalsIgnoreCase( contentEncoding.getValue() ) ) {
+			return EntityUtils.toByteArray( entity );
+		}
+		// The low-level REST client doesn't decompress responses: we have to do it ourselves.
+		long compressedLength = entity.getContentLength();
+		// JSON generally compresses well: expect a decompressed size of several times the compressed size
+		int initialCapacity = compressedLength > 0 ? (int) Math.min( compressedLength * 4, Integer.MAX_VALUE - 8 ) : 4096;
+		ByteArrayOutputStream result = new ByteArrayOutputStream( initialCapacity );
+		try ( InputStream stream = new GZIPInputStream( entity.getContent() ) ) {
+			byte[] buffer = new byte[4096];
+			int read;
+			while ( ( read = stream.read( buffer ) ) != -1 ) {
+				result.write( buffer, 0, read );
+			}
+		}
+		return result.toByteArray();
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
@@ -40,12 +42,35 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+	/**
+	 * @param gson The Gson instance used to serialize requests.
+	 * @param request The request whose body should be converted.
+	 * @param gzip Whether the body should be compressed using gzip.
+	 * @return An entity for the body of the given request, or {@code null} if the request has no body.
+	 * @throws IOException If encoding the body fails.
+	 */
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean gzip) throws IOException {
 		final List<JsonObject> bodyParts = request.bodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, gzip );
+	}
+
+	/**
+	 * @param gson The Gson instance used to serialize requests.
+	 * @param bodyParts The body parts to measure. {@code null} elements are ignored.
+	 * @return The number of bytes these body parts will take in the payload of a request.
+	 */
+	public static long computeBodySize(Gson gson, JsonObject... bodyParts) {
+		CountingOutputStream countingStream = new CountingOutputStream( DiscardingOutputStream.INSTANCE );
+		try {
+			GsonHttpEntity.writeBodyParts( gson, countingStream, Arrays.asList( bodyParts ) );
+		}
+		catch (IOException e) {
+			throw new AssertionFailure( "Unexpected I/O exception when writing to a discarding stream", e );
+		}
+		return countingStream.getBytesWritten();
 	}
 
 	public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient client) {
@@ -76,4 +101,18 @@ private static ElasticsearchVersion tryGetElasticsearchVersion(ElasticsearchClie
 		}
 	}
 
+	private static final class DiscardingOutputStream extends OutputStream {
+		private static final DiscardingOutputStream INSTANCE = new DiscardingOutputStream();
+
+		@Override
+		public void write(int b) {
+			// Discard
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			// Discard
+		}
+	}
+
 }
@@ -14,6 +14,7 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -55,6 +56,10 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Optionally, the content can be compressed using gzip: compression happens
+ * in the same progressive pipeline, and the content length can still be reported
+ * for small messages, since it is then the length of the compressed content.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,6 +68,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -82,6 +89,7 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final boolean gzip;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -118,15 +126,16 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private ProgressiveCharBufferWriter writer;
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, boolean gzip) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.gzip = gzip;
 		this.contentLength = -1;
+		this.writer = createWriter();
 		attemptOnePassEncoding();
 	}
 
@@ -153,8 +162,8 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
-		//Apparently this is the correct value:
-		return null;
+		//Apparently this is the correct value when not compressing:
+		return gzip ? CONTENT_ENCODING_GZIP : null;
 	}
 
 	@Override
@@ -174,14 +183,38 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
+		if ( gzip ) {
+			GZIPOutputStream gzipStream = new GZIPOutputStream( countingStream, BYTE_BUFFER_PAGE_SIZE );
+			writeBodyParts( gson, gzipStream, bodyParts );
+			gzipStream.finish();
+		}
+		else {
+			writeBodyParts( gson, countingStream, bodyParts );
+		}
+		//Now we finally know the content size in bytes:
+		hintContentLength( countingStream.getBytesWritten() );
+	}
+
+	/**
+	 * Write body parts the way they are sent to Elasticsearch: one JSON object per line.
+	 * <p>
+	 * Does not close the output stream.
+	 *
+	 * @param gson The Gson instance to use for serialization.
+	 * @param out The output stream to write to.
+	 * @param bodyParts The body parts to write. {@code null} elements are ignored.
+	 * @throws IOException If writing to the output stream fails.
+	 */
+	static void writeBodyParts(Gson gson, OutputStream out, Iterable<JsonObject> bodyParts) throws IOException {
+		Writer writer = new OutputStreamWriter( out, CHARSET );
 		for ( JsonObject bodyPart : bodyParts ) {
+			if ( bodyPart == null ) {
+				continue;
+			}
 			gson.toJson( bodyPart, writer );
 			writer.append( '\n' );
 		}
 		writer.flush();
-		//Now we finally know the content size in bytes:
-		hintContentLength( countingStream.getBytesWritten() );
 	}
 
 	@Override
@@ -201,7 +234,12 @@ public void close() {
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.writer.close();
+		this.writer = createWriter();
+	}
+
+	private ProgressiveCharBufferWriter createWriter() {
+		return new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE, gzip );
 	}
 
 	/**
@@ -220,7 +258,7 @@ private void attemptOnePassEncoding() throws IOException {
 		// as it's not set yet.
 		triggerFullWrite();
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
-			writer.flush();
+			writer.finish();
 			// The buffer's current content size is the final content size,
 			// as we know the entire content has been encoded already,
 			// and we also know no content was consumed from the buffer yet.
@@ -272,6 +310,7 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		writer.finish();
 		writer.flushToOutput();
 		if ( writer.isFlowControlPushingBack() ) {
 			//Just quit: return control to the caller and trust we'll be called again.
@@ -286,6 +325,11 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 
 		//Allow to repeat the content rendering from the beginning:
 		this.nextBodyToEncodeIndex = 0;
+		if ( gzip ) {
+			//The compressed stream was terminated: we need a new one.
+			this.writer.close();
+			this.writer = createWriter();
+		}
 	}
 
 	private void hintContentLength(long contentLength) {
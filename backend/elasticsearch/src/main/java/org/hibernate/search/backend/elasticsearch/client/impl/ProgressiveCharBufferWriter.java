@@ -16,6 +16,8 @@
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -26,11 +28,24 @@
  * To be used when your input source is not reactive (uses {@link Writer}),
  * but you have multiple elements to write and thus could take advantage of
  * reactive output to some extent.
+ * <p>
+ * Optionally, the content can be compressed using gzip:
+ * encoded bytes then go through a {@link Deflater} before being stored in buffer pages,
+ * and {@link #finish()} must be called once all content has been written.
  *
  * @author Sanne Grinovero
  */
 class ProgressiveCharBufferWriter extends Writer {
 
+	private static final byte[] GZIP_HEADER = new byte[] {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time: none
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
 	private final CharsetEncoder charsetEncoder;
 
 	/**
@@ -70,10 +85,20 @@ class ProgressiveCharBufferWriter extends Writer {
 	 */
 	private boolean flowControlPushingBack = false;
 
+	/**
+	 * The gzip compression stage, or null if compression is disabled.
+	 */
+	private final GzipStage gzipStage;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+		this( charset, charBufferSize, pageSize, false );
+	}
+
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize, boolean gzip) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
+		this.gzipStage = gzip ? new GzipStage( pageSize ) : null;
 	}
 
 	/**
@@ -125,9 +150,32 @@ public void flush() throws IOException {
 		// don't flush byte buffers to output as we want to control that flushing independently.
 	}
 
+	/**
+	 * Mark the end of the content.
+	 * <p>
+	 * When compressing, this flushes the compressor and writes the gzip trailer to the buffer pages,
+	 * so it must be called before the last call to {@link #flushToOutput()}
+	 * and before relying on {@link #byteBufferContentSize()} to compute the full content size.
+	 * Without compression, this is the same as {@link #flush()}.
+	 * <p>
+	 * No content may be written after this method has been called.
+	 * Calling this method multiple times is safe.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void finish() throws IOException {
+		flush();
+		if ( gzipStage != null ) {
+			gzipStage.finish();
+		}
+	}
+
 	@Override
 	public void close() {
-		// Nothing to do
+		if ( gzipStage != null ) {
+			// Release native resources
+			gzipStage.end();
+		}
 	}
 
 	/**
@@ -193,6 +241,10 @@ public int byteBufferContentSize() {
 	}
 
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
+		if ( gzipStage != null ) {
+			gzipStage.write( input );
+			return;
+		}
 		while ( true ) {
 			if ( currentPage == null ) {
 				currentPage = ByteBuffer.allocate( pageSize );
@@ -202,17 +254,7 @@ private void writeToByteBuffer(CharBuffer input) throws IOException {
 				return;
 			}
 			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
-				// Avoid storing buffers if we can simply flush them
-				attemptFlushPendingBuffers( true );
-				if ( currentPage != null ) {
-					/*
-					 * We couldn't flush the current page, but it's full,
-					 * so let's move it out of the way.
-					 */
-					currentPage.flip();
-					needWritingPages.add( currentPage );
-					currentPage = null;
-				}
+				onCurrentPageFull();
 			}
 			else {
 				//Encoding exception
@@ -222,6 +264,30 @@ else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
 		}
 	}
 
+	private void onCurrentPageFull() throws IOException {
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( true );
+		if ( currentPage != null ) {
+			/*
+			 * We couldn't flush the current page, but it's full,
+			 * so let's move it out of the way.
+			 */
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+	}
+
+	private ByteBuffer currentPageWithRemainingSpace() throws IOException {
+		if ( currentPage != null && !currentPage.hasRemaining() ) {
+			onCurrentPageFull();
+		}
+		if ( currentPage == null ) {
+			currentPage = ByteBuffer.allocate( pageSize );
+		}
+		return currentPage;
+	}
+
 	/**
 	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
 	 */
@@ -270,4 +336,115 @@ private boolean write(ByteBuffer buffer) throws IOException {
 		return toWrite == actuallyWritten;
 	}
 
+	/**
+	 * Compresses encoded bytes into the buffer pages using the gzip format (RFC 1952).
+	 * <p>
+	 * We don't use {@link java.util.zip.GZIPOutputStream} because it would force us to copy
+	 * its output into our buffer pages: instead, the deflater writes directly into the pages.
+	 */
+	private final class GzipStage {
+
+		private static final int TRAILER_SIZE = 8;
+
+		private final Deflater deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+		private final CRC32 crc = new CRC32();
+
+		/**
+		 * Holds bytes produced by the charset encoder until they are passed to the deflater.
+		 */
+		private final ByteBuffer uncompressedBuffer;
+
+		private boolean headerWritten = false;
+		private boolean finished = false;
+
+		private GzipStage(int bufferSize) {
+			this.uncompressedBuffer = ByteBuffer.allocate( bufferSize );
+		}
+
+		void write(CharBuffer input) throws IOException {
+			writeHeaderIfNecessary();
+			while ( true ) {
+				CoderResult coderResult = charsetEncoder.encode( input, uncompressedBuffer, false );
+				if ( coderResult.isUnderflow() || coderResult.isOverflow() ) {
+					compressUncompressedBuffer();
+					if ( coderResult.isUnderflow() ) {
+						return;
+					}
+				}
+				else {
+					//Encoding exception
+					coderResult.throwException();
+					return; //Unreachable
+				}
+			}
+		}
+
+		void finish() throws IOException {
+			if ( finished ) {
+				return;
+			}
+			writeHeaderIfNecessary();
+			deflater.finish();
+			while ( !deflater.finished() ) {
+				deflate( Deflater.NO_FLUSH );
+			}
+			int checksum = (int) crc.getValue();
+			// The size is written modulo 2^32, as required by the format
+			int uncompressedSize = (int) deflater.getBytesRead();
+			byte[] trailer = new byte[TRAILER_SIZE];
+			for ( int i = 0; i < 4; i++ ) {
+				// Both values are written in little-endian order
+				trailer[i] = (byte) ( checksum >> ( 8 * i ) );
+				trailer[4 + i] = (byte) ( uncompressedSize >> ( 8 * i ) );
+			}
+			writeToPages( trailer );
+			deflater.end();
+			finished = true;
+		}
+
+		void end() {
+			deflater.end();
+		}
+
+		private void writeHeaderIfNecessary() throws IOException {
+			if ( !headerWritten ) {
+				writeToPages( GZIP_HEADER );
+				headerWritten = true;
+			}
+		}
+
+		private void compressUncompressedBuffer() throws IOException {
+			uncompressedBuffer.flip();
+			if ( uncompressedBuffer.hasRemaining() ) {
+				byte[] array = uncompressedBuffer.array();
+				int offset = uncompressedBuffer.arrayOffset() + uncompressedBuffer.position();
+				int length = uncompressedBuffer.remaining();
+				crc.update( array, offset, length );
+				deflater.setInput( array, offset, length );
+				// The deflater keeps a reference to the array: consume all input before we reuse the buffer.
+				while ( !deflater.needsInput() ) {
+					deflate( Deflater.NO_FLUSH );
+				}
+			}
+			uncompressedBuffer.clear();
+		}
+
+		private void deflate(int flushMode) throws IOException {
+			ByteBuffer page = currentPageWithRemainingSpace();
+			int written = deflater.deflate( page.array(), page.arrayOffset() + page.position(), page.remaining(),
+					flushMode );
+			page.position( page.position() + written );
+		}
+
+		private void writeToPages(byte[] bytes) throws IOException {
+			int offset = 0;
+			while ( offset < bytes.length ) {
+				ByteBuffer page = currentPageWithRemainingSpace();
+				int length = Math.min( page.remaining(), bytes.length - offset );
+				page.put( bytes, offset, length );
+				offset += length;
+			}
+		}
+	}
+
 }
@@ -48,6 +48,7 @@ public static Builder builder(String method) {
 	private final List<JsonObject> bodyParts;
 	private final Long timeoutValue;
 	private final TimeUnit timeoutUnit;
+	private final boolean streamedResponse;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
@@ -56,6 +57,7 @@ private ElasticsearchRequest(Builder builder) {
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
 		this.timeoutValue = builder.timeoutValue;
 		this.timeoutUnit = builder.timeoutUnit;
+		this.streamedResponse = builder.streamedResponse;
 	}
 
 	public String method() {
@@ -82,6 +84,15 @@ public TimeUnit timeoutUnit() {
 		return timeoutUnit;
 	}
 
+	/**
+	 * @return {@code true} if the body of the response will be streamed through
+	 * using {@link ElasticsearchResponse#bodyReader()}, and thus should not be parsed eagerly.
+	 * {@code false} otherwise.
+	 */
+	public boolean streamedResponse() {
+		return streamedResponse;
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", ElasticsearchRequest.class.getSimpleName() + "[", "]" )
@@ -91,6 +102,7 @@ public String toString() {
 				.add( "bodyParts=" + bodyParts )
 				.add( "timeoutValue=" + timeoutValue )
 				.add( "timeoutUnit=" + timeoutUnit )
+				.add( "streamedResponse=" + streamedResponse )
 				.toString();
 	}
 
@@ -104,6 +116,7 @@ public static final class Builder {
 		private List<JsonObject> bodyParts;
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
+		private boolean streamedResponse;
 
 		private Builder(String method) {
 			super();
@@ -174,6 +187,11 @@ public Builder timeout(Long timeoutValue, TimeUnit timeoutUnit) {
 			return this;
 		}
 
+		public Builder streamedResponse() {
+			this.streamedResponse = true;
+			return this;
+		}
+
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
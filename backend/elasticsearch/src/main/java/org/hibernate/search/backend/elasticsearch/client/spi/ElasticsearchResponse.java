@@ -6,24 +6,77 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.Charset;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 
 public final class ElasticsearchResponse {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final int statusCode;
 
 	private final String statusMessage;
 
-	private final JsonObject body;
+	private final Gson gson;
+
+	private final byte[] rawBody;
+
+	private final Charset rawBodyCharset;
+
+	/*
+	 * Lazily parsed from the raw body if necessary.
+	 * Parsing the same body twice is harmless, so we don't bother with locks.
+	 */
+	private volatile JsonObject body;
 
 	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body) {
 		super();
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
+		this.gson = null;
+		this.rawBody = null;
+		this.rawBodyCharset = null;
 		this.body = body;
 	}
 
+	/**
+	 * Create a response whose body will only be parsed when necessary.
+	 * <p>
+	 * Works that only need part of the body can use {@link #bodyReader()}
+	 * to stream through the body instead of building a tree of the whole body in memory.
+	 * <p>
+	 * A malformed body will only be reported when it is read.
+	 * Clients should only use this constructor for {@link ElasticsearchRequest#streamedResponse() streamed responses}.
+	 *
+	 * @param statusCode The HTTP status code.
+	 * @param statusMessage The HTTP status message.
+	 * @param gson The Gson instance to use when parsing the body.
+	 * @param rawBody The raw body, or {@code null} if there is no body.
+	 * @param rawBodyCharset The charset of the raw body.
+	 */
+	public ElasticsearchResponse(int statusCode, String statusMessage, Gson gson, byte[] rawBody, Charset rawBodyCharset) {
+		super();
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+		this.gson = gson;
+		this.rawBody = rawBody;
+		this.rawBodyCharset = rawBodyCharset;
+		this.body = null;
+	}
+
 	public int statusCode() {
 		return statusCode;
 	}
@@ -32,8 +85,41 @@ public String statusMessage() {
 		return statusMessage;
 	}
 
+	/**
+	 * @return The body of the response, parsed on first call, or {@code null} if there is no body.
+	 * @throws org.hibernate.search.util.common.SearchException If the body cannot be parsed.
+	 */
 	public JsonObject body() {
-		return body;
+		JsonObject result = body;
+		if ( result == null && rawBody != null ) {
+			try ( Reader reader = new InputStreamReader( new ByteArrayInputStream( rawBody ), rawBodyCharset ) ) {
+				result = gson.fromJson( reader, JsonObject.class );
+			}
+			catch (IOException | RuntimeException e) {
+				throw log.failedToParseElasticsearchResponse( statusCode, statusMessage, e );
+			}
+			body = result;
+		}
+		return result;
+	}
+
+	/**
+	 * @return A new reader for streaming through the body of the response, or {@code null} if there is no body.
+	 * Cheaper than {@link #body()} when only some parts of the body are needed.
+	 * The caller is responsible for closing the reader.
+	 */
+	public JsonReader bodyReader() {
+		if ( rawBody != null ) {
+			if ( rawBody.length == 0 ) {
+				return null;
+			}
+			return new JsonReader( new InputStreamReader( new ByteArrayInputStream( rawBody ), rawBodyCharset ) );
+		}
+		JsonObject parsedBody = body;
+		if ( parsedBody != null ) {
+			return new JsonReader( new StringReader( parsedBody.toString() ) );
+		}
+		return null;
 	}
 
 }
@@ -10,6 +10,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
@@ -28,6 +29,7 @@
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
@@ -37,6 +39,8 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.work.execution.spi.DualWriteIndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.DualWriteIndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
@@ -83,6 +87,9 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor,
 
 	private ElasticsearchIndexSchemaManager schemaManager;
 
+	// The rebuild in progress, if any
+	private final AtomicReference<ElasticsearchIndexRebuild> rebuild = new AtomicReference<>();
+
 	ElasticsearchIndexManagerImpl(IndexManagerBackendContext backendContext,
 			ElasticsearchIndexModel model,
 			List<DocumentMetadataContributor> documentMetadataContributors) {
@@ -190,20 +197,33 @@ public <R> IndexIndexingPlan<R> createIndexingPlan(BackendSessionContext session
 			EntityReferenceFactory<R> entityReferenceFactory,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
 		// The commit strategy is ignored, because Elasticsearch always commits changes to its transaction log.
-		return backendContext.createIndexingPlan(
+		IndexIndexingPlan<R> plan = backendContext.createIndexingPlan(
 				indexingOrchestrator,
 				this,
 				sessionContext,
 				entityReferenceFactory,
 				refreshStrategy
 		);
+		ElasticsearchIndexRebuild currentRebuild = rebuild.get();
+		if ( currentRebuild == null ) {
+			return plan;
+		}
+		return new DualWriteIndexIndexingPlan<>(
+				currentRebuild.createIndexingPlan( sessionContext, entityReferenceFactory, refreshStrategy ),
+				plan
+		);
 	}
 
 	@Override
 	public IndexIndexer createIndexer(BackendSessionContext sessionContext) {
-		return backendContext.createIndexer(
+		IndexIndexer indexer = backendContext.createIndexer(
 				indexingOrchestrator, this, sessionContext
 		);
+		ElasticsearchIndexRebuild currentRebuild = rebuild.get();
+		if ( currentRebuild == null ) {
+			return indexer;
+		}
+		return new DualWriteIndexIndexer( currentRebuild.createIndexer( sessionContext ), indexer );
 	}
 
 	@Override
@@ -213,6 +233,32 @@ public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionConte
 		);
 	}
 
+	@Override
+	public CompletableFuture<IndexRebuild> startRebuild() {
+		if ( rebuild.get() != null ) {
+			throw log.indexRebuildAlreadyInProgress( model.hibernateSearchName(), getBackendAndIndexEventContext() );
+		}
+		ElasticsearchIndexSchemaManager currentSchemaManager = schemaManager;
+		return currentSchemaManager.currentPrimaryIndexName()
+				.thenCompose( originalPrimaryIndexName -> currentSchemaManager.createIndexForRebuild( originalPrimaryIndexName )
+						.thenApply( rebuiltPrimaryIndexName -> {
+							ElasticsearchIndexRebuild newRebuild = new ElasticsearchIndexRebuild(
+									this, backendContext, indexingOrchestrator, currentSchemaManager,
+									originalPrimaryIndexName, rebuiltPrimaryIndexName
+							);
+							if ( !rebuild.compareAndSet( null, newRebuild ) ) {
+								currentSchemaManager.dropRebuiltIndex( rebuiltPrimaryIndexName );
+								throw log.indexRebuildAlreadyInProgress( model.hibernateSearchName(),
+										getBackendAndIndexEventContext() );
+							}
+							return newRebuild;
+						} ) );
+	}
+
+	void onRebuildEnded(ElasticsearchIndexRebuild endedRebuild) {
+		rebuild.compareAndSet( endedRebuild, null );
+	}
+
 	@Override
 	public IndexScopeBuilder createScopeBuilder(BackendMappingContext mappingContext) {
 		return new ElasticsearchIndexScopeBuilder(
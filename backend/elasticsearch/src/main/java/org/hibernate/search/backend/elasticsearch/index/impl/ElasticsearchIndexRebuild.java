@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSerialWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.schema.management.impl.ElasticsearchIndexSchemaManager;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.execution.impl.WorkExecutionIndexManagerContext;
+import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A rebuild of an Elasticsearch index into a new Elasticsearch index, without aliases.
+ * <p>
+ * Works targeting the rebuilt index use its actual name instead of the write alias.
+ * When the rebuild completes, the write and read aliases are moved to the rebuilt index in a single request,
+ * and the original index is dropped.
+ */
+final class ElasticsearchIndexRebuild implements IndexRebuild, WorkExecutionIndexManagerContext {
+
+	private final ElasticsearchIndexManagerImpl indexManager;
+	private final IndexManagerBackendContext backendContext;
+	private final ElasticsearchSerialWorkOrchestrator indexingOrchestrator;
+	private final ElasticsearchIndexSchemaManager schemaManager;
+	private final URLEncodedString originalPrimaryIndexName;
+	private final URLEncodedString rebuiltPrimaryIndexName;
+
+	ElasticsearchIndexRebuild(ElasticsearchIndexManagerImpl indexManager,
+			IndexManagerBackendContext backendContext,
+			ElasticsearchSerialWorkOrchestrator indexingOrchestrator,
+			ElasticsearchIndexSchemaManager schemaManager,
+			URLEncodedString originalPrimaryIndexName, URLEncodedString rebuiltPrimaryIndexName) {
+		this.indexManager = indexManager;
+		this.backendContext = backendContext;
+		this.indexingOrchestrator = indexingOrchestrator;
+		this.schemaManager = schemaManager;
+		this.originalPrimaryIndexName = originalPrimaryIndexName;
+		this.rebuiltPrimaryIndexName = rebuiltPrimaryIndexName;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "originalPrimaryIndexName=" + originalPrimaryIndexName
+				+ ", rebuiltPrimaryIndexName=" + rebuiltPrimaryIndexName
+				+ "]";
+	}
+
+	@Override
+	public String getMappedTypeName() {
+		return indexManager.getMappedTypeName();
+	}
+
+	@Override
+	public URLEncodedString getElasticsearchIndexWriteName() {
+		return rebuiltPrimaryIndexName;
+	}
+
+	@Override
+	public String toElasticsearchId(String tenantId, String id) {
+		return indexManager.toElasticsearchId( tenantId, id );
+	}
+
+	@Override
+	public JsonObject createDocument(String tenantId, String id, DocumentContributor documentContributor) {
+		return indexManager.createDocument( tenantId, id, documentContributor );
+	}
+
+	@Override
+	public IndexIndexer createIndexer(BackendSessionContext sessionContext) {
+		return backendContext.createIndexer( indexingOrchestrator, this, sessionContext );
+	}
+
+	@Override
+	public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionContext) {
+		return backendContext.createWorkspace( this, sessionContext );
+	}
+
+	@Override
+	public CompletableFuture<?> complete() {
+		return schemaManager.switchToRebuiltIndex( originalPrimaryIndexName, rebuiltPrimaryIndexName )
+				.whenComplete( (ignored, throwable) -> indexManager.onRebuildEnded( this ) );
+	}
+
+	@Override
+	public CompletableFuture<?> abort() {
+		// Stop writing to the rebuilt index before dropping it.
+		indexManager.onRebuildEnded( this );
+		return schemaManager.dropRebuiltIndex( rebuiltPrimaryIndexName );
+	}
+
+	<R> IndexIndexingPlan<R> createIndexingPlan(BackendSessionContext sessionContext,
+			EntityReferenceFactory<R> entityReferenceFactory, DocumentRefreshStrategy refreshStrategy) {
+		return backendContext.createIndexingPlan( indexingOrchestrator, this, sessionContext,
+				entityReferenceFactory, refreshStrategy );
+	}
+}
@@ -153,7 +153,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.documentIdHelper().checkTenantId( sessionContext.tenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
-				generalPurposeOrchestrator,
+				generalPurposeOrchestrator, threads.getReadExecutor(),
 				searchContext, sessionContext, loadingContextBuilder, rootProjection
 		);
 	}
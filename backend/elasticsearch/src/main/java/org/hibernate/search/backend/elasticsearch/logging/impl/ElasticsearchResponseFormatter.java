@@ -40,8 +40,14 @@ private static String formatResponse(ElasticsearchResponse response) {
 		sb.append( response.statusCode() )
 				.append( " '" )
 				.append( response.statusMessage() )
-				.append( "' with body " )
-				.append( helper.toString( response.body() ) );
+				.append( "' with body " );
+		try {
+			sb.append( helper.toString( response.body() ) );
+		}
+		catch (RuntimeException e) {
+			// Don't let an unparseable body hide the original error
+			sb.append( "(unparseable: " ).append( e.getMessage() ).append( ")" );
+		}
 
 		return sb.toString();
 	}
@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
@@ -677,4 +678,48 @@ SearchException invalidFieldValueType(@FormatWith(ClassFormatter.class) Class<?>
 					+ " Make sure to call '.multi()' when you create the projection.")
 	SearchException invalidSingleValuedProjectionOnMultiValuedField(String absolutePath, @Param EventContext context);
 
+	@Message(id = ID_OFFSET_3 + 114,
+			value = "Cannot use this scroll: it has already been closed.")
+	SearchException scrollClosed();
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 115,
+			value = "Indexing throughput for '%1$s': %2$d works in %3$d bulk requests over the last %4$d ms"
+					+ " (%5$.1f works per second). Current maximum bulk size: %6$d works.")
+	void indexingThroughput(String orchestratorName, long workCount, long bulkCount, long elapsedMs,
+			double worksPerSecond, int currentMaxBulkSize);
+
+	@LogMessage(level = Level.TRACE)
+	@Message(id = ID_OFFSET_3 + 116,
+			value = "Adjusted the maximum bulk size for '%1$s' from %2$d to %3$d works."
+					+ " Last bulk request: %4$d works, %5$d ms, %6$d rejected works.")
+	void adjustedMaxBulkSize(String orchestratorName, int previousMaxBulkSize, int newMaxBulkSize,
+			int workCount, long latencyMs, int rejectedWorkCount);
+
+	@Message(id = ID_OFFSET_3 + 117,
+			value = "Unable to rebuild index '%1$s': another rebuild of this index is already in progress.")
+	SearchException indexRebuildAlreadyInProgress(String indexName, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 118,
+			value = "Unable to rebuild index '%1$s': the write alias and read alias of this index must be actual aliases,"
+					+ " distinct from the name of the Elasticsearch index '%2$s'."
+					+ " Check your index layout strategy.")
+	SearchException indexRebuildRequiresAliases(String indexName, String primaryIndexName,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 119,
+			value = "Unable to move aliases from Elasticsearch index '%1$s' to Elasticsearch index '%2$s': %3$s")
+	SearchException elasticsearchAliasMoveFailed(URLEncodedString sourceIndexName, URLEncodedString targetIndexName,
+			String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_3 + 120,
+			value = "Unable to load the results of the query asynchronously: the queue of the read thread pool is full."
+					+ " Increase the size of the read thread pool or of its queue,"
+					+ " or reduce the number of concurrent asynchronous queries.")
+	SearchException readQueueFull(@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_3 + 121,
+			value = "Invalid scroll timeout: '%1$s %2$s'. The scroll timeout must be strictly positive.")
+	SearchException invalidScrollTimeout(long timeout, TimeUnit timeUnit);
+
 }
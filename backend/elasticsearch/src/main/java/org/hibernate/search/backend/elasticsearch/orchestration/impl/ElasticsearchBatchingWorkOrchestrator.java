@@ -7,8 +7,10 @@
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
@@ -16,10 +18,13 @@
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
 
+import com.google.gson.Gson;
+
 /**
  * An orchestrator sending works to a queue which is processed periodically
  * in a separate thread.
@@ -51,6 +56,35 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Long> MAX_BULK_SIZE_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE_BYTES )
+					.asLong()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ADAPTIVE_BULK_SIZE_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> COALESCING =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_COALESCING )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_COALESCING )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COALESCING_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_COALESCING_DELAY )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_COALESCING_DELAY )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -82,24 +116,37 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		long maxBulkSizeInBytes = MAX_BULK_SIZE_BYTES.get( propertySource ).orElse( Long.MAX_VALUE );
+		boolean adaptiveBulkSize = ADAPTIVE_BULK_SIZE.get( propertySource );
+		int adaptiveBulkSizeTargetLatency = ADAPTIVE_BULK_SIZE_TARGET_LATENCY.get( propertySource );
+		boolean coalescing = COALESCING.get( propertySource );
+		int coalescingDelay = coalescing ? COALESCING_DELAY.get( propertySource ) : 0;
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
+		// Shared by all queues: they all send bulks to the same index.
+		ElasticsearchBulkSizeController bulkSizeController = new ElasticsearchBulkSizeController(
+				name(), maxBulkSize,
+				adaptiveBulkSize, ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE,
+				adaptiveBulkSizeTargetLatency
+		);
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, bulkSizeController,
+					maxBulkSizeInBytes );
 			executors[i] = new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
+					coalescing,
 					failureHandler
 			);
 		}
 
 		for ( BatchingExecutor<?> executor : executors ) {
-			executor.start( threads.getWorkExecutor() );
+			executor.start( threads.getWorkExecutor(), coalescingDelay, TimeUnit.MILLISECONDS );
 		}
 	}
 
@@ -126,13 +173,19 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			ElasticsearchBulkSizeController bulkSizeController, long maxBulkSizeInBytes) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
+		Gson gson = link.getGsonProvider().getGson();
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) ->
+				(worksToBulk, refreshStrategy) -> bulkSizeController.monitor(
 						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+						worksToBulk.size()
+				),
+				bulkSizeController::getMaxBulkSize,
+				maxBulkSizeInBytes,
+				work -> ElasticsearchClientUtils.computeBodySize( gson,
+						work.getBulkableActionMetadata(), work.getBulkableActionBody() )
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
@@ -0,0 +1,182 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Keeps track of executed bulks in order to report indexing throughput
+ * and, optionally, to adjust the maximum number of works per bulk.
+ * <p>
+ * When adaptive, the maximum bulk size is increased slightly after each full bulk
+ * that completes faster than the target latency,
+ * and decreased sharply after each bulk that is slower than the target latency,
+ * fails, or gets some of its items rejected because Elasticsearch is overloaded (HTTP 429).
+ * It always stays between 1 and the configured maximum bulk size.
+ * <p>
+ * This class is thread-safe: a single instance is shared by all the queues of an index,
+ * and is notified from HTTP client threads.
+ */
+final class ElasticsearchBulkSizeController {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long THROUGHPUT_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos( 10 );
+
+	private final String name;
+	private final int maxBulkSize;
+	private final boolean adaptive;
+	private final long targetLatencyNanos;
+
+	private final AtomicInteger currentMaxBulkSize;
+
+	private final LongAdder completedWorkCount = new LongAdder();
+	private final LongAdder completedBulkCount = new LongAdder();
+	private final AtomicLong throughputReportStartNanos = new AtomicLong( System.nanoTime() );
+
+	/**
+	 * @param name The name of the orchestrator using this controller, used when logging.
+	 * @param maxBulkSize The maximum number of works in a single bulk.
+	 * @param adaptive Whether the maximum number of works should be adjusted based on executed bulks.
+	 * @param initialBulkSize The maximum number of works in a single bulk to start with, if adaptive.
+	 * @param targetLatencyMs The bulk latency to aim for, if adaptive.
+	 */
+	ElasticsearchBulkSizeController(String name, int maxBulkSize, boolean adaptive, int initialBulkSize,
+			long targetLatencyMs) {
+		this.name = name;
+		this.maxBulkSize = maxBulkSize;
+		this.adaptive = adaptive;
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMs );
+		this.currentMaxBulkSize = new AtomicInteger( adaptive ? Math.min( maxBulkSize, initialBulkSize ) : maxBulkSize );
+	}
+
+	/**
+	 * @return The current maximum number of works in a single bulk.
+	 */
+	int getMaxBulkSize() {
+		return currentMaxBulkSize.get();
+	}
+
+	/**
+	 * @param bulkWork A bulk work.
+	 * @param workCount The number of works in the bulk.
+	 * @return A work that will execute the given bulk work and notify this controller of the outcome.
+	 */
+	NonBulkableWork<BulkResult> monitor(NonBulkableWork<BulkResult> bulkWork, int workCount) {
+		return new MonitoredBulkWork( this, bulkWork, workCount );
+	}
+
+	void onBulkSuccess(int workCount, long latencyNanos, int rejectedItemCount) {
+		completedWorkCount.add( workCount );
+		completedBulkCount.increment();
+
+		if ( adaptive ) {
+			if ( rejectedItemCount > 0 || latencyNanos > targetLatencyNanos ) {
+				adjust( workCount, latencyNanos, rejectedItemCount, ElasticsearchBulkSizeController::decrease );
+			}
+			else if ( workCount >= currentMaxBulkSize.get() ) {
+				// Only increase when the limit was actually reached: smaller bulks tell us nothing about larger ones.
+				adjust( workCount, latencyNanos, rejectedItemCount, ElasticsearchBulkSizeController::increase );
+			}
+		}
+
+		reportThroughputIfNecessary();
+	}
+
+	void onBulkFailure(int workCount, long latencyNanos) {
+		if ( adaptive ) {
+			// Failures of whole bulks are generally caused by overload, timeouts or payloads that are too large
+			adjust( workCount, latencyNanos, workCount, ElasticsearchBulkSizeController::decrease );
+		}
+	}
+
+	private void adjust(int workCount, long latencyNanos, int rejectedItemCount, IntUnaryOperator adjustment) {
+		int previous;
+		int next;
+		do {
+			previous = currentMaxBulkSize.get();
+			next = Math.max( 1, Math.min( maxBulkSize, adjustment.applyAsInt( previous ) ) );
+		}
+		while ( previous != next && !currentMaxBulkSize.compareAndSet( previous, next ) );
+
+		if ( previous != next ) {
+			log.adjustedMaxBulkSize( name, previous, next, workCount,
+					TimeUnit.NANOSECONDS.toMillis( latencyNanos ), rejectedItemCount );
+		}
+	}
+
+	private void reportThroughputIfNecessary() {
+		if ( !log.isDebugEnabled() ) {
+			return;
+		}
+		long now = System.nanoTime();
+		long start = throughputReportStartNanos.get();
+		long elapsedNanos = now - start;
+		if ( elapsedNanos < THROUGHPUT_REPORT_INTERVAL_NANOS
+				|| !throughputReportStartNanos.compareAndSet( start, now ) ) {
+			return;
+		}
+		// Concurrent updates may be attributed to the next report: this is only an approximation.
+		long works = completedWorkCount.sumThenReset();
+		long bulks = completedBulkCount.sumThenReset();
+		double worksPerSecond = works * (double) TimeUnit.SECONDS.toNanos( 1 ) / elapsedNanos;
+		log.indexingThroughput( name, works, bulks, TimeUnit.NANOSECONDS.toMillis( elapsedNanos ),
+				worksPerSecond, currentMaxBulkSize.get() );
+	}
+
+	private static int increase(int bulkSize) {
+		return bulkSize + Math.max( 1, bulkSize / 10 );
+	}
+
+	private static int decrease(int bulkSize) {
+		return bulkSize / 2;
+	}
+
+	private static final class MonitoredBulkWork implements NonBulkableWork<BulkResult> {
+		private final ElasticsearchBulkSizeController controller;
+		private final NonBulkableWork<BulkResult> delegate;
+		private final int workCount;
+
+		private MonitoredBulkWork(ElasticsearchBulkSizeController controller,
+				NonBulkableWork<BulkResult> delegate, int workCount) {
+			this.controller = controller;
+			this.delegate = delegate;
+			this.workCount = workCount;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			long startNanos = System.nanoTime();
+			return delegate.execute( context ).whenComplete( (result, throwable) -> {
+				long latencyNanos = System.nanoTime() - startNanos;
+				if ( throwable == null ) {
+					controller.onBulkSuccess( workCount, latencyNanos, result.getRejectedItemCount() );
+				}
+				else {
+					controller.onBulkFailure( workCount, latencyNanos );
+				}
+			} );
+		}
+	}
+}
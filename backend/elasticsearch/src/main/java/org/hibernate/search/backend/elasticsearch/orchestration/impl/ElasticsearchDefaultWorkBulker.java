@@ -10,6 +10,8 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.function.ToLongFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
@@ -20,9 +22,12 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
-	private final int maxBulkSize;
+	private final IntSupplier maxBulkSize;
+	private final long maxBulkSizeInBytes;
+	private final ToLongFunction<BulkableWork<?>> workSizeInBytesFunction;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkSizeInBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,11 +42,34 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, () -> maxBulkSize, Long.MAX_VALUE, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize A supplier for the maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkSizeInBytes Maximum size of the payload of a single bulk, in bytes.
+	 * If adding a work to a non-empty bulk would exceed this size,
+	 * the bulk will be {@link #finalizeBulkWork() finalized} first.
+	 * Works that exceed this size on their own are sent in a bulk of their own.
+	 * @param workSizeInBytesFunction A function returning the size of the payload of a given work, in bytes.
+	 * Only used if {@code maxBulkSizeInBytes} is not {@link Long#MAX_VALUE}.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			IntSupplier maxBulkSize, long maxBulkSizeInBytes,
+			ToLongFunction<BulkableWork<?>> workSizeInBytesFunction) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkSizeInBytes = maxBulkSizeInBytes;
+		this.workSizeInBytesFunction = workSizeInBytesFunction;
 
 		this.currentBulkItems = new ArrayList<>();
+		this.currentBulkSizeInBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -58,6 +86,16 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workSizeInBytes = 0L;
+		if ( maxBulkSizeInBytes != Long.MAX_VALUE ) {
+			workSizeInBytes = workSizeInBytesFunction.applyAsLong( work );
+			if ( !currentBulkItems.isEmpty() && currentBulkSizeInBytes + workSizeInBytes > maxBulkSizeInBytes ) {
+				// This work would make the current bulk too large; send the current bulk first.
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = workRefreshStrategy;
+			}
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -65,12 +103,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkSizeInBytes += workSizeInBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize.getAsInt() || currentBulkSizeInBytes >= maxBulkSizeInBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -92,6 +131,7 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkSizeInBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
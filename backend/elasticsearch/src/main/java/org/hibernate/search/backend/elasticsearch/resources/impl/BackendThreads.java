@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.resources.impl;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
@@ -23,10 +24,22 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> READ_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.READ_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> READ_QUEUE_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.READ_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.READ_QUEUE_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService workExecutor;
+	private ExecutorService readExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -45,12 +58,25 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.workExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		// Loading of asynchronous query results gets its own, bounded pool,
+		// because it may block and must not delay indexing or client timeouts.
+		// Tasks are submitted from HTTP client threads, which must never block:
+		// when the queue is full, the query fails instead.
+		int readThreadPoolSize = READ_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.readExecutor = threadPoolProvider.newNonBlockingFixedThreadPool(
+				readThreadPoolSize, prefix + " - Read thread", READ_QUEUE_SIZE.get( propertySource )
+		);
 	}
 
 	public void onStop() {
 		if ( workExecutor != null ) {
 			workExecutor.shutdownNow();
 		}
+		if ( readExecutor != null ) {
+			readExecutor.shutdownNow();
+		}
 	}
 
 	public String getPrefix() {
@@ -67,6 +93,11 @@ public ScheduledExecutorService getWorkExecutor() {
 		return workExecutor;
 	}
 
+	public ExecutorService getReadExecutor() {
+		checkStarted();
+		return readExecutor;
+	}
+
 	private void checkStarted() {
 		if ( workExecutor == null ) {
 			throw new AssertionFailure(
@@ -6,19 +6,34 @@
  */
 package org.hibernate.search.backend.elasticsearch.schema.management.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class ElasticsearchIndexSchemaManager implements IndexSchemaManager {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Same format as names generated by the Rollover API and by the default layout strategy
+	private static final Pattern NUMBERED_PRIMARY_NAME_PATTERN = Pattern.compile( "(.*)-(\\d{6})" );
+
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 	private final ElasticsearchSchemaCreator schemaCreator;
 	private final ElasticsearchSchemaDropper schemaDropper;
@@ -110,4 +125,81 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 						: schemaAccessor.waitForIndexStatus( indexNames, executionOptions )
 				);
 	}
+
+	/**
+	 * @return A future holding the name of the Elasticsearch index that aliases currently point to.
+	 */
+	public CompletableFuture<URLEncodedString> currentPrimaryIndexName() {
+		return schemaAccessor.getCurrentIndexMetadata( indexNames )
+				.thenApply( metadata -> {
+					String primaryName = metadata.getPrimaryName();
+					if ( primaryName.equals( indexNames.getWrite().original )
+							|| primaryName.equals( indexNames.getRead().original ) ) {
+						// Aliases cannot be moved to another index if they are not aliases.
+						throw log.indexRebuildRequiresAliases( indexNames.getHibernateSearch(), primaryName,
+								EventContexts.fromIndexName( indexNames.getHibernateSearch() ) );
+					}
+					return URLEncodedString.fromString( primaryName );
+				} );
+	}
+
+	/**
+	 * Creates a new Elasticsearch index without any alias, to rebuild the index into.
+	 *
+	 * @param currentPrimaryIndexName The name of the Elasticsearch index that aliases currently point to.
+	 * @return A future holding the name of the new Elasticsearch index.
+	 */
+	public CompletableFuture<URLEncodedString> createIndexForRebuild(URLEncodedString currentPrimaryIndexName) {
+		URLEncodedString rebuiltPrimaryIndexName = nextPrimaryIndexName( currentPrimaryIndexName );
+		return schemaAccessor.createIndexAssumeNonExisting(
+				rebuiltPrimaryIndexName, Collections.emptyMap(),
+				expectedMetadata.getSettings(), expectedMetadata.getMapping()
+		)
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( rebuiltPrimaryIndexName, executionOptions ) )
+				.thenApply( ignored -> rebuiltPrimaryIndexName );
+	}
+
+	/**
+	 * Atomically moves the aliases to the rebuilt Elasticsearch index, then drops the original Elasticsearch index.
+	 * <p>
+	 * If the aliases cannot be moved, the rebuilt Elasticsearch index is dropped instead.
+	 *
+	 * @param currentPrimaryIndexName The name of the Elasticsearch index that aliases currently point to.
+	 * @param rebuiltPrimaryIndexName The name of the rebuilt Elasticsearch index.
+	 * @return A future that completes when the original Elasticsearch index has been dropped.
+	 */
+	public CompletableFuture<?> switchToRebuiltIndex(URLEncodedString currentPrimaryIndexName,
+			URLEncodedString rebuiltPrimaryIndexName) {
+		return schemaAccessor.moveAliases( currentPrimaryIndexName, rebuiltPrimaryIndexName,
+				expectedMetadata.getAliases() )
+				.handle( Futures.handler( (ignored, throwable) -> throwable ) )
+				.thenCompose( moveThrowable -> {
+					if ( moveThrowable == null ) {
+						return schemaAccessor.dropIndexIfExisting( currentPrimaryIndexName );
+					}
+					// The aliases still point to the original index: the rebuilt index will never be used.
+					return schemaAccessor.dropIndexIfExisting( rebuiltPrimaryIndexName )
+							.handle( (ignored, dropThrowable) -> {
+								if ( dropThrowable != null ) {
+									moveThrowable.addSuppressed( dropThrowable );
+								}
+								throw Throwables.toRuntimeException( moveThrowable );
+							} );
+				} );
+	}
+
+	public CompletableFuture<?> dropRebuiltIndex(URLEncodedString rebuiltPrimaryIndexName) {
+		return schemaAccessor.dropIndexIfExisting( rebuiltPrimaryIndexName );
+	}
+
+	private URLEncodedString nextPrimaryIndexName(URLEncodedString currentPrimaryIndexName) {
+		Matcher matcher = NUMBERED_PRIMARY_NAME_PATTERN.matcher( currentPrimaryIndexName.original );
+		if ( matcher.matches() ) {
+			int number = Integer.parseInt( matcher.group( 2 ) ) + 1;
+			return IndexNames.encodeName( String.format( Locale.ROOT, "%s-%06d", matcher.group( 1 ), number ) );
+		}
+		else {
+			return IndexNames.encodeName( currentPrimaryIndexName.original + "-000001" );
+		}
+	}
 }
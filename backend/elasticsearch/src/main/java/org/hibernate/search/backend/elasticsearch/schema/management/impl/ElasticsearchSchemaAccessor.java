@@ -122,6 +122,18 @@ public CompletableFuture<?> putAliases(URLEncodedString indexName, Map<String, I
 				} ) );
 	}
 
+	public CompletableFuture<?> moveAliases(URLEncodedString sourceIndexName, URLEncodedString targetIndexName,
+			Map<String, IndexAliasDefinition> aliases) {
+		NonBulkableWork<?> work = getWorkFactory().moveIndexAliases( sourceIndexName, targetIndexName, aliases )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchAliasMoveFailed(
+							sourceIndexName, targetIndexName, e.getMessage(), Throwables.expectException( e )
+					);
+				} ) );
+	}
+
 	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
 		return execute( work )
@@ -143,11 +155,13 @@ public CompletableFuture<?> putMapping(URLEncodedString indexName, RootTypeMappi
 	}
 
 	public CompletableFuture<?> waitForIndexStatus(IndexNames indexNames, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		return waitForIndexStatus( indexNames.getWrite(), executionOptions );
+	}
+
+	public CompletableFuture<?> waitForIndexStatus(URLEncodedString alias, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
 		IndexStatus requiredIndexStatus = executionOptions.getRequiredStatus();
 		String timeoutAndUnit = executionOptions.getRequiredStatusTimeoutInMs() + "ms";
 
-		URLEncodedString alias = indexNames.getWrite();
-
 		NonBulkableWork<?> work =
 				getWorkFactory().waitForIndexStatusWork( alias, requiredIndexStatus, timeoutAndUnit )
 						.build();
@@ -36,7 +36,8 @@
 
 	private static final JsonObjectAccessor SCRIPT_FIELDS_ACCESSOR = JsonAccessor.root().property( "script_fields" ).asObject();
 	private static final JsonObjectAccessor FIELDS_ACCESSOR = JsonAccessor.root().property( "fields" ).asObject();
-	private static final JsonArrayAccessor SORT_ACCESSOR = JsonAccessor.root().property( "sort" ).asArray();
+	private static final String SORT_PROPERTY_NAME = "sort";
+	private static final JsonArrayAccessor SORT_ACCESSOR = JsonAccessor.root().property( SORT_PROPERTY_NAME ).asArray();
 	private static final ElasticsearchGeoPointFieldCodec CODEC = ElasticsearchGeoPointFieldCodec.INSTANCE;
 
 	private static final ProjectionConverter<Double, Double> NO_OP_DOUBLE_CONVERTER = new ProjectionConverter<>(
@@ -113,7 +114,8 @@ public Set<String> getIndexNames() {
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 		if ( !multiValued && context.getDistanceSortIndex( absoluteFieldPath, center ) != null ) {
-			// Nothing to do, we'll rely on the sort key
+			// We'll rely on the sort key
+			context.requireHitProperty( SORT_PROPERTY_NAME );
 		}
 		else if ( scriptFieldName != null ) {
 			// we rely on a script to compute the distance
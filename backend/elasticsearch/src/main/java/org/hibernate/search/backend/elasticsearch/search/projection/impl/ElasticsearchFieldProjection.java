@@ -70,6 +70,7 @@ public String toString() {
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 		JsonPrimitive fieldPathJson = new JsonPrimitive( absoluteFieldPath );
 		REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, fieldPathJson );
+		context.requireSourcePath( absoluteFieldPathComponents );
 	}
 
 	@Override
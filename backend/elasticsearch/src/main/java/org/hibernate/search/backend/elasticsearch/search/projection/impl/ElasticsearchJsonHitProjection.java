@@ -23,7 +23,7 @@ class ElasticsearchJsonHitProjection implements ElasticsearchSearchProjection<Js
 
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
-		// No-op
+		context.requireFullHit();
 	}
 
 	@Override
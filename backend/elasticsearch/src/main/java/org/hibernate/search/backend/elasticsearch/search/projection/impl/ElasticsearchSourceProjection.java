@@ -33,6 +33,7 @@ class ElasticsearchSourceProjection implements ElasticsearchSearchProjection<Jso
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 		REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, WILDCARD_ALL );
+		context.requireFullSource();
 	}
 
 	@Override
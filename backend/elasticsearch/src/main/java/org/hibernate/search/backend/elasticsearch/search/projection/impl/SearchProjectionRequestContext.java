@@ -15,4 +15,35 @@ public interface SearchProjectionRequestContext {
 
 	ElasticsearchSearchSyntax getSearchSyntax();
 
+	/**
+	 * Requires a property of hits to be available when extracting hits.
+	 * <p>
+	 * {@code _index}, {@code _id}, {@code _score}, {@code _source}, {@code fields} and {@code _explanation}
+	 * are always available: Elasticsearch only returns the last three when requested.
+	 * Other properties, e.g. {@code sort}, are skipped when reading the response, unless required through this method.
+	 *
+	 * @param name The name of a property of hits.
+	 */
+	void requireHitProperty(String name);
+
+	/**
+	 * Requires hits to be available in full when extracting hits, including properties no projection needs.
+	 */
+	void requireFullHit();
+
+	/**
+	 * Requires a path in the {@code _source} of hits to be available when extracting hits.
+	 * <p>
+	 * Other paths in the {@code _source} are skipped when reading the response,
+	 * unless required through this method or {@link #requireFullSource()}.
+	 *
+	 * @param absolutePathComponents The components of the absolute path of a field in the {@code _source}.
+	 */
+	void requireSourcePath(String[] absolutePathComponents);
+
+	/**
+	 * Requires the {@code _source} of hits to be available in full when extracting hits.
+	 */
+	void requireFullSource();
+
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.dsl;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.backend.elasticsearch.search.aggregation.dsl.ElasticsearchSearchAggregationFactory;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
 import org.hibernate.search.backend.elasticsearch.search.sort.dsl.ElasticsearchSearchSortFactory;
@@ -39,6 +41,20 @@
 	@Incubating
 	ElasticsearchSearchQueryOptionsStep<H, LOS> requestTransformer(ElasticsearchSearchRequestTransformer transformer);
 
+	/**
+	 * Set how long Elasticsearch should keep the scroll context alive
+	 * between two calls to {@link org.hibernate.search.engine.search.query.SearchScroll#next()}
+	 * when {@link #scroll(int) scrolling} through the results of this query.
+	 * <p>
+	 * Defaults to 60 seconds.
+	 *
+	 * @param timeout The scroll timeout. Must be strictly positive.
+	 * @param timeUnit The time unit of the scroll timeout.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	ElasticsearchSearchQueryOptionsStep<H, LOS> scrollTimeout(long timeout, TimeUnit timeUnit);
+
 	@Override
 	ElasticsearchSearchQuery<H> toQuery();
 }
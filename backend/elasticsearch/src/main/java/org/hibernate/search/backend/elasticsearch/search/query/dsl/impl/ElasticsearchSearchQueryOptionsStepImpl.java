@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.dsl.impl;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.dsl.ElasticsearchSearchAggregationFactory;
 import org.hibernate.search.backend.elasticsearch.search.predicate.dsl.ElasticsearchSearchPredicateFactory;
@@ -52,6 +54,12 @@ public ElasticsearchSearchQueryOptionsStep<H, LOS> requestTransformer(Elasticsea
 		return thisAsS();
 	}
 
+	@Override
+	public ElasticsearchSearchQueryOptionsStep<H, LOS> scrollTimeout(long timeout, TimeUnit timeUnit) {
+		searchQueryBuilder.scrollTimeout( timeout, timeUnit );
+		return thisAsS();
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
@@ -20,8 +21,9 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
@@ -30,11 +32,19 @@
 	protected static final JsonObjectAccessor HITS_ACCESSOR =
 			JsonAccessor.root().property( "hits" ).asObject();
 
-	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
-			HITS_ACCESSOR.property( "hits" ).asArray();
+	private static final JsonAccessor<JsonElement> HITS_TOTAL_PRESENCE_ACCESSOR =
+			HITS_ACCESSOR.property( "total" );
 
-	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
-			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
+	private static final JsonObjectAccessor HITS_TOTAL_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).asObject();
+
+	private static final JsonAccessor<Long> HITS_TOTAL_VALUE_ACCESSOR =
+			HITS_TOTAL_ACCESSOR.property( "value" ).asLong();
+
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_TOTAL_ACCESSOR.property( "relation" ).asString();
+
+	private static final String HITS_TOTAL_RELATION_EQUAL_TO = "eq";
 
 	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
 			JsonAccessor.root().property( "aggregations" ).asObject();
@@ -45,6 +55,9 @@
 	private static final JsonAccessor<Boolean> TIMED_OUT_ACCESSOR =
 			JsonAccessor.root().property( "timed_out" ).asBoolean();
 
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
 	private final ElasticsearchSearchQueryRequestContext requestContext;
 
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
@@ -60,54 +73,71 @@
 	}
 
 	@Override
-	public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
-		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
-				responseBody
-		);
+	public ElasticsearchLoadableSearchResult<H> extract(ElasticsearchResponse response) {
+		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext( response );
 
-		long hitCount = extractHitCount( responseBody );
+		ElasticsearchSearchResponseReader responseReader = new ElasticsearchSearchResponseReader( response,
+				requestContext.getRequiredHitProperties(), requestContext.getRequiredSourcePaths() );
+		SearchResultTotal resultTotal = null;
+		List<Object> extractedHits = new ArrayList<>();
+		List<JsonObject> pendingHits = null;
+
+		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
+		SearchProjectionExtractContext projectionExtractContext = extractContext.createProjectionExtractContext();
+
+		// Extract hits as we stream through the response, so that each hit can be garbage-collected immediately
+		for ( JsonObject hit = responseReader.nextHit(); hit != null; hit = responseReader.nextHit() ) {
+			if ( resultTotal == null
+					&& HITS_TOTAL_PRESENCE_ACCESSOR.get( responseReader.getResponseBodyWithoutHits() ).isPresent() ) {
+				resultTotal = extractResultTotal( responseReader.getResponseBodyWithoutHits() );
+			}
+			if ( resultTotal == null ) {
+				// Unusual property order: we can't know whether hits must be extracted yet
+				if ( pendingHits == null ) {
+					pendingHits = new ArrayList<>();
+				}
+				pendingHits.add( hit );
+			}
+			else if ( resultTotal.hitCountLowerBound() > 0 ) {
+				extractedHits.add( rootProjection.extract( hitMapper, hit, projectionExtractContext ) );
+			}
+		}
 
-		final List<Object> extractedHits = hitCount > 0 ?
-				extractHits( extractContext ) : Collections.emptyList();
+		JsonObject responseBodyWithoutHits = responseReader.getResponseBodyWithoutHits();
+		if ( resultTotal == null ) {
+			resultTotal = extractResultTotal( responseBodyWithoutHits );
+			if ( pendingHits != null && resultTotal.hitCountLowerBound() > 0 ) {
+				for ( JsonObject hit : pendingHits ) {
+					extractedHits.add( rootProjection.extract( hitMapper, hit, projectionExtractContext ) );
+				}
+			}
+		}
 
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
+				Collections.emptyMap() : extractAggregations( extractContext, responseBodyWithoutHits );
 
-		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
-		Boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).get();
+		Integer took = TOOK_ACCESSOR.get( responseBodyWithoutHits ).get();
+		Boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBodyWithoutHits ).get();
 
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
 				rootProjection,
-				hitCount,
+				resultTotal,
 				extractedHits,
 				extractedAggregations,
-				took, timedOut
+				took, timedOut,
+				SCROLL_ID_ACCESSOR.get( responseBodyWithoutHits ).orElse( null ),
+				responseReader.getRawHitCount()
 		);
 	}
 
-	protected long extractHitCount(JsonObject responseBody) {
-		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
-	}
-
-	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
-		JsonObject responseBody = extractContext.getResponseBody();
-		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
-		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
-
-		SearchProjectionExtractContext projectionExtractContext = extractContext.createProjectionExtractContext();
-		List<Object> extractedData = new ArrayList<>( jsonHits.size() );
-
-		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
-
-			extractedData.add( rootProjection.extract(
-					hitMapper, hitObject,
-					projectionExtractContext
-			) );
-		}
-
-		return extractedData;
+	protected SearchResultTotal extractResultTotal(JsonObject responseBody) {
+		long hitCount = HITS_TOTAL_VALUE_ACCESSOR.get( responseBody ).orElse( 0L );
+		// The relation is "gte" if a threshold was set through "track_total_hits" and it was reached
+		boolean exact = HITS_TOTAL_RELATION_ACCESSOR.get( responseBody )
+				.map( HITS_TOTAL_RELATION_EQUAL_TO::equals )
+				.orElse( true );
+		return SimpleSearchResultTotal.of( hitCount, exact );
 	}
 
 	private Map<AggregationKey<?>, ?> extractAggregations(ElasticsearchSearchQueryExtractContext extractContext,
@@ -14,9 +14,9 @@
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
-import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -33,28 +33,33 @@
 	private final ElasticsearchSearchQueryExtractContext extractContext;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
-	private final long hitCount;
+	private final SearchResultTotal resultTotal;
 	private List<Object> extractedHits;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private final Integer took;
 	private final Boolean timedOut;
+	private final String scrollId;
+	private final int rawHitCount;
 
 	ElasticsearchLoadableSearchResult(ElasticsearchSearchQueryExtractContext extractContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			long hitCount,
+			SearchResultTotal resultTotal,
 			List<Object> extractedHits,
 			Map<AggregationKey<?>, ?> extractedAggregations,
-			Integer took, Boolean timedOut) {
+			Integer took, Boolean timedOut,
+			String scrollId, int rawHitCount) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
-		this.hitCount = hitCount;
+		this.resultTotal = resultTotal;
 		this.extractedHits = extractedHits;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
+		this.scrollId = scrollId;
+		this.rawHitCount = rawHitCount;
 	}
 
-	ElasticsearchSearchResult<H> loadBlocking() {
+	ElasticsearchSearchResultImpl<H> loadBlocking() {
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
@@ -89,8 +94,8 @@ ElasticsearchSearchResult<H> loadBlocking() {
 		extractedHits = null;
 
 		return new ElasticsearchSearchResultImpl<>(
-				extractContext.getResponseBody(),
-				hitCount, loadedHits, extractedAggregations
-		, took, timedOut );
+				extractContext.getResponse(),
+				resultTotal, loadedHits, extractedAggregations
+		, took, timedOut, scrollId, rawHitCount );
 	}
 }
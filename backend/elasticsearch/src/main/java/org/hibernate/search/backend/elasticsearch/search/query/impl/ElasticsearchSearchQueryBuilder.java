@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -49,11 +50,19 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * How long Elasticsearch should keep the scroll context alive between two calls to
+	 * {@link org.hibernate.search.engine.search.query.SearchScroll#next()},
+	 * unless set explicitly.
+	 */
+	private static final long DEFAULT_SCROLL_TIMEOUT_MS = TimeUnit.SECONDS.toMillis( 60 );
+
 	private static final JsonAccessor<JsonElement> REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" );
 
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor loadingExecutor;
 
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -70,12 +79,15 @@
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
+	private long scrollTimeoutMs = DEFAULT_SCROLL_TIMEOUT_MS;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor loadingExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
@@ -83,6 +95,7 @@ public ElasticsearchSearchQueryBuilder(
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.loadingExecutor = loadingExecutor;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -119,6 +132,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public PredicateRequestContext getRootPredicateContext() {
 		return rootPredicateContext;
@@ -165,6 +183,14 @@ public void requestTransformer(ElasticsearchSearchRequestTransformer transformer
 		this.requestTransformer = transformer;
 	}
 
+	public void scrollTimeout(long timeout, TimeUnit timeUnit) {
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		if ( timeout <= 0 ) {
+			throw log.invalidScrollTimeout( timeout, timeUnit );
+		}
+		this.scrollTimeoutMs = timeUnit.toMillis( timeout );
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> build() {
 		JsonObject payload = new JsonObject();
@@ -217,11 +243,12 @@ public ElasticsearchSearchQuery<H> build() {
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, loadingExecutor,
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
-				timeoutValue, timeoutUnit, exceptionOnTimeout
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				totalHitCountThreshold, scrollTimeoutMs
 		);
 	}
 }
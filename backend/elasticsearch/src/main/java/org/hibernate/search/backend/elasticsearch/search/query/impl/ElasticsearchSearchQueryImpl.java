@@ -11,6 +11,10 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -29,6 +33,7 @@
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
@@ -50,6 +55,7 @@
 
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor loadingExecutor;
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
@@ -57,6 +63,8 @@
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final Long totalHitCountThreshold;
+	private final long scrollTimeoutMs;
 
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
@@ -64,6 +72,7 @@
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor loadingExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
@@ -71,9 +80,11 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Long totalHitCountThreshold, long scrollTimeoutMs) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.loadingExecutor = loadingExecutor;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -84,6 +95,8 @@
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.scrollTimeoutMs = scrollTimeoutMs;
 	}
 
 	@Override
@@ -105,10 +118,58 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWork( offset, limit );
+
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+				/*
+				 * WARNING: the following call must run in a thread that is allowed to use the mapper session,
+				 * since loading is blocking and may rely on the session (e.g. Hibernate ORM).
+				 * Here that's the user thread; see fetchAsync for the asynchronous equivalent.
+				 */
+				.loadBlocking();
+	}
+
+	@Override
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWork( offset, limit );
+
+		CompletableFuture<ElasticsearchSearchResult<H>> future = new CompletableFuture<>();
+		// The search future is completed from a thread of the HTTP client, which must never block:
+		// load hits in a separate thread, and if that thread pool is saturated, fail instead of waiting.
+		queryOrchestrator.submit( work ).whenComplete( Futures.handler( (loadableResult, throwable) -> {
+			if ( throwable != null ) {
+				future.completeExceptionally( throwable );
+				return;
+			}
+			try {
+				loadingExecutor.execute( () -> {
+					try {
+						future.complete( loadableResult.loadBlocking() );
+					}
+					catch (Throwable t) {
+						future.completeExceptionally( t );
+					}
+				} );
+			}
+			catch (RejectedExecutionException e) {
+				future.completeExceptionally( log.readQueueFull( e ) );
+			}
+		} ) );
+		return future;
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return queryOrchestrator.submit( countWork() );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		String scrollTimeout = scrollTimeoutMs + "ms";
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> firstWork = workFactory.search( payload, searchResultExtractor )
 				.indexes( searchContext.indexes().elasticsearchIndexNames() )
-				.paging( defaultedLimit( limit, offset ), offset )
+				.scrolling( chunkSize, scrollTimeout )
 				.routingKeys( routingKeys )
 				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
 				.requestTransformer(
@@ -116,26 +177,36 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 				)
 				.build();
 
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
+		return new ElasticsearchSearchScrollImpl<>( queryOrchestrator, workFactory, firstWork,
+				searchResultExtractor, scrollTimeout, timeoutValue, timeoutUnit, exceptionOnTimeout );
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( countWork() ) );
+	}
+
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> searchWork(Integer offset, Integer limit) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.indexes().elasticsearchIndexNames() )
+				.paging( defaultedLimit( limit, offset ), offset )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
+	private NonBulkableWork<Long> countWork() {
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
 			filteredPayload.add( "query", querySubTree.get() );
 		}
 
-		NonBulkableWork<Long> work = workFactory.count( searchContext.indexes().elasticsearchIndexNames() )
+		return workFactory.count( searchContext.indexes().elasticsearchIndexNames() )
 				.query( filteredPayload )
 				.routingKeys( routingKeys )
 				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
@@ -143,7 +214,6 @@ public long fetchTotalHitCount() {
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				)
 				.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
 	}
 
 	@Override
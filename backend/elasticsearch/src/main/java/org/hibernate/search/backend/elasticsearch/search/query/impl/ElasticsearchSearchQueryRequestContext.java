@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
@@ -19,8 +23,6 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
-import com.google.gson.JsonObject;
-
 /**
  * The context holding all the useful information pertaining to the Elasticsearch search query,
  * to be used:
@@ -29,7 +31,7 @@
  *     For example distance projections need to inspect distance sorts (if any) for optimization purposes.
  *     ({@link #getDistanceSortIndex(String, GeoPoint)}</li>
  *     <li>When extracting data from the response, to get an "extract" context linked to the session/loading context
- *     ({@link #createExtractContext(JsonObject)}</li>
+ *     ({@link #createExtractContext(ElasticsearchResponse)}</li>
  * </ul>
  */
 class ElasticsearchSearchQueryRequestContext implements SearchProjectionRequestContext, AggregationRequestContext {
@@ -39,6 +41,11 @@ class ElasticsearchSearchQueryRequestContext implements SearchProjectionRequestC
 	private final LoadingContext<?, ?> loadingContext;
 	private final PredicateRequestContext rootPredicateContext;
 	private final Map<DistanceSortKey, Integer> distanceSorts;
+	private final Set<String> requiredHitProperties = new HashSet<>( Arrays.asList(
+			"_index", "_id", "_score", "_source", "fields", "_explanation"
+	) );
+	private boolean fullHitRequired = false;
+	private final SourcePathFilter requiredSourcePaths = new SourcePathFilter();
 
 	ElasticsearchSearchQueryRequestContext(
 			ElasticsearchSearchContext searchContext,
@@ -72,12 +79,46 @@ public ElasticsearchSearchSyntax getSearchSyntax() {
 		return searchContext.searchSyntax();
 	}
 
-	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody) {
+	@Override
+	public void requireHitProperty(String name) {
+		requiredHitProperties.add( name );
+	}
+
+	@Override
+	public void requireFullHit() {
+		fullHitRequired = true;
+	}
+
+	@Override
+	public void requireSourcePath(String[] absolutePathComponents) {
+		requiredSourcePaths.keep( absolutePathComponents );
+	}
+
+	@Override
+	public void requireFullSource() {
+		requiredSourcePaths.keepAll();
+	}
+
+	/**
+	 * @return The properties of hits to keep when reading the response, or {@code null} to keep all of them.
+	 */
+	Set<String> getRequiredHitProperties() {
+		return fullHitRequired ? null : requiredHitProperties;
+	}
+
+	/**
+	 * @return The paths to keep in the {@code _source} of hits when reading the response.
+	 */
+	SourcePathFilter getRequiredSourcePaths() {
+		return requiredSourcePaths;
+	}
+
+	ElasticsearchSearchQueryExtractContext createExtractContext(ElasticsearchResponse response) {
 		return new ElasticsearchSearchQueryExtractContext(
 				this,
 				sessionContext,
 				loadingContext.createProjectionHitMapper(),
-				responseBody
+				response
 		);
 	}
 
@@ -95,6 +95,10 @@ public ElasticsearchRequest apply(ElasticsearchSearchRequestTransformer transfor
 			builder.body( body );
 		}
 
+		if ( originalRequest.streamedResponse() ) {
+			builder.streamedResponse();
+		}
+
 		return builder.build();
 	}
 }
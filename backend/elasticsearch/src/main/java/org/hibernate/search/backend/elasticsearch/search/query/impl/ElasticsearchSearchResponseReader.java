@@ -0,0 +1,242 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Streams through the body of a response to a search query,
+ * returning hits one by one so that they can be extracted and discarded immediately,
+ * instead of building a tree of the whole response in memory.
+ * <p>
+ * Everything except the hits is collected into a separate, lightweight tree:
+ * see {@link #getResponseBodyWithoutHits()}.
+ * <p>
+ * Properties of hits that no projection needs are skipped without building a tree,
+ * and so are paths within the {@code _source} of hits.
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe.
+ */
+final class ElasticsearchSearchResponseReader {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonParser JSON_PARSER = new JsonParser();
+
+	private static final String HITS_PROPERTY = "hits";
+	private static final String SOURCE_PROPERTY = "_source";
+
+	private enum State {
+		START,
+		IN_ROOT,
+		IN_HITS_OBJECT,
+		IN_HITS_ARRAY,
+		END
+	}
+
+	private final ElasticsearchResponse response;
+	// null means keep all properties
+	private final Set<String> hitPropertiesToKeep;
+	private final SourcePathFilter sourcePathsToKeep;
+	private final JsonObject responseBodyWithoutHits = new JsonObject();
+
+	private JsonReader reader;
+	private State state = State.START;
+	private JsonObject hitsObject;
+	private int rawHitCount = 0;
+
+	/**
+	 * @param response The response to read.
+	 * @param hitPropertiesToKeep The properties of hits to keep, or {@code null} to keep all properties.
+	 * @param sourcePathsToKeep The paths to keep in the {@code _source} of hits.
+	 * Ignored if {@code hitPropertiesToKeep} is {@code null}.
+	 */
+	ElasticsearchSearchResponseReader(ElasticsearchResponse response, Set<String> hitPropertiesToKeep,
+			SourcePathFilter sourcePathsToKeep) {
+		this.response = response;
+		this.hitPropertiesToKeep = hitPropertiesToKeep;
+		this.sourcePathsToKeep = sourcePathsToKeep;
+	}
+
+	/**
+	 * @return The next hit in the response, or {@code null} if there are no more hits.
+	 * After this method returned {@code null}, the whole body has been read.
+	 */
+	JsonObject nextHit() {
+		try {
+			return doNextHit();
+		}
+		catch (IOException | JsonParseException | IllegalStateException e) {
+			closeReader();
+			throw log.failedToParseElasticsearchResponse( response.statusCode(), response.statusMessage(), e );
+		}
+	}
+
+	/**
+	 * @return The response body, except for the elements of the {@code hits.hits} array.
+	 * Only complete after {@link #nextHit()} returned {@code null}.
+	 */
+	JsonObject getResponseBodyWithoutHits() {
+		return responseBodyWithoutHits;
+	}
+
+	/**
+	 * @return The number of hits returned by {@link #nextHit()} so far.
+	 */
+	int getRawHitCount() {
+		return rawHitCount;
+	}
+
+	private JsonObject doNextHit() throws IOException {
+		while ( true ) {
+			switch ( state ) {
+				case START:
+					reader = response.bodyReader();
+					if ( reader == null ) {
+						state = State.END;
+					}
+					else {
+						reader.beginObject();
+						state = State.IN_ROOT;
+					}
+					break;
+				case IN_ROOT:
+					if ( readPropertiesUntil( responseBodyWithoutHits, JsonToken.BEGIN_OBJECT ) ) {
+						reader.beginObject();
+						hitsObject = new JsonObject();
+						responseBodyWithoutHits.add( HITS_PROPERTY, hitsObject );
+						state = State.IN_HITS_OBJECT;
+					}
+					else {
+						reader.endObject();
+						closeReader();
+						state = State.END;
+					}
+					break;
+				case IN_HITS_OBJECT:
+					if ( readPropertiesUntil( hitsObject, JsonToken.BEGIN_ARRAY ) ) {
+						reader.beginArray();
+						state = State.IN_HITS_ARRAY;
+					}
+					else {
+						reader.endObject();
+						state = State.IN_ROOT;
+					}
+					break;
+				case IN_HITS_ARRAY:
+					if ( reader.hasNext() ) {
+						++rawHitCount;
+						return readHit();
+					}
+					reader.endArray();
+					state = State.IN_HITS_OBJECT;
+					break;
+				case END:
+					return null;
+			}
+		}
+	}
+
+	private JsonObject readHit() throws IOException {
+		if ( hitPropertiesToKeep == null ) {
+			return JSON_PARSER.parse( reader ).getAsJsonObject();
+		}
+		JsonObject hit = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( !hitPropertiesToKeep.contains( name ) ) {
+				reader.skipValue();
+			}
+			else if ( SOURCE_PROPERTY.equals( name ) ) {
+				hit.add( name, readFiltered( sourcePathsToKeep ) );
+			}
+			else {
+				hit.add( name, JSON_PARSER.parse( reader ) );
+			}
+		}
+		reader.endObject();
+		return hit;
+	}
+
+	private JsonElement readFiltered(SourcePathFilter filter) throws IOException {
+		if ( filter.keepsAll() ) {
+			return JSON_PARSER.parse( reader );
+		}
+		switch ( reader.peek() ) {
+			case BEGIN_OBJECT:
+				JsonObject object = new JsonObject();
+				reader.beginObject();
+				while ( reader.hasNext() ) {
+					String name = reader.nextName();
+					SourcePathFilter childFilter = filter.child( name );
+					if ( childFilter != null ) {
+						object.add( name, readFiltered( childFilter ) );
+					}
+					else {
+						reader.skipValue();
+					}
+				}
+				reader.endObject();
+				return object;
+			case BEGIN_ARRAY:
+				// Multi-valued object: apply the same filter to each element
+				JsonArray array = new JsonArray();
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					array.add( readFiltered( filter ) );
+				}
+				reader.endArray();
+				return array;
+			default:
+				return JSON_PARSER.parse( reader );
+		}
+	}
+
+	/**
+	 * Copy properties of the current object to {@code target},
+	 * until we reach a "hits" property with a value of the given type.
+	 *
+	 * @return {@code true} if we stopped at a "hits" property, {@code false} if we reached the end of the object.
+	 */
+	private boolean readPropertiesUntil(JsonObject target, JsonToken hitsValueToken) throws IOException {
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( HITS_PROPERTY.equals( name ) && reader.peek() == hitsValueToken ) {
+				return true;
+			}
+			target.add( name, JSON_PARSER.parse( reader ) );
+		}
+		return false;
+	}
+
+	private void closeReader() {
+		if ( reader != null ) {
+			try {
+				reader.close();
+			}
+			catch (IOException e) {
+				// Reading from memory: this should not happen, and there is nothing to release anyway
+			}
+			reader = null;
+		}
+	}
+}
@@ -10,8 +10,10 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
 import com.google.gson.JsonObject;
@@ -19,16 +21,33 @@
 class ElasticsearchSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements ElasticsearchSearchResult<H> {
 
-	private final JsonObject responseBody;
+	private final ElasticsearchResponse response;
+	private final String scrollId;
+	private final int rawHitCount;
 
-	ElasticsearchSearchResultImpl(JsonObject responseBody,
-			long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut) {
-		super( hitCount, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
-		this.responseBody = responseBody;
+	ElasticsearchSearchResultImpl(ElasticsearchResponse response,
+			SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut,
+			String scrollId, int rawHitCount) {
+		super( resultTotal, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
+		this.response = response;
+		this.scrollId = scrollId;
+		this.rawHitCount = rawHitCount;
 	}
 
 	@Override
 	public JsonObject responseBody() {
-		return responseBody;
+		// Hits were extracted by streaming through the body: the full tree is only built on demand.
+		return response.body();
+	}
+
+	String scrollId() {
+		return scrollId;
+	}
+
+	/**
+	 * @return The number of hits in the response, including those that may have been dropped during loading.
+	 */
+	int rawHitCount() {
+		return rawHitCount;
 	}
 }
@@ -0,0 +1,109 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A scroll relying on the Elasticsearch scroll API:
+ * the first chunk is fetched with a search request opening a scroll context on the cluster,
+ * following chunks are fetched with scroll requests,
+ * and the scroll context is cleared when the scroll is closed.
+ */
+class ElasticsearchSearchScrollImpl<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final NonBulkableWork<ElasticsearchLoadableSearchResult<H>> firstWork;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final String scrollTimeout;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
+
+	private String scrollId;
+	private boolean closed = false;
+
+	ElasticsearchSearchScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchWorkBuilderFactory workFactory,
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> firstWork,
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			String scrollTimeout,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.firstWork = firstWork;
+		this.searchResultExtractor = searchResultExtractor;
+		this.scrollTimeout = scrollTimeout;
+		this.timeoutValue = timeoutValue;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		if ( scrollId == null ) {
+			// The scroll was never started: nothing to clear on the cluster.
+			return;
+		}
+		NonBulkableWork<Void> work = workFactory.clearScroll( scrollId ).build();
+		Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( closed ) {
+			throw log.scrollClosed();
+		}
+
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work;
+		if ( scrollId == null ) {
+			work = firstWork;
+		}
+		else {
+			work = workFactory.scroll( scrollId, scrollTimeout, searchResultExtractor )
+					.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+					.build();
+		}
+
+		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+				/*
+				 * WARNING: the following call must run in the user thread.
+				 * See ElasticsearchSearchQueryImpl#fetch.
+				 */
+				.loadBlocking();
+
+		// Elasticsearch may return a different scroll ID with each response: always use the latest one.
+		if ( result.scrollId() != null ) {
+			scrollId = result.scrollId();
+		}
+		// Rely on the raw hits rather than on loaded hits:
+		// some hits may have been dropped because the corresponding entity no longer exists.
+		boolean hasHits = result.rawHitCount() > 0;
+
+		return new SimpleSearchScrollResult<>( hasHits, result.hits(), result.totalHitCount(),
+				result.took(), result.timedOut() );
+	}
+}
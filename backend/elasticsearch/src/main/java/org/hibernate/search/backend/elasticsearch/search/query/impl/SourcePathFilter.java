@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A tree of the paths to keep in the {@code _source} of hits when reading a search response.
+ * <p>
+ * Each node represents an object in the {@code _source}, or an array of such objects;
+ * properties of that object that do not appear as children of the node are skipped.
+ */
+final class SourcePathFilter {
+
+	// null means keep everything
+	private Map<String, SourcePathFilter> children = new HashMap<>();
+
+	/**
+	 * Keep the value at the given path, including everything below it.
+	 *
+	 * @param pathComponents The components of the path, relative to this node.
+	 */
+	void keep(String[] pathComponents) {
+		SourcePathFilter node = this;
+		for ( String pathComponent : pathComponents ) {
+			if ( node.children == null ) {
+				// Already keeping everything
+				return;
+			}
+			node = node.children.computeIfAbsent( pathComponent, ignored -> new SourcePathFilter() );
+		}
+		node.keepAll();
+	}
+
+	/**
+	 * Keep everything below this node.
+	 */
+	void keepAll() {
+		children = null;
+	}
+
+	/**
+	 * @return {@code true} if everything below this node must be kept, {@code false} otherwise.
+	 */
+	boolean keepsAll() {
+		return children == null;
+	}
+
+	/**
+	 * @param name The name of a property of the object represented by this node.
+	 * @return The filter to apply to the value of that property, or {@code null} if it must be skipped.
+	 */
+	SourcePathFilter child(String name) {
+		return children == null ? this : children.get( name );
+	}
+
+}
@@ -30,6 +30,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.MergeSegmentsWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MoveIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
@@ -51,6 +52,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.FlushWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MoveIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
@@ -184,4 +186,10 @@ public PutIndexAliasesWorkBuilder putIndexAliases(URLEncodedString indexName,
 			Map<String, IndexAliasDefinition> aliases) {
 		return new PutIndexAliasesWork.Builder( gsonProvider, indexName, aliases );
 	}
+
+	@Override
+	public MoveIndexAliasesWorkBuilder moveIndexAliases(URLEncodedString sourceIndexName,
+			URLEncodedString targetIndexName, Map<String, IndexAliasDefinition> aliases) {
+		return new MoveIndexAliasesWork.Builder( gsonProvider, sourceIndexName, targetIndexName, aliases );
+	}
 }
@@ -29,6 +29,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.MergeSegmentsWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MoveIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
@@ -90,4 +91,7 @@ DeleteWorkBuilder delete(String entityTypeName, Object entityIdentifier,
 
 	PutIndexAliasesWorkBuilder putIndexAliases(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases);
 
+	MoveIndexAliasesWorkBuilder moveIndexAliases(URLEncodedString sourceIndexName, URLEncodedString targetIndexName,
+			Map<String, IndexAliasDefinition> aliases);
+
 }
@@ -6,9 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 
 
 public interface ScrollWorkBuilder<R> extends ElasticsearchWorkBuilder<NonBulkableWork<R>> {
 
+	ScrollWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout);
+
 }
@@ -29,4 +29,6 @@
 	SearchWorkBuilder<R> requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer);
 
 	SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout);
+
+	SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold);
 }
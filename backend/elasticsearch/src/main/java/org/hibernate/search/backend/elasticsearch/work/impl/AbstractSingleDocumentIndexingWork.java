@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -27,6 +28,7 @@
 	private final String entityTypeName;
 	private final Object entityIdentifier;
 	private final String documentIdentifier;
+	private final Object coalescingKey;
 
 	private final DocumentRefreshStrategy refreshStrategy;
 
@@ -37,6 +39,9 @@ protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.entityTypeName = builder.entityTypeName;
 		this.entityIdentifier = builder.entityIdentifier;
 		this.documentIdentifier = builder.documentIdentifier;
+		// Works with different refresh strategies must not be coalesced,
+		// or a work requiring a refresh could be superseded by a work that doesn't trigger one.
+		this.coalescingKey = Arrays.asList( builder.buildCoalescingKey(), builder.refreshStrategy );
 		this.refreshStrategy = builder.refreshStrategy;
 	}
 
@@ -45,6 +50,17 @@ public String getQueuingKey() {
 		return documentIdentifier;
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return coalescingKey;
+	}
+
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Both indexing and deleting a document replace any previous version of that document
+		return true;
+	}
+
 	@Override
 	public String getEntityTypeName() {
 		return entityTypeName;
@@ -112,5 +128,10 @@ public B refresh(DocumentRefreshStrategy refreshStrategy) {
 
 		protected abstract JsonObject buildBulkableActionBody();
 
+		/**
+		 * @return A key identifying the target document, taking into account the index, and the routing key if any.
+		 */
+		protected abstract Object buildCoalescingKey();
+
 	}
 }
@@ -6,23 +6,43 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
-	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonParser JSON_PARSER = new JsonParser();
+
+	private static final String BULK_ITEMS_PROPERTY = "items";
+	private static final String BULK_ITEM_STATUS_PROPERTY = "status";
+	private static final String BULK_ITEM_ERROR_PROPERTY = "error";
+
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE =
+			JsonAccessor.root().property( BULK_ITEM_STATUS_PROPERTY ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
 
 	protected BulkWork(Builder builder) {
 		super( builder );
@@ -30,9 +50,71 @@ protected BulkWork(Builder builder) {
 
 	@Override
 	protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject parsedResponseBody = response.body();
-		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
-		return new BulkResultImpl( resultItems );
+		/*
+		 * Bulk responses can be large, and we only need the status and error of each item,
+		 * so we stream through the body instead of parsing the whole tree.
+		 */
+		try ( JsonReader reader = response.bodyReader() ) {
+			JsonArray resultItems = reader == null ? new JsonArray() : readItems( reader );
+			return new BulkResultImpl( resultItems );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.failedToParseElasticsearchResponse( response.statusCode(), response.statusMessage(), e );
+		}
+	}
+
+	private static JsonArray readItems(JsonReader reader) throws IOException {
+		JsonArray resultItems = new JsonArray();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			if ( BULK_ITEMS_PROPERTY.equals( reader.nextName() ) ) {
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					resultItems.add( readItem( reader ) );
+				}
+				reader.endArray();
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return resultItems;
+	}
+
+	/*
+	 * Result items have the following format: { "actionName" : { "status" : 201, ... } }
+	 * We only retain the properties used when assessing success.
+	 */
+	private static JsonElement readItem(JsonReader reader) throws IOException {
+		if ( reader.peek() != JsonToken.BEGIN_OBJECT ) {
+			return JSON_PARSER.parse( reader );
+		}
+		JsonObject item = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String actionName = reader.nextName();
+			if ( reader.peek() != JsonToken.BEGIN_OBJECT ) {
+				item.add( actionName, JSON_PARSER.parse( reader ) );
+				continue;
+			}
+			JsonObject actionResult = new JsonObject();
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String propertyName = reader.nextName();
+				if ( BULK_ITEM_STATUS_PROPERTY.equals( propertyName )
+						|| BULK_ITEM_ERROR_PROPERTY.equals( propertyName ) ) {
+					actionResult.add( propertyName, JSON_PARSER.parse( reader ) );
+				}
+				else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+			item.add( actionName, actionResult );
+		}
+		reader.endObject();
+		return item;
 	}
 
 	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder>
@@ -56,7 +138,8 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
-					.pathComponent( Paths._BULK );
+					.pathComponent( Paths._BULK )
+					.streamedResponse();
 			switch ( refreshStrategy ) {
 				case FORCE:
 					builder.param( "refresh", true );
@@ -95,6 +178,24 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public int getRejectedItemCount() {
+			int count = 0;
+			for ( JsonElement item : results ) {
+				if ( !item.isJsonObject() ) {
+					continue;
+				}
+				for ( Map.Entry<String, JsonElement> action : item.getAsJsonObject().entrySet() ) {
+					if ( action.getValue().isJsonObject()
+							&& BULK_ITEM_STATUS_CODE.get( action.getValue().getAsJsonObject() )
+									.filter( status -> status == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ).isPresent() ) {
+						++count;
+					}
+				}
+			}
+			return count;
+		}
 	}
 
 }
@@ -81,9 +81,12 @@ public String toString() {
 
 	@Override
 	public void checkSuccess(ElasticsearchResponse response) throws SearchException {
-		JsonObject responseBody = response.body();
-		Optional<Integer> statusCode = Optional.of( response.statusCode() );
-		checkSuccess( statusCode, responseBody );
+		int statusCode = response.statusCode();
+		if ( ElasticsearchClientUtils.isSuccessCode( statusCode ) ) {
+			// Don't parse the body unless necessary: the work may only need part of it
+			return;
+		}
+		checkSuccess( Optional.of( statusCode ), response.body() );
 	}
 
 	@Override
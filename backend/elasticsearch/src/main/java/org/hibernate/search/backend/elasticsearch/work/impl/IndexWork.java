@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Arrays;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 
@@ -72,6 +74,12 @@ protected JsonObject buildBulkableActionMetadata() {
 			return result;
 		}
 
+		@Override
+		protected Object buildCoalescingKey() {
+			return Arrays.asList( indexName.original, typeName == null ? null : typeName.original,
+					documentIdentifier, routingKey );
+		}
+
 		@Override
 		protected JsonObject buildBulkableActionBody() {
 			return document;
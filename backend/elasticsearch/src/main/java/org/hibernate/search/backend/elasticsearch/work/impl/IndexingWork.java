@@ -16,4 +16,17 @@
 	 */
 	String getQueuingKey();
 
+	/**
+	 * @return A key identifying the document this work applies to,
+	 * used to eliminate works made pointless by later works when coalescing is enabled,
+	 * or {@code null} if this work must never be coalesced.
+	 */
+	Object getCoalescingKey();
+
+	/**
+	 * @return {@code true} if this work completely replaces the state of the document it applies to,
+	 * making previous works with the same {@link #getCoalescingKey() coalescing key} pointless.
+	 */
+	boolean supersedesPreviousWorks();
+
 }
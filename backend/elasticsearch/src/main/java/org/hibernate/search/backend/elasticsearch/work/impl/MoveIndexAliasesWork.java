@@ -0,0 +1,95 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MoveIndexAliasesWorkBuilder;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Moves aliases from one index to another in a single request,
+ * so that the aliases never point to both indexes or to none of them.
+ */
+public class MoveIndexAliasesWork extends AbstractNonBulkableWork<Void> {
+
+	protected MoveIndexAliasesWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected Void generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		return null;
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements MoveIndexAliasesWorkBuilder {
+		private final JsonObject payload;
+
+		public Builder(GsonProvider gsonProvider, URLEncodedString sourceIndexName, URLEncodedString targetIndexName,
+				Map<String, IndexAliasDefinition> aliases) {
+			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.payload = createPayload( gsonProvider, sourceIndexName.original, targetIndexName.original, aliases );
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._ALIASES )
+					.body( payload );
+			return builder.build();
+		}
+
+		@Override
+		public MoveIndexAliasesWork build() {
+			return new MoveIndexAliasesWork( this );
+		}
+
+		private static JsonObject createPayload(GsonProvider gsonProvider, String sourceIndexName,
+				String targetIndexName, Map<String, IndexAliasDefinition> aliases) {
+			/*
+			 * Serializing nulls is really not a good idea here, it triggers NPEs in Elasticsearch
+			 * We better not include the null fields.
+			 */
+			Gson gson = gsonProvider.getGsonNoSerializeNulls();
+
+			JsonObject payload = new JsonObject();
+			JsonArray actions = new JsonArray();
+			payload.add( "actions", actions );
+
+			// Actions are applied atomically by Elasticsearch
+			for ( Map.Entry<String, IndexAliasDefinition> entry : aliases.entrySet() ) {
+				JsonObject removeAction = new JsonObject();
+				JsonObject removedAlias = new JsonObject();
+				removeAction.add( "remove", removedAlias );
+				removedAlias.addProperty( "index", sourceIndexName );
+				removedAlias.addProperty( "alias", entry.getKey() );
+				actions.add( removeAction );
+
+				JsonObject addAction = new JsonObject();
+				JsonObject aliasDefinition = gson.toJsonTree( entry.getValue() ).getAsJsonObject();
+				addAction.add( "add", aliasDefinition );
+				aliasDefinition.addProperty( "index", targetIndexName );
+				aliasDefinition.addProperty( "alias", entry.getKey() );
+				actions.add( addAction );
+			}
+
+			return payload;
+		}
+	}
+}
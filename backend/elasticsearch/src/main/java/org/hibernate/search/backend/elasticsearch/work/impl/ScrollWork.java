@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
@@ -25,8 +27,7 @@ protected ScrollWork(Builder<R> builder) {
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.body();
-		return resultExtractor.extract( body );
+		return resultExtractor.extract( response );
 	}
 
 	public static class Builder<R>
@@ -36,6 +37,10 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		private final String scrollTimeout;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 
+		private Long timeoutValue;
+		private TimeUnit timeoutUnit;
+		private boolean exceptionOnTimeout;
+
 		public Builder(String scrollId, String scrollTimeout, ElasticsearchSearchResultExtractor<R> resultExtractor) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.scrollId = scrollId;
@@ -43,6 +48,14 @@ public Builder(String scrollId, String scrollTimeout, ElasticsearchSearchResultE
 			this.resultExtractor = resultExtractor;
 		}
 
+		@Override
+		public Builder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			this.timeoutValue = timeoutValue;
+			this.timeoutUnit = timeoutUnit;
+			this.exceptionOnTimeout = exceptionOnTimeout;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			JsonObject body = new JsonObject();
@@ -53,7 +66,16 @@ protected ElasticsearchRequest buildRequest() {
 					ElasticsearchRequest.post()
 					.pathComponent( Paths._SEARCH )
 					.pathComponent( Paths.SCROLL )
-					.body( body );
+					.body( body )
+					.streamedResponse();
+
+			// The server-side timeout and the truncation behavior are not accepted by the scroll API:
+			// they are part of the scroll context opened by the initial search request,
+			// and Elasticsearch applies them to every following chunk.
+			// The client-side timeout, however, must be set on every request.
+			if ( timeoutValue != null && timeoutUnit != null && exceptionOnTimeout ) {
+				builder.timeout( timeoutValue, timeoutUnit );
+			}
 
 			return builder.build();
 		}
@@ -47,8 +47,7 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.body();
-		return resultExtractor.extract( body );
+		return resultExtractor.extract( response );
 	}
 
 	public static class Builder<R>
@@ -68,7 +67,7 @@ public static <T> Builder<T> forElasticsearch63to68(JsonObject payload, Elastics
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
+			// Track total hits exactly by default; a threshold may be set through totalHitCountThreshold()
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
@@ -86,6 +85,7 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 		private boolean exceptionOnTimeout;
+		private Long totalHitCountThreshold;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -130,13 +130,20 @@ public SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boo
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
 					.multiValuedPathComponent( indexes )
 					.pathComponent( Paths._SEARCH )
-					.body( payload );
+					.body( payload )
+					.streamedResponse();
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -156,8 +163,16 @@ protected ElasticsearchRequest buildRequest() {
 			}
 
 			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+				if ( totalHitCountThreshold != null ) {
+					// Elasticsearch will stop counting hits after this threshold,
+					// and will return a lower bound of the total hit count.
+					builder.param( "track_total_hits", totalHitCountThreshold );
+				}
+				else {
+					builder.param( "track_total_hits", trackTotalHits );
+				}
 			}
+			// Else: total hits are always tracked exactly in ES6 and below, the threshold is simply ignored.
 
 			if ( timeoutValue != null && timeoutUnit != null ) {
 				// Server-side timeout: the search will truncate results or fail on timeout.
@@ -14,4 +14,9 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @return The number of items that Elasticsearch rejected because it was overloaded (HTTP status 429).
+	 */
+	int getRejectedItemCount();
+
 }
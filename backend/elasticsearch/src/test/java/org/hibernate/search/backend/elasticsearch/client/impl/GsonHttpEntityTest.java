@@ -0,0 +1,195 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+@RunWith(Parameterized.class)
+public class GsonHttpEntityTest {
+
+	@Parameterized.Parameters(name = "gzip = {0}")
+	public static List<Object[]> params() {
+		return Arrays.asList( new Object[] { false }, new Object[] { true } );
+	}
+
+	private final Gson gson = new Gson();
+
+	private final boolean gzip;
+
+	public GsonHttpEntityTest(boolean gzip) {
+		this.gzip = gzip;
+	}
+
+	@Test
+	public void smallBody() throws IOException {
+		List<JsonObject> bodyParts = Collections.singletonList( bodyPart( 0 ) );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, gzip );
+		checkContentEncoding( entity );
+
+		// The content is small: its length should be known upfront
+		long contentLength = entity.getContentLength();
+		assertThat( contentLength ).isGreaterThan( 0 );
+
+		byte[] produced = produceContent( entity, Integer.MAX_VALUE );
+		assertThat( (long) produced.length ).isEqualTo( contentLength );
+		assertThat( decode( produced ) ).isEqualTo( expectedContent( bodyParts ) );
+	}
+
+	@Test
+	public void largeBody_flowControl() throws IOException {
+		List<JsonObject> bodyParts = new ArrayList<>();
+		for ( int i = 0; i < 500; i++ ) {
+			bodyParts.add( bodyPart( i ) );
+		}
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, gzip );
+		checkContentEncoding( entity );
+
+		long contentLength = entity.getContentLength();
+		if ( !gzip ) {
+			// The content is large: its length should not be computed upfront
+			assertThat( contentLength ).isEqualTo( -1L );
+		}
+		// else the compressed content may be small enough for its length to be computed upfront
+
+		// Only accept a few bytes at a time to simulate flow control pushing back
+		byte[] produced = produceContent( entity, 100 );
+		if ( contentLength != -1L ) {
+			assertThat( (long) produced.length ).isEqualTo( contentLength );
+		}
+		assertThat( decode( produced ) ).isEqualTo( expectedContent( bodyParts ) );
+
+		// The entity is repeatable
+		produced = produceContent( entity, 100 );
+		assertThat( decode( produced ) ).isEqualTo( expectedContent( bodyParts ) );
+	}
+
+	@Test
+	public void writeTo() throws IOException {
+		List<JsonObject> bodyParts = Arrays.asList( bodyPart( 0 ), bodyPart( 1 ) );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, gzip );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		entity.writeTo( out );
+		assertThat( decode( out.toByteArray() ) ).isEqualTo( expectedContent( bodyParts ) );
+	}
+
+	private void checkContentEncoding(GsonHttpEntity entity) {
+		if ( gzip ) {
+			assertThat( entity.getContentEncoding().getValue() ).isEqualTo( "gzip" );
+		}
+		else {
+			assertThat( entity.getContentEncoding() ).isNull();
+		}
+	}
+
+	private String decode(byte[] bytes) throws IOException {
+		if ( !gzip ) {
+			return new String( bytes, StandardCharsets.UTF_8 );
+		}
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try ( InputStream stream = new GZIPInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = stream.read( buffer ) ) != -1 ) {
+				result.write( buffer, 0, read );
+			}
+		}
+		return new String( result.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	private String expectedContent(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			builder.append( gson.toJson( bodyPart ) ).append( '\n' );
+		}
+		return builder.toString();
+	}
+
+	private static JsonObject bodyPart(int index) {
+		JsonObject bodyPart = new JsonObject();
+		bodyPart.addProperty( "id", index );
+		// Include multi-byte characters to check that they are encoded correctly
+		bodyPart.addProperty( "text", "Some text with non-ASCII characters: éàü 水 " + index );
+		return bodyPart;
+	}
+
+	private static byte[] produceContent(GsonHttpEntity entity, int maxBytesPerWrite) throws IOException {
+		StubContentEncoder encoder = new StubContentEncoder( maxBytesPerWrite );
+		int attempts = 0;
+		while ( !encoder.isCompleted() ) {
+			encoder.allowWrite();
+			entity.produceContent( encoder, null );
+			assertThat( ++attempts ).as( "Number of produceContent() calls" ).isLessThan( 100_000 );
+		}
+		return encoder.getContent();
+	}
+
+	/**
+	 * A content encoder that only accepts a limited number of bytes
+	 * between two calls to {@link GsonHttpEntity#produceContent(ContentEncoder, org.apache.http.nio.IOControl)}.
+	 */
+	private static class StubContentEncoder implements ContentEncoder {
+		private final int maxBytesPerWrite;
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private int remainingBytes;
+		private boolean completed = false;
+
+		StubContentEncoder(int maxBytesPerWrite) {
+			this.maxBytesPerWrite = maxBytesPerWrite;
+		}
+
+		void allowWrite() {
+			remainingBytes = maxBytesPerWrite;
+		}
+
+		byte[] getContent() {
+			return content.toByteArray();
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			assertThat( completed ).isFalse();
+			int written = Math.min( remainingBytes, src.remaining() );
+			for ( int i = 0; i < written; i++ ) {
+				content.write( src.get() );
+			}
+			remainingBytes -= written;
+			return written;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+
+}
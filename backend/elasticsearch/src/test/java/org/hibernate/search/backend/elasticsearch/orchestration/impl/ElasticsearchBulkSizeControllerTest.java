@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchBulkSizeControllerTest extends EasyMockSupport {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( 10 );
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( 2000 );
+
+	@Test
+	public void notAdaptive() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( "test", 100, false, 20, 1000 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+
+		controller.onBulkSuccess( 100, SLOW, 5 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+
+		controller.onBulkFailure( 100, FAST );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void adaptive() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( "test", 100, true, 20, 1000 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 20 );
+
+		// Full and fast bulk: increase
+		controller.onBulkSuccess( 20, FAST, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 22 );
+
+		// Bulk that didn't reach the limit: no change
+		controller.onBulkSuccess( 10, FAST, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 22 );
+
+		// Slow bulk: decrease
+		controller.onBulkSuccess( 22, SLOW, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 11 );
+
+		// Rejections: decrease
+		controller.onBulkSuccess( 11, FAST, 1 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 5 );
+
+		// Failures: decrease, but never below 1
+		controller.onBulkFailure( 5, FAST );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 2 );
+		controller.onBulkFailure( 2, FAST );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 1 );
+		controller.onBulkFailure( 1, FAST );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void adaptive_neverAboveMax() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( "test", 10, true, 20, 1000 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 10 );
+
+		controller.onBulkSuccess( 10, FAST, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void monitor() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( "test", 100, true, 20, 1000 );
+		ElasticsearchWorkExecutionContext contextMock = createStrictMock( ElasticsearchWorkExecutionContext.class );
+		NonBulkableWork<BulkResult> bulkWorkMock = createStrictMock( NonBulkableWork.class );
+		BulkResult bulkResultMock = createStrictMock( BulkResult.class );
+		CompletableFuture<BulkResult> bulkResultFuture = new CompletableFuture<>();
+
+		replayAll();
+		NonBulkableWork<BulkResult> monitored = controller.monitor( bulkWorkMock, 20 );
+		verifyAll();
+
+		resetAll();
+		expect( bulkWorkMock.execute( contextMock ) ).andReturn( bulkResultFuture );
+		replayAll();
+		CompletableFuture<BulkResult> returnedFuture = monitored.execute( contextMock );
+		verifyAll();
+		assertThat( returnedFuture ).isNotDone();
+
+		resetAll();
+		expect( bulkResultMock.getRejectedItemCount() ).andReturn( 3 );
+		replayAll();
+		bulkResultFuture.complete( bulkResultMock );
+		verifyAll();
+		assertThat( returnedFuture ).isCompletedWithValue( bulkResultMock );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 10 );
+	}
+
+}
@@ -13,7 +13,9 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
@@ -206,6 +208,77 @@ public void newBulkOnTooManyBulkedWorks() {
 		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
 	}
 
+	@Test
+	public void newBulkOnTooLargeBulkPayload() {
+		BulkableWork<Void> work1 = bulkableWork( 1 );
+		BulkableWork<Void> work2 = bulkableWork( 2 );
+		BulkableWork<Void> work3 = bulkableWork( 3 );
+		BulkableWork<Void> work4 = bulkableWork( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = work( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = work( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = work( 7 );
+
+		Map<BulkableWork<?>, Long> workSizes = new HashMap<>();
+		workSizes.put( work1, 40L );
+		workSizes.put( work2, 40L );
+		workSizes.put( work3, 40L );
+		workSizes.put( work4, 200L );
+
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureCapture = newCapture();
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureCapture = newCapture();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureCapture = newCapture();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
+				sequenceBuilderMock, bulkWorkFactoryMock, () -> DEFAULT_MAX_BULK_SIZE, 100L, workSizes::get
+		);
+		verifyAll();
+
+		resetAll();
+		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork1FutureCapture ) ) ).andReturn( bulkWork1ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.andReturn( new CompletableFuture<>() );
+		replayAll();
+		bulker.add( work1 );
+		bulker.add( work2 );
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isPending();
+
+		// Adding work3 would exceed the maximum payload size: the first bulk is sent first
+		resetAll();
+		expect( work3.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).andReturn( bulkWork1 );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork2FutureCapture ) ) ).andReturn( bulkWork2ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		replayAll();
+		bulker.add( work3 );
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isSuccessful( bulkWork1 );
+		assertThat( bulkWork2FutureCapture.getValue() ).isPending();
+
+		// work4 exceeds the maximum payload size on its own: it is sent in a bulk of its own
+		resetAll();
+		expect( work4.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).andReturn( bulkWork2 );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork3FutureCapture ) ) ).andReturn( bulkWork3ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, work4, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work4 ), DEFAULT_REFRESH ) ).andReturn( bulkWork3 );
+		replayAll();
+		bulker.add( work4 );
+		verifyAll();
+		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
+		assertThat( bulkWork3FutureCapture.getValue() ).isSuccessful( bulkWork3 );
+	}
+
 	@Test
 	public void newBulkOnDifferentRefresh() {
 		BulkableWork<Void> work1 = bulkableWork( 1 );
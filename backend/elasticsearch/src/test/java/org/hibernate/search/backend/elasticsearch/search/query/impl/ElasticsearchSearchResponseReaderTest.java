@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class ElasticsearchSearchResponseReaderTest {
+
+	@Test
+	public void hits() {
+		ElasticsearchSearchResponseReader reader = reader( "{\"took\":2,\"timed_out\":false,\"_scroll_id\":\"someId\","
+				+ "\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"max_score\":1.0,"
+				+ "\"hits\":[{\"_id\":\"1\",\"_source\":{\"hits\":[]}},{\"_id\":\"2\"}],\"afterHits\":true},"
+				+ "\"aggregations\":{\"someAgg\":{\"value\":42}}}" );
+
+		List<JsonObject> hits = readAllHits( reader );
+		assertThat( hits ).containsExactly(
+				parse( "{\"_id\":\"1\",\"_source\":{\"hits\":[]}}" ),
+				parse( "{\"_id\":\"2\"}" )
+		);
+		assertThat( reader.getRawHitCount() ).isEqualTo( 2 );
+		assertThat( reader.getResponseBodyWithoutHits() ).isEqualTo( parse( "{\"took\":2,\"timed_out\":false,"
+				+ "\"_scroll_id\":\"someId\","
+				+ "\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},\"max_score\":1.0,\"afterHits\":true},"
+				+ "\"aggregations\":{\"someAgg\":{\"value\":42}}}" ) );
+	}
+
+	@Test
+	public void hits_skipProperties() {
+		ElasticsearchSearchResponseReader reader = reader( "{\"took\":2,\"timed_out\":false,"
+				+ "\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},"
+				+ "\"hits\":[{\"_id\":\"1\",\"_type\":\"_doc\",\"sort\":[\"a\",{\"b\":[1]}],\"_score\":null},"
+				+ "{\"sort\":[\"c\"],\"_id\":\"2\"}]}}",
+				new HashSet<>( Arrays.asList( "_id", "_score" ) ) );
+
+		assertThat( readAllHits( reader ) ).containsExactly(
+				parse( "{\"_id\":\"1\",\"_score\":null}" ),
+				parse( "{\"_id\":\"2\"}" )
+		);
+		assertThat( reader.getRawHitCount() ).isEqualTo( 2 );
+		assertThat( reader.getResponseBodyWithoutHits() ).isEqualTo( parse( "{\"took\":2,\"timed_out\":false,"
+				+ "\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"}}}" ) );
+	}
+
+	@Test
+	public void hits_skipSourcePaths() {
+		SourcePathFilter sourcePathsToKeep = new SourcePathFilter();
+		sourcePathsToKeep.keep( new String[] { "string" } );
+		sourcePathsToKeep.keep( new String[] { "object", "nested", "integer" } );
+		sourcePathsToKeep.keep( new String[] { "other" } );
+		ElasticsearchSearchResponseReader reader = reader( "{\"took\":2,\"timed_out\":false,"
+				+ "\"hits\":{\"total\":{\"value\":2,\"relation\":\"eq\"},"
+				+ "\"hits\":[{\"_id\":\"1\",\"_source\":{\"string\":\"foo\",\"unused\":{\"string\":\"bar\"},"
+				+ "\"object\":[{\"nested\":{\"integer\":[1,2],\"unused\":3}},{\"unused\":4},null]}},"
+				+ "{\"_id\":\"2\",\"_source\":{\"other\":{\"string\":\"baz\"},\"object\":null}}]}}",
+				new HashSet<>( Arrays.asList( "_id", "_source" ) ), sourcePathsToKeep );
+
+		assertThat( readAllHits( reader ) ).containsExactly(
+				parse( "{\"_id\":\"1\",\"_source\":{\"string\":\"foo\","
+						+ "\"object\":[{\"nested\":{\"integer\":[1,2]}},{},null]}}" ),
+				parse( "{\"_id\":\"2\",\"_source\":{\"other\":{\"string\":\"baz\"},\"object\":null}}" )
+		);
+		assertThat( reader.getRawHitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void noHits() {
+		ElasticsearchSearchResponseReader reader = reader( "{\"took\":2,\"timed_out\":false,"
+				+ "\"hits\":{\"total\":0,\"hits\":[]}}" );
+
+		assertThat( readAllHits( reader ) ).isEmpty();
+		assertThat( reader.getRawHitCount() ).isEqualTo( 0 );
+		assertThat( reader.getResponseBodyWithoutHits() ).isEqualTo( parse( "{\"took\":2,\"timed_out\":false,"
+				+ "\"hits\":{\"total\":0}}" ) );
+	}
+
+	@Test
+	public void unparseable() {
+		ElasticsearchSearchResponseReader reader = reader( "{\"took\":2,\"hits\":{\"hits\":[{\"_id\":" );
+
+		assertThatThrownBy( () -> readAllHits( reader ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Failed to parse Elasticsearch response" );
+	}
+
+	private static List<JsonObject> readAllHits(ElasticsearchSearchResponseReader reader) {
+		List<JsonObject> hits = new ArrayList<>();
+		for ( JsonObject hit = reader.nextHit(); hit != null; hit = reader.nextHit() ) {
+			hits.add( hit );
+		}
+		return hits;
+	}
+
+	private static ElasticsearchSearchResponseReader reader(String rawBody) {
+		return reader( rawBody, null );
+	}
+
+	private static ElasticsearchSearchResponseReader reader(String rawBody, Set<String> hitPropertiesToKeep) {
+		SourcePathFilter sourcePathsToKeep = new SourcePathFilter();
+		sourcePathsToKeep.keepAll();
+		return reader( rawBody, hitPropertiesToKeep, sourcePathsToKeep );
+	}
+
+	private static ElasticsearchSearchResponseReader reader(String rawBody, Set<String> hitPropertiesToKeep,
+			SourcePathFilter sourcePathsToKeep) {
+		return new ElasticsearchSearchResponseReader( new ElasticsearchResponse( 200, "OK", new Gson(),
+				rawBody.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 ), hitPropertiesToKeep,
+				sourcePathsToKeep );
+	}
+
+	private static JsonObject parse(String json) {
+		return new JsonParser().parse( json ).getAsJsonObject();
+	}
+
+}
@@ -9,9 +9,11 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.same;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -27,8 +29,10 @@
 
 import org.junit.Test;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import org.easymock.Capture;
 import org.easymock.EasyMockSupport;
 
@@ -79,14 +83,72 @@ public void execute_success() {
 
 		Object bulkableResult = new Object();
 		resetAll();
-		expect( bulkableWork0.handleBulkResult( same( contextMock ), same( items.get( 0 ).getAsJsonObject() ) ) )
+		expect( bulkableWork0.handleBulkResult( same( contextMock ), eq( items.get( 0 ).getAsJsonObject() ) ) )
 				.andReturn( bulkableResult );
 		replayAll();
 		assertThat( result.extract( contextMock, bulkableWork0, 0 ) ).isSameAs( bulkableResult );
 		verifyAll();
 
 		resetAll();
-		expect( bulkableWork1.handleBulkResult( same( contextMock ), same( items.get( 1 ).getAsJsonObject() ) ) )
+		expect( bulkableWork1.handleBulkResult( same( contextMock ), eq( items.get( 1 ).getAsJsonObject() ) ) )
+				.andReturn( bulkableResult );
+		replayAll();
+		assertThat( result.extract( contextMock, bulkableWork1, 1 ) ).isSameAs( bulkableResult );
+		verifyAll();
+	}
+
+	@Test
+	public void execute_success_rawResponse() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		resetAll();
+		expect( bulkableWork0.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 0 ) );
+		expect( bulkableWork0.getBulkableActionBody() ).andReturn( bulkableWorkBody( 0 ) );
+		expect( bulkableWork1.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 1 ) );
+		expect( bulkableWork1.getBulkableActionBody() ).andReturn( bulkableWorkBody( 1 ) );
+		replayAll();
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
+		verifyAll();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( Capture.newInstance() ) ) ).andReturn( futureFromClient );
+		replayAll();
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyAll();
+
+		String rawResponseBody = "{\"took\":3,\"errors\":true,\"items\":["
+				+ "{\"index\":{\"_index\":\"myIndex\",\"_id\":\"1\",\"_version\":1,\"result\":\"created\","
+						+ "\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0},\"status\":201}},"
+				+ "{\"delete\":{\"_index\":\"myIndex\",\"_id\":\"2\",\"status\":404,"
+						+ "\"error\":{\"type\":\"some_exception\",\"reason\":\"Some reason\"}}}"
+				+ "]}";
+		ElasticsearchResponse response = new ElasticsearchResponse( 200, "OK", new Gson(),
+				rawResponseBody.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+		resetAll();
+		replayAll();
+		futureFromClient.complete( response );
+		verifyAll();
+
+		FutureAssert.assertThat( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+
+		// Only the properties necessary to assess success are retained
+		Object bulkableResult = new Object();
+		resetAll();
+		expect( bulkableWork0.handleBulkResult( same( contextMock ),
+				eq( parse( "{\"index\":{\"status\":201}}" ) ) ) )
+				.andReturn( bulkableResult );
+		replayAll();
+		assertThat( result.extract( contextMock, bulkableWork0, 0 ) ).isSameAs( bulkableResult );
+		verifyAll();
+
+		resetAll();
+		expect( bulkableWork1.handleBulkResult( same( contextMock ),
+				eq( parse( "{\"delete\":{\"status\":404,"
+						+ "\"error\":{\"type\":\"some_exception\",\"reason\":\"Some reason\"}}}" ) ) ) )
 				.andReturn( bulkableResult );
 		replayAll();
 		assertThat( result.extract( contextMock, bulkableWork1, 1 ) ).isSameAs( bulkableResult );
@@ -152,6 +214,10 @@ private void assertBulkRequest(ElasticsearchRequest request, int ... bulkableInd
 		} );
 	}
 
+	private static JsonObject parse(String json) {
+		return new JsonParser().parse( json ).getAsJsonObject();
+	}
+
 	private <T> BulkableWork<T> bulkableWork(int index) {
 		return createStrictMock( "bulkableWork" + index, BulkableWork.class );
 	}
@@ -93,6 +93,23 @@ private LuceneBackendSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * The filesystem root of backups to restore indexes from on startup.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects a String representing a path to a directory that backups were written to
+	 * with {@link org.hibernate.search.backend.lucene.index.LuceneIndexManager#backup(java.nio.file.Path)}.
+	 * <p>
+	 * On startup, each index whose directory does not contain an index yet
+	 * is restored from {@code <restore_from>/<index name>}, if that backup exists.
+	 * Existing indexes are never overwritten:
+	 * to restore an existing index, delete its directory before starting the application.
+	 * <p>
+	 * Defaults to no value, meaning indexes are never restored.
+	 */
+	public static final String DIRECTORY_RESTORE_FROM = DIRECTORY_PREFIX + DirectoryRadicals.RESTORE_FROM;
+
 	/**
 	 * The multi-tenancy strategy to use.
 	 * <p>
@@ -127,6 +144,44 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to execute queries asynchronously,
+	 * e.g. through {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer)}.
+	 * <p>
+	 * Synchronous queries are executed in the calling thread and are not affected by this setting.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 */
+	public static final String READ_THREAD_POOL_SIZE = "read_thread_pool.size";
+
+	/**
+	 * The maximum number of asynchronous queries waiting for a thread of the
+	 * {@link #READ_THREAD_POOL_SIZE read thread pool}.
+	 * <p>
+	 * When the queue is full, submitting an asynchronous query will not block:
+	 * the returned future will be completed exceptionally instead.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#READ_QUEUE_SIZE}.
+	 */
+	public static final String READ_QUEUE_SIZE = "read_thread_pool.queue_size";
+
+	/**
+	 * The size of the thread pool used to search index segments in parallel
+	 * for indexes where {@link LuceneIndexSettings#SEARCH_PARALLEL parallel search} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search_thread_pool.size";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -139,6 +194,7 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String RESTORE_FROM = "restore_from";
 	}
 
 	/**
@@ -159,5 +215,7 @@ private Defaults() {
 				FileSystemAccessStrategyName.AUTO;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int READ_QUEUE_SIZE = 1000;
 	}
 }
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.LuceneLogCategories;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
@@ -80,9 +81,15 @@ private LuceneIndexSettings() {
 	 * 	 search queries executed less than 1 second after another query may execute faster.</li>
 	 * </ul>
 	 * <p>
+	 * When set to a positive value, index readers are refreshed periodically in a background thread,
+	 * so that search queries never have to wait for a refresh.
+	 * When set to 0, index readers are refreshed on demand by search queries
+	 * as soon as they detect a change in the index.
+	 * <p>
 	 * Note that individual write operations may trigger a forced refresh
 	 * (for example with the "searchable" automatic indexing synchronization strategy in the ORM mapper),
-	 * in which case you will only benefit from a non-zero refresh interval during intensive indexing (mass indexer, ...).
+	 * in which case the index reader is refreshed immediately in the thread executing the write,
+	 * and you will only benefit from a non-zero refresh interval during intensive indexing (mass indexer, ...).
 	 * <p>
 	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
 	 * or a String that can be parsed into such Integer value.
@@ -91,6 +98,25 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * The prefix for property keys related to index readers.
+	 */
+	public static final String IO_READER_PREFIX = IO_PREFIX + "reader.";
+
+	/**
+	 * The component responsible for warming up index readers before they are exposed to search queries.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * Expects a reference to a bean of type {@link IndexReaderWarmer}.
+	 * <p>
+	 * Defaults to no value, meaning index readers are not warmed up.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String IO_READER_WARMER = IO_READER_PREFIX + ReaderRadicals.WARMER;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -283,6 +309,63 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * Whether indexing works made pointless by later works should be eliminated before they are executed.
+	 * <p>
+	 * When enabled, if an indexing queue holds multiple works for the same document,
+	 * e.g. multiple updates caused by transactions updating the same entity in quick succession,
+	 * only the latest work is executed, and previous works complete when the latest one does.
+	 * Works are only coalesced within a batch, i.e. among works that were waiting in the same queue
+	 * when the queue was processed: see {@link #INDEXING_QUEUE_SIZE}
+	 * and {@link #INDEXING_COALESCING_DELAY}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCING}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_COALESCING = INDEXING_PREFIX + IndexingRadicals.COALESCING;
+
+	/**
+	 * How long to wait before processing works submitted to an idle indexing queue,
+	 * so that more works can accumulate in the queue and be {@link #INDEXING_COALESCING coalesced}.
+	 * <p>
+	 * Higher values increase the chance of coalescing works, but also increase indexing latency.
+	 * <p>
+	 * Expects a positive integer value in milliseconds, such as {@code 100},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCING_DELAY}.
+	 */
+	public static final String INDEXING_COALESCING_DELAY = INDEXING_PREFIX + IndexingRadicals.COALESCING_DELAY;
+
+	/**
+	 * The prefix for search-related property keys.
+	 */
+	public static final String SEARCH_PREFIX = "search.";
+
+	/**
+	 * Whether queries targeting this index should search index segments in parallel.
+	 * <p>
+	 * When enabled, each query spreads the collection of matching documents
+	 * over the threads of the backend's search thread pool,
+	 * see {@link LuceneBackendSettings#SEARCH_THREAD_POOL_SIZE}.
+	 * This can reduce the latency of queries on large indexes with many segments or shards,
+	 * at the cost of higher CPU usage per query.
+	 * <p>
+	 * Queries targeting multiple indexes will only search segments in parallel
+	 * if this setting is enabled for every targeted index.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_PARALLEL}.
+	 */
+	public static final String SEARCH_PARALLEL = SEARCH_PREFIX + SearchRadicals.PARALLEL;
+
 	/**
 	 * Configuration property keys for I/O, without the {@link #IO_PREFIX prefix}.
 	 */
@@ -296,6 +379,18 @@ private IORadicals() {
 		public static final String REFRESH_INTERVAL = "refresh_interval";
 	}
 
+	/**
+	 * Configuration property keys for index reader options, without the {@link #IO_READER_PREFIX prefix}.
+	 */
+	public static final class ReaderRadicals {
+
+		private ReaderRadicals() {
+		}
+
+		public static final String WARMER = "warmer";
+
+	}
+
 	/**
 	 * Configuration property keys for index writer options, without the {@link #IO_WRITER_PREFIX prefix}.
 	 */
@@ -350,6 +445,19 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String COALESCING = "coalescing";
+		public static final String COALESCING_DELAY = "coalescing_delay";
+	}
+
+	/**
+	 * Configuration property keys for search, without the {@link #SEARCH_PREFIX prefix}.
+	 */
+	public static final class SearchRadicals {
+
+		private SearchRadicals() {
+		}
+
+		public static final String PARALLEL = "parallel";
 	}
 
 	/**
@@ -366,5 +474,8 @@ private Defaults() {
 		public static final int IO_REFRESH_INTERVAL = 0;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_COALESCING = false;
+		public static final int INDEXING_COALESCING_DELAY = 0;
+		public static final boolean SEARCH_PARALLEL = false;
 	}
 }
@@ -10,6 +10,7 @@
 import java.util.List;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexFieldType;
 import org.hibernate.search.engine.backend.document.model.spi.IndexFieldInclusion;
@@ -82,6 +83,11 @@ public EventContext eventContext() {
 		return EventContexts.fromIndexFieldAbsolutePath( absolutePath );
 	}
 
+	@Override
+	public ProjectionValuesSource<F> projectionValuesSource() {
+		return type.codec().createProjectionValuesSource( absolutePath );
+	}
+
 	@SuppressWarnings("unchecked")
 	public <T> LuceneIndexSchemaFieldNode<? super T> withValueType(Class<T> expectedSubType, EventContext eventContext) {
 		if ( !type.valueClass().isAssignableFrom( expectedSubType ) ) {
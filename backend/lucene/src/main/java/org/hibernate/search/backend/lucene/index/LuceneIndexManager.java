@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.analysis.Analyzer;
 
@@ -30,4 +34,26 @@ public interface LuceneIndexManager extends IndexManager {
 	 */
 	Analyzer searchAnalyzer();
 
+	/**
+	 * Backs up the content of this index, without blocking indexing.
+	 * <p>
+	 * Pending changes are committed, then the files of the last commit are copied
+	 * to {@code <directoryRoot>/<index name>}, or {@code <directoryRoot>/<index name>/<shard id>} when sharding.
+	 * Changes committed after the backup started are not included in the backup.
+	 * <p>
+	 * Backing up repeatedly to the same directory root is incremental:
+	 * files that did not change since the previous backup are not copied again.
+	 * Files are hard-linked instead of copied when the backup is on the same file store as the index.
+	 * Each backup replaces the previous one only once it is complete:
+	 * if the backup fails, the previous backup is left untouched.
+	 * <p>
+	 * Backups can be restored on startup
+	 * through {@link org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#DIRECTORY_RESTORE_FROM}.
+	 *
+	 * @param directoryRoot The root directory for backups.
+	 * @return A future that completes when the backup is complete.
+	 */
+	@Incubating
+	CompletableFuture<?> backup(Path directoryRoot);
+
 }
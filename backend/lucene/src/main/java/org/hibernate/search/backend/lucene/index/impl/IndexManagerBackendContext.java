@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
@@ -18,7 +19,9 @@
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexSnapshot;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
@@ -39,6 +42,7 @@
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexWorkspace;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionBackendContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
+import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
@@ -191,7 +195,7 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 		return new LuceneIndexEntryFactory( model, multiTenancyStrategy );
 	}
 
-	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
+	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource, IndexReaderWarmer readerWarmer) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
 				return DebugIOStrategy.create( directoryProvider, threads, failureHandler );
@@ -199,7 +203,7 @@ IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 			default:
 				return NearRealTimeIOStrategy.create(
 						propertySource, directoryProvider,
-						timingSource, threads, failureHandler
+						timingSource, readerWarmer, threads, failureHandler
 				);
 		}
 	}
@@ -208,13 +212,33 @@ LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext
 		return new LuceneIndexSchemaManager( workFactory, context );
 	}
 
+	Executor getBackupExecutor() {
+		return threads.getBackupExecutor();
+	}
+
+	IndexManagementWork<IndexSnapshot> createSnapshotWork() {
+		return workFactory.snapshot();
+	}
+
+	IndexManagementWork<?> createReleaseSnapshotWork(IndexSnapshot snapshot) {
+		return workFactory.releaseSnapshot( snapshot );
+	}
+
 	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String> shardId,
 			ConfigurationPropertySource propertySource) {
+		return createShard( ioStrategy, model, model.hibernateSearchName(), shardId, propertySource );
+	}
+
+	/**
+	 * @param indexName The name of the index whose directory the shard should use,
+	 * which may be different from the name of the index in the model, e.g. when rebuilding an index.
+	 */
+	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, String indexName, Optional<String> shardId,
+			ConfigurationPropertySource propertySource) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 		IndexAccessorImpl indexAccessor = null;
-		String indexName = model.hibernateSearchName();
-		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( model.hibernateSearchName(), shardId );
+		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
 				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
 		);
@@ -8,9 +8,11 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
@@ -27,6 +29,9 @@
 import org.hibernate.search.engine.backend.scope.spi.IndexScopeBuilder;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
+import org.hibernate.search.engine.backend.work.execution.spi.DualWriteIndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.DualWriteIndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -37,7 +42,10 @@
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -58,6 +66,9 @@
 
 	private final LuceneIndexSchemaManager schemaManager;
 
+	// The rebuild in progress, if any
+	private final AtomicReference<LuceneIndexRebuild> rebuild = new AtomicReference<>();
+
 	LuceneIndexManagerImpl(IndexManagerBackendContext backendContext,
 			String indexName, LuceneIndexModel model, LuceneIndexEntryFactory indexEntryFactory) {
 		this.backendContext = backendContext;
@@ -109,19 +120,33 @@ public IndexSchemaManager schemaManager() {
 	public <R> IndexIndexingPlan<R> createIndexingPlan(BackendSessionContext sessionContext,
 			EntityReferenceFactory<R> entityReferenceFactory,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
-		return backendContext.createIndexingPlan(
+		IndexIndexingPlan<R> plan = backendContext.createIndexingPlan(
 				shardHolder, indexEntryFactory,
 				sessionContext, entityReferenceFactory,
 				commitStrategy, refreshStrategy
 		);
+		LuceneIndexRebuild currentRebuild = rebuild.get();
+		if ( currentRebuild == null ) {
+			return plan;
+		}
+		return new DualWriteIndexIndexingPlan<>(
+				currentRebuild.createIndexingPlan( sessionContext, entityReferenceFactory,
+						commitStrategy, refreshStrategy ),
+				plan
+		);
 	}
 
 	@Override
 	public IndexIndexer createIndexer(BackendSessionContext sessionContext) {
-		return backendContext.createIndexer(
+		IndexIndexer indexer = backendContext.createIndexer(
 				shardHolder, indexEntryFactory,
 				sessionContext
 		);
+		LuceneIndexRebuild currentRebuild = rebuild.get();
+		if ( currentRebuild == null ) {
+			return indexer;
+		}
+		return new DualWriteIndexIndexer( currentRebuild.createIndexer( sessionContext ), indexer );
 	}
 
 	@Override
@@ -129,6 +154,33 @@ public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionConte
 		return backendContext.createWorkspace( shardHolder, sessionContext );
 	}
 
+	@Override
+	public CompletableFuture<IndexRebuild> startRebuild() {
+		if ( rebuild.get() != null ) {
+			throw log.indexRebuildAlreadyInProgress( indexName, getBackendAndIndexEventContext() );
+		}
+		LuceneIndexRebuild newRebuild = new LuceneIndexRebuild(
+				this, backendContext, indexEntryFactory,
+				shardHolder, shardHolder.startRebuiltShards()
+		);
+		if ( !rebuild.compareAndSet( null, newRebuild ) ) {
+			SearchException exception = log.indexRebuildAlreadyInProgress( indexName, getBackendAndIndexEventContext() );
+			new SuppressingCloser( exception )
+					.push( r -> Futures.unwrappedExceptionJoin( r.abort() ), newRebuild );
+			throw exception;
+		}
+		return CompletableFuture.completedFuture( newRebuild );
+	}
+
+	@Override
+	public CompletableFuture<?> backup(Path directoryRoot) {
+		return shardHolder.backup( directoryRoot.resolve( shardHolder.getIndexName() ) );
+	}
+
+	void onRebuildEnded(LuceneIndexRebuild endedRebuild) {
+		rebuild.compareAndSet( endedRebuild, null );
+	}
+
 	@Override
 	public IndexScopeBuilder createScopeBuilder(BackendMappingContext mappingContext) {
 		return new LuceneIndexScopeBuilder(
@@ -153,6 +205,11 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		shardHolder.openIndexReaders( routingKeys, readerCollector );
 	}
 
+	@Override
+	public boolean isParallelSearchEnabled() {
+		return shardHolder.isParallelSearchEnabled();
+	}
+
 	@Override
 	public IndexManager toAPI() {
 		return this;
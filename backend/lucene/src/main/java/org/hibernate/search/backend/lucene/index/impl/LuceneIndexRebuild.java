@@ -0,0 +1,161 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
+import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A rebuild of a Lucene index into separate, initially empty shards.
+ * <p>
+ * Documents are routed to rebuilt shards using the sharding strategy of the original index.
+ * When the rebuild completes, the content of each original shard is swapped with the content
+ * of the corresponding rebuilt shard, and the rebuilt shards, now holding the previous content, are dropped.
+ * Swapping renames directories (or, for heap directories, swaps them in memory) instead of copying files,
+ * and each shard keeps its directory path, so that the rebuilt content survives restarts
+ * without any change to the configuration.
+ */
+final class LuceneIndexRebuild implements IndexRebuild, WorkExecutionIndexManagerContext {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneIndexManagerImpl indexManager;
+	private final IndexManagerBackendContext backendContext;
+	private final LuceneIndexEntryFactory indexEntryFactory;
+	private final ShardHolder shardHolder;
+	private final Map<String, Shard> rebuiltShards;
+	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+
+	LuceneIndexRebuild(LuceneIndexManagerImpl indexManager,
+			IndexManagerBackendContext backendContext,
+			LuceneIndexEntryFactory indexEntryFactory,
+			ShardHolder shardHolder, Map<String, Shard> rebuiltShards) {
+		this.indexManager = indexManager;
+		this.backendContext = backendContext;
+		this.indexEntryFactory = indexEntryFactory;
+		this.shardHolder = shardHolder;
+		this.rebuiltShards = rebuiltShards;
+		for ( Shard shard : rebuiltShards.values() ) {
+			managementOrchestrators.add( shard.getManagementOrchestrator() );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[indexName=" + getIndexName() + "]";
+	}
+
+	@Override
+	public String getIndexName() {
+		return shardHolder.getIndexName();
+	}
+
+	@Override
+	public String getMappedTypeName() {
+		return shardHolder.getMappedTypeName();
+	}
+
+	@Override
+	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String documentId, String routingKey) {
+		return rebuiltShards.get( shardHolder.toShardId( documentId, routingKey ) ).getIndexingOrchestrator();
+	}
+
+	@Override
+	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<String> routingKeys) {
+		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
+		for ( String shardId : shardHolder.toShardIds( routingKeys ) ) {
+			orchestrators.add( rebuiltShards.get( shardId ).getManagementOrchestrator() );
+		}
+		return orchestrators;
+	}
+
+	@Override
+	public List<LuceneParallelWorkOrchestrator> getAllManagementOrchestrators() {
+		return managementOrchestrators;
+	}
+
+	@Override
+	public IndexIndexer createIndexer(BackendSessionContext sessionContext) {
+		return backendContext.createIndexer( this, indexEntryFactory, sessionContext );
+	}
+
+	@Override
+	public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionContext) {
+		return backendContext.createWorkspace( this, sessionContext );
+	}
+
+	@Override
+	public CompletableFuture<?> complete() {
+		return Futures.create( () -> {
+			try {
+				shardHolder.swapContent( rebuiltShards );
+			}
+			catch (RuntimeException e) {
+				new SuppressingCloser( e )
+						.push( LuceneIndexRebuild::end, this );
+				throw e;
+			}
+			end();
+			return CompletableFuture.completedFuture( null );
+		} );
+	}
+
+	@Override
+	public CompletableFuture<?> abort() {
+		return Futures.create( () -> {
+			end();
+			return CompletableFuture.completedFuture( null );
+		} );
+	}
+
+	<R> IndexIndexingPlan<R> createIndexingPlan(BackendSessionContext sessionContext,
+			EntityReferenceFactory<R> entityReferenceFactory,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		return backendContext.createIndexingPlan( this, indexEntryFactory, sessionContext, entityReferenceFactory,
+				commitStrategy, refreshStrategy );
+	}
+
+	private void end() {
+		// Stop writing to the rebuilt shards before dropping them.
+		indexManager.onRebuildEnded( this );
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			// Wait for ongoing works on the rebuilt shards, so that they don't fail because the shards were dropped.
+			closer.pushAll( shard -> Futures.unwrappedExceptionJoin( shard.preStop() ), rebuiltShards.values() );
+			closer.pushAll( Shard::dropIndexIfExisting, rebuiltShards.values() );
+			closer.pushAll( Shard::stop, rebuiltShards.values() );
+		}
+		catch (IOException e) {
+			throw log.unableToDropIndexDirectory( e.getMessage(),
+					EventContexts.fromIndexName( getIndexName() ), e );
+		}
+	}
+}
@@ -74,6 +74,18 @@ void stop() throws IOException {
 		}
 	}
 
+	void dropIndexIfExisting() {
+		indexAccessor.dropIndexIfExisting();
+	}
+
+	void createIndexIfMissing() {
+		indexAccessor.createIndexIfMissing();
+	}
+
+	void swapContent(Shard other) {
+		indexingOrchestrator.swapContentInCurrentThread( other.indexingOrchestrator );
+	}
+
 	DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
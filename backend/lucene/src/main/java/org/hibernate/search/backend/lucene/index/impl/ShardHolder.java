@@ -7,39 +7,66 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexSnapshot;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final ConfigurationProperty<Boolean> SEARCH_PARALLEL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.SEARCH_PARALLEL )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.SEARCH_PARALLEL )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends IndexReaderWarmer>> IO_READER_WARMER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_READER_WARMER )
+					.asBeanReference( IndexReaderWarmer.class )
+					.build();
+
+	private static final String REBUILT_INDEX_NAME_SUFFIX = "-rebuild";
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
+	private IOStrategy ioStrategy;
+	private ConfigurationPropertySource propertySource;
+
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
+	private BeanHolder<? extends IndexReaderWarmer> readerWarmerHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	private boolean parallelSearchEnabled;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -52,10 +79,16 @@ public String toString() {
 	}
 
 	void start(IndexManagerStartContext startContext) {
-		ConfigurationPropertySource propertySource = startContext.configurationPropertySource();
+		this.propertySource = startContext.configurationPropertySource();
+
+		this.parallelSearchEnabled = SEARCH_PARALLEL.get( propertySource );
 
 		try {
-			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
+			this.readerWarmerHolder = IO_READER_WARMER.getAndMap( propertySource, startContext.beanResolver()::resolve )
+					.orElse( null );
+			this.ioStrategy = backendContext.createIOStrategy(
+					propertySource, readerWarmerHolder == null ? null : readerWarmerHolder.get()
+			);
 			ShardingStrategyInitializationContextImpl initializationContext =
 					new ShardingStrategyInitializationContextImpl(
 							backendContext,
@@ -78,7 +111,8 @@ void start(IndexManagerStartContext startContext) {
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
-					.pushAll( Shard::stop, shards.values() );
+					.pushAll( Shard::stop, shards.values() )
+					.push( readerWarmerHolder );
 			shards.clear();
 			managementOrchestrators.clear();
 			throw e;
@@ -100,6 +134,91 @@ void stop() throws IOException {
 			closer.pushAll( Shard::stop, shards.values() );
 			shards.clear();
 			managementOrchestrators.clear();
+			// Close the warmer after the shards, as it may still be used until the shards are stopped.
+			closer.push( BeanHolder::close, readerWarmerHolder );
+			readerWarmerHolder = null;
+		}
+	}
+
+	/**
+	 * Creates one new, empty shard for each shard of this index, in a separate directory,
+	 * dropping any leftover from a previous rebuild.
+	 *
+	 * @return The rebuilt shards, mapped by shard identifier.
+	 */
+	Map<String, Shard> startRebuiltShards() {
+		String rebuiltIndexName = model.hibernateSearchName() + REBUILT_INDEX_NAME_SUFFIX;
+		Map<String, Shard> rebuiltShards = new LinkedHashMap<>();
+		try {
+			for ( String shardId : shards.keySet() ) {
+				Shard rebuiltShard = backendContext.createShard(
+						ioStrategy, model, rebuiltIndexName, Optional.ofNullable( shardId ), propertySource
+				);
+				rebuiltShard.start( propertySource );
+				rebuiltShards.put( shardId, rebuiltShard );
+				rebuiltShard.dropIndexIfExisting();
+				rebuiltShard.createIndexIfMissing();
+			}
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.pushAll( Shard::stop, rebuiltShards.values() );
+			throw e;
+		}
+		return rebuiltShards;
+	}
+
+	/**
+	 * Swaps the content of each shard with the content of the corresponding rebuilt shard, one shard at a time.
+	 *
+	 * @param rebuiltShards The rebuilt shards, as returned by {@link #startRebuiltShards()}.
+	 */
+	void swapContent(Map<String, Shard> rebuiltShards) {
+		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
+			entry.getValue().swapContent( rebuiltShards.get( entry.getKey() ) );
+		}
+	}
+
+	/**
+	 * Backs up each shard to a separate directory, using the same layout as the local filesystem directory provider.
+	 *
+	 * @param indexTargetDirectory The directory to back up this index to.
+	 * @return A future that completes when all shards have been backed up.
+	 */
+	CompletableFuture<?> backup(Path indexTargetDirectory) {
+		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
+		int i = 0;
+		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
+			String shardId = entry.getKey();
+			// The shard ID is null when sharding is disabled
+			Path shardTargetDirectory = shardId == null ? indexTargetDirectory : indexTargetDirectory.resolve( shardId );
+			futures[i] = backup( entry.getValue().getManagementOrchestrator(), shardTargetDirectory );
+			i++;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	private CompletableFuture<?> backup(LuceneParallelWorkOrchestrator orchestrator, Path targetDirectory) {
+		// Only taking and releasing the snapshot involve the index writer, and thus go through the orchestrator.
+		// The copy is performed outside of orchestrated works, in a dedicated thread:
+		// it does not occupy write threads, and failures affecting the backup directory
+		// (missing permissions, full disk, ...) only fail the returned future and never affect the index writer.
+		return orchestrator.submit( backendContext.createSnapshotWork() )
+				.thenComposeAsync( snapshot -> Futures.whenCompleteExecute(
+						copy( snapshot, targetDirectory ),
+						() -> orchestrator.submit( backendContext.createReleaseSnapshotWork( snapshot ) )
+				), backendContext.getBackupExecutor() );
+	}
+
+	private static CompletableFuture<?> copy(IndexSnapshot snapshot, Path targetDirectory) {
+		try {
+			snapshot.copyTo( targetDirectory );
+			return CompletableFuture.completedFuture( null );
+		}
+		catch (RuntimeException e) {
+			CompletableFuture<?> future = new CompletableFuture<>();
+			future.completeExceptionally( e );
+			return future;
 		}
 	}
 
@@ -112,6 +231,11 @@ public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector r
 		}
 	}
 
+	@Override
+	public boolean isParallelSearchEnabled() {
+		return parallelSearchEnabled;
+	}
+
 	@Override
 	public String getIndexName() {
 		return model.hibernateSearchName();
@@ -146,28 +270,38 @@ public List<Shard> getShardsForTests() {
 		return new ArrayList<>( shards.values() );
 	}
 
+	Collection<String> toShardIds(Set<String> routingKeys) {
+		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
+			// No sharding or no routing key => target all shards
+			return shards.keySet();
+		}
+
+		return shardingStrategyHolder.get().toShardIdentifiers( routingKeys );
+	}
+
+	String toShardId(String documentId, String routingKey) {
+		if ( shardingStrategyHolder == null ) {
+			// Sharding is disabled: there's only one shard
+			return shards.keySet().iterator().next();
+		}
+
+		return shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
+	}
+
 	private Collection<Shard> toShards(Set<String> routingKeys) {
 		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
 			// No sharding or no routing key => target all shards
 			return shards.values();
 		}
 
-		Set<String> shardIdentifiers = shardingStrategyHolder.get().toShardIdentifiers( routingKeys );
-
 		Collection<Shard> enabledShards = new HashSet<>();
-		for ( String shardId : shardIdentifiers ) {
+		for ( String shardId : toShardIds( routingKeys ) ) {
 			enabledShards.add( shards.get( shardId ) );
 		}
 		return enabledShards;
 	}
 
 	private Shard toShard(String documentId, String routingKey) {
-		if ( shardingStrategyHolder == null ) {
-			// Sharding is disabled: there's only one shard
-			return shards.values().iterator().next();
-		}
-
-		String shardId = shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
-		return shards.get( shardId );
+		return shards.get( toShardId( documentId, routingKey ) );
 	}
 }
@@ -676,4 +676,53 @@ SearchException invalidFieldValueType(@FormatWith(ClassFormatter.class) Class<?>
 					+ " Make sure to call '.multi()' when you create the projection.")
 	SearchException invalidSingleValuedProjectionOnMultiValuedField(String absolutePath, @Param EventContext context);
 
+	@Message(id = ID_OFFSET_2 + 132,
+			value = "Cannot use this scroll: it has already been closed.")
+	SearchException scrollClosed();
+
+	@Message(id = ID_OFFSET_2 + 133,
+			value = "Unable to warm up the index reader; the index reader will be used without warm-up."
+					+ " Failure: %1$s")
+	SearchException unableToWarmUpIndexReader(String causeMessage, @Param EventContext context, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 134,
+			value = "Unable to rebuild index '%1$s': another rebuild of this index is already in progress.")
+	SearchException indexRebuildAlreadyInProgress(String indexName, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 135,
+			value = "Unable to replace the content of the index with the content of the rebuilt index: %1$s")
+	SearchException unableToReplaceIndexContent(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 136,
+			value = "Unable to back up the index to '%1$s': %2$s")
+	SearchException unableToBackUpIndex(Path targetDirectory, String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 137,
+			value = "Unable to restore the index from backup '%1$s': %2$s")
+	SearchException unableToRestoreIndex(Path backupDirectory, String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 138,
+			value = "Restored the index from backup '%1$s'. %2$s")
+	void indexRestoredFromBackup(Path backupDirectory, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 139,
+			value = "Unable to execute the query asynchronously: the queue of the read thread pool is full."
+					+ " Increase the size of the read thread pool or of its queue,"
+					+ " or reduce the number of concurrent asynchronous queries.")
+	SearchException readQueueFull(@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 140,
+			value = "Unable to take a snapshot of the index: %1$s")
+	SearchException unableToSnapshotIndex(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 141,
+			value = "Unable to release a snapshot of the index; unused index files will be deleted on the next commit. %1$s")
+	void unableToReleaseIndexSnapshot(@FormatWith(EventContextFormatter.class) EventContext context,
+			@Cause Exception cause);
+
 }
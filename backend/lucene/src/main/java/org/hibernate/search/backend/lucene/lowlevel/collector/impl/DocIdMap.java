@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.util.Arrays;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+/**
+ * A map from (global) document IDs to values, for use in collectors applied to the top documents.
+ * <p>
+ * Collectors visit documents in increasing doc ID order,
+ * so entries are simply appended to arrays sized to the number of top documents
+ * and retrieved through a binary search:
+ * unlike a {@code HashMap<Integer, V>}, this does not box doc IDs nor allocate one entry per document.
+ *
+ * @param <V> The type of values.
+ */
+final class DocIdMap<V> {
+
+	private int[] docIds;
+	private Object[] values;
+	private int size = 0;
+
+	DocIdMap(int expectedSize) {
+		int capacity = Math.max( expectedSize, 1 );
+		this.docIds = new int[capacity];
+		this.values = new Object[capacity];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( "{" );
+		for ( int i = 0; i < size; i++ ) {
+			if ( i > 0 ) {
+				sb.append( ", " );
+			}
+			sb.append( docIds[i] ).append( '=' ).append( values[i] );
+		}
+		return sb.append( '}' ).toString();
+	}
+
+	/**
+	 * @param docId A document ID, strictly greater than the ID of any document previously added to this map.
+	 * @param value The value to associate to the document.
+	 */
+	void put(int docId, V value) {
+		if ( size > 0 && docId <= docIds[size - 1] ) {
+			throw new AssertionFailure( "Collector.collect called in unexpected order" );
+		}
+		if ( size == docIds.length ) {
+			// Should not happen when the expected size is correct, but let's be safe.
+			int newCapacity = size * 2;
+			docIds = Arrays.copyOf( docIds, newCapacity );
+			values = Arrays.copyOf( values, newCapacity );
+		}
+		docIds[size] = docId;
+		values[size] = value;
+		++size;
+	}
+
+	/**
+	 * @param docId A document ID.
+	 * @return The value associated to this document, or {@code null} if there is none.
+	 */
+	@SuppressWarnings("unchecked") // Values are always of type V, see put()
+	V get(int docId) {
+		int index = Arrays.binarySearch( docIds, 0, size, docId );
+		return index < 0 ? null : (V) values[index];
+	}
+}
@@ -6,18 +6,29 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
+import java.io.IOException;
+import java.util.Collection;
+
 import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
 
-public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector> {
+public class FacetsCollectorFactory implements ReducibleCollectorFactory<FacetsCollector> {
 	public static final CollectorKey<FacetsCollector> KEY = CollectorKey.create();
 
 	public static final CollectorFactory<FacetsCollector> INSTANCE = new FacetsCollectorFactory();
 
+	private final FacetsCollectorManager manager = new FacetsCollectorManager();
+
 	@Override
 	public FacetsCollector createCollector(CollectorExecutionContext context) {
 		return new FacetsCollector();
 	}
 
+	@Override
+	public FacetsCollector reduce(Collection<FacetsCollector> collectors) throws IOException {
+		return manager.reduce( collectors );
+	}
+
 	@Override
 	public CollectorKey<FacetsCollector> getCollectorKey() {
 		return KEY;
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValues;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Collects the values of a single-valued field from doc values.
+ * <p>
+ * Values are read column-wise, leaf by leaf,
+ * which is much cheaper than loading stored fields for each document.
+ *
+ * @param <F> The type of collected values.
+ */
+public final class ProjectionValuesCollector<F> extends SimpleCollector {
+
+	private final ProjectionValuesSource<F> valuesSource;
+
+	private ProjectionValues<F> currentLeafValues;
+	private int currentLeafDocBase;
+
+	private final DocIdMap<F> collected;
+
+	public ProjectionValuesCollector(ProjectionValuesSource<F> valuesSource, int expectedDocCount) {
+		this.valuesSource = valuesSource;
+		this.collected = new DocIdMap<>( expectedDocCount );
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( currentLeafValues.advanceExact( doc ) ) {
+			collected.put( currentLeafDocBase + doc, currentLeafValues.value() );
+		}
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @param doc The ID of a collected document.
+	 * @return The value of the field for the given document, or {@code null} if the document has no value.
+	 */
+	public F get(int doc) {
+		return collected.get( doc );
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.currentLeafValues = valuesSource.getValues( context );
+		this.currentLeafDocBase = context.docBase;
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.apache.lucene.search.Collector;
+
+/**
+ * A {@link CollectorFactory} whose collectors can be used on separate slices of the index segments,
+ * then combined into a single collector.
+ * <p>
+ * Allows searching segments in parallel, see {@link org.apache.lucene.search.CollectorManager}.
+ *
+ * @param <C> The type of collectors.
+ */
+public interface ReducibleCollectorFactory<C extends Collector> extends CollectorFactory<C> {
+
+	/**
+	 * @param collectors Collectors created by this factory, each having collected a distinct slice of the segments.
+	 * @return A collector holding the combined data of all the given collectors.
+	 * @throws IOException If reducing fails.
+	 */
+	C reduce(Collection<C> collectors) throws IOException;
+
+}
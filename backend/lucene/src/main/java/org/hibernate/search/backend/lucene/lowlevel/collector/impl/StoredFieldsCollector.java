@@ -7,15 +7,13 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.search.extraction.impl.DocumentStoredFields;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ReusableDocumentStoredFieldVisitor;
 import org.hibernate.search.util.common.AssertionFailure;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -25,7 +23,7 @@
 import org.apache.lucene.search.Weight;
 
 /**
- * Collects stored fields as Document instances.
+ * Collects stored fields as {@link DocumentStoredFields} instances.
  * <p>
  * <strong>WARNING:</strong> this relies on reader.document() to load the value of stored field
  * for <strong>each single matching document</strong>,
@@ -49,7 +47,8 @@ public StoredFieldsCollector createCollector(CollectorExecutionContext context)
 					nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
 				}
 
-				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher() );
+				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher(),
+						context.getMaxDocs() );
 			}
 
 			@Override
@@ -68,14 +67,15 @@ public CollectorKey<StoredFieldsCollector> getCollectorKey() {
 	private DocIdSetIterator currentLeafChildDocs;
 	private LeafReader currentLeafReader;
 
-	private final Map<Integer, Document> documents = new HashMap<>();
+	private final DocIdMap<DocumentStoredFields> documents;
 
 	public StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
-			IndexSearcher indexSearcher) throws IOException {
+			IndexSearcher indexSearcher, int expectedDocCount) throws IOException {
 		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
+		this.documents = new DocIdMap<>( expectedDocCount );
 	}
 
 	@Override
@@ -96,7 +96,7 @@ public void collect(int parentDoc) throws IOException {
 		// add root document contribution
 		currentLeafReader.document( parentDoc, storedFieldVisitor );
 
-		documents.put( currentLeafDocBase + parentDoc, storedFieldVisitor.getDocumentAndReset() );
+		documents.put( currentLeafDocBase + parentDoc, storedFieldVisitor.getStoredFieldsAndReset() );
 	}
 
 	private void collectChildDocs(int parentDoc) throws IOException {
@@ -128,7 +128,7 @@ public ScoreMode scoreMode() {
 		return ScoreMode.COMPLETE_NO_SCORES;
 	}
 
-	public Document getDocument(int docId) {
+	public DocumentStoredFields getStoredFields(int docId) {
 		return documents.get( docId );
 	}
 
@@ -0,0 +1,245 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * Copies index commits to and from backup directories on the filesystem.
+ * <p>
+ * Lucene never modifies an index file once it has been written,
+ * so the files of a commit that is protected from deletion can be copied
+ * while the index writer keeps working.
+ * <p>
+ * Each backup is written to a new {@code commit-<number>} subdirectory of the backup directory,
+ * first under a temporary name, then renamed once all its files have been synced.
+ * Files of previous backups are never modified:
+ * file names are not unique across the life of an index (e.g. they start over after the index is dropped),
+ * so overwriting them in place could corrupt the previous backup if the new one fails.
+ */
+public final class IndexBackupUtils {
+
+	private static final String COMMIT_DIRECTORY_PREFIX = "commit-";
+	private static final Pattern COMMIT_DIRECTORY_PATTERN = Pattern.compile( COMMIT_DIRECTORY_PREFIX + "(\\d+)" );
+	private static final String STAGING_DIRECTORY_SUFFIX = ".tmp";
+
+	private IndexBackupUtils() {
+	}
+
+	/**
+	 * Copies the files of an index commit to a backup directory.
+	 * <p>
+	 * Files that are already present in the latest backup with the same length and checksum
+	 * are hard-linked from that backup instead of being copied again.
+	 * Other files are hard-linked from the index when possible, and copied otherwise.
+	 * Previous backups are deleted once the new one has been copied, synced and made visible.
+	 *
+	 * @param commit The commit to copy. Must be protected from deletion until this method returns.
+	 * @param targetDirectory The backup directory. Created if it does not exist.
+	 * @throws IOException If copying fails.
+	 */
+	public static void backup(IndexCommit commit, Path targetDirectory) throws IOException {
+		Files.createDirectories( targetDirectory );
+		Directory source = commit.getDirectory();
+		Path sourcePath = toPathOrNull( source );
+		Collection<String> fileNames = commit.getFileNames();
+		String segmentsFileName = commit.getSegmentsFileName();
+
+		List<Path> previousCommitDirectories = listCommitDirectories( targetDirectory );
+		Path previousCommitDirectory = latest( previousCommitDirectories );
+		long commitNumber = previousCommitDirectory == null ? 0L : commitNumber( previousCommitDirectory ) + 1;
+		Path commitDirectory = targetDirectory.resolve( COMMIT_DIRECTORY_PREFIX + commitNumber );
+		Path stagingDirectory = targetDirectory.resolve( commitDirectory.getFileName() + STAGING_DIRECTORY_SUFFIX );
+
+		// Remove leftovers, e.g. from a previous, failed backup
+		deleteStagingDirectories( targetDirectory );
+		Files.createDirectories( stagingDirectory );
+
+		try ( FSDirectory target = FSDirectory.open( stagingDirectory );
+				FSDirectory previous = previousCommitDirectory == null ? null : FSDirectory.open( previousCommitDirectory ) ) {
+			boolean tryLinking = sourcePath != null;
+			for ( String fileName : fileNames ) {
+				if ( !fileName.equals( segmentsFileName ) ) {
+					tryLinking = copy( source, sourcePath, previous, target, stagingDirectory, fileName, tryLinking );
+				}
+			}
+			copy( source, sourcePath, previous, target, stagingDirectory, segmentsFileName, tryLinking );
+			target.sync( fileNames );
+			target.syncMetaData();
+		}
+
+		// Only make the backup visible once it is complete
+		Files.move( stagingDirectory, commitDirectory, StandardCopyOption.ATOMIC_MOVE );
+		IOUtils.fsync( targetDirectory, true );
+
+		for ( Path previousDirectory : previousCommitDirectories ) {
+			IOUtils.rm( previousDirectory );
+		}
+	}
+
+	/**
+	 * Copies the latest commit of a backup directory to an index directory.
+	 *
+	 * @param backupDirectory The backup directory, as populated by {@link #backup(IndexCommit, Path)}.
+	 * @param target The index directory. Any file it contains will be deleted.
+	 * @return {@code true} if the backup was restored,
+	 * {@code false} if the backup directory does not exist or does not contain a backup.
+	 * @throws IOException If copying fails.
+	 */
+	public static boolean restore(Path backupDirectory, Directory target) throws IOException {
+		// Do not call FSDirectory.open on a path that does not exist, as it would create the directory
+		if ( !Files.isDirectory( backupDirectory ) ) {
+			return false;
+		}
+		Path commitDirectory = latest( listCommitDirectories( backupDirectory ) );
+		if ( commitDirectory == null ) {
+			return false;
+		}
+		try ( FSDirectory source = FSDirectory.open( commitDirectory ) ) {
+			if ( !DirectoryReader.indexExists( source ) ) {
+				return false;
+			}
+			SegmentInfos segmentInfos = SegmentInfos.readLatestCommit( source );
+			Collection<String> fileNames = segmentInfos.files( true );
+			String segmentsFileName = segmentInfos.getSegmentsFileName();
+
+			// Remove leftovers, e.g. from a previous, incomplete restore
+			for ( String existingFileName : target.listAll() ) {
+				if ( !IndexWriter.WRITE_LOCK_NAME.equals( existingFileName ) ) {
+					target.deleteFile( existingFileName );
+				}
+			}
+			for ( String fileName : fileNames ) {
+				if ( !fileName.equals( segmentsFileName ) ) {
+					target.copyFrom( source, fileName, fileName, IOContext.READONCE );
+				}
+			}
+			// Copy the segments file last, so that an incomplete restore is never mistaken for an index
+			target.copyFrom( source, segmentsFileName, segmentsFileName, IOContext.READONCE );
+			target.sync( fileNames );
+			target.syncMetaData();
+			return true;
+		}
+	}
+
+	private static boolean copy(Directory source, Path sourcePath, FSDirectory previous, FSDirectory target,
+			Path targetPath, String fileName, boolean tryLinking) throws IOException {
+		if ( previous != null && Files.exists( previous.getDirectory().resolve( fileName ) )
+				&& isSameFile( source, previous, fileName ) ) {
+			// Backup files are never modified, so the new backup can share this file with the previous one
+			if ( createLink( targetPath.resolve( fileName ), previous.getDirectory().resolve( fileName ) ) ) {
+				return tryLinking;
+			}
+		}
+		if ( tryLinking ) {
+			if ( createLink( targetPath.resolve( fileName ), sourcePath.resolve( fileName ) ) ) {
+				return true;
+			}
+			// Hard links are not supported, e.g. because the backup is on another file store:
+			// copy this file and the next ones.
+		}
+		target.copyFrom( source, fileName, fileName, IOContext.READONCE );
+		return false;
+	}
+
+	private static boolean createLink(Path link, Path existing) throws IOException {
+		try {
+			Files.createLink( link, existing );
+			return true;
+		}
+		catch (IOException | UnsupportedOperationException e) {
+			Files.deleteIfExists( link );
+			return false;
+		}
+	}
+
+	private static List<Path> listCommitDirectories(Path backupDirectory) throws IOException {
+		List<Path> result = new ArrayList<>();
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( backupDirectory ) ) {
+			for ( Path path : stream ) {
+				if ( Files.isDirectory( path ) && commitNumber( path ) >= 0 ) {
+					result.add( path );
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Path latest(List<Path> commitDirectories) {
+		Path latest = null;
+		for ( Path path : commitDirectories ) {
+			if ( latest == null || commitNumber( path ) > commitNumber( latest ) ) {
+				latest = path;
+			}
+		}
+		return latest;
+	}
+
+	private static long commitNumber(Path commitDirectory) {
+		Matcher matcher = COMMIT_DIRECTORY_PATTERN.matcher( commitDirectory.getFileName().toString() );
+		return matcher.matches() ? Long.parseLong( matcher.group( 1 ) ) : -1L;
+	}
+
+	private static void deleteStagingDirectories(Path backupDirectory) throws IOException {
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( backupDirectory,
+				COMMIT_DIRECTORY_PREFIX + "*" + STAGING_DIRECTORY_SUFFIX ) ) {
+			for ( Path path : stream ) {
+				IOUtils.rm( path );
+			}
+		}
+	}
+
+	private static boolean isSameFile(Directory source, Directory target, String fileName) throws IOException {
+		if ( source.fileLength( fileName ) != target.fileLength( fileName ) ) {
+			return false;
+		}
+		long sourceChecksum = checksum( source, fileName );
+		try {
+			return sourceChecksum == checksum( target, fileName );
+		}
+		catch (IOException e) {
+			// The backup file is corrupt: it will not be reused
+			return false;
+		}
+	}
+
+	private static long checksum(Directory directory, String fileName) throws IOException {
+		try ( IndexInput input = directory.openInput( fileName, IOContext.READONCE ) ) {
+			return CodecUtil.retrieveChecksum( input );
+		}
+	}
+
+	private static Path toPathOrNull(Directory directory) {
+		Directory unwrapped = FilterDirectory.unwrap( directory );
+		if ( unwrapped instanceof FSDirectory ) {
+			return ( (FSDirectory) unwrapped ).getDirectory();
+		}
+		return null;
+	}
+
+}
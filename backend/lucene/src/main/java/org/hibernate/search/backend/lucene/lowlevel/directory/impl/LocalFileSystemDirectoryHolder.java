@@ -8,14 +8,18 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.LockFactory;
 
@@ -23,16 +27,21 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final String SWAP_DIRECTORY_SUFFIX = "-swap";
+
 	private final Path directoryPath;
+	// null means no restore
+	private final Path restorePath;
 	private final FileSystemAccessStrategy accessStrategy;
 	private final Supplier<LockFactory> lockFactorySupplier;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
-	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
+	LocalFileSystemDirectoryHolder(Path directoryPath, Path restorePath, FileSystemAccessStrategy accessStrategy,
 			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
 		this.directoryPath = directoryPath;
+		this.restorePath = restorePath;
 		this.accessStrategy = accessStrategy;
 		this.lockFactorySupplier = lockFactorySupplier;
 		this.eventContext = eventContext;
@@ -48,6 +57,10 @@ public void start() throws IOException {
 		}
 
 		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+
+		if ( restorePath != null ) {
+			restoreIfMissing();
+		}
 	}
 
 	@Override
@@ -62,4 +75,52 @@ public void close() throws IOException {
 	public Directory get() {
 		return directory;
 	}
+
+	@Override
+	public boolean swapContent(DirectoryHolder other) throws IOException {
+		if ( !( other instanceof LocalFileSystemDirectoryHolder ) ) {
+			return false;
+		}
+		Path otherPath = ( (LocalFileSystemDirectoryHolder) other ).directoryPath;
+		Path swapPath = directoryPath.resolveSibling( directoryPath.getFileName() + SWAP_DIRECTORY_SUFFIX );
+		// Directories are renamed, not copied: each holder keeps its path, and its directory simply sees different files.
+		try {
+			move( directoryPath, swapPath );
+		}
+		catch (IOException | RuntimeException e) {
+			// Nothing was changed yet, e.g. files are still open on a platform that forbids renaming them:
+			// let the caller copy the content instead.
+			log.debugf( e, "Unable to rename '%s' to '%s', falling back to copying the index content",
+					directoryPath, swapPath );
+			return false;
+		}
+		try {
+			move( otherPath, directoryPath );
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).push( path -> move( path, directoryPath ), swapPath );
+			throw e;
+		}
+		move( swapPath, otherPath );
+		return true;
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		Files.move( source, target, StandardCopyOption.ATOMIC_MOVE );
+	}
+
+	private void restoreIfMissing() {
+		try {
+			// Never overwrite an existing index
+			if ( DirectoryReader.indexExists( directory ) ) {
+				return;
+			}
+			if ( IndexBackupUtils.restore( restorePath, directory ) ) {
+				log.indexRestoredFromBackup( restorePath, eventContext );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToRestoreIndex( restorePath, e.getMessage(), eventContext, e );
+		}
+	}
 }
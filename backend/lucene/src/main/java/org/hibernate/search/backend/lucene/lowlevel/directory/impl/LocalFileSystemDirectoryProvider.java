@@ -21,6 +21,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProviderInitializationContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.store.FSLockFactory;
@@ -44,7 +45,13 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneBackendSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<Path> RESTORE_FROM =
+			ConfigurationProperty.forKey( LuceneBackendSettings.DirectoryRadicals.RESTORE_FROM )
+					.as( Path.class, Paths::get )
+					.build();
+
 	private Path directoryRoot;
+	private Path restoreRoot;
 	private FileSystemAccessStrategy accessStrategy;
 	private Supplier<LockFactory> lockFactorySupplier;
 
@@ -57,6 +64,7 @@ public String toString() {
 	public void initialize(DirectoryProviderInitializationContext context) {
 		ConfigurationPropertySource propertySource = context.configurationPropertySource();
 		this.directoryRoot = ROOT.get( propertySource ).toAbsolutePath();
+		this.restoreRoot = RESTORE_FROM.get( propertySource ).map( Path::toAbsolutePath ).orElse( null );
 		FileSystemAccessStrategyName accessStrategyName = FILESYSTEM_ACCESS_STRATEGY.get( propertySource );
 		this.accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
 		this.lockFactorySupplier = context.createConfiguredLockFactorySupplier().orElseGet( () -> FSLockFactory::getDefault );
@@ -71,14 +79,20 @@ public void initialize(DirectoryProviderInitializationContext context) {
 
 	@Override
 	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
-		Path directoryPath = directoryRoot.resolve( context.indexName() );
+		Path directoryPath = resolve( directoryRoot, context );
+		Path restorePath = restoreRoot == null ? null : resolve( restoreRoot, context );
+		return new LocalFileSystemDirectoryHolder(
+				directoryPath, restorePath, accessStrategy, lockFactorySupplier, context.eventContext()
+		);
+	}
+
+	private static Path resolve(Path root, DirectoryCreationContext context) {
+		Path directoryPath = root.resolve( context.indexName() );
 		Optional<String> shardId = context.shardId();
 		if ( shardId.isPresent() ) {
 			directoryPath = directoryPath.resolve( shardId.get() );
 		}
-		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
-		);
+		return directoryPath;
 	}
 
 }
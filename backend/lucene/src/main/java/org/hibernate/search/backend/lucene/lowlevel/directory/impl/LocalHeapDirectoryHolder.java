@@ -18,7 +18,7 @@ final class LocalHeapDirectoryHolder implements DirectoryHolder {
 
 	private final LockFactory lockFactory;
 
-	private Directory directory;
+	private volatile Directory directory;
 
 	LocalHeapDirectoryHolder(LockFactory lockFactory) {
 		this.lockFactory = lockFactory;
@@ -41,4 +41,16 @@ public void close() throws IOException {
 	public Directory get() {
 		return directory;
 	}
+
+	@Override
+	public boolean swapContent(DirectoryHolder other) {
+		if ( !( other instanceof LocalHeapDirectoryHolder ) ) {
+			return false;
+		}
+		LocalHeapDirectoryHolder otherHolder = (LocalHeapDirectoryHolder) other;
+		Directory otherDirectory = otherHolder.directory;
+		otherHolder.directory = directory;
+		directory = otherDirectory;
+		return true;
+	}
 }
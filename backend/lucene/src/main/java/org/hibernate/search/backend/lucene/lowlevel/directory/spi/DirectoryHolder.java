@@ -41,4 +41,21 @@ public interface DirectoryHolder extends Closeable {
 	 */
 	Directory get();
 
+	/**
+	 * Swaps the content of the directory held by this {@link DirectoryHolder}
+	 * with the content of the directory held by another {@link DirectoryHolder}, without copying files.
+	 * <p>
+	 * Only called while no index writer is open on either directory.
+	 * <p>
+	 * Implementations that cannot swap content with the given holder must return {@code false}
+	 * without altering either directory; the content will be copied instead.
+	 *
+	 * @param other Another directory holder, started through the same {@link DirectoryProvider}.
+	 * @return {@code true} if the content was swapped, {@code false} otherwise.
+	 * @throws IOException If an error occurs while swapping content.
+	 */
+	default boolean swapContent(DirectoryHolder other) throws IOException {
+		return false;
+	}
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+
+/**
+ * A per-document value, decoded from doc values for use in projections.
+ * <p>
+ * Only suitable for single-valued fields:
+ * if a document has multiple values, only the first one in the doc values order is returned.
+ *
+ * @param <F> The type of decoded values.
+ */
+public abstract class ProjectionValues<F> {
+
+	/**
+	 * Sole constructor. (For invocation by subclass
+	 * constructors, typically implicit.)
+	 */
+	protected ProjectionValues() {
+	}
+
+	/**
+	 * Advance this instance to the given document id
+	 *
+	 * @return true if there is a value for this document
+	 */
+	public abstract boolean advanceExact(int doc) throws IOException;
+
+	/**
+	 * @return The value for the current document.
+	 * Can only be called after {@link #advanceExact(int)} returned {@code true}.
+	 */
+	public abstract F value() throws IOException;
+
+	public static <F> ProjectionValues<F> fromDocValues(SortedNumericDocValues docValues, LongFunction<F> decoder) {
+		return new NumericDocValuesProjectionValues<>( docValues, decoder );
+	}
+
+	public static <F> ProjectionValues<F> fromDocValues(SortedSetDocValues docValues, Function<String, F> decoder) {
+		return new TextDocValuesProjectionValues<>( docValues, decoder );
+	}
+
+	private static class NumericDocValuesProjectionValues<F> extends ProjectionValues<F> {
+
+		private final SortedNumericDocValues values;
+		private final LongFunction<F> decoder;
+
+		NumericDocValuesProjectionValues(SortedNumericDocValues values, LongFunction<F> decoder) {
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			return values.advanceExact( doc );
+		}
+
+		@Override
+		public F value() throws IOException {
+			return decoder.apply( values.nextValue() );
+		}
+	}
+
+	private static class TextDocValuesProjectionValues<F> extends ProjectionValues<F> {
+
+		private final SortedSetDocValues values;
+		private final Function<String, F> decoder;
+
+		TextDocValuesProjectionValues(SortedSetDocValues values, Function<String, F> decoder) {
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			return values.advanceExact( doc );
+		}
+
+		@Override
+		public F value() throws IOException {
+			return decoder.apply( values.lookupOrd( values.nextOrd() ).utf8ToString() );
+		}
+	}
+}
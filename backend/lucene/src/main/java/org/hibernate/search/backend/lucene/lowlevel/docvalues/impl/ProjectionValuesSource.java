@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+
+/**
+ * A source of {@link ProjectionValues}.
+ *
+ * @param <F> The type of decoded values.
+ */
+public abstract class ProjectionValuesSource<F> {
+
+	/**
+	 * @return a {@link ProjectionValues} instance for the passed-in LeafReaderContext.
+	 */
+	public abstract ProjectionValues<F> getValues(LeafReaderContext ctx) throws IOException;
+
+	/**
+	 * @param field The name of a field indexed as {@link org.apache.lucene.document.SortedNumericDocValuesField}.
+	 * @param decoder A function converting the long values of the field to the projected values.
+	 * @param <F> The type of decoded values.
+	 * @return A source of values for the given field.
+	 */
+	public static <F> ProjectionValuesSource<F> fromLongField(String field, LongFunction<F> decoder) {
+		return new ProjectionValuesSource<F>() {
+			@Override
+			public ProjectionValues<F> getValues(LeafReaderContext ctx) throws IOException {
+				return ProjectionValues.fromDocValues( DocValues.getSortedNumeric( ctx.reader(), field ), decoder );
+			}
+		};
+	}
+
+	/**
+	 * @param field The name of a field indexed as {@link org.apache.lucene.document.SortedSetDocValuesField}.
+	 * @param decoder A function converting the string values of the field to the projected values.
+	 * @param <F> The type of decoded values.
+	 * @return A source of values for the given field.
+	 */
+	public static <F> ProjectionValuesSource<F> fromTextField(String field, Function<String, F> decoder) {
+		return new ProjectionValuesSource<F>() {
+			@Override
+			public ProjectionValues<F> getValues(LeafReaderContext ctx) throws IOException {
+				return ProjectionValues.fromDocValues( DocValues.getSortedSet( ctx.reader(), field ), decoder );
+			}
+		};
+	}
+
+}
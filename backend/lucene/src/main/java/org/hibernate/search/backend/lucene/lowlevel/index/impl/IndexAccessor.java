@@ -56,6 +56,35 @@ public interface IndexAccessor {
 	 */
 	void mergeSegments();
 
+	/**
+	 * Swaps the content of this index with the content of another index.
+	 * <p>
+	 * Index readers keep exposing the previous content of this index until the swap is complete.
+	 * Neither index must be written to while the content is being swapped.
+	 *
+	 * @param other The accessor to the other index.
+	 */
+	void swapContent(IndexAccessor other);
+
+	/**
+	 * Commits pending changes, then takes a snapshot of the last commit of this index,
+	 * preventing deletion of its files until the snapshot is {@link #releaseSnapshot(IndexSnapshot) released}.
+	 * <p>
+	 * Writes to this index can proceed while the snapshot is held.
+	 *
+	 * @return The snapshot.
+	 */
+	IndexSnapshot snapshot();
+
+	/**
+	 * Releases a snapshot, allowing deletion of its files if they are no longer used by the index.
+	 * <p>
+	 * Failures are logged, but not propagated: they do not affect the index.
+	 *
+	 * @param snapshot A snapshot returned by {@link #snapshot()}.
+	 */
+	void releaseSnapshot(IndexSnapshot snapshot);
+
 	/**
 	 * @return The index writer delegator.
 	 */
@@ -141,7 +141,12 @@ public void commitOrDelay() {
 
 	@Override
 	public void refresh() {
-		indexReaderProvider.refresh();
+		try {
+			indexReaderProvider.refresh();
+		}
+		catch (IOException e) {
+			throw log.unableToRefreshIndex( eventContext, e );
+		}
 	}
 
 	@Override
@@ -154,6 +159,49 @@ public void mergeSegments() {
 		}
 	}
 
+	@Override
+	public void swapContent(IndexAccessor other) {
+		// There is only one implementation of IndexAccessor.
+		IndexAccessorImpl otherImpl = (IndexAccessorImpl) other;
+		try {
+			indexReaderProvider.applyAndRefresh( () -> {
+				// Closing the index writers commits pending changes and releases the directories.
+				otherImpl.clear();
+				indexWriterProvider.clear();
+				if ( !directoryHolder.swapContent( otherImpl.directoryHolder ) ) {
+					indexWriterProvider.getOrCreate().replaceContent( otherImpl.directoryHolder.get() );
+				}
+			} );
+		}
+		catch (IOException | RuntimeException e) {
+			cleanUpAfterFailure( e, "Replacement of the index content" );
+			throw log.unableToReplaceIndexContent( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public IndexSnapshot snapshot() {
+		try {
+			IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrCreate();
+			return new IndexSnapshot( eventContext, delegator, delegator.snapshot() );
+		}
+		catch (IOException e) {
+			throw log.unableToSnapshotIndex( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public void releaseSnapshot(IndexSnapshot snapshot) {
+		try {
+			snapshot.release();
+		}
+		catch (IOException | RuntimeException e) {
+			// Only the deletion of unused files failed: the index writer is still usable,
+			// and files will be deleted on the next commit.
+			log.unableToReleaseIndexSnapshot( eventContext, e );
+		}
+	}
+
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
 		return indexWriterProvider.getOrCreate();
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.IndexBackupUtils;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexCommit;
+
+/**
+ * A commit of an index, protected from deletion until it is {@link IndexAccessor#releaseSnapshot(IndexSnapshot) released}.
+ * <p>
+ * Copying the snapshot does not involve the index writer,
+ * so it can be performed in any thread, concurrently with index writes.
+ */
+public final class IndexSnapshot {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final IndexWriterDelegatorImpl writer;
+	private final IndexCommit commit;
+
+	IndexSnapshot(EventContext eventContext, IndexWriterDelegatorImpl writer, IndexCommit commit) {
+		this.eventContext = eventContext;
+		this.writer = writer;
+		this.commit = commit;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[commit=" + commit + "]";
+	}
+
+	/**
+	 * Copies the files of this snapshot to a backup directory.
+	 * <p>
+	 * Failures only affect the backup directory, never the index itself.
+	 *
+	 * @param targetDirectory The backup directory.
+	 */
+	public void copyTo(Path targetDirectory) {
+		try {
+			IndexBackupUtils.backup( commit, targetDirectory );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToBackUpIndex( targetDirectory, e.getMessage(), eventContext, e );
+		}
+	}
+
+	void release() throws IOException {
+		// Release on the writer that took the snapshot:
+		// if the writer was closed since then, this is a no-op.
+		writer.releaseSnapshot( commit );
+	}
+
+}
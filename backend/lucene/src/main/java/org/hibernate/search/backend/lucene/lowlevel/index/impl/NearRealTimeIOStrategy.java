@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -36,11 +37,12 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			DirectoryProvider directoryProvider, TimingSource timingSource,
+			IndexReaderWarmer readerWarmer,
 			BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
 		return new NearRealTimeIOStrategy(
-				directoryProvider, timingSource, commitInterval, refreshInterval,
+				directoryProvider, timingSource, commitInterval, refreshInterval, readerWarmer,
 				threads, failureHandler
 		);
 	}
@@ -48,15 +50,18 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final IndexReaderWarmer readerWarmer;
 
 	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
 			TimingSource timingSource, int commitInterval, int refreshInterval,
+			IndexReaderWarmer readerWarmer,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( directoryProvider, threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.readerWarmer = readerWarmer;
 	}
 
 	@Override
@@ -74,12 +79,13 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
-		if ( refreshInterval != 0 ) {
-			timingSource.ensureInitialized();
-		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider(
+				indexWriterProvider, eventContext,
+				refreshInterval, readerWarmer,
+				threads.getRefreshExecutor(), failureHandler
+		);
 	}
 
 }
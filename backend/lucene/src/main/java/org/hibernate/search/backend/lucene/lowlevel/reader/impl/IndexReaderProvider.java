@@ -22,8 +22,24 @@ public interface IndexReaderProvider {
 	/**
 	 * Make sure the index reader returned by the next call to {@link #getOrCreate()}
 	 * will return an up-to-date view of the index.
+	 * <p>
+	 * Implementations may refresh the index reader in the calling thread.
+	 *
+	 * @throws IOException If refreshing the index reader fails.
+	 */
+	void refresh() throws IOException;
+
+	/**
+	 * Apply a change to the index, then refresh the index reader,
+	 * making sure index readers do not expose an intermediate state of the index while the change is being applied.
+	 * <p>
+	 * Threads requesting an index reader while the change is being applied
+	 * will either get the index reader from before the change, or wait for the change to be applied.
+	 *
+	 * @param change The change to apply.
+	 * @throws IOException If applying the change or refreshing the index reader fails.
 	 */
-	void refresh();
+	void applyAndRefresh(IndexChange change) throws IOException;
 
 	/**
 	 * @return A ready-to-use index reader, with its reference count already increased.
@@ -33,4 +49,11 @@ public interface IndexReaderProvider {
 	 */
 	DirectoryReader getOrCreate() throws IOException;
 
+	@FunctionalInterface
+	interface IndexChange {
+
+		void apply() throws IOException;
+
+	}
+
 }
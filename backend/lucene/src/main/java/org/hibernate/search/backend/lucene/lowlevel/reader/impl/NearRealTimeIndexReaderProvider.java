@@ -7,9 +7,23 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
-import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -18,45 +32,118 @@
  * thereby providing a near-real-time view on the index.
  * <p>
  * The index reader is instantiated once and shared among all threads
- * for as long as it is deemed "current",
- * i.e. as long as there were no changes
- * from the directory every time an index reader is requested.
+ * for as long as it is deemed "current".
+ * <ul>
+ *   <li>With a refresh interval of 0, the index reader is checked for changes every time it is requested,
+ *   and refreshed if necessary in the requesting thread.</li>
+ *   <li>With a positive refresh interval, the index reader is refreshed periodically in a background thread,
+ *   and threads requesting an index reader never wait for a refresh.</li>
+ * </ul>
+ * In both cases, a forced refresh (after a write) is executed immediately in the calling thread.
+ * <p>
+ * New index readers are warmed up using the configured {@link IndexReaderWarmer}, if any,
+ * before they are exposed to other threads.
+ * Warming up happens outside of any lock, so threads requesting an index reader in the meantime
+ * keep using the previous index reader instead of waiting.
  * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexWriterProvider indexWriterProvider;
-	private final TimingSource timingSource;
+	private final EventContext eventContext;
 	private final int refreshInterval;
+	private final IndexReaderWarmer warmer;
+	private final ScheduledExecutorService backgroundRefreshExecutor;
+	private final FailureHandler failureHandler;
+
+	/**
+	 * Held while opening, warming up and publishing a new index reader,
+	 * and while applying a change through {@link #applyAndRefresh(IndexChange)}.
+	 * This ensures a single reader is warmed up at a time, and that no reader is opened on an intermediate state
+	 * of the index, without blocking threads that can use the current index reader.
+	 */
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	/**
+	 * Task refreshing the index reader periodically, or null if the refresh interval is 0.
+	 * Replaced with a new task when the index reader is cleared.
+	 */
+	private volatile SingletonTask backgroundRefreshTask;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	/**
+	 * Whether a change is being applied through {@link #applyAndRefresh(IndexChange)},
+	 * in which case the current reader must be kept until the change is complete.
+	 */
+	private volatile boolean changeInProgress = false;
+
+	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider, EventContext eventContext,
+			int refreshInterval, IndexReaderWarmer warmer,
+			ScheduledExecutorService backgroundRefreshExecutor, FailureHandler failureHandler) {
 		this.indexWriterProvider = indexWriterProvider;
-		this.timingSource = timingSource;
+		this.eventContext = eventContext;
 		this.refreshInterval = refreshInterval;
+		this.warmer = warmer;
+		this.backgroundRefreshExecutor = backgroundRefreshExecutor;
+		this.failureHandler = failureHandler;
+
+		this.backgroundRefreshTask = refreshInterval == 0 ? null : createBackgroundRefreshTask();
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
+		if ( backgroundRefreshTask != null ) {
+			// Cancel the next refresh: there will be nothing to refresh until a new reader is opened.
+			// A stopped task cannot be scheduled again, so use a new one from now on.
+			backgroundRefreshTask.stop();
+			backgroundRefreshTask = createBackgroundRefreshTask();
+		}
 		setCurrentReaderEntry( null );
 	}
 
 	@Override
-	public void refresh() {
+	public void refresh() throws IOException {
 		IndexReaderEntry entry = currentReaderEntry;
 
 		if ( entry == null ) {
+			// The next call to getOrCreate() will open a fresh reader anyway.
 			return;
 		}
 
-		entry.forceRefresh();
+		try {
+			release( refreshIfChanged( false ) );
+		}
+		catch (IOException | RuntimeException e) {
+			// Make sure the next call to getOrCreate() will try again.
+			entry.forceRefresh();
+			throw e;
+		}
+	}
+
+	@Override
+	public void applyAndRefresh(IndexChange change) throws IOException {
+		refreshLock.lock();
+		try {
+			changeInProgress = true;
+			try {
+				change.apply();
+			}
+			finally {
+				changeInProgress = false;
+			}
+			refresh();
+		}
+		finally {
+			refreshLock.unlock();
+		}
 	}
 
 	@Override
@@ -67,7 +154,7 @@ public DirectoryReader getOrCreate() throws IOException {
 		if ( entry != null && entry.reader.tryIncRef() ) {
 			// Do this *after* tryIncRef,
 			// otherwise the reader could get closed between the call to isFresh and the return
-			if ( entry.isFresh() ) {
+			if ( isFresh( entry ) ) {
 				return entry.reader;
 			}
 			else {
@@ -75,36 +162,143 @@ public DirectoryReader getOrCreate() throws IOException {
 			}
 		}
 
-		return getFreshIndexReader().reader;
+		return getFreshIndexReader();
 	}
 
-	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
-		IndexReaderEntry oldEntry = currentReaderEntry;
-		IndexReaderEntry freshEntry;
-		if ( oldEntry == null ) {
-			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+	/**
+	 * @return {@code true} if the reader is still fresh enough to be used,
+	 * i.e. if a change is in progress,
+	 * or if refresh wasn't forced by a previous failure
+	 * and it is either completely up-to-date with the state of the index writer
+	 * or kept up-to-date by the background refresh.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	private boolean isFresh(IndexReaderEntry entry) throws IOException {
+		if ( changeInProgress ) {
+			// Keep using the reader from before the change until the change is complete.
+			return true;
+		}
+		if ( entry.refreshForced ) {
+			return false;
+		}
+		if ( backgroundRefreshTask == null ) {
+			// No background refresh: let's check if the reader is really fresh.
+			return entry.reader.isCurrent();
 		}
 		else {
-			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
-			if ( newReaderOrNull == null ) {
-				// No change, keep the old reader
-				freshEntry = oldEntry;
-			}
-			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+			// The background refresh takes care of refreshing the reader regularly.
+			return true;
+		}
+	}
+
+	private DirectoryReader getFreshIndexReader() throws IOException {
+		DirectoryReader freshReader = refreshIfChanged( true );
+
+		SingletonTask task = backgroundRefreshTask;
+		if ( task != null ) {
+			// Start refreshing periodically, or resume refreshing after a failure.
+			task.ensureScheduled();
+		}
+
+		return freshReader;
+	}
+
+	/**
+	 * Opens a new index reader if the index changed, warms it up, then publishes it.
+	 * <p>
+	 * Opening and warming up the new reader happen outside of the monitor of this object:
+	 * other threads can still get the current reader in the meantime,
+	 * while threads that need a fresher reader wait and then get the newly published one.
+	 *
+	 * @param openIfMissing Whether to open a new reader if there is no current reader.
+	 * @return The up-to-date index reader, with its reference count already increased for the caller,
+	 * or {@code null} if there is no current reader and {@code openIfMissing} is {@code false}.
+	 * @throws IOException If opening the new reader fails.
+	 */
+	private DirectoryReader refreshIfChanged(boolean openIfMissing) throws IOException {
+		refreshLock.lock();
+		try {
+			// Retrieve the index writer after locking: it may have been replaced while we were waiting.
+			IndexWriterDelegatorImpl indexWriter = indexWriterProvider.getOrCreate();
+			while ( true ) {
+				IndexReaderEntry oldEntry = acquireCurrentReaderEntry();
+				DirectoryReader newReader;
+				if ( oldEntry == null ) {
+					if ( !openIfMissing ) {
+						// Cleared concurrently: the next call to getOrCreate() will open a fresh reader.
+						return null;
+					}
+					newReader = indexWriter.openReader();
+					warm( newReader, null );
+				}
+				else {
+					try {
+						newReader = indexWriter.openReaderIfChanged( oldEntry.reader );
+					}
+					catch (IOException | RuntimeException e) {
+						new SuppressingCloser( e ).push( DirectoryReader::decRef, oldEntry.reader );
+						throw e;
+					}
+					if ( newReader == null ) {
+						// No change, keep the old reader: its reference count was already increased for the caller.
+						oldEntry.refreshForced = false;
+						return oldEntry.reader;
+					}
+					try {
+						warm( newReader, oldEntry.reader );
+					}
+					finally {
+						oldEntry.reader.decRef();
+					}
+				}
+
+				if ( publish( oldEntry, newReader ) ) {
+					return newReader;
+				}
+				// The current reader was cleared while we were opening ours: drop ours and start over.
+				newReader.decRef();
 			}
 		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
 
-		if ( oldEntry != freshEntry ) {
-			setCurrentReaderEntry( freshEntry );
+	/**
+	 * @return The current reader entry, with the reference count of its reader increased for the caller,
+	 * or {@code null} if there is no current reader.
+	 */
+	private synchronized IndexReaderEntry acquireCurrentReaderEntry() {
+		IndexReaderEntry entry = currentReaderEntry;
+		if ( entry != null ) {
+			entry.reader.incRef();
 		}
+		return entry;
+	}
 
-		// At this point the reference count is at least one, for the holder.
+	/**
+	 * @param expectedEntry The reader entry the new reader was opened from, or {@code null}.
+	 * @param newReader The new reader.
+	 * @return {@code true} if the new reader was published, with its reference count increased for the caller,
+	 * {@code false} if the current reader entry changed in the meantime, in which case nothing was done.
+	 * @throws IOException If closing the previous reader fails.
+	 */
+	private synchronized boolean publish(IndexReaderEntry expectedEntry, DirectoryReader newReader)
+			throws IOException {
+		if ( currentReaderEntry != expectedEntry ) {
+			return false;
+		}
+		// At this point the reference count is one, for the holder.
 		// Let's also increment the reference for the caller.
-		freshEntry.reader.incRef();
+		newReader.incRef();
+		setCurrentReaderEntry( new IndexReaderEntry( newReader ) );
+		return true;
+	}
 
-		return freshEntry;
+	private static void release(DirectoryReader readerOrNull) throws IOException {
+		if ( readerOrNull != null ) {
+			readerOrNull.decRef();
+		}
 	}
 
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
@@ -116,42 +310,97 @@ private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throw
 		}
 	}
 
+	private SingletonTask createBackgroundRefreshTask() {
+		return new SingletonTask(
+				"Background refresh for " + eventContext.render(),
+				new BackgroundRefreshWorker(),
+				new BackgroundRefreshScheduler( backgroundRefreshExecutor ),
+				failureHandler
+		);
+	}
+
+	private void warm(DirectoryReader reader, DirectoryReader previousReader) {
+		if ( warmer == null ) {
+			return;
+		}
+		try {
+			warmer.warm( reader, previousReader );
+		}
+		catch (IOException | RuntimeException e) {
+			// A failure to warm up should not prevent search queries from executing: just report it.
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( log.unableToWarmUpIndexReader( e.getMessage(), eventContext, e ) );
+			failureContextBuilder.failingOperation( "Index reader warm-up" );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+	}
+
 	private static class IndexReaderEntry {
 		private final DirectoryReader reader;
-		private final TimingSource timingSource;
-		private final long expiration;
 
 		private volatile boolean refreshForced = false;
 
-		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
+		private IndexReaderEntry(DirectoryReader reader) {
 			this.reader = reader;
-			this.timingSource = timingSource;
-			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
 		}
 
 		public void forceRefresh() {
 			refreshForced = true;
 		}
+	}
+
+	private class BackgroundRefreshWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
 
-		/**
-		 * @return {@code true} if the reader is still fresh enough to be used,
-		 * i.e. if it is completely up-to-date with the state of the index writer
-		 * OR is out-of-date by less than the configured refresh interval,
-		 * and refresh wasn't forced by a previous write.
-		 * @throws IOException If an I/O failure occurs.
-		 */
-		boolean isFresh() throws IOException {
-			if ( refreshForced ) {
-				return false;
+		@Override
+		public CompletableFuture<?> work() {
+			IndexReaderEntry entry = currentReaderEntry;
+			if ( indexWriterProvider.getOrNull() == null || entry == null ) {
+				// The index writer or reader was closed: stop refreshing.
+				// Refreshing will resume on the next call to getOrCreate().
+				return completedFuture;
 			}
-			if ( expiration == 0 || expiration < timingSource.monotonicTimeEstimate() ) {
-				// The last refresh was a long time ago. Let's check if the reader is really fresh.
-				return reader.isCurrent();
+
+			try {
+				release( refreshIfChanged( false ) );
 			}
-			else {
-				// The last refresh was recent enough. Let's assume the reader is fresh.
-				return true;
+			catch (IOException | RuntimeException e) {
+				if ( indexWriterProvider.getOrNull() == null ) {
+					// The index writer was closed concurrently, which is expected when stopping.
+					return completedFuture;
+				}
+				// Let the next call to getOrCreate() try again and report the failure to the caller.
+				// Refreshing will resume after that.
+				entry.forceRefresh();
+				FailureContext.Builder failureContextBuilder = FailureContext.builder();
+				failureContextBuilder.throwable( log.unableToRefreshIndex( eventContext, e ) );
+				failureContextBuilder.failingOperation( "Background refresh of the index reader" );
+				failureHandler.handle( failureContextBuilder.build() );
+				return completedFuture;
 			}
+
+			// Re-schedule for the next refresh.
+			// If the reader was cleared in the meantime, the next run will notice and stop refreshing.
+			backgroundRefreshTask.ensureScheduled();
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do.
+		}
+	}
+
+	private class BackgroundRefreshScheduler implements SingletonTask.Scheduler {
+		private final ScheduledExecutorService delegate;
+
+		private BackgroundRefreshScheduler(ScheduledExecutorService delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			return delegate.schedule( runnable, refreshInterval, TimeUnit.MILLISECONDS );
 		}
 	}
 }
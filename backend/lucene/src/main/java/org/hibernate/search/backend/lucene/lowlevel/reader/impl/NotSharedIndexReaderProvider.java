@@ -34,6 +34,13 @@ public void refresh() {
 		// Nothing to do
 	}
 
+	@Override
+	public void applyAndRefresh(IndexChange change) throws IOException {
+		// Index readers are opened from the committed state of the directory,
+		// so they will not expose an intermediate state as long as the change is committed atomically.
+		change.apply();
+	}
+
 	@Override
 	public DirectoryReader getOrCreate() throws IOException {
 		return DirectoryReader.open( directoryHolder.get() );
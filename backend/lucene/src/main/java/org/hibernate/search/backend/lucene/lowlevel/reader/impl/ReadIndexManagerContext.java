@@ -17,4 +17,10 @@ public interface ReadIndexManagerContext {
 
 	void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException;
 
+	/**
+	 * @return {@code true} if queries targeting this index may search index segments in parallel,
+	 * {@code false} otherwise.
+	 */
+	boolean isParallelSearchEnabled();
+
 }
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.spi;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * A component warming up index readers before they are exposed to search queries.
+ * <p>
+ * Warming up typically involves running representative queries
+ * or loading doc values and norms of frequently used fields,
+ * so that the first queries executed on a new index reader do not have to pay for
+ * loading data from disk.
+ * <p>
+ * Index readers are warmed up in the thread that opens them:
+ * a background thread when a positive {@link org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#IO_REFRESH_INTERVAL refresh interval}
+ * is configured or when a refresh is forced by a write,
+ * but potentially a search thread otherwise.
+ * Implementations should thus keep warm-up as fast as possible,
+ * for example by only warming up segments that were not present in the previous index reader.
+ */
+public interface IndexReaderWarmer {
+
+	/**
+	 * Warms up the given index reader.
+	 * <p>
+	 * The index reader must not be closed, nor have its reference count changed.
+	 *
+	 * @param reader The index reader to warm up. Covers a single shard of a single index.
+	 * @param previousReader The index reader previously used for the same shard, or {@code null} if there is none.
+	 * Segments shared between the two readers were already warmed up.
+	 * @throws IOException If an I/O error occurs.
+	 * Failures are reported, but do not prevent the index reader from being used.
+	 */
+	void warm(IndexReader reader, IndexReader previousReader) throws IOException;
+
+}
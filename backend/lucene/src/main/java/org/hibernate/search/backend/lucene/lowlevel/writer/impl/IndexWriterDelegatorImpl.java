@@ -19,14 +19,19 @@
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -125,6 +130,65 @@ public void commitOrDelay() {
 		}
 	}
 
+	/**
+	 * Replaces all documents of this index with the documents of another index, and commits.
+	 * <p>
+	 * Segment files are copied as-is, without decoding and re-encoding documents.
+	 * On failure, uncommitted changes are rolled back and the index writer is closed.
+	 *
+	 * @param source The directory of the index whose documents should be copied.
+	 * No index writer must be open on that directory.
+	 * @throws IOException If replacing the content fails.
+	 */
+	public void replaceContent(Directory source) throws IOException {
+		// Prevent delayed commits from exposing an empty index.
+		synchronized (commitLock) {
+			try {
+				delegate.deleteAll();
+				delegate.addIndexes( source );
+			}
+			catch (RuntimeException | IOException e) {
+				new SuppressingCloser( e ).push( IndexWriter::rollback, delegate );
+				throw e;
+			}
+			doCommit();
+		}
+	}
+
+	/**
+	 * Commits pending changes, then protects the files of the last commit from deletion
+	 * until {@link #releaseSnapshot(IndexCommit)} is called.
+	 * <p>
+	 * The index writer can keep working while the snapshot is held:
+	 * files of later commits are added, and files no longer used by the index are only deleted after the release.
+	 *
+	 * @return The last commit.
+	 * @throws IOException If taking the snapshot fails.
+	 */
+	public IndexCommit snapshot() throws IOException {
+		synchronized (commitLock) {
+			doCommit();
+			return snapshotDeletionPolicy().snapshot();
+		}
+	}
+
+	/**
+	 * @param commit A commit returned by {@link #snapshot()}.
+	 * @throws IOException If deleting the files no longer used by the index fails.
+	 */
+	public void releaseSnapshot(IndexCommit commit) throws IOException {
+		try {
+			snapshotDeletionPolicy().release( commit );
+			// Delete the files that were only kept because of the snapshot
+			delegate.deleteUnusedFiles();
+		}
+		catch (AlreadyClosedException e) {
+			// The writer was closed in the meantime, e.g. after a failure:
+			// the next writer will delete the files that are no longer used.
+			log.tracef( e, "Index writer closed before snapshot release" );
+		}
+	}
+
 	public DirectoryReader openReader() throws IOException {
 		return DirectoryReader.open( delegate );
 	}
@@ -171,6 +235,10 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 		failureHandler.handle( failureContext );
 	}
 
+	private SnapshotDeletionPolicy snapshotDeletionPolicy() {
+		return (SnapshotDeletionPolicy) delegate.getConfig().getIndexDeletionPolicy();
+	}
+
 	private void doCommit() {
 		try {
 			synchronized (commitLock) {
@@ -22,7 +22,9 @@
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.KeepOnlyLastCommitDeletionPolicy;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -147,6 +149,8 @@ private IndexWriterConfig createWriterConfig() {
 		);
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+		// Allows protecting commits from deletion while they are being backed up
+		writerConfig.setIndexDeletionPolicy( new SnapshotDeletionPolicy( new KeepOnlyLastCommitDeletionPolicy() ) );
 		return writerConfig;
 	}
 }
@@ -9,9 +9,10 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
-import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.engine.backend.orchestration.spi.CoalescableBatchedWork;
+import org.hibernate.search.util.common.impl.Futures;
 
-public class LuceneBatchedWork<T> implements BatchedWork<LuceneBatchedWorkProcessor> {
+public class LuceneBatchedWork<T> implements CoalescableBatchedWork<LuceneBatchedWorkProcessor> {
 	public final IndexingWork<T> work;
 	public final CompletableFuture<T> future;
 
@@ -36,6 +37,22 @@ public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return work.getCoalescingKey();
+	}
+
+	@Override
+	public boolean supersedesPreviousWorks() {
+		return work.supersedesPreviousWorks();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // Works with the same coalescing key apply to the same document, thus have the same result type
+	public void markAsSupersededBy(CoalescableBatchedWork<?> supersedingWork) {
+		( (LuceneBatchedWork<T>) supersedingWork ).future.whenComplete( Futures.copyHandler( future ) );
+	}
+
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
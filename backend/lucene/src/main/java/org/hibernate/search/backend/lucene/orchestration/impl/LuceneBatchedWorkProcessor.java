@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
@@ -23,6 +25,12 @@ public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
+	/**
+	 * Indexing works hold the read lock, replacing the whole content of the index requires the write lock.
+	 * This allows indexing works to execute concurrently,
+	 * while ensuring no indexing work is lost in the middle of a replacement.
+	 */
+	private final ReadWriteLock contentLock = new ReentrantReadWriteLock();
 
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
 			IndexAccessor indexAccessor) {
@@ -70,6 +78,7 @@ public <T> T submit(IndexManagementWork<T> work) {
 	}
 
 	public <T> T submit(IndexingWork<T> work) {
+		contentLock.readLock().lock();
 		try {
 			return work.execute( context );
 		}
@@ -77,6 +86,31 @@ public <T> T submit(IndexingWork<T> work) {
 			indexAccessor.cleanUpAfterFailure( e, work.getInfo() );
 			throw e;
 		}
+		finally {
+			contentLock.readLock().unlock();
+		}
+	}
+
+	// Note this may be called outside of a batch
+	public void swapContent(LuceneBatchedWorkProcessor other) {
+		// Commit before locking, so that the swap itself has (almost) nothing left to commit
+		// and indexing works are only blocked while directories are switched.
+		other.forceCommit();
+		forceCommit();
+		other.contentLock.writeLock().lock();
+		try {
+			contentLock.writeLock().lock();
+			try {
+				// In case of failure, the accessor already cleaned up after itself.
+				indexAccessor.swapContent( other.indexAccessor );
+			}
+			finally {
+				contentLock.writeLock().unlock();
+			}
+		}
+		finally {
+			other.contentLock.writeLock().unlock();
+		}
 	}
 
 	// Note this may be called outside of a batch
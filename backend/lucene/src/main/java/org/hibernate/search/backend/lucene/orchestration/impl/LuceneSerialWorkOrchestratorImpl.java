@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -34,6 +35,18 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COALESCING =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_COALESCING )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_COALESCING )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COALESCING_DELAY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_COALESCING_DELAY )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_COALESCING_DELAY )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -66,11 +79,24 @@ public void forceRefreshInCurrentThread() {
 		processor.forceRefresh();
 	}
 
+	/**
+	 * Swaps the content of the index with the content of another index,
+	 * waiting for indexing works currently being executed on either index
+	 * and delaying the execution of other indexing works until the swap is complete.
+	 *
+	 * @param other The orchestrator of the other index.
+	 */
+	public void swapContentInCurrentThread(LuceneSerialWorkOrchestratorImpl other) {
+		processor.swapContent( other.processor );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // We aren't allowed to create generic arrays, so we have to use a raw type here.
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		boolean coalescing = COALESCING.get( propertySource );
+		int coalescingDelay = coalescing ? COALESCING_DELAY.get( propertySource ) : 0;
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
@@ -79,12 +105,13 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
+					coalescing,
 					failureHandler
 			);
 		}
 
 		for ( BatchingExecutor<?> executor : executors ) {
-			executor.start( threads.getWriteExecutor() );
+			executor.start( threads.getWriteExecutor(), coalescingDelay, TimeUnit.MILLISECONDS );
 		}
 	}
 
@@ -7,21 +7,36 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 
 
 /**
- * An orchestrator that executes works synchronously in the current thread.
- * <p>
- * For now this implementation is very simple,
- * but we might one day need to execute queries asynchronously,
- * in which case thing will get slightly more complex.
+ * An orchestrator that executes read works synchronously in the current thread,
+ * or asynchronously in a dedicated, bounded thread pool.
  */
 public interface LuceneSyncWorkOrchestrator {
 
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, ReadWork<T> work);
 
+	/**
+	 * Executes a work in the backend's read thread pool.
+	 *
+	 * @return A future that will be completed with the result of the work, from a read thread.
+	 */
+	<T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, ReadWork<T> work);
+
+	/**
+	 * Executes a work against an index reader that was opened beforehand, e.g. by a scroll.
+	 * <p>
+	 * The reader is not closed after execution: the caller is responsible for closing it.
+	 */
+	<T> T submit(Set<String> indexNames, HibernateSearchMultiReader indexReader, ReadWork<T> work);
+
 }
@@ -10,11 +10,14 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -34,18 +37,24 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final Similarity similarity;
+	private final BackendThreads threads;
 
-	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity) {
+	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity, BackendThreads threads) {
 		super( name );
 		this.similarity = similarity;
+		this.threads = threads;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, ReadWork<T> work) {
+		HibernateSearchMultiReader indexReader =
+				HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work
+				similarity, indexNames, indexReader, true,
+				isParallelSearchEnabled( indexManagerContexts ) ? threads.getSearchExecutor() : null,
+				work
 		);
 		Throwable throwable = null;
 		try {
@@ -70,6 +79,44 @@ public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContex
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, ReadWork<T> work) {
+		try {
+			return CompletableFuture.supplyAsync(
+					() -> submit( indexNames, indexManagerContexts, routingKeys, work ),
+					threads.getReadExecutor()
+			);
+		}
+		catch (RejectedExecutionException e) {
+			// The read thread pool never blocks the caller: when its queue is full, fail the query instead.
+			CompletableFuture<T> future = new CompletableFuture<>();
+			future.completeExceptionally( log.readQueueFull( EventContexts.fromIndexNames( indexNames ), e ) );
+			return future;
+		}
+	}
+
+	@Override
+	public <T> T submit(Set<String> indexNames, HibernateSearchMultiReader indexReader, ReadWork<T> work) {
+		// The reader is owned by the caller: it will not be closed after execution.
+		// Segments are searched sequentially: this is used for scrolling, which only collects small chunks anyway.
+		WorkExecution<T> workExecution = new WorkExecution<>(
+				similarity, indexNames, indexReader, false, null, work
+		);
+		submit( workExecution );
+		return workExecution.getResult();
+	}
+
+	private static boolean isParallelSearchEnabled(Set<? extends ReadIndexManagerContext> indexManagerContexts) {
+		for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
+			if ( !indexManagerContext.isParallelSearchEnabled() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		// Nothing to do
@@ -95,22 +142,28 @@ protected void doStop() {
 		private final Similarity similarity;
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
+		private final boolean closeIndexReader;
+		private final Executor searchExecutor;
 		private final ReadWork<T> work;
 
 		private T result;
 
 		WorkExecution(Similarity similarity, Set<String> indexNames,
-				Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work) {
+				HibernateSearchMultiReader indexReader, boolean closeIndexReader,
+				Executor searchExecutor, ReadWork<T> work) {
 			this.similarity = similarity;
 			this.indexNames = indexNames;
-			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+			this.indexReader = indexReader;
+			this.closeIndexReader = closeIndexReader;
+			this.searchExecutor = searchExecutor;
 			this.work = work;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			// If the executor is non-null, the searcher will search slices of segments in parallel
+			// when using collector managers.
+			IndexSearcher searcher = new IndexSearcher( indexReader, searchExecutor );
 			searcher.setSimilarity( similarity );
 			return searcher;
 		}
@@ -135,6 +188,9 @@ public T getResult() {
 
 		@Override
 		public void close() {
+			if ( !closeIndexReader ) {
+				return;
+			}
 			try {
 				indexReader.close();
 			}
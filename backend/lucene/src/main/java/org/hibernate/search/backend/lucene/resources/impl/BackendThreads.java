@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
@@ -23,10 +24,30 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> READ_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.READ_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> READ_QUEUE_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.READ_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.READ_QUEUE_SIZE )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService readExecutor;
+	private ExecutorService searchExecutor;
+	private ExecutorService backupExecutor;
+	private ScheduledExecutorService refreshExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -46,12 +67,57 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		// Reads get their own, bounded pool, so that asynchronous queries
+		// cannot starve writes (and vice versa).
+		// Submitting to this pool must never block: when the queue is full, the query fails instead.
+		int readThreadPoolSize = READ_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.readExecutor = threadPoolProvider.newNonBlockingFixedThreadPool(
+				readThreadPoolSize, prefix + " - Read thread", READ_QUEUE_SIZE.get( propertySource )
+		);
+
+		// Segments searched in parallel get yet another pool:
+		// queries executed in the read pool wait for these tasks,
+		// so sharing a pool could lead to deadlocks.
+		// Threads are only created on first use, i.e. if parallel search is enabled on at least one index.
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.searchExecutor = threadPoolProvider.newFixedThreadPool(
+				searchThreadPoolSize, prefix + " - Search thread"
+		);
+
+		// Periodic refreshes of index readers include warming up new readers, which may take a while:
+		// they get their own pool so that they do not delay writes.
+		// The thread is only created on first use, i.e. if a refresh interval is set on at least one index.
+		this.refreshExecutor = threadPoolProvider.newScheduledExecutor(
+				1, prefix + " - Refresh thread"
+		);
+
+		// Copying files to a backup may take a long time, and must not delay writes:
+		// backups get their own pool, with a single thread so that concurrent backups do not compete for disk I/O.
+		// The thread is only created on first use, i.e. if a backup is requested.
+		this.backupExecutor = threadPoolProvider.newFixedThreadPool(
+				1, prefix + " - Backup thread"
+		);
 	}
 
 	public void onStop() {
 		if ( writeExecutor != null ) {
 			writeExecutor.shutdownNow();
 		}
+		if ( readExecutor != null ) {
+			readExecutor.shutdownNow();
+		}
+		if ( searchExecutor != null ) {
+			searchExecutor.shutdownNow();
+		}
+		if ( backupExecutor != null ) {
+			backupExecutor.shutdownNow();
+		}
+		if ( refreshExecutor != null ) {
+			refreshExecutor.shutdownNow();
+		}
 	}
 
 	public ThreadProvider getThreadProvider() {
@@ -64,6 +130,26 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	public ExecutorService getReadExecutor() {
+		checkStarted();
+		return readExecutor;
+	}
+
+	public ExecutorService getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	public ScheduledExecutorService getRefreshExecutor() {
+		checkStarted();
+		return refreshExecutor;
+	}
+
+	public ExecutorService getBackupExecutor() {
+		checkStarted();
+		return backupExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
@@ -10,6 +10,7 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
@@ -30,6 +31,14 @@ private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> compone
 		this.components = components;
 	}
 
+	/**
+	 * @param components Collectors that were already used, typically the result of reducing the collectors of multiple slices.
+	 * @return A collector set that can only be used to retrieve the given components, not to collect documents.
+	 */
+	static CollectorSet ofCollected(Map<CollectorKey<?>, Collector> components) {
+		return new CollectorSet( null, components );
+	}
+
 	public Collector getComposed() {
 		return composed;
 	}
@@ -71,6 +80,21 @@ public CollectorSet build() {
 			return new CollectorSet( composed, components );
 		}
 
+		/**
+		 * @param timedOut A flag that will be set if the timeout is reached while collecting.
+		 * @return A collector set suitable for collecting one slice of the segments,
+		 * concurrently with other slices.
+		 * Timeouts will skip the remaining segments instead of throwing an exception.
+		 */
+		public CollectorSet buildForSlice(AtomicBoolean timedOut) {
+			CollectorSet collectorSet = build();
+			Collector composed = collectorSet.composed;
+			if ( composed instanceof TimeLimitingCollector ) {
+				composed = new TerminateOnTimeoutCollector( composed, timedOut );
+			}
+			return new CollectorSet( composed, components );
+		}
+
 		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
 			final Long timeoutLeft = timeoutManager.checkTimeLeftInMilliseconds();
 			if ( timeoutLeft != null ) {
@@ -0,0 +1,168 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.ReducibleCollectorFactory;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TotalHitCountCollector;
+
+/**
+ * A {@link CollectorManager} creating one {@link CollectorSet} per slice of segments,
+ * so that all matching documents can be collected in parallel.
+ * <p>
+ * Reducing yields a {@link CollectorSet} holding the combined collectors
+ * for each {@link ReducibleCollectorFactory},
+ * while top docs and the total hit count are exposed separately through {@link #getTopDocs()}
+ * and {@link #getTotalHitCount()}.
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe:
+ * it relies on the {@link org.apache.lucene.search.IndexSearcher} calling {@link #newCollector()}
+ * and {@link #reduce(Collection)} from the same thread.
+ */
+final class CollectorSetManager implements CollectorManager<Collector, CollectorSet> {
+
+	private final CollectorExecutionContext executionContext;
+	private final TimeoutManager timeoutManager;
+	private final CollectorManager<TopDocsCollector<?>, ? extends TopDocs> topDocsCollectorManager;
+	private final boolean countTotalHits;
+	private final Set<CollectorFactory<?>> collectorFactories;
+
+	private final List<CollectorSet> sliceCollectorSets = new ArrayList<>();
+	private final AtomicBoolean timedOut = new AtomicBoolean( false );
+
+	private TopDocs topDocs;
+	private Long totalHitCount;
+
+	/**
+	 * @param topDocsCollectorManager A manager for top docs collectors, or {@code null} if top docs are not needed.
+	 * @param countTotalHits Whether to count total hits exactly with a dedicated collector.
+	 * @param collectorFactories Factories for additional collectors;
+	 * every factory must implement {@link ReducibleCollectorFactory}.
+	 */
+	CollectorSetManager(CollectorExecutionContext executionContext, TimeoutManager timeoutManager,
+			CollectorManager<TopDocsCollector<?>, ? extends TopDocs> topDocsCollectorManager,
+			boolean countTotalHits, Set<CollectorFactory<?>> collectorFactories) {
+		this.executionContext = executionContext;
+		this.timeoutManager = timeoutManager;
+		this.topDocsCollectorManager = topDocsCollectorManager;
+		this.countTotalHits = countTotalHits;
+		this.collectorFactories = collectorFactories;
+	}
+
+	static boolean supports(Set<CollectorFactory<?>> collectorFactories) {
+		for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
+			if ( !( collectorFactory instanceof ReducibleCollectorFactory ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Collector newCollector() throws IOException {
+		CollectorSet.Builder builder = new CollectorSet.Builder( executionContext, timeoutManager );
+		if ( topDocsCollectorManager != null ) {
+			builder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorManager.newCollector() );
+		}
+		if ( countTotalHits ) {
+			builder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, new TotalHitCountCollector() );
+		}
+		builder.addAll( collectorFactories );
+		CollectorSet collectorSet = builder.buildForSlice( timedOut );
+		sliceCollectorSets.add( collectorSet );
+		return collectorSet.getComposed();
+	}
+
+	@Override
+	public CollectorSet reduce(Collection<Collector> collectors) throws IOException {
+		// We ignore the composed collectors passed in parameter:
+		// we need the individual components, which we kept track of when creating the collectors.
+		if ( topDocsCollectorManager != null ) {
+			topDocs = topDocsCollectorManager.reduce( getSliceCollectors( LuceneCollectors.TOP_DOCS_KEY ) );
+		}
+
+		if ( countTotalHits ) {
+			long count = 0L;
+			for ( TotalHitCountCollector collector : getSliceCollectors( LuceneCollectors.TOTAL_HIT_COUNT_KEY ) ) {
+				count += collector.getTotalHits();
+			}
+			totalHitCount = count;
+		}
+
+		Map<CollectorKey<?>, Collector> reducedCollectors = new LinkedHashMap<>();
+		for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
+			reduce( (ReducibleCollectorFactory<?>) collectorFactory, reducedCollectors );
+		}
+		return CollectorSet.ofCollected( reducedCollectors );
+	}
+
+	/**
+	 * @return Collectors that did not collect any document,
+	 * for use when the query is skipped altogether, e.g. because the timeout was reached before its execution.
+	 * @throws IOException If creating collectors fails.
+	 */
+	CollectorSet reduceWithoutCollecting() throws IOException {
+		newCollector();
+		return reduce( Collections.emptyList() );
+	}
+
+	/**
+	 * @return {@code true} if the timeout was reached while collecting at least one slice,
+	 * in which case results are partial.
+	 */
+	boolean isTimedOut() {
+		return timedOut.get();
+	}
+
+	/**
+	 * @return The top docs across all slices, without any offset applied,
+	 * or {@code null} if top docs were not requested.
+	 */
+	TopDocs getTopDocs() {
+		return topDocs;
+	}
+
+	/**
+	 * @return The exact total hit count across all slices,
+	 * or {@code null} if total hits were not counted with a dedicated collector.
+	 */
+	Long getTotalHitCount() {
+		return totalHitCount;
+	}
+
+	private <C extends Collector> void reduce(ReducibleCollectorFactory<C> collectorFactory,
+			Map<CollectorKey<?>, Collector> reducedCollectors) throws IOException {
+		CollectorKey<C> key = collectorFactory.getCollectorKey();
+		reducedCollectors.put( key, collectorFactory.reduce( getSliceCollectors( key ) ) );
+	}
+
+	private <C extends Collector> List<C> getSliceCollectors(CollectorKey<C> key) {
+		List<C> result = new ArrayList<>( sliceCollectorSets.size() );
+		for ( CollectorSet collectorSet : sliceCollectorSets ) {
+			result.add( collectorSet.get( key ) );
+		}
+		return result;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
+
+/**
+ * The stored fields loaded for a single document.
+ *
+ * @see ReusableDocumentStoredFieldVisitor
+ */
+public final class DocumentStoredFields {
+
+	private static final IndexableField[] NO_FIELDS = new IndexableField[0];
+
+	private final Map<String, Integer> slots;
+	private final Document document;
+	private final IndexableField[][] fieldsBySlot;
+
+	DocumentStoredFields(Map<String, Integer> slots, Document document, IndexableField[][] fieldsBySlot) {
+		this.slots = slots;
+		this.document = document;
+		this.fieldsBySlot = fieldsBySlot;
+	}
+
+	/**
+	 * @return A document containing all stored fields,
+	 * or {@code null} if only some specific fields were requested.
+	 */
+	public Document getDocument() {
+		return document;
+	}
+
+	/**
+	 * @param absoluteFieldPath The path of a field that was explicitly requested when building the query.
+	 * @return The loaded values of this field, in the order they were added to the document.
+	 * Never {@code null}.
+	 */
+	public IndexableField[] getFields(String absoluteFieldPath) {
+		Integer slot = slots.get( absoluteFieldPath );
+		if ( slot == null || fieldsBySlot == null ) {
+			return NO_FIELDS;
+		}
+		IndexableField[] fields = fieldsBySlot[slot];
+		return fields == null ? NO_FIELDS : fields;
+	}
+}
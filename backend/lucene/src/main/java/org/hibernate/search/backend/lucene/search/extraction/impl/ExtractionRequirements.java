@@ -18,10 +18,14 @@
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopScoreDocCollector;
@@ -43,28 +47,46 @@ private ExtractionRequirements(Builder builder) {
 		requiredCollectorForTopDocsFactories = builder.requiredCollectorForTopDocsFactories;
 	}
 
+	/**
+	 * @param after The last hit of the previous page when scrolling, to only collect hits sorted after that one,
+	 * or {@code null} to collect hits from the start.
+	 * @param totalHitCountThreshold The number of hits above which the total hit count may be a lower bound,
+	 * or {@code null} to always count hits exactly.
+	 */
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager)
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, ScoreDoc after,
+			Long totalHitCountThreshold, TimeoutManager timeoutManager)
 			throws IOException {
-		TopDocsCollector<?> topDocsCollector;
+		// When the searcher has an executor, collect slices of segments in parallel,
+		// provided all collectors can be reduced.
+		boolean parallel = indexSearcher.getExecutor() != null
+				&& CollectorSetManager.supports( requiredCollectorForAllMatchingDocsFactories );
+
+		TopDocsCollector<?> topDocsCollector = null;
+		CollectorManager<TopDocsCollector<?>, ? extends TopDocs> topDocsCollectorManager = null;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
 		CollectorExecutionContext executionContext =
 				new CollectorExecutionContext( metadataResolver, indexSearcher, luceneQuery, maxDocs );
 
-		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
-				new CollectorSet.Builder( executionContext, timeoutManager );
-
 		if ( maxDocs > 0 ) {
+			int topDocsTotalHitsThreshold = getTopDocsTotalHitsThreshold( totalHitCountThreshold );
 			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+				if ( parallel ) {
+					topDocsCollectorManager = asTopDocsCollectorManager( TopScoreDocCollector.createSharedManager(
+							maxDocs,
+							after == null ? null : new FieldDoc( after.doc, after.score ),
+							topDocsTotalHitsThreshold
+					) );
+				}
+				else {
+					topDocsCollector = TopScoreDocCollector.create(
+							maxDocs,
+							after,
+							topDocsTotalHitsThreshold
+					);
+				}
 			}
 			else {
 				if ( requireScore ) {
@@ -75,21 +97,60 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+				// Scrolling over a sorted query: the previous hit is a FieldDoc, since it was collected by this same collector.
+				FieldDoc fieldDocAfter = (FieldDoc) after;
+				if ( parallel ) {
+					topDocsCollectorManager = asTopDocsCollectorManager( TopFieldCollector.createSharedManager(
+							sort,
+							maxDocs,
+							fieldDocAfter,
+							topDocsTotalHitsThreshold
+					) );
+				}
+				else {
+					topDocsCollector = TopFieldCollector.create(
+							sort,
+							maxDocs,
+							fieldDocAfter,
+							topDocsTotalHitsThreshold
+					);
+				}
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
 		}
 
-		TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-		collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+		// If we don't have a top docs collector or we need an exact total hit count,
+		// rely on a dedicated collector that will visit every single matching document.
+		// Otherwise, we will rely on the total hit count of the top docs collector,
+		// which may skip non-competitive documents once the threshold is reached.
+		boolean countTotalHits = topDocsCollector == null && topDocsCollectorManager == null
+				|| totalHitCountThreshold == null;
+
+		if ( parallel ) {
+			CollectorSetManager collectorsForAllMatchingDocsManager = new CollectorSetManager(
+					executionContext, timeoutManager,
+					topDocsCollectorManager, countTotalHits,
+					requiredCollectorForAllMatchingDocsFactories
+			);
+			return new LuceneCollectors(
+					metadataResolver,
+					indexSearcher,
+					luceneQuery,
+					requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
+					collectorsForAllMatchingDocsManager,
+					requiredCollectorForTopDocsFactories,
+					timeoutManager
+			);
+		}
 
+		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
+				new CollectorSet.Builder( executionContext, timeoutManager );
+		if ( topDocsCollector != null ) {
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
+		}
+		if ( countTotalHits ) {
+			TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+		}
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
 		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
 
@@ -104,6 +165,22 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 		);
 	}
 
+	@SuppressWarnings("unchecked") // Collectors created by this manager are used as TopDocsCollector<?> only
+	private static CollectorManager<TopDocsCollector<?>, ? extends TopDocs> asTopDocsCollectorManager(
+			CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> manager) {
+		return (CollectorManager<TopDocsCollector<?>, ? extends TopDocs>) manager;
+	}
+
+	private int getTopDocsTotalHitsThreshold(Long totalHitCountThreshold) {
+		if ( totalHitCountThreshold == null ) {
+			// The total hit count is computed by a separate collector:
+			// still track total hits in the top docs collector,
+			// because MultiCollector ignores the early termination optimization anyway.
+			return Integer.MAX_VALUE;
+		}
+		return (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE );
+	}
+
 	private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 		SortField[] sortFields = sort.getSort();
 		for ( int i = 0; i < sortFields.length; i++ ) {
@@ -139,13 +216,12 @@ public <C extends Collector> void requireCollectorForTopDocs(CollectorFactory<C>
 
 		public void requireAllStoredFields() {
 			requireAllStoredFields = true;
-			requiredStoredFields.clear();
 		}
 
 		public void requireStoredField(String absoluteFieldPath, String nestedDocumentPath) {
-			if ( !requireAllStoredFields ) {
-				requiredStoredFields.add( absoluteFieldPath );
-			}
+			// Even when all stored fields are required, the field gets a slot
+			// so that its values can be retrieved without scanning the whole document.
+			requiredStoredFields.add( absoluteFieldPath );
 			if ( nestedDocumentPath != null ) {
 				requiredNestedDocumentPathsForStoredFields.add( nestedDocumentPath );
 			}
@@ -160,16 +236,11 @@ public ExtractionRequirements build() {
 		}
 
 		private CollectorFactory<StoredFieldsCollector> createStoredFieldCollectorFactoryOrNull() {
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor;
-			if ( requireAllStoredFields ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor();
-			}
-			else if ( !requiredStoredFields.isEmpty() ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor( requiredStoredFields );
-			}
-			else {
+			if ( !requireAllStoredFields && requiredStoredFields.isEmpty() ) {
 				return null;
 			}
+			ReusableDocumentStoredFieldVisitor storedFieldVisitor =
+					new ReusableDocumentStoredFieldVisitor( requireAllStoredFields, requiredStoredFields );
 
 			return StoredFieldsCollector.factory( storedFieldVisitor, requiredNestedDocumentPathsForStoredFields );
 		}
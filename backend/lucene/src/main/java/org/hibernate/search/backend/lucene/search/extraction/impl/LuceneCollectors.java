@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
@@ -15,6 +16,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
@@ -25,7 +28,9 @@
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
 
 public class LuceneCollectors {
 
@@ -40,13 +45,14 @@ public class LuceneCollectors {
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private final CollectorSetManager collectorsForAllMatchingDocsManager;
+	private CollectorSet collectorsForAllMatchingDocs;
 	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
 	private CollectorSet collectorsForTopDocs;
 
 	private final TimeoutManager timeoutManager;
 
-	private long totalHitCount = 0;
+	private SearchResultTotal resultTotal = SimpleSearchResultTotal.exact( 0L );
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
@@ -54,12 +60,35 @@ public class LuceneCollectors {
 			CollectorSet collectorsForAllMatchingDocs,
 			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
 			TimeoutManager timeoutManager) {
+		this( metadataResolver, indexSearcher, luceneQuery,
+				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
+				collectorsForAllMatchingDocs, null,
+				collectorsForTopDocsFactories, timeoutManager );
+	}
+
+	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
+			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
+			CollectorSetManager collectorsForAllMatchingDocsManager,
+			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
+			TimeoutManager timeoutManager) {
+		this( metadataResolver, indexSearcher, luceneQuery,
+				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
+				null, collectorsForAllMatchingDocsManager,
+				collectorsForTopDocsFactories, timeoutManager );
+	}
+
+	private LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
+			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
+			CollectorSet collectorsForAllMatchingDocs, CollectorSetManager collectorsForAllMatchingDocsManager,
+			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
+			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
 		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorsForAllMatchingDocsManager = collectorsForAllMatchingDocsManager;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
 	}
@@ -67,25 +96,24 @@ public class LuceneCollectors {
 	public void collect(int offset, Integer limit) throws IOException {
 		if ( timeoutManager.checkTimedOut() ) {
 			// in case of timeout before the query execution, skip the query
+			if ( collectorsForAllMatchingDocsManager != null ) {
+				// Extraction still expects collectors for aggregations.
+				collectorsForAllMatchingDocs = collectorsForAllMatchingDocsManager.reduceWithoutCollecting();
+			}
 			return;
 		}
 
 		// Phase 1: collect top docs and aggregations
-		try {
-			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
+		if ( collectorsForAllMatchingDocsManager != null ) {
+			collectAllMatchingDocsInParallel( offset, limit );
 		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			timeoutManager.forceTimedOut();
+		else {
+			collectAllMatchingDocs( offset, limit );
 		}
-
-		this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
-
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		if ( topDocs == null ) {
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
 		if ( requireFieldDocRescoring ) {
 			handleRescoring( indexSearcher, luceneQuery );
 		}
@@ -110,21 +138,85 @@ public CollectorSet getCollectorsForTopDocs() {
 		return collectorsForTopDocs;
 	}
 
-	public long getTotalHitCount() {
-		return totalHitCount;
+	public SearchResultTotal getResultTotal() {
+		return resultTotal;
 	}
 
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
-	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
+	private void collectAllMatchingDocs(int offset, Integer limit) throws IOException {
+		try {
+			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			timeoutManager.forceTimedOut();
+		}
+
+		TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+		if ( totalHitCountCollector != null ) {
+			this.resultTotal = SimpleSearchResultTotal.exact( totalHitCountCollector.getTotalHits() );
+		}
+
+		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		if ( topDocsCollector == null ) {
+			return;
+		}
+
 		if ( limit == null ) {
 			topDocs = topDocsCollector.topDocs( offset );
 		}
 		else {
 			topDocs = topDocsCollector.topDocs( offset, limit );
 		}
+		if ( totalHitCountCollector == null ) {
+			// A total hit count threshold was set: rely on the (potentially approximate) count of the top docs collector.
+			extractResultTotalFromTopDocs();
+		}
+	}
+
+	private void collectAllMatchingDocsInParallel(int offset, Integer limit) throws IOException {
+		// Timeouts are handled per slice by the manager: each slice stops collecting as soon as the timeout is reached.
+		collectorsForAllMatchingDocs = indexSearcher.search( luceneQuery, collectorsForAllMatchingDocsManager );
+		if ( collectorsForAllMatchingDocsManager.isTimedOut() ) {
+			timeoutManager.forceTimedOut();
+		}
+
+		Long totalHitCount = collectorsForAllMatchingDocsManager.getTotalHitCount();
+		if ( totalHitCount != null ) {
+			this.resultTotal = SimpleSearchResultTotal.exact( totalHitCount );
+		}
+
+		TopDocs mergedTopDocs = collectorsForAllMatchingDocsManager.getTopDocs();
+		if ( mergedTopDocs == null ) {
+			return;
+		}
+
+		topDocs = slice( mergedTopDocs, offset, limit );
+		if ( totalHitCount == null ) {
+			// A total hit count threshold was set: rely on the (potentially approximate) count of the top docs collectors.
+			extractResultTotalFromTopDocs();
+		}
+	}
+
+	private void extractResultTotalFromTopDocs() {
+		TotalHits totalHits = topDocs.totalHits;
+		this.resultTotal = SimpleSearchResultTotal.of( totalHits.value,
+				TotalHits.Relation.EQUAL_TO.equals( totalHits.relation ) );
+	}
+
+	private static TopDocs slice(TopDocs topDocs, int offset, Integer limit) {
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		int start = Math.min( offset, scoreDocs.length );
+		int end = limit == null ? scoreDocs.length : (int) Math.min( (long) start + limit, scoreDocs.length );
+		ScoreDoc[] slicedScoreDocs = Arrays.copyOfRange( scoreDocs, start, end );
+		if ( topDocs instanceof TopFieldDocs ) {
+			return new TopFieldDocs( topDocs.totalHits, slicedScoreDocs, ( (TopFieldDocs) topDocs ).fields );
+		}
+		else {
+			return new TopDocs( topDocs.totalHits, slicedScoreDocs );
+		}
 	}
 
 	private void handleRescoring(IndexSearcher indexSearcher, Query luceneQuery) throws IOException {
@@ -7,27 +7,36 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
 
 public class LuceneResult {
 
-	private final Document document;
+	private final DocumentStoredFields storedFields;
 
 	private final int docId;
 
 	private final float score;
 
-	public LuceneResult(Document document, int docId, float score) {
-		this.document = document;
+	public LuceneResult(DocumentStoredFields storedFields, int docId, float score) {
+		this.storedFields = storedFields;
 		this.docId = docId;
 		this.score = score;
 	}
 
-	public String getStringValue(String fieldName) {
-		return document.get( fieldName );
+	/**
+	 * @return A document containing all stored fields.
+	 * Only available if all stored fields were requested when building the query.
+	 */
+	public Document getDocument() {
+		return storedFields.getDocument();
 	}
 
-	public Document getDocument() {
-		return document;
+	/**
+	 * @param absoluteFieldPath The path of a stored field that was requested when building the query.
+	 * @return The values of this field, never {@code null}.
+	 */
+	public IndexableField[] getStoredFields(String absoluteFieldPath) {
+		return storedFields.getFields( absoluteFieldPath );
 	}
 
 	public int getDocId() {
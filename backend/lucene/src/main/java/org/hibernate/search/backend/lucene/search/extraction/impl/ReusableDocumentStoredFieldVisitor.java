@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.lucene.document.Document;
@@ -15,13 +18,15 @@
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.StoredFieldVisitor;
 
 /**
  * Inspired by Lucene's DocumentStoredFieldVisitor, with the difference that we want
  * to reuse the same FieldVisitor to load multiple Document instances.
- * Also the accepted fields are kept in a linked-list like structure, to optimize
- * for small amounts of accepted fields.
+ * Also, each explicitly requested field is assigned a slot upfront,
+ * so that the values of that field can be retrieved from the loaded {@link DocumentStoredFields}
+ * without scanning all loaded fields.
  *
  * A ReusableDocumentStoredFieldVisitor is NOT threadsafe: in case you need one
  * for multiple threads make a clone for each thread.
@@ -31,130 +36,142 @@
  */
 public final class ReusableDocumentStoredFieldVisitor extends StoredFieldVisitor {
 
-	private static final FieldAcceptor NOT_ACCEPT = new DenyingFieldAcceptor();
+	private static final int NO_SLOT = -1;
 
-	private final FieldAcceptor rootAcceptor;
+	private final boolean loadAllFields;
+	private final Map<String, Integer> slots;
 
-	//The Lucene Document which will be returned. Lazily initialized.
-	private Document doc = null;
+	// Field types of the fields added to full documents, cached to avoid one allocation per field value.
+	private final Map<String, FieldType> stringFieldTypes;
 
-	/**
-	 * Create a visitor that collects all fields.
-	 */
-	public ReusableDocumentStoredFieldVisitor() {
-		this.rootAcceptor = null;
-	}
+	// The slot of the field accepted by the last call to needsField().
+	private int currentSlot = NO_SLOT;
+
+	// The stored fields which will be returned. Lazily initialized.
+	private Document doc = null;
+	private IndexableField[][] fieldsBySlot = null;
 
 	/**
-	 * Create a visitor that collects only some specified fields.
+	 * Create a visitor that collects the specified fields, and optionally all other fields.
+	 *
+	 * @param loadAllFields Whether all fields should be loaded into a {@link Document},
+	 * see {@link DocumentStoredFields#getDocument()}.
+	 * @param slottedFields The fields whose values must be retrievable through
+	 * {@link DocumentStoredFields#getFields(String)}.
 	 */
-	public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad) {
-		FieldAcceptor previous = NOT_ACCEPT;
-		for ( String fieldName : fieldsToLoad ) {
-			previous = new ChainedFieldAcceptor( previous, fieldName );
+	public ReusableDocumentStoredFieldVisitor(boolean loadAllFields, Set<String> slottedFields) {
+		this.loadAllFields = loadAllFields;
+		this.slots = new HashMap<>( slottedFields.size() * 2 );
+		for ( String fieldName : slottedFields ) {
+			slots.put( fieldName, slots.size() );
 		}
-		this.rootAcceptor = previous;
+		this.stringFieldTypes = loadAllFields ? new HashMap<>() : null;
 	}
 
 	@Override
 	public void binaryField(FieldInfo fieldInfo, byte[] value) {
-		getDocument().add( new StoredField( fieldInfo.name, value ) );
+		add( new StoredField( fieldInfo.name, value ) );
 	}
 
 	@Override
 	public void stringField(FieldInfo fieldInfo, byte[] value) {
-		final FieldType ft = new FieldType( TextField.TYPE_STORED );
-		ft.setStoreTermVectors( fieldInfo.hasVectors() );
-		ft.setOmitNorms( fieldInfo.omitsNorms() );
-		ft.setIndexOptions( fieldInfo.getIndexOptions() );
-		getDocument().add( new Field( fieldInfo.name, new String( value, StandardCharsets.UTF_8 ), ft ) );
+		String stringValue = new String( value, StandardCharsets.UTF_8 );
+		if ( loadAllFields ) {
+			// Full documents are exposed to users: preserve the indexing options of the field.
+			add( new Field( fieldInfo.name, stringValue, getStringFieldType( fieldInfo ) ) );
+		}
+		else {
+			add( new StoredField( fieldInfo.name, stringValue ) );
+		}
 	}
 
 	@Override
 	public void intField(FieldInfo fieldInfo, int value) {
-		getDocument().add( new StoredField( fieldInfo.name, value ) );
+		add( new StoredField( fieldInfo.name, value ) );
 	}
 
 	@Override
 	public void longField(FieldInfo fieldInfo, long value) {
-		getDocument().add( new StoredField( fieldInfo.name, value ) );
+		add( new StoredField( fieldInfo.name, value ) );
 	}
 
 	@Override
 	public void floatField(FieldInfo fieldInfo, float value) {
-		getDocument().add( new StoredField( fieldInfo.name, value ) );
+		add( new StoredField( fieldInfo.name, value ) );
 	}
 
 	@Override
 	public void doubleField(FieldInfo fieldInfo, double value) {
-		getDocument().add( new StoredField( fieldInfo.name, value ) );
+		add( new StoredField( fieldInfo.name, value ) );
 	}
 
 	@Override
 	public Status needsField(FieldInfo fieldInfo) {
-		if ( rootAcceptor == null ) {
-			// We need all fields
-			return Status.YES;
-		}
-		return rootAcceptor.acceptField( fieldInfo.name );
+		Integer slot = slots.get( fieldInfo.name );
+		currentSlot = slot == null ? NO_SLOT : slot;
+		return loadAllFields || slot != null ? Status.YES : Status.NO;
 	}
 
 	/**
-	 * Retrieve the visited document, and resets the instance to be reused by creating a new Document
-	 * internally.
+	 * Retrieve the visited stored fields, and resets the instance to be reused
+	 * for another document.
 	 *
-	 * @return Document populated with stored fields.
+	 * @return The stored fields of the visited document.
 	 */
-	public Document getDocumentAndReset() {
-		final Document localDoc = this.doc;
-		if ( localDoc == null ) {
-			return new Document();
-		}
-		else {
-			this.doc = null;
-			return localDoc;
-		}
-	}
-
-	private Document getDocument() {
+	public DocumentStoredFields getStoredFieldsAndReset() {
 		Document localDoc = this.doc;
-		if ( localDoc == null ) {
+		if ( localDoc == null && loadAllFields ) {
 			localDoc = new Document();
-			this.doc = localDoc;
 		}
-		return localDoc;
+		DocumentStoredFields result = new DocumentStoredFields( slots, localDoc, fieldsBySlot );
+		this.doc = null;
+		this.fieldsBySlot = null;
+		return result;
 	}
 
-	/* The structure below shapes a chain of accepted field names:
-	 * you could think of it as a linked list. */
-
-	private interface FieldAcceptor {
-		Status acceptField(String fieldName);
-	}
-
-	private static final class DenyingFieldAcceptor implements FieldAcceptor {
-		@Override
-		public Status acceptField(final String fieldName) {
-			return Status.NO;
-		}
-	}
-
-	private static final class ChainedFieldAcceptor implements FieldAcceptor {
-		final FieldAcceptor next;
-		final String acceptedFieldName;
-		ChainedFieldAcceptor(FieldAcceptor next, String acceptedFieldName) {
-			this.next = next;
-			this.acceptedFieldName = acceptedFieldName;
+	private void add(IndexableField field) {
+		if ( loadAllFields ) {
+			Document localDoc = this.doc;
+			if ( localDoc == null ) {
+				localDoc = new Document();
+				this.doc = localDoc;
+			}
+			localDoc.add( field );
 		}
-		@Override
-		public Status acceptField(final String fieldName) {
-			if ( acceptedFieldName.equals( fieldName ) ) {
-				return Status.YES;
+		if ( currentSlot != NO_SLOT ) {
+			IndexableField[][] localFieldsBySlot = this.fieldsBySlot;
+			if ( localFieldsBySlot == null ) {
+				localFieldsBySlot = new IndexableField[slots.size()][];
+				this.fieldsBySlot = localFieldsBySlot;
+			}
+			IndexableField[] slotFields = localFieldsBySlot[currentSlot];
+			if ( slotFields == null ) {
+				// Most fields are single-valued.
+				slotFields = new IndexableField[] { field };
 			}
 			else {
-				return next.acceptField( fieldName );
+				slotFields = Arrays.copyOf( slotFields, slotFields.length + 1 );
+				slotFields[slotFields.length - 1] = field;
 			}
+			localFieldsBySlot[currentSlot] = slotFields;
+		}
+	}
+
+	private FieldType getStringFieldType(FieldInfo fieldInfo) {
+		FieldType fieldType = stringFieldTypes.get( fieldInfo.name );
+		if ( fieldType == null
+				|| fieldType.storeTermVectors() != fieldInfo.hasVectors()
+				|| fieldType.omitNorms() != fieldInfo.omitsNorms()
+				|| fieldType.indexOptions() != fieldInfo.getIndexOptions() ) {
+			fieldType = new FieldType( TextField.TYPE_STORED );
+			fieldType.setStoreTermVectors( fieldInfo.hasVectors() );
+			fieldType.setOmitNorms( fieldInfo.omitsNorms() );
+			fieldType.setIndexOptions( fieldInfo.getIndexOptions() );
+			// The same field type is shared by multiple fields
+			fieldType.freeze();
+			stringFieldTypes.put( fieldInfo.name, fieldType );
 		}
+		return fieldType;
 	}
 
 }
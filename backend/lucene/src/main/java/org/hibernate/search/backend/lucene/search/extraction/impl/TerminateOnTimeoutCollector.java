@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.TimeLimitingCollector;
+
+/**
+ * Turns timeouts of a {@link TimeLimitingCollector} into a {@link CollectionTerminatedException},
+ * so that the remaining segments of a slice are simply skipped.
+ * <p>
+ * Useful when searching segments in parallel:
+ * the {@link org.apache.lucene.search.IndexSearcher} would otherwise propagate the exception
+ * while other slices are still being collected,
+ * leaving us unable to safely extract partial results.
+ */
+final class TerminateOnTimeoutCollector extends FilterCollector {
+
+	private final AtomicBoolean timedOut;
+
+	TerminateOnTimeoutCollector(Collector in, AtomicBoolean timedOut) {
+		super( in );
+		this.timedOut = timedOut;
+	}
+
+	@Override
+	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+		LeafCollector leafCollector;
+		try {
+			leafCollector = super.getLeafCollector( context );
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			throw terminate();
+		}
+		return new FilterLeafCollector( leafCollector ) {
+			@Override
+			public void collect(int doc) throws IOException {
+				try {
+					super.collect( doc );
+				}
+				catch (TimeLimitingCollector.TimeExceededException e) {
+					throw terminate();
+				}
+			}
+		};
+	}
+
+	private CollectionTerminatedException terminate() {
+		timedOut.set( true );
+		return new CollectionTerminatedException();
+	}
+}
@@ -14,6 +14,7 @@
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneFieldAggregationBuilderFactory;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
@@ -69,6 +70,24 @@ public boolean multiValuedInRoot() {
 		return false;
 	}
 
+	@Override
+	public ProjectionValuesSource<F> projectionValuesSource() {
+		ProjectionValuesSource<F> result = null;
+		for ( LuceneSearchFieldContext<F> field : fieldForEachIndex ) {
+			ProjectionValuesSource<F> valuesSource = field.projectionValuesSource();
+			if ( valuesSource == null ) {
+				// Doc values cannot be used in at least one index: stored fields must be used in all indexes.
+				return null;
+			}
+			else if ( result == null ) {
+				result = valuesSource;
+			}
+		}
+		// Projections check that codecs are compatible,
+		// so the values source of any index will work for all indexes.
+		return result;
+	}
+
 	@Override
 	public LuceneSearchFieldTypeContext<F> type() {
 		return this;
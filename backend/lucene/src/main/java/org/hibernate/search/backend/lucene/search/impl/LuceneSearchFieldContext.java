@@ -8,6 +8,7 @@
 
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneSimpleQueryStringPredicateBuilderFieldState;
 import org.hibernate.search.engine.search.aggregation.spi.RangeAggregationBuilder;
 import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
@@ -47,6 +48,13 @@
 
 	EventContext eventContext();
 
+	/**
+	 * @return A source of values for this field relying on doc values,
+	 * or {@code null} if values cannot be extracted from doc values in at least one of the targeted indexes.
+	 * @see org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec#createProjectionValuesSource(String)
+	 */
+	ProjectionValuesSource<F> projectionValuesSource();
+
 	// Predicates
 
 	default MatchPredicateBuilder createMatchPredicateBuilder(
@@ -102,14 +102,12 @@ public E extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
 		E accumulated = accumulator.createInitial();
 		if ( multiValued ) {
-			for ( IndexableField field : documentResult.getDocument().getFields() ) {
-				if ( field.name().equals( absoluteFieldPath ) ) {
-					GeoPoint decoded = codec.decode( field );
-					double distanceInMeters = SloppyMath.haversinMeters( center.latitude(), center.longitude(),
-							decoded.latitude(), decoded.longitude() );
-					double distance = unit.fromMeters( distanceInMeters );
-					accumulated = accumulator.accumulate( accumulated, distance );
-				}
+			for ( IndexableField field : documentResult.getStoredFields( absoluteFieldPath ) ) {
+				GeoPoint decoded = codec.decode( field );
+				double distanceInMeters = SloppyMath.haversinMeters( center.latitude(), center.longitude(),
+						decoded.latitude(), decoded.longitude() );
+				double distance = unit.fromMeters( distanceInMeters );
+				accumulated = accumulator.accumulate( accumulated, distance );
 			}
 		}
 		else {
@@ -8,6 +8,11 @@
 
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.ProjectionValuesCollector;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
@@ -26,25 +31,36 @@
  * @param <F> The type of individual field values obtained from the backend (before conversion).
  * @param <V> The type of individual field values after conversion.
  */
-class LuceneFieldProjection<E, P, F, V> implements LuceneSearchProjection<E, P> {
+class LuceneFieldProjection<E, P, F, V>
+		implements LuceneSearchProjection<E, P>, CollectorFactory<ProjectionValuesCollector<F>> {
 
 	private final Set<String> indexNames;
 	private final String absoluteFieldPath;
 	private final String nestedDocumentPath;
 
 	private final LuceneFieldCodec<F> codec;
+	private final ProjectionValuesSource<F> valuesSource;
 	private final ProjectionConverter<? super F, V> converter;
 	private final ProjectionAccumulator<F, V, E, P> accumulator;
 
+	private final ProjectionValuesCollectorKey<F> collectorKey;
+
+	/**
+	 * @param valuesSource A source of values relying on doc values,
+	 * or {@code null} to rely on stored fields instead.
+	 */
 	LuceneFieldProjection(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
-			LuceneFieldCodec<F> codec, ProjectionConverter<? super F, V> converter,
+			LuceneFieldCodec<F> codec, ProjectionValuesSource<F> valuesSource,
+			ProjectionConverter<? super F, V> converter,
 			ProjectionAccumulator<F, V, E, P> accumulator) {
 		this.indexNames = indexNames;
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.codec = codec;
+		this.valuesSource = valuesSource;
 		this.converter = converter;
 		this.accumulator = accumulator;
+		this.collectorKey = new ProjectionValuesCollectorKey<>( absoluteFieldPath );
 	}
 
 	@Override
@@ -57,15 +73,28 @@ public String toString() {
 
 	@Override
 	public void request(SearchProjectionRequestContext context) {
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( valuesSource != null ) {
+			// Reading doc values is much cheaper than loading stored fields.
+			context.requireCollector( this );
+		}
+		else {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
 	}
 
 	@Override
 	public E extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
 		E extracted = accumulator.createInitial();
-		for ( IndexableField field : documentResult.getDocument().getFields() ) {
-			if ( field.name().equals( absoluteFieldPath ) ) {
+		if ( valuesSource != null ) {
+			ProjectionValuesCollector<F> collector = context.getCollector( collectorKey );
+			F value = collector.get( documentResult.getDocId() );
+			if ( value != null ) {
+				extracted = accumulator.accumulate( extracted, value );
+			}
+		}
+		else {
+			for ( IndexableField field : documentResult.getStoredFields( absoluteFieldPath ) ) {
 				F decoded = codec.decode( field );
 				extracted = accumulator.accumulate( extracted, decoded );
 			}
@@ -84,4 +113,44 @@ public P transform(LoadingResult<?> loadingResult, E extractedData,
 	public Set<String> getIndexNames() {
 		return indexNames;
 	}
+
+	@Override
+	public ProjectionValuesCollector<F> createCollector(CollectorExecutionContext context) {
+		return new ProjectionValuesCollector<>( valuesSource, context.getMaxDocs() );
+	}
+
+	@Override
+	public CollectorKey<ProjectionValuesCollector<F>> getCollectorKey() {
+		return collectorKey;
+	}
+
+	/**
+	 * Necessary in order to share a single collector if there are multiple projections on the same field.
+	 * See {@link #createCollector(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
+	 */
+	private static final class ProjectionValuesCollectorKey<F> implements CollectorKey<ProjectionValuesCollector<F>> {
+
+		private final String absoluteFieldPath;
+
+		private ProjectionValuesCollectorKey(String absoluteFieldPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			ProjectionValuesCollectorKey<?> other = (ProjectionValuesCollectorKey<?>) obj;
+			return absoluteFieldPath.equals( other.absoluteFieldPath );
+		}
+
+		@Override
+		public int hashCode() {
+			return absoluteFieldPath.hashCode();
+		}
+	}
 }
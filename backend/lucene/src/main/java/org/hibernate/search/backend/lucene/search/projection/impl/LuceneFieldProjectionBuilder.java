@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
@@ -41,7 +42,13 @@ public <P> SearchProjection<P> build(ProjectionAccumulator.Provider<V, P> accumu
 		if ( accumulatorProvider.isSingleValued() && field.multiValuedInRoot() ) {
 			throw log.invalidSingleValuedProjectionOnMultiValuedField( field.absolutePath(), field.eventContext() );
 		}
+		ProjectionValuesSource<F> valuesSource = null;
+		if ( !field.multiValuedInRoot() && field.nestedDocumentPath() == null ) {
+			// Doc values do not preserve the order of values, and are stored in nested documents for nested fields:
+			// only use them for single-valued fields in the root document.
+			valuesSource = field.projectionValuesSource();
+		}
 		return new LuceneFieldProjection<>( searchContext.indexes().indexNames(), field.absolutePath(),
-				field.nestedDocumentPath(), codec, converter, accumulatorProvider.get() );
+				field.nestedDocumentPath(), codec, valuesSource, converter, accumulatorProvider.get() );
 	}
 }
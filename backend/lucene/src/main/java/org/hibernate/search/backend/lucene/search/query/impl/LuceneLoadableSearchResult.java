@@ -15,9 +15,9 @@
 
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
-import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -34,7 +34,7 @@
 	private final LuceneSearchQueryExtractContext extractContext;
 	private final LuceneSearchProjection<?, H> rootProjection;
 
-	private final long hitCount;
+	private final SearchResultTotal resultTotal;
 	private List<Object> extractedData;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private Duration took;
@@ -42,19 +42,19 @@
 
 	LuceneLoadableSearchResult(LuceneSearchQueryExtractContext extractContext,
 			LuceneSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData,
+			SearchResultTotal resultTotal, List<Object> extractedData,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			Duration took, boolean timedOut) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
-		this.hitCount = hitCount;
+		this.resultTotal = resultTotal;
 		this.extractedData = extractedData;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
 	}
 
-	LuceneSearchResult<H> loadBlocking() {
+	LuceneSearchResultImpl<H> loadBlocking() {
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
@@ -88,6 +88,7 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations, took, timedOut, extractContext.getTopDocs() );
+		return new LuceneSearchResultImpl<>( resultTotal, loadedHits, extractedAggregations, took, timedOut,
+				extractContext.getTopDocs(), readIndex );
 	}
 }
@@ -68,6 +68,7 @@
 	private Long timeout;
 	private TimeUnit timeUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -113,6 +114,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public void collectPredicate(Query luceneQuery) {
 		this.luceneQuery = luceneQuery;
@@ -216,6 +222,7 @@ public LuceneSearchQuery<H> build() {
 				rootProjection,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
+				totalHitCountThreshold,
 				timeoutManager
 		);
 
@@ -225,7 +232,7 @@ public LuceneSearchQuery<H> build() {
 				sessionContext,
 				loadingContext,
 				routingKeys,
-				timeoutManager,
+				timeout, timeUnit, exceptionOnTimeout,
 				definitiveLuceneQuery,
 				luceneSort,
 				searcher
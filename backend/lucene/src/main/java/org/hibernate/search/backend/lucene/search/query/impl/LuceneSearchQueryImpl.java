@@ -8,9 +8,12 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
@@ -24,6 +27,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -47,14 +51,16 @@
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
 
-	private TimeoutManager timeoutManager;
+	private Long timeout;
+	private TimeUnit timeUnit;
+	private boolean exceptionOnTimeout;
 
 	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
-			TimeoutManager timeoutManager,
+			Long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout,
 			Query luceneQuery, Sort luceneSort,
 			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher) {
 		this.queryOrchestrator = queryOrchestrator;
@@ -63,7 +69,9 @@
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
-		this.timeoutManager = timeoutManager;
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.searcher = searcher;
@@ -88,25 +96,66 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
+		TimeoutManager timeoutManager = createTimeoutManager();
 		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit );
+		ReadWork<LuceneLoadableSearchResult<H>> work =
+				workFactory.search( searcher.withTimeoutManager( timeoutManager ), offset, limit );
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * WARNING: the following call must run in a thread that is allowed to use the mapper session,
+				 * since loading is blocking and may rely on the session (e.g. Hibernate ORM).
+				 * Here that's the user thread; see fetchAsync for the asynchronous equivalent.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
 		return result;
 	}
 
+	@Override
+	public CompletionStage<LuceneSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// Each execution gets its own timeout manager, since several executions may run concurrently.
+		TimeoutManager timeoutManager = createTimeoutManager();
+		timeoutManager.start();
+		ReadWork<LuceneLoadableSearchResult<H>> work =
+				workFactory.search( searcher.withTimeoutManager( timeoutManager ), offset, limit );
+		return doSubmitAsync( work )
+				// Loading happens in the read thread that executed the search, never in the caller's thread.
+				.thenApply( loadableResult -> {
+					LuceneSearchResult<H> result = loadableResult.loadBlocking();
+					timeoutManager.stop();
+					return result;
+				} );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		TimeoutManager timeoutManager = createTimeoutManager();
+		timeoutManager.start();
+		ReadWork<Integer> work = workFactory.count( searcher.withTimeoutManager( timeoutManager ) );
+		return doSubmitAsync( work )
+				.thenApply( count -> {
+					timeoutManager.stop();
+					return (long) count;
+				} );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		Set<String> indexNames = searchContext.indexes().indexNames();
+		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open(
+				indexNames, searchContext.indexes().indexManagerContexts(), routingKeys
+		);
+		TimeoutManager timeoutManager = createTimeoutManager();
+		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, indexNames, indexReader,
+				searcher.withTimeoutManager( timeoutManager ), timeoutManager, chunkSize );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
+		TimeoutManager timeoutManager = createTimeoutManager();
 		timeoutManager.start();
-		ReadWork<Integer> work = workFactory.count( searcher );
+		ReadWork<Integer> work = workFactory.count( searcher.withTimeoutManager( timeoutManager ) );
 		Integer result = doSubmit( work );
 		timeoutManager.stop();
 		return result;
@@ -151,11 +200,21 @@ private <T> T doSubmit(ReadWork<T> work) {
 		);
 	}
 
+	private <T> CompletableFuture<T> doSubmitAsync(ReadWork<T> work) {
+		return queryOrchestrator.submitAsync(
+				searchContext.indexes().indexNames(),
+				searchContext.indexes().indexManagerContexts(),
+				routingKeys,
+				work
+		);
+	}
+
 	private Explanation doExplain(String indexName, String id) {
+		TimeoutManager timeoutManager = createTimeoutManager();
 		timeoutManager.start();
 		Query filter = searchContext.filterOrNull( sessionContext.tenantIdentifier() );
 		ReadWork<Explanation> work = workFactory.explain(
-				searcher, indexName, id, filter
+				searcher.withTimeoutManager( timeoutManager ), indexName, id, filter
 		);
 		Explanation explanation = doSubmit( work );
 		timeoutManager.stop();
@@ -164,8 +223,14 @@ private Explanation doExplain(String indexName, String id) {
 
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
-		// replace the timeout manager on already created query instance
-		timeoutManager = searchContext.createTimeoutManager( luceneQuery, timeout, timeUnit, true );
-		searcher.setTimeoutManager( timeoutManager );
+		// replace the timeout settings on already created query instance;
+		// they will be taken into account by the next execution.
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.exceptionOnTimeout = true;
+	}
+
+	private TimeoutManager createTimeoutManager() {
+		return searchContext.createTimeoutManager( luceneQuery, timeout, timeUnit, exceptionOnTimeout );
 	}
 }
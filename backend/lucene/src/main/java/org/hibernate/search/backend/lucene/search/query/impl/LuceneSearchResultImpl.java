@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
 import org.apache.lucene.search.TopDocs;
@@ -20,15 +21,25 @@
 		implements LuceneSearchResult<H> {
 
 	private final TopDocs topDocs;
+	private final int extractedHitCount;
 
-	LuceneSearchResultImpl(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
-			Duration took, Boolean timedOut, TopDocs topDocs) {
-		super( hitCount, hits, aggregationResults, took, timedOut );
+	LuceneSearchResultImpl(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Duration took, Boolean timedOut, TopDocs topDocs, int extractedHitCount) {
+		super( resultTotal, hits, aggregationResults, took, timedOut );
 		this.topDocs = topDocs;
+		this.extractedHitCount = extractedHitCount;
 	}
 
 	@Override
 	public TopDocs topDocs() {
 		return topDocs;
 	}
+
+	/**
+	 * @return The number of top docs that were extracted before loading,
+	 * which may be lower than the number of top docs if extraction was interrupted by a timeout.
+	 */
+	int extractedHitCount() {
+		return extractedHitCount;
+	}
 }
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.ReadWork;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+
+/**
+ * A scroll relying on {@code searchAfter}-style collection over an index reader
+ * that is opened once and kept open until the scroll is closed.
+ * <p>
+ * Pinning the reader guarantees that document IDs remain stable from one chunk to the next,
+ * and that hits are not skipped or returned twice when the index is modified concurrently.
+ */
+class LuceneSearchScrollImpl<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final Set<String> indexNames;
+	private final HibernateSearchMultiReader indexReader;
+	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final TimeoutManager timeoutManager;
+	private final int chunkSize;
+
+	private ScoreDoc lastHit;
+	private long totalHitCount;
+	private boolean timedOut = false;
+	private boolean closed = false;
+
+	LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
+			LuceneWorkFactory workFactory, Set<String> indexNames,
+			HibernateSearchMultiReader indexReader,
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			TimeoutManager timeoutManager, int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.indexNames = indexNames;
+		this.indexReader = indexReader;
+		this.searcher = searcher;
+		this.timeoutManager = timeoutManager;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		try {
+			indexReader.close();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+		}
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( closed ) {
+			throw log.scrollClosed();
+		}
+
+		if ( timedOut ) {
+			// A previous chunk timed out: collection may have been partial,
+			// so we cannot tell where the next chunk should start.
+			// End the scroll rather than silently skipping hits.
+			return new SimpleSearchScrollResult<>( false, Collections.emptyList(), totalHitCount,
+					Duration.ZERO, true );
+		}
+
+		timeoutManager.start();
+		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.scroll( searcher, lastHit, chunkSize );
+		LuceneSearchResultImpl<H> result = queryOrchestrator.submit( indexNames, indexReader, work )
+				/*
+				 * WARNING: the following call must run in the user thread.
+				 * See LuceneSearchQueryImpl#fetch.
+				 */
+				.loadBlocking();
+		timeoutManager.stop();
+
+		TopDocs topDocs = result.topDocs();
+		int extractedHitCount = result.extractedHitCount();
+		boolean hasHits = topDocs != null && extractedHitCount > 0;
+		if ( hasHits ) {
+			// Rely on the extracted top docs rather than on loaded hits:
+			// some hits may have been dropped because the corresponding entity no longer exists.
+			// Do not rely on the raw top docs either: extraction may have stopped early on timeout.
+			lastHit = topDocs.scoreDocs[extractedHitCount - 1];
+		}
+		totalHitCount = result.totalHitCount();
+		if ( result.timedOut() ) {
+			timedOut = true;
+		}
+
+		return new SimpleSearchScrollResult<>( hasHits, result.hits(), totalHitCount,
+				result.took(), result.timedOut() );
+	}
+}
@@ -19,6 +19,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
+import org.hibernate.search.backend.lucene.search.extraction.impl.DocumentStoredFields;
 import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
@@ -31,7 +32,6 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
@@ -48,18 +48,21 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final Long totalHitCountThreshold;
 
-	private TimeoutManager timeoutManager;
+	private final TimeoutManager timeoutManager;
 
 	LuceneSearcherImpl(LuceneSearchQueryRequestContext requestContext,
 			LuceneSearchProjection<?, H> rootProjection,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
+			Long totalHitCountThreshold,
 			TimeoutManager timeoutManager) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -79,10 +82,32 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			int offset, Integer limit) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
+		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, maxDocs, null );
 
 		luceneCollectors.collect( offset, limit );
 
+		return extractLoadableSearchResult( indexSearcher, luceneCollectors );
+	}
+
+	@Override
+	public LuceneLoadableSearchResult<H> scroll(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int chunkSize) throws IOException {
+		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
+
+		// Only ever collect the current chunk: hits before "after" are skipped during collection,
+		// so memory usage is bounded by the chunk size regardless of how deep we are in the results.
+		int maxDocs = Math.min( chunkSize, indexSearcher.getIndexReader().maxDoc() );
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, maxDocs, after );
+
+		luceneCollectors.collect( 0, chunkSize );
+
+		return extractLoadableSearchResult( indexSearcher, luceneCollectors );
+	}
+
+	private LuceneLoadableSearchResult<H> extractLoadableSearchResult(IndexSearcher indexSearcher,
+			LuceneCollectors luceneCollectors) throws IOException {
 		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
 				indexSearcher, luceneCollectors
 		);
@@ -94,7 +119,7 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 
 		return new LuceneLoadableSearchResult<>(
 				extractContext, rootProjection,
-				luceneCollectors.getTotalHitCount(),
+				luceneCollectors.getResultTotal(),
 				extractedData,
 				extractedAggregations,
 				timeoutManager.getTookTime(),
@@ -127,24 +152,22 @@ public Query getLuceneQueryForExceptions() {
 	}
 
 	@Override
-	public void setTimeoutManager(TimeoutManager timeoutManager) {
-		this.timeoutManager = timeoutManager;
+	public LuceneSearcherImpl<H> withTimeoutManager(TimeoutManager timeoutManager) {
+		return new LuceneSearcherImpl<>( requestContext, rootProjection, aggregations, extractionRequirements,
+				totalHitCountThreshold, timeoutManager );
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException {
-		// TODO HSEARCH-3323 this is very naive for now, we will probably need to implement some scrolling in the collector
-		//  as it is done in Search 5.
-		//  Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
-		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
-
+			int maxDocs, ScoreDoc after) throws IOException {
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager
+				metadataResolver, maxDocs, after, totalHitCountThreshold, timeoutManager
 		);
 	}
 
 	private int getMaxDocs(IndexReader reader, int offset, Integer limit) {
+		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// Use scroll() to go through large result sets.
 		if ( limit == null ) {
 			return reader.maxDoc();
 		}
@@ -179,9 +202,10 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 			}
 
 			ScoreDoc hit = topDocs.scoreDocs[i];
-			Document document = storedFieldsCollector == null ? null : storedFieldsCollector.getDocument( hit.doc );
+			DocumentStoredFields storedFields =
+					storedFieldsCollector == null ? null : storedFieldsCollector.getStoredFields( hit.doc );
 
-			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
+			LuceneResult luceneResult = new LuceneResult( storedFields, hit.doc, hit.score );
 
 			extractedData.add( rootProjection.extract( projectionHitMapper, luceneResult, projectionExtractContext ) );
 		}
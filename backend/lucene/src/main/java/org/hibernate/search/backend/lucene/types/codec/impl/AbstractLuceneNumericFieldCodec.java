@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 
@@ -65,6 +66,16 @@ public final void encode(LuceneDocumentBuilder documentBuilder, String absoluteF
 		}
 	}
 
+	@Override
+	public ProjectionValuesSource<F> createProjectionValuesSource(String absoluteFieldPath) {
+		if ( !( sortable || aggregable ) || !isDocValueDecodingLossless() ) {
+			return null;
+		}
+		LuceneNumericDomain<E> domain = getDomain();
+		return ProjectionValuesSource.fromLongField( absoluteFieldPath,
+				value -> decode( domain.sortedDocValueToTerm( value ) ) );
+	}
+
 	@Override
 	public Query createExistsQuery(String absoluteFieldPath) {
 		if ( sortable || aggregable ) {
@@ -94,6 +105,14 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number)} restores exactly the value passed to {@link #encode(Object)},
+	 * {@code false} if some information is lost (precision, time zone, ...).
+	 */
+	boolean isDocValueDecodingLossless() {
+		return true;
+	}
+
 	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
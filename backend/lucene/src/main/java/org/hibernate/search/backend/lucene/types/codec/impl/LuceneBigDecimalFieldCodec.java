@@ -63,6 +63,12 @@ public BigDecimal decode(Long encoded) {
 		return scale( encoded );
 	}
 
+	@Override
+	boolean isDocValueDecodingLossless() {
+		// Values are rounded to the decimal scale in doc values.
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
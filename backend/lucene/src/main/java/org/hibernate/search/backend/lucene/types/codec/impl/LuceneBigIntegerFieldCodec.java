@@ -64,6 +64,12 @@ public BigInteger decode(Long encoded) {
 		return scale( encoded ).toBigInteger();
 	}
 
+	@Override
+	boolean isDocValueDecodingLossless() {
+		// Values are rounded to the decimal scale in doc values.
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
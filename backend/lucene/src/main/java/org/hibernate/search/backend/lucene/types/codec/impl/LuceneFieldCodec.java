@@ -8,6 +8,7 @@
 
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
 
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.Query;
@@ -41,6 +42,19 @@
 	 */
 	F decode(IndexableField field);
 
+	/**
+	 * Create a source of values for the field with the given path, relying on doc values instead of stored fields.
+	 * <p>
+	 * Typically used in projections on single-valued fields, to avoid loading stored fields.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A source of values, or {@code null} if the field does not have doc values,
+	 * or if the original value cannot be decoded from doc values without any loss of information.
+	 */
+	default ProjectionValuesSource<F> createProjectionValuesSource(String absoluteFieldPath) {
+		return null;
+	}
+
 	/**
 	 * Create a {@link Query} that will match every document in which the field with the given path appears.
 	 *
@@ -52,6 +52,12 @@ public Instant decode(Long encoded) {
 		return Instant.ofEpochMilli( encoded );
 	}
 
+	@Override
+	boolean isDocValueDecodingLossless() {
+		// Doc values only have millisecond precision.
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
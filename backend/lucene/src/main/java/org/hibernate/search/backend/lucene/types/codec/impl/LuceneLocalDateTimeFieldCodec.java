@@ -62,6 +62,12 @@ public LocalDateTime decode(Long encoded) {
 		return Instant.ofEpochMilli( encoded ).atOffset( ZoneOffset.UTC ).toLocalDateTime();
 	}
 
+	@Override
+	boolean isDocValueDecodingLossless() {
+		// Doc values only have millisecond precision.
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
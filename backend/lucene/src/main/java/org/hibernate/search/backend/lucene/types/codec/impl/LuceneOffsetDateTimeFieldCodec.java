@@ -62,6 +62,12 @@ public OffsetDateTime decode(Long encoded) {
 		return Instant.ofEpochMilli( encoded ).atOffset( ZoneOffset.UTC );
 	}
 
+	@Override
+	boolean isDocValueDecodingLossless() {
+		// Doc values only have millisecond precision and lose the offset.
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
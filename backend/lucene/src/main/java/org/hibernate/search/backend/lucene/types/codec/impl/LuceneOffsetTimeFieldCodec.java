@@ -72,6 +72,12 @@ public OffsetTime decode(Long encoded) {
 				.atOffset( ZoneOffset.UTC ).toOffsetTime();
 	}
 
+	@Override
+	boolean isDocValueDecodingLossless() {
+		// Doc values lose the offset.
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
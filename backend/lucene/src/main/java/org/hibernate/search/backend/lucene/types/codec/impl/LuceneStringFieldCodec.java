@@ -7,10 +7,12 @@
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionValuesSource;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Field;
@@ -77,6 +79,15 @@ public String decode(IndexableField field) {
 		return field.stringValue();
 	}
 
+	@Override
+	public ProjectionValuesSource<String> createProjectionValuesSource(String absoluteFieldPath) {
+		if ( !( sortable || aggregable ) || analyzerOrNormalizer != AnalyzerConstants.KEYWORD_ANALYZER ) {
+			// No doc values, or doc values hold normalized values that may differ from the original value.
+			return null;
+		}
+		return ProjectionValuesSource.fromTextField( absoluteFieldPath, Function.identity() );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -68,6 +68,12 @@ public ZonedDateTime decode(Long encoded) {
 		return Instant.ofEpochMilli( encoded ).atZone( ZoneOffset.UTC );
 	}
 
+	@Override
+	boolean isDocValueDecodingLossless() {
+		// Doc values only have millisecond precision and lose the time zone.
+		return false;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
@@ -40,4 +40,10 @@ public Long execute(IndexingWorkExecutionContext context) {
 		}
 	}
 
+	@Override
+	public boolean supersedesPreviousWorks() {
+		// Adding a document does not remove previous versions of that document
+		return false;
+	}
+
 }
@@ -9,9 +9,11 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexSnapshot;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public interface LuceneWorkFactory {
@@ -28,6 +30,10 @@ public interface LuceneWorkFactory {
 
 	IndexManagementWork<?> mergeSegments();
 
+	IndexManagementWork<IndexSnapshot> snapshot();
+
+	IndexManagementWork<?> releaseSnapshot(IndexSnapshot snapshot);
+
 	SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry);
 
@@ -40,6 +46,8 @@ SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object
 
 	<R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit);
 
+	<R> ReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize);
+
 	ReadWork<Integer> count(LuceneSearcher<?> searcher);
 
 	ReadWork<Explanation> explain(LuceneSearcher<?> searcher,
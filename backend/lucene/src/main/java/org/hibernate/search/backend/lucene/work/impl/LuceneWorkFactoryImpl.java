@@ -12,12 +12,14 @@
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexSnapshot;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public class LuceneWorkFactoryImpl implements LuceneWorkFactory {
 
@@ -57,6 +59,16 @@ public IndexManagementWork<?> mergeSegments() {
 		return new MergeSegmentsWork();
 	}
 
+	@Override
+	public IndexManagementWork<IndexSnapshot> snapshot() {
+		return new SnapshotWork();
+	}
+
+	@Override
+	public IndexManagementWork<?> releaseSnapshot(IndexSnapshot snapshot) {
+		return new ReleaseSnapshotWork( snapshot );
+	}
+
 	@Override
 	public SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry) {
@@ -98,6 +110,11 @@ public <R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Intege
 		return new SearchWork<>( searcher, offset, limit );
 	}
 
+	@Override
+	public <R> ReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize) {
+		return new ScrollWork<>( searcher, after, chunkSize );
+	}
+
 	@Override
 	public ReadWork<Integer> count(LuceneSearcher<?> searcher) {
 		return new CountWork( searcher );
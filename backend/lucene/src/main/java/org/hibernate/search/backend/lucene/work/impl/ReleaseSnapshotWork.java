@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexSnapshot;
+
+public class ReleaseSnapshotWork implements IndexManagementWork<Void> {
+
+	private final IndexSnapshot snapshot;
+
+	ReleaseSnapshotWork(IndexSnapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[snapshot=" + snapshot + "]";
+	}
+
+	@Override
+	public Void execute(IndexManagementWorkExecutionContext context) {
+		context.getIndexAccessor().releaseSnapshot( snapshot );
+		return null;
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexSnapshot;
+
+public class SnapshotWork implements IndexManagementWork<IndexSnapshot> {
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public IndexSnapshot execute(IndexManagementWorkExecutionContext context) {
+		return context.getIndexAccessor().snapshot();
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+}
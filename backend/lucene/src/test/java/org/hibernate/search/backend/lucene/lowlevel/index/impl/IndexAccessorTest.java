@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.assertj.core.api.Assertions;
 
@@ -132,7 +133,7 @@ public void commitOrDelay_runtimeException() {
 	}
 
 	@Test
-	public void refresh() {
+	public void refresh() throws IOException {
 		resetAll();
 		indexReaderProviderMock.refresh();
 		replayAll();
@@ -141,7 +142,7 @@ public void refresh() {
 	}
 
 	@Test
-	public void refresh_runtimeException() {
+	public void refresh_runtimeException() throws IOException {
 		RuntimeException exception = new RuntimeException( "Some message" );
 
 		resetAll();
@@ -153,6 +154,21 @@ public void refresh_runtimeException() {
 		verifyAll();
 	}
 
+	@Test
+	public void refresh_ioException() throws IOException {
+		IOException exception = new IOException( "Some message" );
+
+		resetAll();
+		indexReaderProviderMock.refresh();
+		expectLastCall().andThrow( exception );
+		replayAll();
+		Assertions.assertThatThrownBy( () -> accessor.refresh() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to refresh" )
+				.hasCause( exception );
+		verifyAll();
+	}
+
 	@Test
 	public void mergeSegments() throws IOException {
 		resetAll();
@@ -69,6 +69,15 @@ <R> IndexIndexingPlan<R> createIndexingPlan(BackendSessionContext sessionContext
 
 	IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionContext);
 
+	/**
+	 * Start rebuilding this index into a new, initially empty index,
+	 * which will replace this index when the rebuild completes.
+	 *
+	 * @return A future that completes when the new index is ready to accept documents.
+	 * @see IndexRebuild
+	 */
+	CompletableFuture<IndexRebuild> startRebuild();
+
 	IndexScopeBuilder createScopeBuilder(BackendMappingContext mappingContext);
 
 	void addTo(IndexScopeBuilder builder);
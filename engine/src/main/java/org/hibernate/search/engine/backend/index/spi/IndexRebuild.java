@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+
+/**
+ * A rebuild of an index into a new, initially empty "shadow" index,
+ * which eventually replaces the original index.
+ * <p>
+ * While the rebuild is in progress, searches still target the original index,
+ * and indexing plans created by the index manager apply changes to both the original index and the shadow index.
+ * <p>
+ * Exactly one of {@link #complete()} or {@link #abort()} must be called once the rebuild is over.
+ */
+public interface IndexRebuild {
+
+	/**
+	 * @param sessionContext The session context.
+	 * @return An indexer targeting the shadow index.
+	 */
+	IndexIndexer createIndexer(BackendSessionContext sessionContext);
+
+	/**
+	 * @param sessionContext The session context.
+	 * @return A workspace targeting the shadow index.
+	 */
+	IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionContext);
+
+	/**
+	 * Replace the original index with the shadow index, atomically from the point of view of searches,
+	 * then drop the original index.
+	 * <p>
+	 * Changes must have been flushed to the shadow index before calling this method.
+	 *
+	 * @return A future that completes when the original index has been replaced.
+	 */
+	CompletableFuture<?> complete();
+
+	/**
+	 * Drop the shadow index, leaving the original index untouched.
+	 *
+	 * @return A future that completes when the shadow index has been dropped.
+	 */
+	CompletableFuture<?> abort();
+
+}
@@ -8,12 +8,17 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -26,6 +31,10 @@
  * <p>
  * Useful when works can be merged together for optimization purposes (bulking in Elasticsearch),
  * or when they should never be executed in parallel (writes to a Lucene index).
+ * <p>
+ * Optionally, works of a batch that are made pointless by later works of the same batch
+ * can be eliminated before the batch is submitted to the processor:
+ * see {@link CoalescableBatchedWork}.
  */
 public final class BatchingExecutor<P extends BatchedWorkProcessor> {
 
@@ -34,6 +43,7 @@
 	private final String name;
 
 	private final FailureHandler failureHandler;
+	private final boolean coalescing;
 
 	private final BlockingQueue<BatchedWork<? super P>> workQueue;
 	private final BatchWorker<P> worker;
@@ -53,10 +63,29 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair, false, failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param coalescing if {@code true}, {@link CoalescableBatchedWork coalescable works}
+	 * superseded by a later work of the same batch will not be submitted to the processor.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair, boolean coalescing,
+			FailureHandler failureHandler) {
 		this.name = name;
 		this.failureHandler = failureHandler;
+		this.coalescing = coalescing;
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch, coalescing );
 	}
 
 	@Override
@@ -65,6 +94,7 @@ public String toString() {
 				+ "name=" + name
 				+ ", queue size=" + workQueue.size()
 				+ ", processing=" + processingTask
+				+ ", coalesced works=" + worker.coalescedWorkCount.sum()
 				+ "]";
 	}
 
@@ -75,10 +105,37 @@ public String toString() {
 	 * @param executorService An executor service with at least one thread.
 	 */
 	public synchronized void start(ExecutorService executorService) {
+		start( new BatchScheduler( executorService ) );
+	}
+
+	/**
+	 * Start the executor, allowing works to be submitted
+	 * through {@link #submit(BatchedWork)},
+	 * and delaying the processing of each batch so that more works can accumulate in the queue.
+	 * <p>
+	 * Mostly useful when {@link #BatchingExecutor(String, BatchedWorkProcessor, int, boolean, boolean, FailureHandler) coalescing}
+	 * is enabled, to give works a chance to be coalesced.
+	 *
+	 * @param executorService An executor service with at least one thread.
+	 * @param batchDelay The delay between the moment a work is submitted to an idle executor
+	 * and the moment the batch containing that work is processed.
+	 * When the queue is full, submitting threads will block until the delay elapses.
+	 * @param unit The unit of {@code batchDelay}.
+	 */
+	public synchronized void start(ScheduledExecutorService executorService, long batchDelay, TimeUnit unit) {
+		if ( batchDelay <= 0 ) {
+			start( executorService );
+		}
+		else {
+			start( new DelayedBatchScheduler( executorService, batchDelay, unit ) );
+		}
+	}
+
+	private void start(SingletonTask.Scheduler scheduler) {
 		log.startingExecutor( name );
 		processingTask = new SingletonTask(
 				name, worker,
-				new BatchScheduler( executorService ),
+				scheduler,
 				failureHandler
 		);
 	}
@@ -90,7 +147,12 @@ public synchronized void start(ExecutorService executorService) {
 	 * This will remove pending works from the queue.
 	 */
 	public synchronized void stop() {
-		log.stoppingExecutor( name );
+		if ( coalescing ) {
+			log.stoppingCoalescingExecutor( name, worker.coalescedWorkCount.sum() );
+		}
+		else {
+			log.stoppingExecutor( name );
+		}
 
 		workQueue.clear();
 
@@ -130,6 +192,15 @@ public CompletableFuture<?> completion() {
 		return processingTask.completion();
 	}
 
+	/**
+	 * @return The number of works that were not submitted to the processor since this executor was created,
+	 * because they were superseded by a later work of the same batch.
+	 * Always zero if coalescing is disabled.
+	 */
+	public long coalescedWorkCount() {
+		return worker.coalescedWorkCount.sum();
+	}
+
 	/**
 	 * Takes a batch of works from the queue and submits them to the processor.
 	 */
@@ -141,14 +212,17 @@ public CompletableFuture<?> completion() {
 		private final BlockingQueue<BatchedWork<? super P>> workQueue;
 		private final int maxTasksPerBatch;
 		private final List<BatchedWork<? super P>> workBuffer;
+		private final Map<Object, CoalescableBatchedWork<?>> supersedingWorks;
+		private final LongAdder coalescedWorkCount = new LongAdder();
 
 		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, boolean coalescing) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.supersedingWorks = coalescing ? new HashMap<>() : null;
 		}
 
 		@Override
@@ -161,15 +235,21 @@ public CompletableFuture<?> work() {
 				return completedFuture;
 			}
 
-			int workCount = workBuffer.size();
+			int coalescedCount = supersedingWorks == null ? 0 : coalesce();
+			int workCount = workBuffer.size() - coalescedCount;
 			boolean debugEnabled = log.isDebugEnabled();
 			if ( debugEnabled ) {
-				log.debugf( "Processing %d works in executor '%s'", workCount, name );
+				log.debugf( "Processing %d works in executor '%s' (%d works eliminated through coalescing)",
+						(Object) workCount, name, coalescedCount );
 			}
 
 			processor.beginBatch();
 
 			for ( BatchedWork<? super P> work : workBuffer ) {
+				if ( work == null ) {
+					// Superseded by a later work
+					continue;
+				}
 				try {
 					work.submitTo( processor );
 				}
@@ -193,6 +273,48 @@ public CompletableFuture<?> work() {
 		public void complete() {
 			processor.complete();
 		}
+
+		/**
+		 * Replaces works superseded by a later work of the same batch with {@code null} in the work buffer.
+		 *
+		 * @return The number of superseded works.
+		 */
+		private int coalesce() {
+			int coalescedCount = 0;
+			try {
+				// Iterate backwards, so that we know about later works when we reach earlier ones
+				for ( int i = workBuffer.size() - 1; i >= 0; i-- ) {
+					BatchedWork<? super P> work = workBuffer.get( i );
+					if ( !( work instanceof CoalescableBatchedWork ) ) {
+						continue;
+					}
+					CoalescableBatchedWork<?> coalescableWork = (CoalescableBatchedWork<?>) work;
+					Object key = coalescableWork.getCoalescingKey();
+					if ( key == null ) {
+						continue;
+					}
+					CoalescableBatchedWork<?> supersedingWork = supersedingWorks.get( key );
+					if ( supersedingWork != null ) {
+						workBuffer.set( i, null );
+						++coalescedCount;
+						try {
+							coalescableWork.markAsSupersededBy( supersedingWork );
+						}
+						catch (Throwable e) {
+							work.markAsFailed( e );
+						}
+					}
+					else if ( coalescableWork.supersedesPreviousWorks() ) {
+						supersedingWorks.put( key, coalescableWork );
+					}
+				}
+			}
+			finally {
+				supersedingWorks.clear();
+			}
+			coalescedWorkCount.add( coalescedCount );
+			return coalescedCount;
+		}
 	}
 
 	private static final class BatchScheduler implements SingletonTask.Scheduler {
@@ -209,4 +331,22 @@ public Future<?> schedule(Runnable runnable) {
 		}
 	}
 
+	private static final class DelayedBatchScheduler implements SingletonTask.Scheduler {
+		private final ScheduledExecutorService delegate;
+		private final long delay;
+		private final TimeUnit unit;
+
+		public DelayedBatchScheduler(ScheduledExecutorService delegate, long delay, TimeUnit unit) {
+			this.delegate = delegate;
+			this.delay = delay;
+			this.unit = unit;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			// Give more works a chance to be submitted before the batch is processed.
+			return delegate.schedule( runnable, delay, unit );
+		}
+	}
+
 }
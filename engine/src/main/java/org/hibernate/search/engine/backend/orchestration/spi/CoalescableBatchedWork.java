@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+/**
+ * A {@link BatchedWork} that can be eliminated from a batch
+ * when a later work in the same batch makes its execution pointless,
+ * e.g. an update of a document followed by another update of the same document.
+ * <p>
+ * Only taken into account by executors with coalescing enabled,
+ * see {@link BatchingExecutor#BatchingExecutor(String, BatchedWorkProcessor, int, boolean, boolean, org.hibernate.search.engine.reporting.FailureHandler)}.
+ *
+ * @param <P> The type of processor this work can be submitted to.
+ *
+ * @see BatchingExecutor
+ */
+public interface CoalescableBatchedWork<P> extends BatchedWork<P> {
+
+	/**
+	 * @return A key identifying the target of this work (typically a document in a given index),
+	 * or {@code null} if this work must never be coalesced.
+	 * Works with equal keys must be submitted to the same executor.
+	 */
+	Object getCoalescingKey();
+
+	/**
+	 * @return {@code true} if this work completely replaces the state of its target,
+	 * making the execution of previous works with the same {@link #getCoalescingKey() key} pointless.
+	 */
+	boolean supersedesPreviousWorks();
+
+	/**
+	 * Marks this work as superseded by a later work:
+	 * this work will not be submitted to the processor,
+	 * and must complete with the outcome of the given work.
+	 *
+	 * @param supersedingWork A later work with the same {@link #getCoalescingKey() key}.
+	 */
+	void markAsSupersededBy(CoalescableBatchedWork<?> supersedingWork);
+
+}
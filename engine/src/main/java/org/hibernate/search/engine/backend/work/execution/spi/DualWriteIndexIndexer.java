@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.work.execution.spi;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.impl.Throwables;
+
+/**
+ * An indexer applying the same works to a "shadow" index being {@link IndexRebuild rebuilt}
+ * and to the original index.
+ * <p>
+ * Each work is executed on the shadow index first, and only then on the original index,
+ * so that any change applied to the original index is guaranteed to have been applied to the shadow index already.
+ * Additions are applied to the original index as updates,
+ * since the original index may be replaced with the content of the shadow index at any time.
+ */
+public final class DualWriteIndexIndexer implements IndexIndexer {
+
+	private final IndexIndexer shadowDelegate;
+	private final IndexIndexer originalDelegate;
+
+	public DualWriteIndexIndexer(IndexIndexer shadowDelegate, IndexIndexer originalDelegate) {
+		this.shadowDelegate = shadowDelegate;
+		this.originalDelegate = originalDelegate;
+	}
+
+	@Override
+	public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider,
+			DocumentContributor documentContributor,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		return shadowThenOriginal(
+				() -> shadowDelegate.add( referenceProvider, documentContributor, commitStrategy, refreshStrategy ),
+				// The original index may already contain the document if its content was replaced concurrently
+				() -> originalDelegate.update( referenceProvider, documentContributor, commitStrategy, refreshStrategy )
+		);
+	}
+
+	@Override
+	public CompletableFuture<?> update(DocumentReferenceProvider referenceProvider,
+			DocumentContributor documentContributor,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		return shadowThenOriginal(
+				() -> shadowDelegate.update( referenceProvider, documentContributor, commitStrategy, refreshStrategy ),
+				() -> originalDelegate.update( referenceProvider, documentContributor, commitStrategy, refreshStrategy )
+		);
+	}
+
+	@Override
+	public CompletableFuture<?> delete(DocumentReferenceProvider referenceProvider,
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		return shadowThenOriginal(
+				() -> shadowDelegate.delete( referenceProvider, commitStrategy, refreshStrategy ),
+				() -> originalDelegate.delete( referenceProvider, commitStrategy, refreshStrategy )
+		);
+	}
+
+	private static CompletableFuture<?> shadowThenOriginal(Supplier<CompletableFuture<?>> shadowWork,
+			Supplier<CompletableFuture<?>> originalWork) {
+		CompletableFuture<?> shadowFuture;
+		try {
+			shadowFuture = shadowWork.get();
+		}
+		catch (RuntimeException e) {
+			CompletableFuture<?> failedFuture = new CompletableFuture<>();
+			failedFuture.completeExceptionally( e );
+			shadowFuture = failedFuture;
+		}
+		// Apply the work to the original index even if it failed on the shadow index
+		return shadowFuture.handle( (ignored, throwable) -> throwable )
+				.thenCompose( shadowThrowable -> originalWork.get().thenApply( result -> {
+					if ( shadowThrowable != null ) {
+						throw Throwables.toRuntimeException( shadowThrowable );
+					}
+					return result;
+				} ) );
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.work.execution.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * An indexing plan applying the same works to a "shadow" index being {@link IndexRebuild rebuilt}
+ * and to the original index.
+ * <p>
+ * Works are executed on the shadow index first, and only then on the original index,
+ * so that any change applied to the original index is guaranteed to have been applied to the shadow index already.
+ * Additions are applied to the original index as updates,
+ * since the original index may be replaced with the content of the shadow index at any time.
+ *
+ * @param <R> The type of entity references in the {@link #executeAndReport() execution report}.
+ */
+public final class DualWriteIndexIndexingPlan<R> implements IndexIndexingPlan<R> {
+
+	private final IndexIndexingPlan<R> shadowDelegate;
+	private final IndexIndexingPlan<R> originalDelegate;
+
+	public DualWriteIndexIndexingPlan(IndexIndexingPlan<R> shadowDelegate, IndexIndexingPlan<R> originalDelegate) {
+		this.shadowDelegate = shadowDelegate;
+		this.originalDelegate = originalDelegate;
+	}
+
+	@Override
+	public void add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor) {
+		shadowDelegate.add( documentReferenceProvider, documentContributor );
+		// The original index may already contain the document if its content was replaced concurrently
+		originalDelegate.update( documentReferenceProvider, documentContributor );
+	}
+
+	@Override
+	public void update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor) {
+		shadowDelegate.update( documentReferenceProvider, documentContributor );
+		originalDelegate.update( documentReferenceProvider, documentContributor );
+	}
+
+	@Override
+	public void delete(DocumentReferenceProvider documentReferenceProvider) {
+		shadowDelegate.delete( documentReferenceProvider );
+		originalDelegate.delete( documentReferenceProvider );
+	}
+
+	@Override
+	public void process() {
+		shadowDelegate.process();
+		originalDelegate.process();
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport() {
+		// Apply the works to the original index even if they failed on the shadow index
+		return Futures.create( shadowDelegate::executeAndReport )
+				.handle( Futures.handler( (shadowReport, throwable) -> throwable == null ? shadowReport
+						: IndexIndexingPlanExecutionReport.<R>builder().throwable( throwable ).build() ) )
+				.thenCompose( shadowReport -> originalDelegate.executeAndReport()
+						.thenApply( originalReport -> merge( originalReport, shadowReport ) ) );
+	}
+
+	@Override
+	public void discard() {
+		shadowDelegate.discard();
+		originalDelegate.discard();
+	}
+
+	private static <R> IndexIndexingPlanExecutionReport<R> merge(IndexIndexingPlanExecutionReport<R> originalReport,
+			IndexIndexingPlanExecutionReport<R> shadowReport) {
+		IndexIndexingPlanExecutionReport.Builder<R> builder = IndexIndexingPlanExecutionReport.builder();
+		builder.add( originalReport );
+		shadowReport.throwable().ifPresent( builder::throwable );
+		for ( R failingEntityReference : shadowReport.failingEntityReferences() ) {
+			// The same entity will generally fail in both indexes: avoid reporting it twice
+			if ( !originalReport.failingEntityReferences().contains( failingEntityReference ) ) {
+				builder.failingEntityReference( failingEntityReference );
+			}
+		}
+		return builder.build();
+	}
+}
@@ -8,6 +8,8 @@
 
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Default implementation of {@code ClassResolver} relying on an {@link AggregatedClassLoader}.
@@ -38,6 +40,18 @@ public URL locateResource(String name) {
 		return null;
 	}
 
+	@Override
+	public List<URL> locateResources(String name) {
+		try {
+			return Collections.list( aggregatedClassLoader.getResources( name ) );
+		}
+		catch (Exception ignore) {
+			// Ignore
+		}
+
+		return Collections.emptyList();
+	}
+
 	@Override
 	public InputStream locateResourceStream(String name) {
 		try {
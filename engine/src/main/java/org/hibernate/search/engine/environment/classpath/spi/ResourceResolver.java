@@ -8,6 +8,8 @@
 
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * A resolver of Java resources.
@@ -34,4 +36,16 @@ public interface ResourceResolver {
 	 * @return The stream of the located resource; may return {@code null} to indicate the resource was not found
 	 */
 	InputStream locateResourceStream(String name);
+
+	/**
+	 * Locate all resources with a given name (classpath lookup).
+	 *
+	 * @param name The resource name.
+	 *
+	 * @return The located URLs; may be empty to indicate no resource was found.
+	 */
+	default List<URL> locateResources(String name) {
+		URL url = locateResource( name );
+		return url == null ? Collections.emptyList() : Collections.singletonList( url );
+	}
 }
@@ -67,6 +67,19 @@ public ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefi
 		);
 	}
 
+	@Override
+	public ThreadPoolExecutor newNonBlockingFixedThreadPool(int threads, String threadNamePrefix, int queueSize) {
+		return new ThreadPoolExecutor(
+				threads,
+				threads,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>( queueSize ),
+				threadProviderHolder.get().createThreadFactory( threadNamePrefix ),
+				new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
 	@Override
 	public ScheduledExecutorService newScheduledExecutor(int threads, String threadNamePrefix) {
 		ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(
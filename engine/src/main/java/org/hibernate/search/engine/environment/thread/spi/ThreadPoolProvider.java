@@ -45,6 +45,22 @@ public interface ThreadPoolProvider {
 	 */
 	ThreadPoolExecutor newFixedThreadPool(int threads, String threadNamePrefix, int queueSize);
 
+	/**
+	 * Creates a new fixed size {@link ThreadPoolExecutor} that never blocks the submitting thread.
+	 * <p>
+	 * It's using a blocking queue of maximum {@code queueSize} elements,
+	 * and the rejection policy is set to throw a {@link java.util.concurrent.RejectedExecutionException}
+	 * when the queue is full.
+	 * This is required when tasks are submitted from threads that must never block,
+	 * e.g. threads completing futures on behalf of an I/O client.
+	 *
+	 * @param threads the number of threads
+	 * @param threadNamePrefix a label to identify the threads; useful for profiling.
+	 * @param queueSize the size of the queue to store Runnables when all threads are busy
+	 * @return the new ExecutorService
+	 */
+	ThreadPoolExecutor newNonBlockingFixedThreadPool(int threads, String threadNamePrefix, int queueSize);
+
 	/**
 	 * Creates a new fixed size {@link ScheduledExecutorService}.
 	 * <p>
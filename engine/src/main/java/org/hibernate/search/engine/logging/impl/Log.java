@@ -308,4 +308,19 @@ SearchException fieldTemplateNameCannotContainDot(String relativeFieldName,
 					+ " Obsolete properties: %1$s.")
 	SearchException obsoleteConfigurationPropertiesFromSearch5(Set<String> propertyKeys);
 
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "Unable to provide the exact total hit count: only a lower bound is known (%1$s)."
+					+ " Use hitCountLowerBound() instead of hitCount(),"
+					+ " or remove the total hit count threshold from the query.")
+	SearchException notExactTotalHitCount(long hitCountLowerBound);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "Stopping executor '%1$s': %2$d works were eliminated through coalescing since it started.")
+	void stoppingCoalescingExecutor(String name, long coalescedWorkCount);
+
+	@Message(id = ID_OFFSET_2 + 76,
+			value = "Invalid total hit count threshold: '%1$s'. The threshold must be positive or zero.")
+	SearchException invalidTotalHitCountThreshold(long totalHitCountThreshold);
+
 }
@@ -6,11 +6,14 @@
  */
 package org.hibernate.search.engine.mapper.mapping.impl;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
@@ -67,6 +70,11 @@ public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionConte
 		return implementor.createWorkspace( sessionContext );
 	}
 
+	@Override
+	public CompletableFuture<IndexRebuild> startRebuild() {
+		return implementor.startRebuild();
+	}
+
 	@Override
 	public <R, E> MappedIndexScopeBuilder<R, E> createScopeBuilder(BackendMappingContext mappingContext) {
 		return new MappedIndexScopeBuilderImpl<>(
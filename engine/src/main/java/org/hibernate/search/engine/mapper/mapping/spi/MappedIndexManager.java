@@ -6,10 +6,13 @@
  */
 package org.hibernate.search.engine.mapper.mapping.spi;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
@@ -38,6 +41,8 @@ <R> IndexIndexingPlan<R> createIndexingPlan(BackendSessionContext sessionContext
 
 	IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionContext);
 
+	CompletableFuture<IndexRebuild> startRebuild();
+
 	<R, E> MappedIndexScopeBuilder<R, E> createScopeBuilder(BackendMappingContext mappingContext);
 
 	void addTo(MappedIndexScopeBuilder<?, ?> builder);
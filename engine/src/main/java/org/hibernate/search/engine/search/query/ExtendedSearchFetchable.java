@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.concurrent.CompletionStage;
+
 /**
  * A base interface for subtypes of {@link SearchFetchable} allowing to
  * easily override the result type for all relevant methods.
@@ -24,4 +26,10 @@
 	@Override
 	R fetchAll();
 
+	@Override
+	CompletionStage<R> fetchAsync(Integer limit);
+
+	@Override
+	CompletionStage<R> fetchAsync(Integer offset, Integer limit);
+
 }
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -140,4 +141,84 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query continuously to deliver results in small chunks through a {@link SearchScroll}.
+	 * <p>
+	 * Useful to process large result sets without holding all hits in memory at once,
+	 * and without paying the cost of deep pagination with {@link #fetch(Integer, Integer)}.
+	 * <p>
+	 * The returned scroll must be {@link SearchScroll#close() closed} once no longer needed.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link SearchScroll#next()}.
+	 * @return The {@link SearchScroll}.
+	 * @throws SearchException If something goes wrong while executing the query.
+	 */
+	SearchScroll<H> scroll(int chunkSize);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the {@link SearchResult},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * The calling thread does not wait for the query to execute:
+	 * the returned stage completes once the query was executed and the hits were loaded.
+	 * Mapper sessions (e.g. the Hibernate ORM session) must not be used by other threads until then,
+	 * since entities may be loaded from a backend thread.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} of the {@link SearchResult}.
+	 * If something goes wrong while executing the query or loading entities,
+	 * the stage will complete exceptionally with the same exceptions as {@link #fetch(Integer)}.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} of the {@link SearchResult}.
+	 * If something goes wrong while executing the query or loading entities,
+	 * the stage will complete exceptionally with the same exceptions as {@link #fetch(Integer, Integer)}.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the hits as a {@link List},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned by this method. {@code null} means no limit.
+	 * @return A {@link CompletionStage} of the query hits.
+	 * If something goes wrong while executing the query or loading entities,
+	 * the stage will complete exceptionally with the same exceptions as {@link #fetchHits(Integer)}.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the hits as a {@link List},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned by this method. {@code null} means no limit.
+	 * @return A {@link CompletionStage} of the query hits.
+	 * If something goes wrong while executing the query or loading entities,
+	 * the stage will complete exceptionally with the same exceptions as {@link #fetchHits(Integer, Integer)}.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the total hit count.
+	 *
+	 * @return A {@link CompletionStage} of the total number of matching entities, ignoring pagination settings.
+	 * If something goes wrong while executing the query,
+	 * the stage will complete exceptionally with the same exceptions as {@link #fetchTotalHitCount()}.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 }
@@ -18,9 +18,17 @@
 
 	/**
 	 * @return The total number of matching entities, ignoring pagination settings.
+	 * If a {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long) total hit count threshold}
+	 * was set and exceeded, this is only a lower bound: see {@link #total()}.
 	 */
 	long totalHitCount();
 
+	/**
+	 * @return The total number of matching entities, ignoring pagination settings,
+	 * along with information about whether this number is exact or just a lower bound.
+	 */
+	SearchResultTotal total();
+
 	/**
 	 * @return The total number of matching entities, ignoring pagination settings.
 	 * @deprecated Use {@link #totalHitCount()} instead.
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * The total number of hits of a search query, which may be exact or only a lower bound.
+ * <p>
+ * The total hit count is only a lower bound when a
+ * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long) total hit count threshold}
+ * was set on the query and the number of matching documents exceeded that threshold.
+ */
+public interface SearchResultTotal {
+
+	/**
+	 * @return {@code true} if the hit count is exact, i.e. {@link #hitCount()} can be called safely.
+	 */
+	boolean isHitCountExact();
+
+	/**
+	 * @return {@code true} if the hit count is only a lower bound, i.e. {@link #hitCount()} will throw an exception.
+	 */
+	boolean isHitCountLowerBound();
+
+	/**
+	 * @return The exact total number of matching entities, ignoring pagination settings.
+	 * @throws org.hibernate.search.util.common.SearchException If the hit count is not exact,
+	 * see {@link #isHitCountExact()}.
+	 */
+	long hitCount();
+
+	/**
+	 * @return A lower bound of the total number of matching entities, ignoring pagination settings.
+	 * If the hit count is exact, this is equal to {@link #hitCount()}.
+	 */
+	long hitCountLowerBound();
+
+}
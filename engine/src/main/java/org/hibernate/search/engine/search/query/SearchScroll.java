@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+
+/**
+ * An ongoing scroll through search results, fetching hits in successive chunks of bounded size.
+ * <p>
+ * Scrolls hold resources (an index reader, a server-side context, ...)
+ * and must be {@link #close() closed} once no longer needed.
+ *
+ * @param <H> The type of query hits.
+ */
+public interface SearchScroll<H> extends AutoCloseable {
+
+	/**
+	 * Release the resources held by this scroll.
+	 * <p>
+	 * Calling {@link #next()} after this method was called will lead to an exception.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Fetch the next chunk of hits.
+	 *
+	 * @return The next {@link SearchScrollResult}.
+	 * Once all hits have been fetched, the returned result will not contain any hit:
+	 * {@link SearchScrollResult#hasHits()} will return {@code false}.
+	 * If a {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#truncateAfter(long, TimeUnit) truncation timeout was set}
+	 * and was reached while fetching a chunk, {@link SearchScrollResult#timedOut()} will return {@code true}
+	 * and the scroll may end early: subsequent chunks may not contain any hit.
+	 * @throws SearchException If something goes wrong while executing the query,
+	 * or if this scroll was closed.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while fetching the chunk.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	SearchScrollResult<H> next();
+
+}
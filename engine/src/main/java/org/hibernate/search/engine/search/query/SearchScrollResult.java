@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * One chunk of hits returned by {@link SearchScroll#next()}.
+ *
+ * @param <H> The type of hits.
+ */
+public interface SearchScrollResult<H> {
+
+	/**
+	 * @return {@code true} if this chunk matched at least one document,
+	 * {@code false} if the scroll is exhausted and there are no more hits to fetch.
+	 * Note that {@link #hits()} may still be empty even when this returns {@code true},
+	 * for instance if the matching entities could not be loaded because they were deleted in the meantime.
+	 */
+	boolean hasHits();
+
+	/**
+	 * @return The hits of this chunk as a {@link List} containing one element for each matched entity.
+	 */
+	List<H> hits();
+
+	/**
+	 * @return The total number of matching entities, ignoring pagination settings.
+	 */
+	long totalHitCount();
+
+	/**
+	 * @return the time taken to fetch this chunk, as a {@link Duration}
+	 */
+	Duration took();
+
+	/**
+	 * @return whether or not a timeout occurred while fetching this chunk.
+	 */
+	boolean timedOut();
+
+}
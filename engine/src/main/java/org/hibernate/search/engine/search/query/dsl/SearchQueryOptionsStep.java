@@ -92,6 +92,23 @@
 	 */
 	S failAfter(long timeout, TimeUnit timeUnit);
 
+	/**
+	 * Allow the backend to stop counting hits once a given number of hits has been reached.
+	 * <p>
+	 * By default, the total hit count is always exact,
+	 * which requires the backend to visit every single matching document.
+	 * Setting a threshold allows the backend to skip non-competitive documents
+	 * once the threshold is reached, which can dramatically speed up queries matching many documents,
+	 * at the cost of only returning a {@link org.hibernate.search.engine.search.query.SearchResultTotal#hitCountLowerBound() lower bound}
+	 * of the total hit count in {@link SearchResult#total()}.
+	 *
+	 * @param totalHitCountThreshold The number of hits above which the total hit count may be a lower bound.
+	 * Must be positive or zero.
+	 * @return {@code this}, for method chaining.
+	 * @throws org.hibernate.search.util.common.SearchException If the threshold is negative.
+	 */
+	S totalHitCountThreshold(long totalHitCountThreshold);
+
 	/**
 	 * Configure entity loading for this query.
 	 * @param loadingOptionsContributor A consumer that will alter the loading options passed in parameter.
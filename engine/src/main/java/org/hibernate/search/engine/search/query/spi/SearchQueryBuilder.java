@@ -26,6 +26,8 @@
 
 	void failAfter(long timeout, TimeUnit timeUnit);
 
+	void totalHitCountThreshold(long totalHitCountThreshold);
+
 	SearchQuery<H> build();
 
 }
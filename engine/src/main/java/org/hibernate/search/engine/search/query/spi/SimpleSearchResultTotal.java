@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public final class SimpleSearchResultTotal implements SearchResultTotal {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static SimpleSearchResultTotal exact(long hitCount) {
+		return new SimpleSearchResultTotal( hitCount, true );
+	}
+
+	public static SimpleSearchResultTotal lowerBound(long hitCountLowerBound) {
+		return new SimpleSearchResultTotal( hitCountLowerBound, false );
+	}
+
+	public static SimpleSearchResultTotal of(long hitCount, boolean exact) {
+		return new SimpleSearchResultTotal( hitCount, exact );
+	}
+
+	private final long hitCount;
+	private final boolean exact;
+
+	private SimpleSearchResultTotal(long hitCount, boolean exact) {
+		this.hitCount = hitCount;
+		this.exact = exact;
+	}
+
+	@Override
+	public String toString() {
+		return exact ? String.valueOf( hitCount ) : ">=" + hitCount;
+	}
+
+	@Override
+	public boolean isHitCountExact() {
+		return exact;
+	}
+
+	@Override
+	public boolean isHitCountLowerBound() {
+		return !exact;
+	}
+
+	@Override
+	public long hitCount() {
+		if ( !exact ) {
+			throw log.notExactTotalHitCount( hitCount );
+		}
+		return hitCount;
+	}
+
+	@Override
+	public long hitCountLowerBound() {
+		return hitCount;
+	}
+}
@@ -288,6 +288,98 @@ public void endBatchFailure() throws InterruptedException {
 		checkPostExecution();
 	}
 
+	@Test
+	public void coalescing() throws InterruptedException {
+		createAndStartExecutor( 5, true, true );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubCoalescableWork work1Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work2Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work3Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work4Mock = createMock( StubCoalescableWork.class );
+		StubWork work5Mock = createMock( StubWork.class );
+		resetAll();
+		replayAll();
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		executor.submit( work3Mock );
+		executor.submit( work4Mock );
+		executor.submit( work5Mock );
+		verifyAll();
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		resetAll();
+		expectCoalescableWork( work1Mock, "A", true );
+		expectCoalescableWork( work2Mock, "B", true );
+		expectCoalescableWork( work3Mock, "A", true );
+		expectCoalescableWork( work4Mock, null, true );
+		processorMock.beginBatch();
+		// Work 1 is superseded by work 3: it should not be submitted to the processor
+		work1Mock.markAsSupersededBy( work3Mock );
+		work2Mock.submitTo( processorMock );
+		work3Mock.submitTo( processorMock );
+		// Works without a coalescing key should never be coalesced
+		work4Mock.submitTo( processorMock );
+		work5Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		// Since the queue is empty, works should be considered complete.
+		processorMock.complete();
+		completionListenerAfterSubmit.onComplete();
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+
+		assertThat( executor.coalescedWorkCount() ).isEqualTo( 1L );
+
+		checkPostExecution();
+	}
+
+	@Test
+	public void coalescing_notSuperseding() throws InterruptedException {
+		createAndStartExecutor( 4, true, true );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubCoalescableWork work1Mock = createMock( StubCoalescableWork.class );
+		StubCoalescableWork work2Mock = createMock( StubCoalescableWork.class );
+		resetAll();
+		replayAll();
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		verifyAll();
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		resetAll();
+		expectCoalescableWork( work1Mock, "A", true );
+		expectCoalescableWork( work2Mock, "A", false );
+		processorMock.beginBatch();
+		// Work 2 does not supersede work 1: both should be submitted to the processor
+		work1Mock.submitTo( processorMock );
+		work2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		// Since the queue is empty, works should be considered complete.
+		processorMock.complete();
+		completionListenerAfterSubmit.onComplete();
+		replayAll();
+		unblockExecutorSwitch.run();
+		verifyAllAsynchronously();
+
+		assertThat( executor.coalescedWorkCount() ).isZero();
+
+		checkPostExecution();
+	}
+
+	private void expectCoalescableWork(StubCoalescableWork workMock, String coalescingKey,
+			boolean supersedesPreviousWorks) {
+		expect( workMock.getCoalescingKey() ).andStubReturn( coalescingKey );
+		expect( workMock.supersedesPreviousWorks() ).andStubReturn( supersedesPreviousWorks );
+	}
+
 	private void verifyAllAsynchronously() {
 		await().untilAsserted( () -> {
 			// Synchronize on the processor, like in the batching executor,
@@ -318,8 +410,12 @@ private Runnable blockExecutor()
 	}
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
+		createAndStartExecutor( maxTasksPerBatch, fair, false );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, boolean coalescing) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock
+				NAME, processorMock, maxTasksPerBatch, fair, coalescing, failureHandlerMock
 		);
 
 		// Having multiple threads should not matter:
@@ -383,6 +479,9 @@ private void checkPostExecution() throws InterruptedException {
 	private interface StubWork extends BatchedWork<StubWorkProcessor> {
 	}
 
+	private interface StubCoalescableWork extends CoalescableBatchedWork<StubWorkProcessor> {
+	}
+
 	private interface StubWorkProcessor extends BatchedWorkProcessor {
 	}
 
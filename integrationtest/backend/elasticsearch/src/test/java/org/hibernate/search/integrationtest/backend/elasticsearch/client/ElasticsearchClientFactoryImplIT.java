@@ -214,6 +214,30 @@ public void unparseable() throws Exception {
 				) );
 	}
 
+	@Test
+	public void unparseable_streamedResponse() throws Exception {
+		String payload = "{ \"foo\": \"bar\" }";
+		wireMockRule1.stubFor( post( urlPathMatching( "/myIndex/myType" ) )
+				.withRequestBody( equalToJson( payload ) )
+				.willReturn(
+						elasticsearchResponse()
+						.withBody( "'unparseable" )
+				) );
+
+		try ( ElasticsearchClientImplementor client = createClient() ) {
+			// Streamed responses are only parsed when read
+			ElasticsearchResponse result = client.submit(
+					buildRequest( ElasticsearchRequest.post().streamedResponse(), "/myIndex/myType", payload )
+			).join();
+			assertThatThrownBy( result::body )
+					.is( matching( isException( SearchException.class )
+									.withMessage( "HSEARCH400089" )
+							.causedBy( JsonSyntaxException.class )
+							.build()
+					) );
+		}
+	}
+
 	@Test
 	public void timeout_read() throws Exception {
 		String payload = "{ \"foo\": \"bar\" }";
@@ -9,6 +9,9 @@
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
 import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
 
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
@@ -19,6 +22,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.configuration.StubSingleIndexLayoutStrategy;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
@@ -143,6 +147,30 @@ public void routing() {
 		query.fetchAll();
 	}
 
+	@Test
+	public void scrollTimeout() {
+		StubMappingScope scope = index.createScope();
+
+		SearchQuery<?> query = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.scrollTimeout( 30, TimeUnit.SECONDS )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( readAlias )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "scroll", "30000ms" )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		try ( SearchScroll<?> scroll = query.scroll( 10 ) ) {
+			scroll.next();
+		}
+	}
+
 	@SuppressWarnings("unused")
 	private static class IndexBinding {
 		final IndexFieldReference<Integer> integer;
@@ -105,6 +105,12 @@ public boolean sortByFieldValue(TestedFieldStructure fieldStructure, Class<?> fi
 		}
 	}
 
+	@Override
+	public boolean supportsTotalHitCountThreshold() {
+		// "track_total_hits" was only introduced in Elasticsearch 7: total hits are always exact before that.
+		return dialect.supportsTotalHitCountThreshold();
+	}
+
 	@Override
 	public boolean supportsValuesForDynamicField(Class<?> javaType) {
 		if ( BigInteger.class.equals( javaType ) ) {
@@ -0,0 +1,248 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test backing up a Lucene index while it is in use, then restoring it on startup.
+ */
+public class LuceneIndexBackupIT {
+
+	private static final int SHARD_COUNT = 3;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private Path directoryRoot;
+	private Path backupRoot;
+
+	@Before
+	public void initDirectories() throws IOException {
+		directoryRoot = temporaryFolder.newFolder( "indexes" ).toPath();
+		backupRoot = temporaryFolder.getRoot().toPath().resolve( "backups" );
+	}
+
+	@Test
+	public void backupThenRestore() throws IOException {
+		SearchIntegration integration = setup( null, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+
+		backup();
+
+		// Changes after the backup are not part of the backup
+		index.index( "4", document -> document.addValue( index.binding().text, "after backup" ) );
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3", "4" );
+
+		integration.close();
+		deleteRecursively( directoryRoot.resolve( index.name() ) );
+
+		setup( backupRoot, StubMappingSchemaManagementStrategy.NONE );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3" );
+
+		// The restored index can be written to
+		index.index( "5", document -> document.addValue( index.binding().text, "after restore" ) );
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3", "5" );
+	}
+
+	@Test
+	public void incrementalBackup() throws IOException {
+		SearchIntegration integration = setup( null, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+
+		backup();
+		index.index( "4", document -> document.addValue( index.binding().text, "after first backup" ) );
+		backup();
+
+		integration.close();
+		deleteRecursively( directoryRoot.resolve( index.name() ) );
+
+		setup( backupRoot, StubMappingSchemaManagementStrategy.NONE );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3", "4" );
+	}
+
+	@Test
+	public void backup_afterDrop_failure() throws IOException {
+		SearchIntegration integration = setup( null, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+
+		backup();
+
+		// Dropping the index resets segment names: the next backup will contain files
+		// with the same names as those of the previous backup, but with different content.
+		index.schemaManager().dropAndCreate().join();
+		index.bulkIndexer()
+				.add( "4", document -> document.addValue( index.binding().text, "after drop" ) )
+				.add( "5", document -> document.addValue( index.binding().text, "after drop" ) )
+				.join();
+
+		// Regular files where the next backups should be renamed to once complete: the next backup will fail
+		List<Path> blockingFiles = new ArrayList<>();
+		for ( int i = 0; i < SHARD_COUNT; i++ ) {
+			blockingFiles.add( Files.createFile( backupRoot.resolve( index.name() ).resolve( String.valueOf( i ) )
+					.resolve( "commit-1" ) ) );
+		}
+		assertThatThrownBy( this::backup )
+				.isInstanceOf( CompletionException.class )
+				.hasMessageContaining( "Unable to back up the index to" );
+
+		integration.close();
+		deleteRecursively( directoryRoot.resolve( index.name() ) );
+
+		integration = setup( backupRoot, StubMappingSchemaManagementStrategy.NONE );
+
+		// The failed backup must not have affected the previous one
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3" );
+
+		index.schemaManager().dropAndCreate().join();
+		index.bulkIndexer()
+				.add( "4", document -> document.addValue( index.binding().text, "after drop" ) )
+				.add( "5", document -> document.addValue( index.binding().text, "after drop" ) )
+				.join();
+		for ( Path blockingFile : blockingFiles ) {
+			Files.delete( blockingFile );
+		}
+		backup();
+
+		integration.close();
+		deleteRecursively( directoryRoot.resolve( index.name() ) );
+
+		setup( backupRoot, StubMappingSchemaManagementStrategy.NONE );
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "4", "5" );
+	}
+
+	@Test
+	public void backup_unwritableTarget() throws IOException {
+		setup( null, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+
+		// A regular file where the backup directory should be created: the backup cannot be written
+		Files.createFile( backupRoot );
+
+		assertThatThrownBy( this::backup )
+				.isInstanceOf( CompletionException.class )
+				.hasMessageContaining( "Unable to back up the index to" );
+
+		// The failure only affected the backup: the index can still be written to and searched
+		index.index( "4", document -> document.addValue( index.binding().text, "after failed backup" ) );
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3", "4" );
+
+		// ... and backed up to a writable target
+		Files.delete( backupRoot );
+		backup();
+		assertThat( backupRoot ).isDirectory();
+	}
+
+	@Test
+	public void restore_existingIndex() throws IOException {
+		SearchIntegration integration = setup( null, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+
+		backup();
+		index.index( "4", document -> document.addValue( index.binding().text, "after backup" ) );
+
+		integration.close();
+
+		setup( backupRoot, StubMappingSchemaManagementStrategy.NONE );
+
+		// The existing index must not be overwritten
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3", "4" );
+	}
+
+	@Test
+	public void restore_missingBackup() {
+		setup( backupRoot, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+
+		assertThat( backupRoot ).doesNotExist();
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasNoHits();
+	}
+
+	private SearchIntegration setup(Path restoreRoot, StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
+				.withIndex( index )
+				// Do not drop indexes on shutdown, so that they survive restarts
+				.withSchemaManagement( schemaManagementStrategy )
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_ROOT, directoryRoot.toString() )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT );
+		if ( restoreRoot != null ) {
+			setupContext = setupContext.withBackendProperty( LuceneBackendSettings.DIRECTORY_RESTORE_FROM,
+					restoreRoot.toString() );
+		}
+		return setupContext.setup();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( "1", document -> document.addValue( index.binding().text, "before backup" ) )
+				.add( "2", document -> document.addValue( index.binding().text, "before backup" ) )
+				.add( "3", document -> document.addValue( index.binding().text, "before backup" ) )
+				.join();
+	}
+
+	private void backup() {
+		index.toApi().unwrap( LuceneIndexManager.class ).backup( backupRoot ).join();
+	}
+
+	private static void deleteRecursively(Path path) throws IOException {
+		try ( Stream<Path> paths = Files.walk( path ) ) {
+			paths.sorted( Comparator.reverseOrder() ).forEach( p -> p.toFile().delete() );
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
+import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubEntityReference;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test rebuilding a Lucene index into separate shards, then replacing the content of the original index.
+ */
+public class LuceneIndexRebuildIT {
+
+	private static final int SHARD_COUNT = 3;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex( index )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.setup();
+
+		index.bulkIndexer()
+				.add( "1", document -> document.addValue( index.binding().text, "original" ) )
+				.add( "2", document -> document.addValue( index.binding().text, "original" ) )
+				.add( "3", document -> document.addValue( index.binding().text, "original" ) )
+				.join();
+	}
+
+	@Test
+	public void complete() {
+		IndexRebuild rebuild = index.startRebuild();
+
+		IndexIndexer indexer = rebuild.createIndexer( new StubBackendSessionContext() );
+		indexer.add( referenceProvider( "2" ), document -> document.addValue( index.binding().text, "rebuilt" ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE ).join();
+		indexer.add( referenceProvider( "4" ), document -> document.addValue( index.binding().text, "rebuilt" ),
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE ).join();
+
+		// Changes to the original index are also applied to the rebuilt index
+		IndexIndexingPlan<StubEntityReference> plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "5" ), document -> document.addValue( index.binding().text, "concurrent" ) );
+		plan.execute().join();
+
+		IndexWorkspace workspace = rebuild.createWorkspace( DetachedBackendSessionContext.of( new StubBackendSessionContext() ) );
+		workspace.flush().join();
+		workspace.refresh().join();
+
+		// The original index is still used for searches
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3", "5" );
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "rebuilt" ) ).toQuery() )
+				.hasNoHits();
+
+		rebuild.complete().join();
+
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "2", "4", "5" );
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "rebuilt" ) ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "2", "4" );
+
+		// The index can still be written to after the rebuild
+		index.index( "6", document -> document.addValue( index.binding().text, "after" ) );
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "2", "4", "5", "6" );
+
+		// Another rebuild can be started
+		index.startRebuild().abort().join();
+	}
+
+	@Test
+	public void abort() {
+		IndexRebuild rebuild = index.startRebuild();
+
+		rebuild.createIndexer( new StubBackendSessionContext() )
+				.add( referenceProvider( "4" ), document -> document.addValue( index.binding().text, "rebuilt" ),
+						DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.join();
+
+		rebuild.abort().join();
+
+		// The original index is left untouched
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3" );
+
+		// Changes are no longer applied to the aborted rebuild
+		index.index( "5", document -> document.addValue( index.binding().text, "after" ) );
+		assertThatQuery( index.query().where( f -> f.matchAll() ).toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2", "3", "5" );
+	}
+
+	@Test
+	public void alreadyInProgress() {
+		IndexRebuild rebuild = index.startRebuild();
+
+		assertThatThrownBy( index::startRebuild )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to rebuild index '" + index.name() + "'",
+						"another rebuild of this index is already in progress" );
+
+		rebuild.abort().join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderWarmer;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexReader;
+import org.awaitility.Awaitility;
+
+public class LuceneIndexReaderWarmerIT {
+
+	/*
+	 * Pick a value that is:
+	 * - large enough that test code executes faster than this number of milliseconds, even on slow machines
+	 * - small enough that Awaitility.await does not give up before this number of milliseconds
+	 */
+	private static final int NON_ZERO_DELAY = 2000;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final RecordingWarmer warmer = new RecordingWarmer();
+
+	@Test
+	public void refreshIntervalZero_warmUpBeforeQuery() {
+		setup( 0 );
+
+		SearchQuery<DocumentReference> query = createQuery();
+
+		assertThatQuery( query ).hasNoHits();
+		assertThat( warmer.warmUps ).hasSize( 1 );
+		assertThat( warmer.warmUps.get( 0 ).previousReader ).isNull();
+
+		index( DocumentRefreshStrategy.NONE );
+		// No query since the last write: no warm-up.
+		assertThat( warmer.warmUps ).hasSize( 1 );
+
+		// The query triggers a refresh, and thus a warm-up, before it is executed.
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+		assertThat( warmer.warmUps ).hasSize( 2 );
+		assertThat( warmer.warmUps.get( 1 ).previousReader ).isSameAs( warmer.warmUps.get( 0 ).reader );
+	}
+
+	@Test
+	public void refreshStrategyForce_warmUpInWriteThread() {
+		setup( NON_ZERO_DELAY );
+
+		SearchQuery<DocumentReference> query = createQuery();
+
+		assertThatQuery( query ).hasNoHits();
+		assertThat( warmer.warmUps ).hasSize( 1 );
+
+		index( DocumentRefreshStrategy.FORCE );
+		// The forced refresh happened before the end of indexing.
+		assertThat( warmer.warmUps ).hasSize( 2 );
+		assertThat( warmer.warmUps.get( 1 ).threadName ).isNotEqualTo( Thread.currentThread().getName() );
+
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+		assertThat( warmer.warmUps ).hasSize( 2 );
+	}
+
+	@Test
+	public void refreshIntervalPositive_warmUpInBackground() {
+		setup( NON_ZERO_DELAY );
+
+		SearchQuery<DocumentReference> query = createQuery();
+
+		assertThatQuery( query ).hasNoHits();
+		assertThat( warmer.warmUps ).hasSize( 1 );
+
+		index( DocumentRefreshStrategy.NONE );
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasNoHits();
+
+		// ... but they should be refreshed and warmed up in the background after some time, without any query.
+		Awaitility.await().untilAsserted( () -> assertThat( warmer.warmUps ).hasSize( 2 ) );
+		// Background refreshes have their own thread, and do not use the write threads.
+		assertThat( warmer.warmUps.get( 1 ).threadName ).contains( "Refresh thread" );
+
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+		assertThat( warmer.warmUps ).hasSize( 2 );
+	}
+
+	@Test
+	public void refreshIntervalPositive_queriesDoNotWaitForWarmUp() {
+		setup( NON_ZERO_DELAY );
+
+		SearchQuery<DocumentReference> query = createQuery();
+
+		assertThatQuery( query ).hasNoHits();
+		assertThat( warmer.warmUps ).hasSize( 1 );
+
+		warmer.block();
+		try {
+			index( DocumentRefreshStrategy.NONE );
+			// Wait for the background refresh to start warming up the new reader.
+			Awaitility.await().untilAsserted( () -> assertThat( warmer.warmUps ).hasSize( 2 ) );
+
+			// Queries keep using the previous reader while the new one is being warmed up.
+			assertThatQuery( query ).hasNoHits();
+		}
+		finally {
+			warmer.unblock();
+		}
+
+		// The new reader is only used once warmed up.
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+		assertThat( warmer.warmUps ).hasSize( 2 );
+	}
+
+	private SearchQuery<DocumentReference> createQuery() {
+		return index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+	}
+
+	private void index(DocumentRefreshStrategy refreshStrategy) {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				DocumentCommitStrategy.NONE, // This is irrelevant
+				refreshStrategy
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+	}
+
+	private void setup(Integer refreshIntervalMs) {
+		setupHelper.start()
+				.withIndex( index )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_READER_WARMER, BeanReference.ofInstance( warmer ) )
+				.setup();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> textField;
+
+		IndexBinding(IndexSchemaElement root) {
+			textField = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+
+	private static class RecordingWarmer implements IndexReaderWarmer {
+		private final List<WarmUp> warmUps = new CopyOnWriteArrayList<>();
+		private volatile CountDownLatch unblockLatch = new CountDownLatch( 0 );
+
+		@Override
+		public void warm(IndexReader reader, IndexReader previousReader) {
+			warmUps.add( new WarmUp( reader, previousReader, Thread.currentThread().getName() ) );
+			try {
+				unblockLatch.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		void block() {
+			unblockLatch = new CountDownLatch( 1 );
+		}
+
+		void unblock() {
+			unblockLatch.countDown();
+		}
+	}
+
+	private static class WarmUp {
+		private final IndexReader reader;
+		private final IndexReader previousReader;
+		private final String threadName;
+
+		private WarmUp(IndexReader reader, IndexReader previousReader, String threadName) {
+			this.reader = reader;
+			this.previousReader = previousReader;
+			this.threadName = threadName;
+		}
+	}
+}
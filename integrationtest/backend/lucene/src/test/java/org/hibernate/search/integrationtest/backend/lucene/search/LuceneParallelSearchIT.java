@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test that searching slices of segments in parallel
+ * ({@link LuceneIndexSettings#SEARCH_PARALLEL}) yields the same results as searching them sequentially.
+ */
+public class LuceneParallelSearchIT {
+
+	private static final int SHARD_COUNT = 4;
+	// Lucene puts at most 5 segments in each slice: make sure we get multiple slices.
+	private static final int SEGMENTS_PER_SHARD = 4;
+	private static final int DOCUMENTS_PER_SEGMENT = 50;
+	private static final int DOCUMENT_COUNT = SHARD_COUNT * SEGMENTS_PER_SHARD * DOCUMENTS_PER_SEGMENT;
+	private static final int CATEGORY_COUNT = 5;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				.withIndex( index )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withBackendProperty(
+						BackendSettings.INDEXES + "." + index.name() + "." + LuceneIndexSettings.SEARCH_PARALLEL,
+						true
+				)
+				.setup();
+
+		int documentsPerBatch = SHARD_COUNT * DOCUMENTS_PER_SEGMENT;
+		for ( int batch = 0; batch < SEGMENTS_PER_SHARD; batch++ ) {
+			// Each batch is followed by a refresh, creating new segments.
+			BulkIndexer indexer = index.bulkIndexer();
+			for ( int i = batch * documentsPerBatch; i < ( batch + 1 ) * documentsPerBatch; i++ ) {
+				int value = i;
+				indexer.add( documentProvider( String.valueOf( value ), document -> {
+					document.addValue( index.binding().text, value % 2 == 0 ? "common even" : "common" );
+					document.addValue( index.binding().value, value );
+					document.addValue( index.binding().category, "category" + value % CATEGORY_COUNT );
+				} ) );
+			}
+			indexer.join();
+		}
+	}
+
+	@Test
+	public void sort_offsetAndLimit() {
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "value" ).desc() )
+				.fetch( 20, 10 );
+
+		List<String> expectedIds = new ArrayList<>();
+		for ( int i = DOCUMENT_COUNT - 21; i > DOCUMENT_COUNT - 31; i-- ) {
+			expectedIds.add( String.valueOf( i ) );
+		}
+		assertThat( result.total().isHitCountExact() ).isTrue();
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.hits() ).extracting( DocumentReference::id ).containsExactlyElementsOf( expectedIds );
+	}
+
+	@Test
+	public void score() {
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "even" ) )
+				.fetchAll();
+
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
+		assertThat( result.hits() ).hasSize( DOCUMENT_COUNT / 2 )
+				.extracting( DocumentReference::id )
+				.allSatisfy( id -> assertThat( Integer.parseInt( id ) % 2 ).isZero() )
+				.doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "terms" );
+		AggregationKey<Map<Range<Integer>, Long>> rangeKey = AggregationKey.of( "range" );
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "common" ) )
+				.aggregation( termsKey, f -> f.terms().field( "category", String.class ) )
+				.aggregation( rangeKey, f -> f.range().field( "value", Integer.class )
+						.range( Range.canonical( 0, 100 ) )
+						.range( Range.atLeast( 100 ) ) )
+				.fetch( 5 );
+
+		Map<String, Long> expectedTerms = new LinkedHashMap<>();
+		for ( int i = 0; i < CATEGORY_COUNT; i++ ) {
+			expectedTerms.put( "category" + i, (long) DOCUMENT_COUNT / CATEGORY_COUNT );
+		}
+		Map<Range<Integer>, Long> expectedRanges = new LinkedHashMap<>();
+		expectedRanges.put( Range.canonical( 0, 100 ), 100L );
+		expectedRanges.put( Range.atLeast( 100 ), (long) DOCUMENT_COUNT - 100 );
+
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.hits() ).hasSize( 5 );
+		assertThat( result.aggregation( termsKey ) ).containsExactlyInAnyOrderEntriesOf( expectedTerms );
+		assertThat( result.aggregation( rangeKey ) ).containsExactlyEntriesOf( expectedRanges );
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "value" ) )
+				.totalHitCountThreshold( 10 )
+				.fetch( 3 );
+
+		assertThat( result.total().hitCountLowerBound() ).isBetween( 10L, (long) DOCUMENT_COUNT );
+		assertThat( result.hits() ).extracting( DocumentReference::id ).containsExactly( "0", "1", "2" );
+	}
+
+	@Test
+	public void truncateAfter() {
+		AggregationKey<Map<String, Long>> termsKey = AggregationKey.of( "terms" );
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( termsKey, f -> f.terms().field( "category", String.class ) )
+				.truncateAfter( 1, TimeUnit.NANOSECONDS )
+				.fetchAll();
+
+		assertThat( result.timedOut() ).isTrue();
+		assertThat( result.total().hitCount() ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void failAfter() {
+		Assertions.assertThatThrownBy( () -> index.createScope().query()
+				.where( f -> f.matchAll() )
+				.failAfter( 1, TimeUnit.NANOSECONDS )
+				.fetchAll() )
+				.isInstanceOf( SearchTimeoutException.class );
+	}
+
+	@Test
+	public void fetchTotalHitCount() {
+		assertThatQuery( index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "even" ) ) )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<Integer> value;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().analyzer( DefaultAnalysisDefinitions.ANALYZER_STANDARD_ENGLISH.name ) ).toReference();
+			value = root.field( "value", f -> f.asInteger().sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString().aggregable( Aggregable.YES ) ).toReference();
+		}
+	}
+}
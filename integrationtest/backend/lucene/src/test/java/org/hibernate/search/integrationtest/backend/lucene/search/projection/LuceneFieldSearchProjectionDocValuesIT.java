@@ -0,0 +1,232 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search.projection;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.search.projection.FieldSearchProjectionSingleValuedBaseIT;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.model.singlefield.SingleFieldIndexBinding;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.AnalyzedStringFieldTypeDescriptor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.FieldTypeDescriptor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.KeywordStringFieldTypeDescriptor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.NormalizedStringFieldTypeDescriptor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TestedFieldStructure;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * This is an extension of the backend TCK test {@link FieldSearchProjectionSingleValuedBaseIT},
+ * for fields with doc values, whose projections may be extracted from doc values instead of stored fields.
+ */
+@RunWith(Parameterized.class)
+public class LuceneFieldSearchProjectionDocValuesIT<F> {
+
+	private static final List<FieldTypeDescriptor<?>> supportedFieldTypes = FieldTypeDescriptor.getAll().stream()
+			// Analyzed fields cannot be sortable or aggregable
+			.filter( fieldType -> !AnalyzedStringFieldTypeDescriptor.INSTANCE.equals( fieldType ) )
+			.collect( Collectors.toList() );
+	private static List<DataSet<?>> dataSets;
+
+	@Parameterized.Parameters(name = "{0} - {1}")
+	public static Object[][] parameters() {
+		dataSets = new ArrayList<>();
+		List<Object[]> parameters = new ArrayList<>();
+		for ( FieldTypeDescriptor<?> fieldType : supportedFieldTypes ) {
+			for ( TestedFieldStructure fieldStructure : TestedFieldStructure.all() ) {
+				if ( fieldStructure.isMultiValued() ) {
+					continue;
+				}
+				DataSet<?> dataSet = new DataSet<>( fieldStructure, fieldType );
+				dataSets.add( dataSet );
+				parameters.add( new Object[] { fieldStructure, fieldType, dataSet } );
+			}
+		}
+		return parameters.toArray( new Object[0][] );
+	}
+
+	@ClassRule
+	public static SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<SingleFieldIndexBinding> sortableIndex =
+			createIndex( "sortable", c -> c.projectable( Projectable.YES ).sortable( Sortable.YES ) );
+	private static final SimpleMappedIndex<SingleFieldIndexBinding> aggregableIndex =
+			createIndex( "aggregable", c -> c.projectable( Projectable.YES ).aggregable( Aggregable.YES ) );
+	private static final SimpleMappedIndex<SingleFieldIndexBinding> noDocValuesIndex =
+			createIndex( "noDocValues", c -> c.projectable( Projectable.YES ) );
+
+	private static SimpleMappedIndex<SingleFieldIndexBinding> createIndex(String name,
+			Consumer<StandardIndexFieldTypeOptionsStep<?, ?>> configuration) {
+		return SimpleMappedIndex.of( root -> SingleFieldIndexBinding.createWithSingleValuedNestedFields( root,
+				supportedFieldTypes, configuration ) )
+				.name( name );
+	}
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndexes( sortableIndex, aggregableIndex, noDocValuesIndex ).setup();
+
+		for ( SimpleMappedIndex<SingleFieldIndexBinding> index :
+				Arrays.asList( sortableIndex, aggregableIndex, noDocValuesIndex ) ) {
+			BulkIndexer indexer = index.bulkIndexer();
+			for ( DataSet<?> dataSet : dataSets ) {
+				dataSet.contribute( index, indexer );
+			}
+			indexer.join();
+		}
+	}
+
+	private final TestedFieldStructure fieldStructure;
+	private final FieldTypeDescriptor<F> fieldType;
+	private final DataSet<F> dataSet;
+
+	public LuceneFieldSearchProjectionDocValuesIT(TestedFieldStructure fieldStructure,
+			FieldTypeDescriptor<F> fieldType, DataSet<F> dataSet) {
+		this.fieldStructure = fieldStructure;
+		this.fieldType = fieldType;
+		this.dataSet = dataSet;
+	}
+
+	@Test
+	public void sortable() {
+		assertSimpleProjection( sortableIndex.createScope() );
+	}
+
+	@Test
+	public void aggregable() {
+		assertSimpleProjection( aggregableIndex.createScope() );
+	}
+
+	/**
+	 * Test projecting on a field that has doc values in one index, but not in the other.
+	 */
+	@Test
+	public void multiIndex_docValuesInSomeIndexesOnly() {
+		// Other field types are only compatible across indexes if they have doc values in every index.
+		assumeTrue( KeywordStringFieldTypeDescriptor.INSTANCE.equals( fieldType )
+				|| NormalizedStringFieldTypeDescriptor.INSTANCE.equals( fieldType ) );
+
+		StubMappingScope scope = aggregableIndex.createScope( noDocValuesIndex );
+
+		assertThat( scope.query()
+				.select( f -> f.field( getFieldPath(), fieldType.getJavaType() ) )
+				.where( f -> f.matchAll() )
+				.routing( dataSet.routingKey )
+				.toQuery() )
+				.hasHitsAnyOrder(
+						dataSet.getFieldValue( 1 ), dataSet.getFieldValue( 1 ),
+						dataSet.getFieldValue( 2 ), dataSet.getFieldValue( 2 ),
+						dataSet.getFieldValue( 3 ), dataSet.getFieldValue( 3 ),
+						null, null // Empty documents
+				);
+	}
+
+	/**
+	 * Test that mentioning the same projection twice works as expected,
+	 * and that projections relying on doc values can be mixed with projections relying on stored fields.
+	 */
+	@Test
+	public void duplicated_mixedWithStoredFields() {
+		StubMappingScope scope = sortableIndex.createScope();
+
+		String fieldPath = getFieldPath();
+
+		assertThat( scope.query()
+				.select( f ->
+						f.composite(
+								f.field( fieldPath, fieldType.getJavaType() ),
+								f.field( fieldPath, fieldType.getJavaType() ),
+								f.field( fieldPath, fieldType.getJavaType() ).multi()
+						)
+				)
+				.where( f -> f.matchAll() )
+				.routing( dataSet.routingKey )
+				.toQuery() )
+				.hasHitsAnyOrder(
+						Arrays.asList( dataSet.getFieldValue( 1 ), dataSet.getFieldValue( 1 ),
+								Arrays.asList( dataSet.getFieldValue( 1 ) ) ),
+						Arrays.asList( dataSet.getFieldValue( 2 ), dataSet.getFieldValue( 2 ),
+								Arrays.asList( dataSet.getFieldValue( 2 ) ) ),
+						Arrays.asList( dataSet.getFieldValue( 3 ), dataSet.getFieldValue( 3 ),
+								Arrays.asList( dataSet.getFieldValue( 3 ) ) ),
+						Arrays.asList( null, null, Arrays.asList() ) // Empty document
+				);
+	}
+
+	private void assertSimpleProjection(StubMappingScope scope) {
+		assertThat( scope.query()
+				.select( f -> f.field( getFieldPath(), fieldType.getJavaType() ) )
+				.where( f -> f.matchAll() )
+				.routing( dataSet.routingKey )
+				.toQuery() )
+				.hasHitsAnyOrder(
+						dataSet.getFieldValue( 1 ),
+						dataSet.getFieldValue( 2 ),
+						dataSet.getFieldValue( 3 ),
+						null // Empty document
+				);
+	}
+
+	private String getFieldPath() {
+		return sortableIndex.binding().getFieldPath( fieldStructure, fieldType );
+	}
+
+	private static class DataSet<F> {
+		private final TestedFieldStructure fieldStructure;
+		private final FieldTypeDescriptor<F> fieldType;
+		private final String routingKey;
+
+		private DataSet(TestedFieldStructure fieldStructure, FieldTypeDescriptor<F> fieldType) {
+			this.fieldStructure = fieldStructure;
+			this.fieldType = fieldType;
+			this.routingKey = fieldType.getUniqueName() + "_" + fieldStructure.getUniqueName();
+		}
+
+		private String docId(int docNumber) {
+			return routingKey + "_doc_" + docNumber;
+		}
+
+		private String emptyDocId(int docNumber) {
+			return routingKey + "_emptyDoc_" + docNumber;
+		}
+
+		private void contribute(SimpleMappedIndex<SingleFieldIndexBinding> index, BulkIndexer indexer) {
+			indexer.add( documentProvider( emptyDocId( 1 ), routingKey,
+					document -> index.binding().initSingleValued( fieldType, fieldStructure.location,
+							document, null ) ) );
+			for ( int i = 1; i <= 3; i++ ) {
+				F value = getFieldValue( i );
+				indexer.add( documentProvider( docId( i ), routingKey,
+						document -> index.binding().initSingleValued( fieldType, fieldStructure.location,
+								document, value ) ) );
+			}
+		}
+
+		private F getFieldValue(int documentNumber) {
+			return fieldType.getIndexableValues().getSingle().get( documentNumber - 1 );
+		}
+	}
+}
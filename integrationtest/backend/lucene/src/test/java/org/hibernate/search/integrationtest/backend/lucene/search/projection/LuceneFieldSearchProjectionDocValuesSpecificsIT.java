@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search.projection;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that projections on fields with doc values
+ * return the original value even when doc values do not hold enough information to restore it
+ * (normalized strings, truncated precision, time zones, ...).
+ *
+ * @see LuceneFieldSearchProjectionDocValuesIT
+ */
+public class LuceneFieldSearchProjectionDocValuesSpecificsIT {
+
+	private static final String DOCUMENT_1 = "1";
+
+	private static final String NORMALIZED_STRING = "Some Mixed-Case Value";
+	private static final Instant INSTANT = Instant.parse( "2018-01-01T10:58:30.123456789Z" );
+	private static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.parse( "2018-01-01T10:58:30.123456789" );
+	private static final OffsetDateTime OFFSET_DATE_TIME = OffsetDateTime.parse( "2018-01-01T10:58:30.123+02:00" );
+	private static final OffsetTime OFFSET_TIME = OffsetTime.parse( "10:58:30.123+02:00" );
+	private static final ZonedDateTime ZONED_DATE_TIME = ZonedDateTime.parse( "2018-01-01T10:58:30.123+01:00[Europe/Paris]" );
+	private static final BigDecimal BIG_DECIMAL = new BigDecimal( "12.3456" );
+	private static final BigInteger BIG_INTEGER = new BigInteger( "12345" );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					document.addValue( index.binding().normalizedString, NORMALIZED_STRING );
+					document.addValue( index.binding().instant, INSTANT );
+					document.addValue( index.binding().localDateTime, LOCAL_DATE_TIME );
+					document.addValue( index.binding().offsetDateTime, OFFSET_DATE_TIME );
+					document.addValue( index.binding().offsetTime, OFFSET_TIME );
+					document.addValue( index.binding().zonedDateTime, ZONED_DATE_TIME );
+					document.addValue( index.binding().bigDecimal, BIG_DECIMAL );
+					document.addValue( index.binding().bigInteger, BIG_INTEGER );
+				} )
+				.join();
+	}
+
+	@Test
+	public void normalizedString() {
+		assertThat( index.query()
+				.select( f -> f.field( "normalizedString", String.class ) )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasHitsAnyOrder( NORMALIZED_STRING );
+	}
+
+	@Test
+	public void temporal_precisionAndTimeZone() {
+		assertThat( index.query()
+				.select( f -> f.composite(
+						f.field( "instant", Instant.class ),
+						f.field( "localDateTime", LocalDateTime.class ),
+						f.field( "offsetDateTime", OffsetDateTime.class ),
+						f.field( "offsetTime", OffsetTime.class ),
+						f.field( "zonedDateTime", ZonedDateTime.class )
+				) )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasListHitsAnyOrder( b -> b.list(
+						INSTANT, LOCAL_DATE_TIME, OFFSET_DATE_TIME, OFFSET_TIME, ZONED_DATE_TIME
+				) );
+	}
+
+	@Test
+	public void bigNumbers_decimalScale() {
+		assertThat( index.query()
+				.select( f -> f.composite(
+						f.field( "bigDecimal", BigDecimal.class ),
+						f.field( "bigInteger", BigInteger.class )
+				) )
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasListHitsAnyOrder( b -> b.list( BIG_DECIMAL, BIG_INTEGER ) );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> normalizedString;
+		final IndexFieldReference<Instant> instant;
+		final IndexFieldReference<LocalDateTime> localDateTime;
+		final IndexFieldReference<OffsetDateTime> offsetDateTime;
+		final IndexFieldReference<OffsetTime> offsetTime;
+		final IndexFieldReference<ZonedDateTime> zonedDateTime;
+		final IndexFieldReference<BigDecimal> bigDecimal;
+		final IndexFieldReference<BigInteger> bigInteger;
+
+		IndexBinding(IndexSchemaElement root) {
+			normalizedString = root.field( "normalizedString", f -> f.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			instant = root.field( "instant", f -> f.asInstant()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			localDateTime = root.field( "localDateTime", f -> f.asLocalDateTime()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			offsetDateTime = root.field( "offsetDateTime", f -> f.asOffsetDateTime()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			offsetTime = root.field( "offsetTime", f -> f.asOffsetTime()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			zonedDateTime = root.field( "zonedDateTime", f -> f.asZonedDateTime()
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			bigDecimal = root.field( "bigDecimal", f -> f.asBigDecimal().decimalScale( 2 )
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			bigInteger = root.field( "bigInteger", f -> f.asBigInteger().decimalScale( -2 )
+					.projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
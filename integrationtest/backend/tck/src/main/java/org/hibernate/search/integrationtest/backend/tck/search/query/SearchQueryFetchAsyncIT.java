@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchQueryFetchAsyncIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void fetchAsync() {
+		SearchResult<DocumentReference> result = matchAllQuery().fetchAsync( null ).toCompletableFuture().join();
+		Assertions.assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.hits() ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				builder.doc( index.typeName(), docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void fetchAsync_offset_limit() {
+		SearchResult<DocumentReference> result = matchAllQuery().fetchAsync( 10, 20 ).toCompletableFuture().join();
+		Assertions.assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.hits() ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 10; i < 30; i++ ) {
+				builder.doc( index.typeName(), docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void fetchHitsAsync() {
+		List<DocumentReference> hits = matchAllQuery().fetchHitsAsync( 5, 3 ).toCompletableFuture().join();
+		assertThat( hits ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 5; i < 8; i++ ) {
+				builder.doc( index.typeName(), docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		Assertions.assertThat( matchAllQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+
+		StubMappingScope scope = index.createScope();
+		Assertions.assertThat( scope.query()
+				.where( f -> f.range().field( "integer" ).lessThan( DOCUMENT_COUNT / 2 ) )
+				.fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void concurrentQueries() {
+		List<CompletableFuture<? extends SearchResult<DocumentReference>>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i += 10 ) {
+			futures.add( matchAllQuery().fetchAsync( i, 10 ).toCompletableFuture() );
+		}
+
+		for ( int i = 0; i < futures.size(); i++ ) {
+			int chunkStart = i * 10;
+			SearchResult<DocumentReference> result = futures.get( i ).join();
+			assertThat( result.hits() ).hasDocRefHitsExactOrder( builder -> {
+				for ( int j = chunkStart; j < chunkStart + 10; j++ ) {
+					builder.doc( index.typeName(), docId( j ) );
+				}
+			} );
+		}
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQuery() {
+		StubMappingScope scope = index.createScope();
+		return scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() );
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchQueryScrollIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int CHUNK_SIZE = 30;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void sorted() {
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( CHUNK_SIZE ) ) {
+			checkScrolling( scroll, DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void sorted_smallResultSet() {
+		try ( SearchScroll<DocumentReference> scroll = matchFirstHalfQuery().scroll( CHUNK_SIZE ) ) {
+			checkScrolling( scroll, DOCUMENT_COUNT / 2 );
+		}
+	}
+
+	@Test
+	public void unsorted() {
+		StubMappingScope scope = index.createScope();
+		List<DocumentReference> scrolledHits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = scope.query()
+				.where( f -> f.matchAll() )
+				.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				Assertions.assertThat( chunk.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+				Assertions.assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				scrolledHits.addAll( chunk.hits() );
+			}
+		}
+
+		// Each document must be returned exactly once, in any order
+		assertThat( scrolledHits ).hasDocRefHitsAnyOrder( builder -> {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				builder.doc( index.typeName(), docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void noHits() {
+		StubMappingScope scope = index.createScope();
+		try ( SearchScroll<DocumentReference> scroll = scope.query()
+				.where( f -> f.match().field( "integer" ).matching( DOCUMENT_COUNT + 2 ) )
+				.scroll( CHUNK_SIZE ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isFalse();
+			Assertions.assertThat( chunk.hits() ).isEmpty();
+			Assertions.assertThat( chunk.totalHitCount() ).isEqualTo( 0 );
+		}
+	}
+
+	@Test
+	public void closed() {
+		SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( CHUNK_SIZE );
+		scroll.next();
+		scroll.close();
+
+		Assertions.assertThatThrownBy( scroll::next )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "scroll" )
+				.hasMessageContaining( "closed" );
+
+		// Closing twice must not fail
+		scroll.close();
+	}
+
+	@Test
+	public void invalidChunkSize() {
+		Assertions.assertThatThrownBy( () -> matchAllQuery().scroll( 0 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "chunkSize" );
+	}
+
+	private void checkScrolling(SearchScroll<DocumentReference> scroll, int expectedHitCount) {
+		int docIndex = 0;
+		for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+			Assertions.assertThat( chunk.totalHitCount() ).isEqualTo( expectedHitCount );
+			int chunkStart = docIndex;
+			int expectedChunkSize = Math.min( CHUNK_SIZE, expectedHitCount - chunkStart );
+			assertThat( chunk.hits() ).hasDocRefHitsExactOrder( builder -> {
+				for ( int i = chunkStart; i < chunkStart + expectedChunkSize; i++ ) {
+					builder.doc( index.typeName(), docId( i ) );
+				}
+			} );
+			docIndex += expectedChunkSize;
+		}
+		Assertions.assertThat( docIndex ).isEqualTo( expectedHitCount );
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQuery() {
+		StubMappingScope scope = index.createScope();
+		return scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() );
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchFirstHalfQuery() {
+		StubMappingScope scope = index.createScope();
+		return scope.query()
+				.where( f -> f.range().field( "integer" ).lessThan( DOCUMENT_COUNT / 2 ) )
+				.sort( f -> f.field( "integer" ).asc() );
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -11,7 +11,9 @@
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -21,6 +23,8 @@
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
@@ -96,6 +100,36 @@ public void timeout_slowCount_smallTimeout_raiseAnException() {
 				.hasMessageContaining( " exceeded the timeout of 0s, 0ms and 1ns: " );
 	}
 
+	@Test
+	public void timeout_slowScroll_smallTimeout_raiseAnException() {
+		SearchQuery<DocumentReference> query = startSlowQuery()
+				.failAfter( 1, TimeUnit.NANOSECONDS )
+				.toQuery();
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 5 ) ) {
+			Assertions.assertThatThrownBy( () -> scroll.next() )
+					.isInstanceOf( SearchTimeoutException.class )
+					.hasMessageContaining( " exceeded the timeout of 0s, 0ms and 1ns: " );
+		}
+	}
+
+	@Test
+	public void timeout_scroll_largeTimeout() {
+		SearchQuery<DocumentReference> query = startSlowQuery()
+				.failAfter( 1, TimeUnit.DAYS )
+				.toQuery();
+
+		// Every chunk, not just the first one, must be fetched successfully with the query's timeout
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 1000 ) ) {
+			int fetched = 0;
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				assertThat( chunk.timedOut() ).isFalse();
+				fetched += chunk.hits().size();
+			}
+			assertThat( fetched ).isEqualTo( TOTAL_DOCUMENT_COUNT );
+		}
+	}
+
 	@Test
 	public void timeout_slowQuery_smallTimeout_limitFetching() {
 		Assume.assumeTrue(
@@ -112,6 +146,32 @@ public void timeout_slowQuery_smallTimeout_limitFetching() {
 		assertThat( result.timedOut() ).isTrue();
 	}
 
+	@Test
+	public void timeout_slowScroll_smallTimeout_limitFetching() {
+		Assume.assumeTrue(
+				"backend should have a fast timeout resolution in order to run this test correctly",
+				TckConfiguration.get().getBackendFeatures().fastTimeoutResolution()
+		);
+
+		SearchQuery<DocumentReference> query = startSlowQuery()
+				.truncateAfter( 1, TimeUnit.NANOSECONDS )
+				.toQuery();
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 1000 ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			assertThat( chunk.timedOut() ).isTrue();
+
+			// The scroll may end early, but must never return the same hit twice
+			Set<DocumentReference> fetched = new HashSet<>();
+			for ( ; chunk.hasHits(); chunk = scroll.next() ) {
+				for ( DocumentReference hit : chunk.hits() ) {
+					assertThat( fetched.add( hit ) ).as( "Hit returned twice: " + hit ).isTrue();
+				}
+			}
+			assertThat( fetched.size() ).isLessThanOrEqualTo( TOTAL_DOCUMENT_COUNT );
+		}
+	}
+
 	@Test
 	public void timeout_fastQuery_largeTimeout() {
 		SearchResult<DocumentReference> result = startFastQuery()
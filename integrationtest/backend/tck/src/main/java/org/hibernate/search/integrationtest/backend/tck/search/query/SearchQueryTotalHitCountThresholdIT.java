@@ -0,0 +1,192 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchQueryTotalHitCountThresholdIT {
+
+	private static final int DOCUMENT_COUNT = 500;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void noThreshold() {
+		StubMappingScope scope = index.createScope();
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.fetch( 10 );
+
+		SearchResultTotal total = result.total();
+		Assertions.assertThat( total.isHitCountExact() ).isTrue();
+		Assertions.assertThat( total.isHitCountLowerBound() ).isFalse();
+		Assertions.assertThat( total.hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( total.hitCountLowerBound() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.hits() ).hasSize( 10 );
+	}
+
+	@Test
+	public void thresholdNotReached() {
+		StubMappingScope scope = index.createScope();
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( DOCUMENT_COUNT + 1 )
+				.fetch( 10 );
+
+		SearchResultTotal total = result.total();
+		Assertions.assertThat( total.isHitCountExact() ).isTrue();
+		Assertions.assertThat( total.hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void negativeThreshold() {
+		StubMappingScope scope = index.createScope();
+		Assertions.assertThatThrownBy( () -> scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( -1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid total hit count threshold: '-1'",
+						"The threshold must be positive or zero" );
+	}
+
+	@Test
+	public void thresholdReached() {
+		assumeTotalHitCountThresholdSupported();
+
+		StubMappingScope scope = index.createScope();
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( 100 )
+				.fetch( 10 );
+
+		SearchResultTotal total = result.total();
+		Assertions.assertThat( total.isHitCountLowerBound() ).isTrue();
+		Assertions.assertThat( total.isHitCountExact() ).isFalse();
+		Assertions.assertThat( total.hitCountLowerBound() ).isBetween( 100L, (long) DOCUMENT_COUNT );
+		Assertions.assertThat( result.totalHitCount() ).isEqualTo( total.hitCountLowerBound() );
+		Assertions.assertThatThrownBy( total::hitCount )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to provide the exact total hit count" );
+
+		// Hits must not be affected by the threshold
+		Assertions.assertThat( result.hits() ).hasSize( 10 );
+	}
+
+	@Test
+	public void thresholdReached_sorted() {
+		assumeTotalHitCountThresholdSupported();
+
+		StubMappingScope scope = index.createScope();
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.totalHitCountThreshold( 100 )
+				.fetch( 10 );
+
+		Assertions.assertThat( result.total().hitCountLowerBound() ).isBetween( 100L, (long) DOCUMENT_COUNT );
+
+		// Hits must not be affected by the threshold
+		assertThat( result.hits() ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 0; i < 10; i++ ) {
+				builder.doc( index.typeName(), docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void thresholdReached_offset() {
+		assumeTotalHitCountThresholdSupported();
+
+		StubMappingScope scope = index.createScope();
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.totalHitCountThreshold( 100 )
+				.fetch( 200, 10 );
+
+		Assertions.assertThat( result.total().hitCountLowerBound() ).isBetween( 100L, (long) DOCUMENT_COUNT );
+
+		assertThat( result.hits() ).hasDocRefHitsExactOrder( builder -> {
+			for ( int i = 200; i < 210; i++ ) {
+				builder.doc( index.typeName(), docId( i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void fetchTotalHitCount_ignoresThreshold() {
+		StubMappingScope scope = index.createScope();
+		Assertions.assertThat( scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( 100 )
+				.fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private void assumeTotalHitCountThresholdSupported() {
+		assumeTrue(
+				"This backend always computes the exact total hit count",
+				TckConfiguration.get().getBackendFeatures().supportsTotalHitCountThreshold()
+		);
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -70,4 +70,8 @@ public boolean supportsValuesForDynamicField(Class<?> javaType) {
 	public boolean projectionPreservesNulls() {
 		return true;
 	}
+
+	public boolean supportsTotalHitCountThreshold() {
+		return true;
+	}
 }
@@ -0,0 +1,363 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test automatic indexing through the outbox table,
+ * with events processed asynchronously by a background processor.
+ */
+public class AutomaticIndexingOutboxIT {
+
+	// Let's say 3 seconds are long enough to consider that, if nothing changed after this time, nothing ever will.
+	private static final long ALMOST_FOREVER_VALUE = 3L;
+	private static final TimeUnit ALMOST_FOREVER_UNIT = TimeUnit.SECONDS;
+
+	private static final String OUTBOX_EVENT_COUNT_QUERY = "select count(e) from HibernateSearchOutboxEvent e";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+				.objectField( "contained", b2 -> b2
+						.multiValued( true )
+						.field( "containedField", String.class )
+				)
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY,
+						AutomaticIndexingStrategyName.OUTBOX )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL,
+						10L )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES,
+						1 )
+				.setup( IndexedEntity.class, ContainedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void persistUpdateDelete() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+
+			// Entities are reloaded before indexing, so "add" becomes "addOrUpdate"
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setIndexedField( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "updatedValue" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+
+			session.delete( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.delete( "1" )
+					.processedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+	}
+
+	@Test
+	public void multipleChangesSameEntity_coalesced() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			session.persist( entity1 );
+			session.flush();
+
+			entity1.setIndexedField( "updatedValue" );
+
+			// A single event for entity 1 is written, and it is indexed once with the latest state
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "updatedValue" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+	}
+
+	@Test
+	public void containedUpdate_reindexesContaining() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+			ContainedEntity contained = new ContainedEntity();
+			contained.setId( 2 );
+			contained.setContainedField( "initialContainedValue" );
+			contained.setContaining( entity1 );
+			entity1.getContained().add( contained );
+
+			session.persist( entity1 );
+			session.persist( contained );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+							.objectField( "contained", b2 -> b2
+									.field( "containedField", "initialContainedValue" )
+							)
+					)
+					.processedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = session.get( ContainedEntity.class, 2 );
+			contained.setContainedField( "updatedContainedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+							.objectField( "contained", b2 -> b2
+									.field( "containedField", "updatedContainedValue" )
+							)
+					)
+					.processedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+	}
+
+	@Test
+	public void rollback_noEvent() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			Transaction trx = session.beginTransaction();
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+			session.flush();
+
+			trx.rollback();
+		} );
+		backendMock.verifyExpectationsMet();
+		assertThat( countOutboxEvents() ).isZero();
+	}
+
+	@Test
+	public void indexingFailure_retried() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "initialValue" );
+
+			session.persist( entity1 );
+
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new RuntimeException( "Simulated indexing failure" ) );
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.processedThenExecuted( failingFuture );
+			// The event is kept in the outbox table, so indexing is attempted again
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "initialValue" )
+					)
+					.processedThenExecuted();
+		} );
+		awaitOutboxProcessing();
+	}
+
+	@Test
+	public void indexingFailure_doesNotBlockOtherEvents_abandonedAfterMaxRetries() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setIndexedField( "failing" );
+			IndexedEntity entity2 = new IndexedEntity();
+			entity2.setId( 2 );
+			entity2.setIndexedField( "succeeding" );
+
+			session.persist( entity1 );
+			session.persist( entity2 );
+
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			failingFuture.completeExceptionally( new RuntimeException( "Simulated indexing failure" ) );
+			// Both entities are indexed in the same batch, which fails...
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "failing" )
+					)
+					.update( "2", b -> b
+							.field( "indexedField", "succeeding" )
+					)
+					.processedThenExecuted( failingFuture );
+			// ... so entities are indexed one by one: only entity 1 fails, entity 2 is indexed regardless.
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "failing" )
+					)
+					.processedThenExecuted( failingFuture );
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "2", b -> b
+							.field( "indexedField", "succeeding" )
+					)
+					.processedThenExecuted();
+			// The event of entity 1 is retried once, fails again, and is abandoned.
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "indexedField", "failing" )
+					)
+					.processedThenExecuted( failingFuture );
+		} );
+		awaitOutboxProcessing();
+	}
+
+	private void awaitOutboxProcessing() {
+		Awaitility.await().atMost( ALMOST_FOREVER_VALUE, ALMOST_FOREVER_UNIT )
+				.untilAsserted( () -> {
+					backendMock.verifyExpectationsMet();
+					assertThat( countOutboxEvents() ).isZero();
+				} );
+	}
+
+	private long countOutboxEvents() {
+		long[] result = new long[1];
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			result[0] = session.createQuery( OUTBOX_EVENT_COUNT_QUERY, Long.class ).getSingleResult();
+		} );
+		return result[0];
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		@OneToMany(mappedBy = "containing")
+		@IndexedEmbedded
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+
+		public List<ContainedEntity> getContained() {
+			return contained;
+		}
+	}
+
+	@Entity(name = "contained")
+	public static class ContainedEntity {
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String containedField;
+
+		@ManyToOne
+		private IndexedEntity containing;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getContainedField() {
+			return containedField;
+		}
+
+		public void setContainedField(String containedField) {
+			this.containedField = containedField;
+		}
+
+		public IndexedEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(IndexedEntity containing) {
+			this.containing = containing;
+		}
+	}
+}
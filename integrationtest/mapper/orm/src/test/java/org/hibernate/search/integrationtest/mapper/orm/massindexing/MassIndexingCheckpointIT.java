@@ -0,0 +1,237 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test checkpoints and resuming mass indexing from a checkpoint.
+ */
+public class MassIndexingCheckpointIT {
+
+	public static final String TITLE_1 = "Oliver Twist";
+	public static final String TITLE_2 = "Ulysses";
+	public static final String TITLE_3 = "Frankenstein";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private SessionFactory sessionFactory;
+
+	private Path checkpointFile;
+
+	@Before
+	public void setup() throws IOException {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+
+		checkpointFile = temporaryFolder.getRoot().toPath().resolve( "checkpoint.properties" );
+	}
+
+	@Test
+	public void noCheckpoint() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.checkpointFile( checkpointFile )
+				.resumeFromCheckpoint( true );
+
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "1", b -> b.field( "title", TITLE_1 ) )
+				.add( "2", b -> b.field( "title", TITLE_2 ) )
+				.add( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+
+		// Nothing to resume from: we start from scratch
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.purge()
+				.mergeSegments()
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+		// The checkpoint is cleared when mass indexing completes
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	@Test
+	public void resume_partiallyIndexed() throws IOException {
+		Properties checkpoint = new Properties();
+		checkpoint.setProperty( "Book.partitions", "1" );
+		checkpoint.setProperty( "Book.0.last", "1" );
+		checkpoint.setProperty( "Book.0.completed", "false" );
+		writeCheckpoint( checkpoint );
+
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.checkpointFile( checkpointFile )
+				.resumeFromCheckpoint( true );
+
+		// Book 1 was already indexed: skip it.
+		// Other books may have been indexed after the checkpoint: add or update them.
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.update( "2", b -> b.field( "title", TITLE_2 ) )
+				.update( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+
+		// The index must not be purged when resuming
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	@Test
+	public void resume_completelyIndexed() throws IOException {
+		Properties checkpoint = new Properties();
+		checkpoint.setProperty( "Book.partitions", "1" );
+		checkpoint.setProperty( "Book.0.last", "3" );
+		checkpoint.setProperty( "Book.0.completed", "true" );
+		writeCheckpoint( checkpoint );
+
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.checkpointFile( checkpointFile )
+				.resumeFromCheckpoint( true );
+
+		// No document work expected
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	@Test
+	public void resume_disabled() throws IOException {
+		Properties checkpoint = new Properties();
+		checkpoint.setProperty( "Book.partitions", "1" );
+		checkpoint.setProperty( "Book.0.completed", "true" );
+		writeCheckpoint( checkpoint );
+
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.checkpointFile( checkpointFile );
+
+		// The existing checkpoint is ignored
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "1", b -> b.field( "title", TITLE_1 ) )
+				.add( "2", b -> b.field( "title", TITLE_2 ) )
+				.add( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.purge()
+				.mergeSegments()
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+		assertThat( checkpointFile ).doesNotExist();
+	}
+
+	private void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+	}
+
+	private void writeCheckpoint(Properties checkpoint) throws IOException {
+		try ( Writer writer = Files.newBufferedWriter( checkpointFile, StandardCharsets.UTF_8 ) ) {
+			checkpoint.store( writer, null );
+		}
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, TITLE_1 ) );
+			session.persist( new Book( 2, TITLE_2 ) );
+			session.persist( new Book( 3, TITLE_3 ) );
+		} );
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Fail.fail;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCondition;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test restricting the entities to mass index, see {@link MassIndexer#restrict(Class, MassIndexingCondition)}.
+ */
+public class MassIndexingConditionIT {
+
+	public static final String TITLE_1 = "Oliver Twist";
+	public static final String TITLE_2 = "Ulysses";
+	public static final String TITLE_3 = "Frankenstein";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void atLeast() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.restrict( Book.class, MassIndexingCondition.atLeast( "lastUpdate", 2L ) );
+
+		// Only matching books are indexed, and they may already exist in the index
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.update( "2", b -> b.field( "title", TITLE_2 ) )
+				.update( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+
+		// The index must not be purged: it contains documents of non-matching books
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void custom() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.restrict( Book.class, (criteriaBuilder, root) -> criteriaBuilder.like( root.<String>get( "title" ), "%i%" ) )
+				// Ignored when restricting
+				.purgeAllOnStart( true )
+				.dropAndCreateSchemaOnStart( true );
+
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.update( "1", b -> b.field( "title", TITLE_1 ) )
+				.update( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void invalidType() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.restrict( String.class, MassIndexingCondition.atLeast( "lastUpdate", 2L ) );
+
+		assertThatThrownBy( indexer::startAndWait )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot restrict mass indexing of type '" + String.class.getName() + "'",
+						"Restrictions can only be applied to the following types: [Book]" );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void shadowIndex() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.rebuildInShadowIndex( true )
+				.restrict( Book.class, MassIndexingCondition.atLeast( "lastUpdate", 2L ) );
+
+		assertThatThrownBy( indexer::startAndWait )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot rebuild indexes in shadow indexes when restricting the entities to mass index",
+						"Either disable 'rebuildInShadowIndex' or do not restrict the entities to mass index" );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, TITLE_1, 1L ) );
+			session.persist( new Book( 2, TITLE_2, 2L ) );
+			session.persist( new Book( 3, TITLE_3, 3L ) );
+		} );
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		private Long lastUpdate;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Long lastUpdate) {
+			this.id = id;
+			this.title = title;
+			this.lastUpdate = lastUpdate;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Long getLastUpdate() {
+			return lastUpdate;
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Fail.fail;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test mass indexing into shadow indexes, see {@link MassIndexer#rebuildInShadowIndex(boolean)}.
+ */
+public class MassIndexingRebuildInShadowIndexIT {
+
+	public static final String TITLE_1 = "Oliver Twist";
+	public static final String TITLE_2 = "Ulysses";
+	public static final String TITLE_3 = "Frankenstein";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void simple() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.rebuildInShadowIndex( true );
+
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "1", b -> b.field( "title", TITLE_1 ) )
+				.add( "2", b -> b.field( "title", TITLE_2 ) )
+				.add( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+
+		// The shadow index starts empty: no purge
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void dropAndPurgeOptionsIgnored() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.rebuildInShadowIndex( true )
+				.dropAndCreateSchemaOnStart( true )
+				.purgeAllOnStart( true );
+
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "1", b -> b.field( "title", TITLE_1 ) )
+				.add( "2", b -> b.field( "title", TITLE_2 ) )
+				.add( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+
+		// No schema management work and no purge
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void mergeSegmentsOnFinish() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.rebuildInShadowIndex( true )
+				.mergeSegmentsOnFinish( true );
+
+		backendMock.expectWorksAnyOrder( Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "1", b -> b.field( "title", TITLE_1 ) )
+				.add( "2", b -> b.field( "title", TITLE_2 ) )
+				.add( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+
+		backendMock.expectIndexScaleWorks( Book.INDEX )
+				.mergeSegments()
+				.flush()
+				.refresh();
+
+		startAndWait( indexer );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void checkpoints() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.rebuildInShadowIndex( true )
+				.checkpointFile( temporaryFolder.getRoot().toPath().resolve( "checkpoint.properties" ) );
+
+		assertThatThrownBy( indexer::startAndWait )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot rebuild indexes in shadow indexes when a checkpoint store is set",
+						"Either disable 'rebuildInShadowIndex' or do not set a checkpoint store" );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, TITLE_1 ) );
+			session.persist( new Book( 2, TITLE_2 ) );
+			session.persist( new Book( 3, TITLE_3 ) );
+		} );
+	}
+
+	@Entity
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
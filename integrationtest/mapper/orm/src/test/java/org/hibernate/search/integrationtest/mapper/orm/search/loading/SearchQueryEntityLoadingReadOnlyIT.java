@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search.loading;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.persistence.SharedCacheMode;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Test read-only entity loading when executing a search query
+ * when only a single type is involved.
+ */
+@RunWith(Parameterized.class)
+public class SearchQueryEntityLoadingReadOnlyIT<T> extends AbstractSearchQueryEntityLoadingSingleTypeIT<T> {
+
+	@Parameterized.Parameters(name = "{0}")
+	public static List<SingleTypeLoadingModelPrimitives<?>> data() {
+		return allSingleTypeLoadingModelPrimitives();
+	}
+
+	private SessionFactory sessionFactory;
+
+	public SearchQueryEntityLoadingReadOnlyIT(SingleTypeLoadingModelPrimitives<T> primitives) {
+		super( primitives );
+	}
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( primitives.getIndexName() );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( AvailableSettings.JPA_SHARED_CACHE_MODE, SharedCacheMode.ALL.name() )
+				.setup( primitives.getEntityClasses() );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Override
+	protected SessionFactory sessionFactory() {
+		return sessionFactory;
+	}
+
+	@Test
+	public void readOnly() {
+		persistThatManyEntities( 5 );
+
+		AtomicReference<Session> sessionRef = new AtomicReference<>();
+		testLoading(
+				sessionRef::set,
+				o -> o.readOnly( true ),
+				// Hits in a different order than the database is likely to return them
+				c -> {
+					for ( int i = 4; i >= 0; i-- ) {
+						c.doc( primitives.getIndexName(), primitives.getDocumentIdForEntityId( i ) );
+					}
+				},
+				c -> {
+					for ( int i = 4; i >= 0; i-- ) {
+						c.entity( primitives.getIndexedClass(), i );
+					}
+				},
+				(assertions, loadedEntities) -> {
+					assertions.assertStatementExecutionCount().isEqualTo( 1 );
+					assertions.assertThat( loadedEntities )
+							.allSatisfy( entity -> assertions.assertThat( sessionRef.get().isReadOnly( entity ) )
+									.as( "Entity " + entity + " is read-only" )
+									.isTrue() );
+				}
+		);
+	}
+
+	@Test
+	public void readOnly_severalFetches() {
+		persistThatManyEntities( 5 );
+
+		testLoading(
+				session -> { }, // No particular session setup
+				o -> o.readOnly( true ).fetchSize( 2 ),
+				c -> {
+					for ( int i = 4; i >= 0; i-- ) {
+						c.doc( primitives.getIndexName(), primitives.getDocumentIdForEntityId( i ) );
+					}
+				},
+				c -> {
+					for ( int i = 4; i >= 0; i-- ) {
+						c.entity( primitives.getIndexedClass(), i );
+					}
+				},
+				// 5 entities to load with a fetch size of 2 => 3 fetches are necessary
+				c -> c.assertStatementExecutionCount().isEqualTo( 3 )
+		);
+	}
+
+	@Test
+	public void readOnly_cacheHits() {
+		Assume.assumeTrue(
+				"This test only makes sense if cache lookups are supported",
+				primitives.isCacheLookupSupported()
+		);
+
+		persistThatManyEntities( 4 );
+		// Entities 0 and 1 stay in the second-level cache, entities 2 and 3 will be loaded from the database
+		sessionFactory.getCache().evict( primitives.getIndexedClass(), 2 );
+		sessionFactory.getCache().evict( primitives.getIndexedClass(), 3 );
+
+		AtomicReference<Session> sessionRef = new AtomicReference<>();
+		testLoading(
+				session -> {
+					sessionRef.set( session );
+					// Entity 0 is already managed (and not read-only) before the search
+					Hibernate.initialize( session.getReference( primitives.getIndexedClass(), 0 ) );
+				},
+				o -> o.readOnly( true )
+						.cacheLookupStrategy( EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE ),
+				c -> {
+					for ( int i = 0; i < 4; i++ ) {
+						c.doc( primitives.getIndexName(), primitives.getDocumentIdForEntityId( i ) );
+					}
+				},
+				c -> {
+					for ( int i = 0; i < 4; i++ ) {
+						c.entity( primitives.getIndexedClass(), i );
+					}
+				},
+				(assertions, loadedEntities) -> {
+					Session session = sessionRef.get();
+					assertions.assertThat( session.isReadOnly( loadedEntities.get( 0 ) ) )
+							.as( "Entity managed before the search is read-only" )
+							.isFalse();
+					for ( int i = 1; i < 4; i++ ) {
+						assertions.assertThat( session.isReadOnly( loadedEntities.get( i ) ) )
+								.as( "Entity " + loadedEntities.get( i ) + " is read-only" )
+								.isTrue();
+					}
+				}
+		);
+	}
+
+	@Test
+	public void notReadOnly() {
+		persistThatManyEntities( 2 );
+
+		AtomicReference<Session> sessionRef = new AtomicReference<>();
+		testLoading(
+				sessionRef::set,
+				o -> o.readOnly( false ),
+				c -> {
+					c.doc( primitives.getIndexName(), primitives.getDocumentIdForEntityId( 1 ) );
+					c.doc( primitives.getIndexName(), primitives.getDocumentIdForEntityId( 0 ) );
+				},
+				c -> {
+					c.entity( primitives.getIndexedClass(), 1 );
+					c.entity( primitives.getIndexedClass(), 0 );
+				},
+				(assertions, loadedEntities) -> assertions.assertThat( loadedEntities )
+						.allSatisfy( entity -> assertions.assertThat( sessionRef.get().isReadOnly( entity ) )
+								.as( "Entity " + entity + " is read-only" )
+								.isFalse() )
+		);
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.pojo.processing;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.integrationtest.mapper.pojo.testsupport.util.rule.JavaBeanMappingSetupHelper;
+import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Test that compiling indexing processors does not change the content of indexed documents.
+ */
+@RunWith(Parameterized.class)
+public class IndexingProcessorCompilationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	@Parameterized.Parameters(name = "compilation enabled = {0}")
+	public static Object[] parameters() {
+		return new Object[] { false, true };
+	}
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public JavaBeanMappingSetupHelper setupHelper = JavaBeanMappingSetupHelper.withBackendMock( MethodHandles.lookup(), backendMock );
+
+	private final boolean compilationEnabled;
+
+	private SearchMapping mapping;
+
+	public IndexingProcessorCompilationIT(boolean compilationEnabled) {
+		this.compilationEnabled = compilationEnabled;
+	}
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( INDEX_NAME, b -> b
+				.field( "text", String.class )
+				.field( "text2", String.class )
+				.field( "number", Integer.class )
+				.field( "tags", String.class, b2 -> b2.multiValued( true ) )
+				.objectField( "embedded", b2 -> b2
+						.field( "text", String.class )
+						.objectField( "embedded", b3 -> b3
+								.field( "number", Integer.class )
+						)
+				)
+		);
+		mapping = setupHelper.start()
+				.withConfiguration( b -> b.indexingProcessorCompilationEnabled( compilationEnabled ) )
+				.withAnnotatedEntityTypes( IndexedEntity.class )
+				.withAnnotatedTypes( EmbeddedLevel1.class, EmbeddedLevel2.class )
+				.setup();
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void process() {
+		try ( SearchSession session = mapping.createSession() ) {
+			IndexedEntity entity = new IndexedEntity();
+			entity.id = 1;
+			entity.text = "some text";
+			entity.number = 42;
+			entity.tags = Arrays.asList( "tag1", "tag2" );
+			entity.embedded = new EmbeddedLevel1();
+			entity.embedded.text = "embedded text";
+			entity.embedded.embedded = new EmbeddedLevel2();
+			entity.embedded.embedded.number = 7;
+
+			session.indexingPlan().add( entity );
+
+			backendMock.expectWorks( INDEX_NAME )
+					.add( "1", b -> b
+							.field( "text", "some text" )
+							.field( "text2", "some text" )
+							.field( "number", 42 )
+							.field( "tags", "tag1", "tag2" )
+							.objectField( "embedded", b2 -> b2
+									.field( "text", "embedded text" )
+									.objectField( "embedded", b3 -> b3
+											.field( "number", 7 )
+									)
+							)
+					)
+					.processedThenExecuted();
+		}
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Indexed(index = INDEX_NAME)
+	public static class IndexedEntity {
+		private Integer id;
+		private String text;
+		private Integer number;
+		private List<String> tags;
+		private EmbeddedLevel1 embedded;
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		@GenericField
+		@GenericField(name = "text2")
+		public String getText() {
+			return text;
+		}
+
+		@GenericField
+		public Integer getNumber() {
+			return number;
+		}
+
+		@GenericField
+		public List<String> getTags() {
+			return tags;
+		}
+
+		@IndexedEmbedded
+		public EmbeddedLevel1 getEmbedded() {
+			return embedded;
+		}
+	}
+
+	public static class EmbeddedLevel1 {
+		private String text;
+		private EmbeddedLevel2 embedded;
+
+		@GenericField
+		public String getText() {
+			return text;
+		}
+
+		@IndexedEmbedded
+		public EmbeddedLevel2 getEmbedded() {
+			return embedded;
+		}
+	}
+
+	public static class EmbeddedLevel2 {
+		private Integer number;
+
+		@GenericField
+		public Integer getNumber() {
+			return number;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to searching,
+ * focusing on the cost of extracting hits.
+ * <p>
+ * Each invocation fetches {@link QueryParams#getQueryMaxResults() maxResults} hits.
+ * Run with the GC profiler ({@code -prof gc}) and divide {@code gc.alloc.rate.norm}
+ * by {@code maxResults} to get the allocation per hit.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	@Benchmark
+	public void documentReferences(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.totalHitCount() );
+		for ( DocumentReference hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	public void fieldProjections(QueryParams params, Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<List<?>> results = index.createScope().query()
+				.select( f -> f.composite(
+						f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.totalHitCount() );
+		for ( List<?> hit : results.hits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
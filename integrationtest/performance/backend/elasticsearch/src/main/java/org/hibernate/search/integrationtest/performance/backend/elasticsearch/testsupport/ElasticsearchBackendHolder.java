@@ -34,7 +34,7 @@ public class ElasticsearchBackendHolder extends AbstractBackendHolder {
 	 * Note that configuration properties are applied both at the backend level and at the index level,
 	 * so using the "index_defaults." prefix is optional when setting index-level properties.
 	 */
-	@Param({ "", "max_connections_per_route=1" })
+	@Param({ "", "max_connections_per_route=1", "compression.enabled=true" })
 	private String configuration;
 
 	@Override
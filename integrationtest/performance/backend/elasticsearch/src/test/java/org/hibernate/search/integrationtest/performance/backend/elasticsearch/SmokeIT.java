@@ -50,7 +50,8 @@ public void test() throws RunnerException {
 				.param(
 						"configuration",
 						"",
-						"max_connections_per_route=30"
+						"max_connections_per_route=30",
+						"compression.enabled=true"
 				)
 				.param( "initialIndexSize", "100" )
 				.param( "batchSize", "10" )
@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.util.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorFlattenedMultiNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorMultiNode;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks comparing the cost of traversing a tree of nested {@link PojoIndexingProcessorMultiNode}s
+ * with the cost of traversing the equivalent {@link PojoIndexingProcessorFlattenedMultiNode}
+ * obtained through {@link PojoIndexingProcessor#compile()}.
+ * <p>
+ * Leaves are trivial, so that the benchmark measures the traversal itself.
+ * Each invocation processes each of {@link #ENTITY_COUNT} entities.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class PojoIndexingProcessorBenchmarks {
+
+	private static final int ENTITY_COUNT = 100;
+
+	@Param({ "multi-node", "flattened-multi-node" })
+	private String tree;
+
+	@Param({ "2", "4" })
+	private int depth;
+
+	@Param({ "4" })
+	private int leavesPerNode;
+
+	private PojoIndexingProcessor<BenchmarkedEntity> processor;
+	private BenchmarkedEntity[] entities;
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		PojoIndexingProcessor<BenchmarkedEntity> nested = createNestedMultiNode( depth );
+		switch ( tree ) {
+			case "multi-node":
+				processor = nested;
+				break;
+			case "flattened-multi-node":
+				processor = nested.compile();
+				if ( !( processor instanceof PojoIndexingProcessorFlattenedMultiNode ) ) {
+					throw new IllegalStateException( "Unexpected compiled processor: " + processor );
+				}
+				break;
+			default:
+				throw new IllegalArgumentException( "Unknown tree: " + tree );
+		}
+		entities = new BenchmarkedEntity[ENTITY_COUNT];
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			entities[i] = new BenchmarkedEntity();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		processor.close();
+	}
+
+	@Benchmark
+	public void process(Blackhole blackhole) {
+		for ( BenchmarkedEntity entity : entities ) {
+			// The processors under test ignore the target and the session context
+			processor.process( null, entity, null );
+			blackhole.consume( entity.processed );
+		}
+	}
+
+	/*
+	 * Mimics the trees built from the mapping:
+	 * each node has a few leaves (e.g. value bridges) and a nested node (e.g. a property node),
+	 * down to the given depth.
+	 */
+	private PojoIndexingProcessor<BenchmarkedEntity> createNestedMultiNode(int remainingDepth) {
+		List<PojoIndexingProcessor<? super BenchmarkedEntity>> elements = new ArrayList<>();
+		for ( int i = 0; i < leavesPerNode; i++ ) {
+			elements.add( new CountingProcessor( i + 1 ) );
+		}
+		if ( remainingDepth > 1 ) {
+			elements.add( createNestedMultiNode( remainingDepth - 1 ) );
+		}
+		return new PojoIndexingProcessorMultiNode<>( elements );
+	}
+
+	public static class BenchmarkedEntity {
+		private long processed;
+	}
+
+	private static final class CountingProcessor extends PojoIndexingProcessor<BenchmarkedEntity> {
+		private final int increment;
+
+		private CountingProcessor(int increment) {
+			this.increment = increment;
+		}
+
+		@Override
+		public void appendTo(ToStringTreeBuilder builder) {
+			builder.attribute( "operation", "count" );
+			builder.attribute( "increment", increment );
+		}
+
+		@Override
+		public void process(DocumentElement target, BenchmarkedEntity source,
+				PojoIndexingProcessorSessionContext sessionContext) {
+			source.processed += increment;
+		}
+	}
+
+}
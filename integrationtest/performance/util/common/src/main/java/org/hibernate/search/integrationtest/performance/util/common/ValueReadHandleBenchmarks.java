@@ -0,0 +1,176 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.util.common;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandleFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks comparing the cost of reading property values
+ * through each {@link ValueReadHandleFactory}, as the POJO indexing processors do.
+ * <p>
+ * {@link #getters(Blackhole)} reads two properties from each of {@link #ENTITY_COUNT} entities,
+ * so as to avoid the JIT optimizing the reads away based on a single receiver.
+ * <p>
+ * {@link #megamorphicGetters(Blackhole)} reads one property from each of {@link #ENTITY_COUNT} entities
+ * of {@link #MEGAMORPHIC_TYPE_COUNT} distinct types, each through a distinct getter,
+ * so that the call sites shared by all handles see more receiver types than the JIT can inline.
+ * This is closer to what happens when indexing a real domain model.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class ValueReadHandleBenchmarks {
+
+	private static final int ENTITY_COUNT = 100;
+	private static final int MEGAMORPHIC_TYPE_COUNT = 4;
+
+	@Param({ "java-lang-reflect", "method-handle", "lambda-metafactory" })
+	private String factory;
+
+	private ValueReadHandle<?> stringHandle;
+	private ValueReadHandle<?> longHandle;
+	private BenchmarkedEntity[] entities;
+
+	private ValueReadHandle<?>[] megamorphicHandles;
+	private Object[] megamorphicEntities;
+
+	@Setup(Level.Trial)
+	public void setupTrial() throws ReflectiveOperationException {
+		ValueReadHandleFactory handleFactory = createFactory( factory );
+		Method stringGetter = BenchmarkedEntity.class.getMethod( "getText" );
+		Method longGetter = BenchmarkedEntity.class.getMethod( "getNumber" );
+		stringHandle = handleFactory.createForMethod( stringGetter );
+		longHandle = handleFactory.createForMethod( longGetter );
+		entities = new BenchmarkedEntity[ENTITY_COUNT];
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			entities[i] = new BenchmarkedEntity( "text" + i, i );
+		}
+
+		Class<?>[] megamorphicTypes = { FirstEntity.class, SecondEntity.class, ThirdEntity.class, FourthEntity.class };
+		ValueReadHandle<?>[] handlesByType = new ValueReadHandle<?>[MEGAMORPHIC_TYPE_COUNT];
+		for ( int i = 0; i < MEGAMORPHIC_TYPE_COUNT; i++ ) {
+			handlesByType[i] = handleFactory.createForMethod( megamorphicTypes[i].getMethod( "getValue" ) );
+		}
+		megamorphicHandles = new ValueReadHandle<?>[ENTITY_COUNT];
+		megamorphicEntities = new Object[ENTITY_COUNT];
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			int typeIndex = i % MEGAMORPHIC_TYPE_COUNT;
+			megamorphicHandles[i] = handlesByType[typeIndex];
+			megamorphicEntities[i] = megamorphicTypes[typeIndex].getConstructor( String.class )
+					.newInstance( "value" + i );
+		}
+	}
+
+	@Benchmark
+	public void getters(Blackhole blackhole) {
+		for ( BenchmarkedEntity entity : entities ) {
+			blackhole.consume( stringHandle.get( entity ) );
+			blackhole.consume( longHandle.get( entity ) );
+		}
+	}
+
+	@Benchmark
+	public void megamorphicGetters(Blackhole blackhole) {
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			blackhole.consume( megamorphicHandles[i].get( megamorphicEntities[i] ) );
+		}
+	}
+
+	private static ValueReadHandleFactory createFactory(String name) {
+		// The lookup must have private access for LambdaMetafactory
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		switch ( name ) {
+			case "java-lang-reflect":
+				return ValueReadHandleFactory.usingJavaLangReflect();
+			case "method-handle":
+				return ValueReadHandleFactory.usingMethodHandle( lookup );
+			case "lambda-metafactory":
+				return ValueReadHandleFactory.usingLambdaMetafactory( lookup );
+			default:
+				throw new IllegalArgumentException( "Unknown factory: " + name );
+		}
+	}
+
+	public static class BenchmarkedEntity {
+		private final String text;
+		private final long number;
+
+		public BenchmarkedEntity(String text, long number) {
+			this.text = text;
+			this.number = number;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public long getNumber() {
+			return number;
+		}
+	}
+
+	public static class FirstEntity {
+		private final String value;
+
+		public FirstEntity(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return value;
+		}
+	}
+
+	public static class SecondEntity {
+		private final String value;
+
+		public SecondEntity(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return value;
+		}
+	}
+
+	public static class ThirdEntity {
+		private final String value;
+
+		public ThirdEntity(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return value;
+		}
+	}
+
+	public static class FourthEntity {
+		private final String value;
+
+		public FourthEntity(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return value;
+		}
+	}
+
+}
@@ -28,6 +28,7 @@
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractorConfigurationContext;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AnnotationMappingConfigurationContext;
 import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.ProgrammaticMappingConfigurationContext;
+import org.hibernate.search.util.common.annotation.Incubating;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 public final class SearchMappingBuilder {
@@ -41,6 +42,7 @@ private static ConfigurationPropertySource getPropertySource(Map<String, Object>
 	private final Map<String, Object> properties = new HashMap<>();
 	private final ConfigurationPropertySource propertySource;
 	private final SearchIntegrationBuilder integrationBuilder;
+	private final JavaBeanBootstrapIntrospector introspector;
 	private final JavaBeanMappingKey mappingKey;
 	private final JavaBeanMappingInitiator mappingInitiator;
 
@@ -48,7 +50,7 @@ private static ConfigurationPropertySource getPropertySource(Map<String, Object>
 		propertyChecker = ConfigurationPropertyChecker.create();
 		propertySource = getPropertySource( properties, propertyChecker );
 		integrationBuilder = SearchIntegration.builder( propertySource, propertyChecker );
-		JavaBeanBootstrapIntrospector introspector = JavaBeanBootstrapIntrospector.create( lookup );
+		introspector = JavaBeanBootstrapIntrospector.create( lookup );
 		mappingKey = new JavaBeanMappingKey();
 		mappingInitiator = new JavaBeanMappingInitiator( introspector );
 		integrationBuilder.addMappingInitiator( mappingKey, mappingInitiator );
@@ -121,6 +123,33 @@ public SearchMappingBuilder annotatedTypeDiscoveryEnabled(boolean annotatedTypeD
 		return this;
 	}
 
+	/**
+	 * @param generatedPropertyAccessors {@code true} to read property values through accessors
+	 * generated with {@link java.lang.invoke.LambdaMetafactory},
+	 * which the JIT optimizes better than the {@link java.lang.invoke.MethodHandle}s used by default.
+	 * Requires the lookup passed to {@link SearchMapping#builder(MethodHandles.Lookup)}
+	 * to have private access, e.g. {@code MethodHandles.lookup()}.
+	 * Getters that cannot be called directly from the lookup class
+	 * will still be called through {@link java.lang.invoke.MethodHandle}s.
+	 * @return {@code this}, for call chaining.
+	 */
+	@Incubating
+	public SearchMappingBuilder generatedPropertyAccessors(boolean generatedPropertyAccessors) {
+		introspector.generatedPropertyAccessors( generatedPropertyAccessors );
+		return this;
+	}
+
+	/**
+	 * @param indexingProcessorCompilationEnabled {@code true} to compile the indexing processor of each indexed type
+	 * into a flattened, specialized processor on startup, for better indexing throughput.
+	 * @return {@code this}, for call chaining.
+	 */
+	@Incubating
+	public SearchMappingBuilder indexingProcessorCompilationEnabled(boolean indexingProcessorCompilationEnabled) {
+		mappingInitiator.indexingProcessorCompilationEnabled( indexingProcessorCompilationEnabled );
+		return this;
+	}
+
 	public SearchMappingBuilder property(String name, Object value) {
 		properties.put( name, value );
 		return this;
@@ -37,25 +37,38 @@ public class JavaBeanBootstrapIntrospector extends AbstractPojoHCAnnBootstrapInt
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static JavaBeanBootstrapIntrospector create(MethodHandles.Lookup lookup) {
-		ValueReadHandleFactory valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
-		return new JavaBeanBootstrapIntrospector( valueReadHandleFactory );
+		return new JavaBeanBootstrapIntrospector( lookup );
 	}
 
-	private final ValueReadHandleFactory valueReadHandleFactory;
+	private final MethodHandles.Lookup lookup;
+	private ValueReadHandleFactory valueReadHandleFactory;
 	private final JavaBeanGenericContextHelper genericContextHelper;
 	private final RawTypeDeclaringContext<?> missingRawTypeDeclaringContext;
 
 	private final Map<Class<?>, PojoRawTypeModel<?>> typeModelCache = new HashMap<>();
 
-	private JavaBeanBootstrapIntrospector(ValueReadHandleFactory valueReadHandleFactory) {
+	private JavaBeanBootstrapIntrospector(MethodHandles.Lookup lookup) {
 		super( new JavaReflectionManager() );
-		this.valueReadHandleFactory = valueReadHandleFactory;
+		this.lookup = lookup;
+		this.valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
 		this.genericContextHelper = new JavaBeanGenericContextHelper( this );
 		this.missingRawTypeDeclaringContext = new RawTypeDeclaringContext<>(
 				genericContextHelper, Object.class
 		);
 	}
 
+	/**
+	 * @param enabled {@code true} to read properties through accessors generated with
+	 * {@link java.lang.invoke.LambdaMetafactory} where possible,
+	 * {@code false} to always rely on {@link java.lang.invoke.MethodHandle}s.
+	 * Must be called before any type model is created.
+	 */
+	public void generatedPropertyAccessors(boolean enabled) {
+		this.valueReadHandleFactory = enabled
+				? ValueReadHandleFactory.usingLambdaMetafactory( lookup )
+				: ValueReadHandleFactory.usingMethodHandle( lookup );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> JavaBeanTypeModel<T> typeModel(Class<T> clazz) {
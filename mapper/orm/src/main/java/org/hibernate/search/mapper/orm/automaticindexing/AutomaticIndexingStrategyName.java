@@ -30,7 +30,19 @@ public enum AutomaticIndexingStrategyName {
 	 * Indexing is triggered automatically when entities are modified in the Hibernate ORM session:
 	 * entity insertion, update etc.
 	 */
-	SESSION("session");
+	SESSION("session"),
+
+	/**
+	 * Entity changes are recorded as events in an outbox table, in the same transaction as the changes themselves,
+	 * and indexing is performed asynchronously by a background processor polling that table.
+	 * <p>
+	 * The outbox table is added to the Hibernate ORM mapping automatically.
+	 *
+	 * @see org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE
+	 * @see org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL
+	 * @see org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES
+	 */
+	OUTBOX("outbox");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
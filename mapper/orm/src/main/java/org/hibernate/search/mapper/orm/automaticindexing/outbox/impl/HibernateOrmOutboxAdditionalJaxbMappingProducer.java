@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmHibernateMapping;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.model.source.internal.hbm.MappingDocument;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.jboss.jandex.IndexView;
+
+/**
+ * Adds the outbox table to the Hibernate ORM mapping
+ * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+ */
+@SuppressWarnings("deprecation") // No alternative in Hibernate ORM 5.4
+public class HibernateOrmOutboxAdditionalJaxbMappingProducer
+		implements org.hibernate.boot.spi.AdditionalJaxbMappingProducer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String MAPPING_RESOURCE = "OutboxEvent.hbm.xml";
+
+	private static final ConfigurationProperty<Boolean> ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
+	@Override
+	public Collection<MappingDocument> produceAdditionalMappings(MetadataImplementor metadata,
+			IndexView jandexIndex, MappingBinder mappingBinder, MetadataBuildingContext buildingContext) {
+		ConfigurationPropertySource propertySource = ConfigurationPropertySource.fromMap(
+				metadata.getMetadataBuildingOptions().getServiceRegistry()
+						.getService( ConfigurationService.class ).getSettings()
+		);
+		if ( !ENABLED.get( propertySource )
+				|| !AutomaticIndexingStrategyName.OUTBOX.equals( AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) ) ) {
+			return Collections.emptyList();
+		}
+
+		Origin origin = new Origin( SourceType.RESOURCE, MAPPING_RESOURCE );
+		try ( InputStream stream = OutboxEvent.class.getResourceAsStream( MAPPING_RESOURCE ) ) {
+			@SuppressWarnings("unchecked") // Hibernate ORM binds hbm.xml documents to JaxbHbmHibernateMapping
+			Binding<JaxbHbmHibernateMapping> binding = mappingBinder.bind( stream, origin );
+			return Collections.singletonList( new MappingDocument( binding.getRoot(), origin, buildingContext ) );
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToReadOutboxMapping( e.getMessage(), e );
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+
+public interface HibernateOrmOutboxMappingContext {
+
+	SessionFactoryImplementor sessionFactory();
+
+	ThreadPoolProvider threadPoolProvider();
+
+	FailureHandler failureHandler();
+
+	HibernateOrmOutboxTypeContextProvider typeContextProvider();
+
+	/**
+	 * @param session A Hibernate ORM session.
+	 * @return A new indexing plan that indexes directly, bypassing the outbox,
+	 * using the commit and refresh strategies of the default synchronization strategy.
+	 */
+	PojoIndexingPlan<EntityReference> createIndexingPlan(SessionImplementor session);
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+
+public interface HibernateOrmOutboxTypeContext {
+
+	PojoRawTypeIdentifier<?> typeIdentifier();
+
+	String jpaEntityName();
+
+	EntityPersister entityPersister();
+
+	/**
+	 * @throws org.hibernate.search.util.common.SearchException If identifiers of this type
+	 * cannot be converted to a string.
+	 */
+	void checkEntityIdToStringSupported();
+
+	/**
+	 * @param entityId An entity identifier.
+	 * @return The string representation of that identifier, as defined by the Hibernate ORM identifier type.
+	 */
+	String entityIdToString(Object entityId);
+
+	/**
+	 * @param entityIdString The string representation of an entity identifier,
+	 * as returned by {@link #entityIdToString(Object)}.
+	 * @return The entity identifier.
+	 */
+	Object entityIdFromString(String entityIdString);
+
+	Object toIndexingPlanProvidedId(Object entityId);
+
+	/**
+	 * @return {@code true} if this type is indexed, {@code false} if it is only contained in other indexed types.
+	 */
+	boolean indexed();
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The changes to a single entity, coalesced from one or more outbox events.
+ */
+final class OutboxEntityChange {
+
+	private static final String DIRTY_PATH_SEPARATOR = ",";
+
+	private final String entityName;
+	private final Object entityId;
+	private boolean allDirty = false;
+	private final Set<String> dirtyPaths = new LinkedHashSet<>();
+	private int retries = 0;
+
+	OutboxEntityChange(String entityName, Object entityId) {
+		this.entityName = entityName;
+		this.entityId = entityId;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[entityName=" + entityName + ", entityId=" + entityId
+				+ ", dirtyPaths=" + ( allDirty ? "<all>" : dirtyPaths ) + "]";
+	}
+
+	String entityName() {
+		return entityName;
+	}
+
+	Object entityId() {
+		return entityId;
+	}
+
+	void allDirty() {
+		allDirty = true;
+		dirtyPaths.clear();
+	}
+
+	void dirty(String... paths) {
+		if ( allDirty ) {
+			return;
+		}
+		Collections.addAll( dirtyPaths, paths );
+	}
+
+	/**
+	 * @param serializedDirtyPaths Dirty paths as returned by {@link #serializedDirtyPaths()}.
+	 */
+	void dirty(String serializedDirtyPaths) {
+		if ( serializedDirtyPaths == null ) {
+			allDirty();
+		}
+		else if ( !serializedDirtyPaths.isEmpty() ) {
+			dirty( serializedDirtyPaths.split( DIRTY_PATH_SEPARATOR ) );
+		}
+	}
+
+	boolean isAllDirty() {
+		return allDirty;
+	}
+
+	/**
+	 * @param eventRetries The number of retries of an event coalesced into this change.
+	 */
+	void retried(int eventRetries) {
+		retries = Math.max( retries, eventRetries );
+	}
+
+	/**
+	 * @return The highest number of retries among the events coalesced into this change.
+	 */
+	int retries() {
+		return retries;
+	}
+
+	String[] dirtyPaths() {
+		return dirtyPaths.toArray( new String[0] );
+	}
+
+	/**
+	 * @return The dirty paths separated with commas, or {@code null} if the entity is dirty as a whole.
+	 */
+	String serializedDirtyPaths() {
+		return allDirty ? null : String.join( DIRTY_PATH_SEPARATOR, dirtyPaths );
+	}
+}
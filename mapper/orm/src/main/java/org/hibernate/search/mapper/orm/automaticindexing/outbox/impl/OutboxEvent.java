@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+/**
+ * A row of the outbox table: a change to an entity that Hibernate Search must take into account.
+ * <p>
+ * Mapped to the outbox table through {@code OutboxEvent.hbm.xml},
+ * see {@link HibernateOrmOutboxAdditionalJaxbMappingProducer}.
+ */
+public class OutboxEvent {
+
+	public static final String ENTITY_NAME = "HibernateSearchOutboxEvent";
+
+	private Long id;
+	private String entityName;
+	private String entityId;
+	private String dirtyPaths;
+	private int retries;
+
+	public OutboxEvent() {
+	}
+
+	OutboxEvent(String entityName, String entityId, String dirtyPaths, int retries) {
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.dirtyPaths = dirtyPaths;
+		this.retries = retries;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[id=" + id + ", entityName=" + entityName + ", entityId=" + entityId
+				+ ", retries=" + retries + "]";
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public void setEntityName(String entityName) {
+		this.entityName = entityName;
+	}
+
+	/**
+	 * @return The identifier of the changed entity, as a string.
+	 * @see HibernateOrmOutboxTypeContext#entityIdToString(Object)
+	 */
+	public String getEntityId() {
+		return entityId;
+	}
+
+	public void setEntityId(String entityId) {
+		this.entityId = entityId;
+	}
+
+	/**
+	 * @return The dirty paths of the changed entity, separated with commas,
+	 * or {@code null} if the entity must be considered dirty as a whole.
+	 */
+	public String getDirtyPaths() {
+		return dirtyPaths;
+	}
+
+	public void setDirtyPaths(String dirtyPaths) {
+		this.dirtyPaths = dirtyPaths;
+	}
+
+	/**
+	 * @return The number of times processing of this event was retried after a failure.
+	 */
+	public int getRetries() {
+		return retries;
+	}
+
+	public void setRetries(int retries) {
+		this.retries = retries;
+	}
+}
@@ -0,0 +1,313 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Polls the outbox table at regular intervals,
+ * reindexes the entities referenced by the events,
+ * then deletes the events.
+ * <p>
+ * Events are locked while being processed, skipping events already locked by another transaction,
+ * so that processors running on multiple nodes can poll the same table concurrently.
+ * <p>
+ * Failures are handled per entity: when indexing a batch fails,
+ * entities are indexed one by one to find out which ones fail,
+ * and only the events of those entities are retried.
+ * Events to retry are moved to the end of the outbox table, so that they do not prevent other events
+ * from being processed, and are abandoned after a configurable number of retries.
+ */
+public final class OutboxEventProcessor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SELECT_EVENTS_QUERY =
+			"select e from " + OutboxEvent.ENTITY_NAME + " e order by e.id";
+	private static final String DELETE_EVENTS_QUERY =
+			"delete from " + OutboxEvent.ENTITY_NAME + " e where e.id in (:ids)";
+
+	/**
+	 * How long {@link #stop()} waits for the current batch to complete before interrupting it.
+	 * Interrupted batches are rolled back, so their events will simply be processed again on the next start.
+	 */
+	private static final long STOP_TIMEOUT_MS = 30_000L;
+
+	private final int batchSize;
+	private final long pollingInterval;
+	private final int maxRetries;
+
+	private HibernateOrmOutboxMappingContext mappingContext;
+	private ScheduledExecutorService executor;
+	private volatile boolean stopped = false;
+
+	public OutboxEventProcessor(int batchSize, long pollingInterval, int maxRetries) {
+		this.batchSize = batchSize;
+		this.pollingInterval = pollingInterval;
+		this.maxRetries = maxRetries;
+	}
+
+	public void start(HibernateOrmOutboxMappingContext mappingContext) {
+		SessionFactoryImplementor sessionFactory = mappingContext.sessionFactory();
+		if ( sessionFactory.getSessionFactoryOptions().getMultiTenancyStrategy()
+				.requiresMultiTenantConnectionProvider() ) {
+			throw log.outboxMultiTenancyNotSupported( "outbox" );
+		}
+		for ( HibernateOrmOutboxTypeContext typeContext : mappingContext.typeContextProvider().allTypeContexts() ) {
+			// Fail fast if identifiers of this type cannot be stored in the outbox table
+			typeContext.checkEntityIdToStringSupported();
+		}
+		this.mappingContext = mappingContext;
+		this.executor = mappingContext.threadPoolProvider()
+				.newScheduledExecutor( 1, "Outbox event processor - " );
+		executor.scheduleWithFixedDelay( this::run, pollingInterval, pollingInterval, TimeUnit.MILLISECONDS );
+	}
+
+	public void stop() {
+		stopped = true;
+		if ( executor == null ) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			// Let the current batch complete, so that events are not processed twice needlessly,
+			// but do not wait forever: a batch may be stuck, e.g. on a database lock.
+			if ( !executor.awaitTermination( STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS ) ) {
+				log.outboxEventProcessorStopTimeout( STOP_TIMEOUT_MS );
+				executor.shutdownNow();
+			}
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void run() {
+		try {
+			boolean fullBatch;
+			do {
+				fullBatch = processBatch();
+			}
+			while ( fullBatch && !stopped );
+		}
+		catch (RuntimeException e) {
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.outboxEventProcessing() );
+			mappingContext.failureHandler().handle( contextBuilder.build() );
+		}
+	}
+
+	/**
+	 * @return {@code true} if the batch was full, meaning there may be more events to process.
+	 */
+	private boolean processBatch() {
+		try ( SessionImplementor session = (SessionImplementor) mappingContext.sessionFactory().openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				List<OutboxEvent> events = session.createQuery( SELECT_EVENTS_QUERY, OutboxEvent.class )
+						.setMaxResults( batchSize )
+						// Lock events until the end of the transaction,
+						// and skip events locked by processors running on other nodes.
+						// On databases that do not support skipping locked rows, this degrades to a simple lock.
+						.setLockOptions( new LockOptions( LockMode.UPGRADE_SKIPLOCKED ) )
+						.getResultList();
+				if ( events.isEmpty() ) {
+					transaction.commit();
+					return false;
+				}
+
+				Map<OutboxEntityChange, Throwable> failures = index( coalesce( events ) );
+
+				// Remove all events from the head of the queue, including failed ones...
+				List<Long> ids = new ArrayList<>( events.size() );
+				for ( OutboxEvent event : events ) {
+					ids.add( event.getId() );
+				}
+				session.createQuery( DELETE_EVENTS_QUERY )
+						.setParameterList( "ids", ids )
+						.executeUpdate();
+				// ... and re-queue failed ones at the end of the queue, unless they exceeded the maximum retries.
+				for ( Map.Entry<OutboxEntityChange, Throwable> entry : failures.entrySet() ) {
+					retryOrAbandon( session, entry.getKey(), entry.getValue() );
+				}
+
+				transaction.commit();
+				return events.size() >= batchSize;
+			}
+			catch (RuntimeException e) {
+				new SuppressingCloser( e ).push( transaction::rollback );
+				throw e;
+			}
+		}
+	}
+
+	private List<OutboxEntityChange> coalesce(List<OutboxEvent> events) {
+		HibernateOrmOutboxTypeContextProvider typeContextProvider = mappingContext.typeContextProvider();
+		// Use a LinkedHashMap for deterministic iteration
+		Map<String, Map<Object, OutboxEntityChange>> changes = new LinkedHashMap<>();
+		List<OutboxEntityChange> result = new ArrayList<>();
+		for ( OutboxEvent event : events ) {
+			String entityName = event.getEntityName();
+			HibernateOrmOutboxTypeContext typeContext = typeContextProvider.forHibernateOrmEntityName( entityName );
+			if ( typeContext == null ) {
+				// The entity type is no longer indexed nor contained in an indexed type: just drop the event
+				continue;
+			}
+			Object entityId;
+			try {
+				entityId = typeContext.entityIdFromString( event.getEntityId() );
+			}
+			catch (RuntimeException e) {
+				// The event can never be processed: report the failure and drop the event
+				FailureContext.Builder contextBuilder = FailureContext.builder();
+				contextBuilder.throwable( e );
+				contextBuilder.failingOperation( log.outboxEventProcessingAbandoned( event.getRetries() + 1 ) );
+				mappingContext.failureHandler().handle( contextBuilder.build() );
+				continue;
+			}
+			OutboxEntityChange change = changes.computeIfAbsent( entityName, ignored -> new LinkedHashMap<>() )
+					.computeIfAbsent( entityId, ignored -> {
+						OutboxEntityChange newChange = new OutboxEntityChange( entityName, entityId );
+						result.add( newChange );
+						return newChange;
+					} );
+			change.dirty( event.getDirtyPaths() );
+			change.retried( event.getRetries() );
+		}
+		return result;
+	}
+
+	/**
+	 * @return The changes whose indexing failed, along with the corresponding failure.
+	 */
+	private Map<OutboxEntityChange, Throwable> index(List<OutboxEntityChange> changes) {
+		if ( changes.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+		Throwable batchFailure = tryIndex( changes );
+		if ( batchFailure == null ) {
+			return Collections.emptyMap();
+		}
+		if ( changes.size() == 1 ) {
+			return Collections.singletonMap( changes.get( 0 ), batchFailure );
+		}
+		// Index entities one by one to find out which ones fail,
+		// so that a single failing entity does not prevent the others from being indexed.
+		Map<OutboxEntityChange, Throwable> failures = new LinkedHashMap<>();
+		for ( OutboxEntityChange change : changes ) {
+			Throwable failure = tryIndex( Collections.singletonList( change ) );
+			if ( failure != null ) {
+				failures.put( change, failure );
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Loads and indexes entities in a dedicated session,
+	 * so that failures do not affect the transaction holding locks on outbox events.
+	 *
+	 * @return {@code null} if indexing succeeded, the failure otherwise.
+	 */
+	private Throwable tryIndex(List<OutboxEntityChange> changes) {
+		try ( SessionImplementor session = (SessionImplementor) mappingContext.sessionFactory().openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				PojoIndexingPlan<EntityReference> plan = mappingContext.createIndexingPlan( session );
+				for ( OutboxEntityChange change : changes ) {
+					addToPlan( session, plan, change );
+				}
+				plan.process();
+				IndexIndexingPlanExecutionReport<EntityReference> report = Futures.unwrappedExceptionJoin(
+						plan.executeAndReport()
+				);
+				transaction.commit();
+				return report.throwable().orElse( null );
+			}
+			catch (RuntimeException e) {
+				new SuppressingCloser( e ).push( transaction::rollback );
+				return e;
+			}
+		}
+	}
+
+	private void addToPlan(SessionImplementor session, PojoIndexingPlan<EntityReference> plan,
+			OutboxEntityChange change) {
+		HibernateOrmOutboxTypeContext typeContext =
+				mappingContext.typeContextProvider().forHibernateOrmEntityName( change.entityName() );
+		Object providedId = typeContext.toIndexingPlanProvidedId( change.entityId() );
+		Object entity = session.get( change.entityName(), (Serializable) change.entityId() );
+		if ( entity != null ) {
+			if ( change.isAllDirty() ) {
+				plan.addOrUpdate( typeContext.typeIdentifier(), providedId, entity );
+			}
+			else {
+				plan.addOrUpdate( typeContext.typeIdentifier(), providedId, entity, change.dirtyPaths() );
+			}
+		}
+		else if ( typeContext.indexed() ) {
+			// The entity was deleted: we can only delete the document by its identifier
+			if ( providedId == null ) {
+				log.outboxUnableToDeleteDocument( change.entityName(), change.entityId() );
+			}
+			else {
+				plan.purge( typeContext.typeIdentifier(), providedId, null );
+			}
+		}
+	}
+
+	private void retryOrAbandon(SessionImplementor session, OutboxEntityChange change, Throwable failure) {
+		HibernateOrmOutboxTypeContext typeContext =
+				mappingContext.typeContextProvider().forHibernateOrmEntityName( change.entityName() );
+		int retries = change.retries();
+		boolean abandon = retries >= maxRetries;
+
+		EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+		contextBuilder.throwable( failure );
+		contextBuilder.failingOperation( abandon
+				? log.outboxEventProcessingAbandoned( retries + 1 )
+				: log.outboxEventProcessing() );
+		contextBuilder.entityReference( new EntityReferenceImpl( typeContext.typeIdentifier(),
+				typeContext.jpaEntityName(), change.entityId() ) );
+		mappingContext.failureHandler().handle( contextBuilder.build() );
+
+		if ( !abandon ) {
+			session.persist( OutboxEvent.ENTITY_NAME, new OutboxEvent(
+					change.entityName(),
+					typeContext.entityIdToString( change.entityId() ),
+					change.serializedDirtyPaths(),
+					retries + 1
+			) );
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+
+/**
+ * An indexing plan that, instead of indexing entities,
+ * records entity changes as events in the outbox table,
+ * in the same transaction as the changes themselves.
+ * <p>
+ * Events are processed asynchronously by {@link OutboxEventProcessor}.
+ * Only purges, which do not involve any entity, are delegated to a regular indexing plan.
+ */
+public final class OutboxIndexingPlan implements PojoIndexingPlan<EntityReference> {
+
+	private final HibernateOrmOutboxTypeContextProvider typeContextProvider;
+	private final SessionImplementor session;
+	private final PojoIndexingPlan<EntityReference> delegate;
+
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<String, Map<Object, OutboxEntityChange>> changes = new LinkedHashMap<>();
+
+	public OutboxIndexingPlan(HibernateOrmOutboxTypeContextProvider typeContextProvider,
+			SessionImplementor session, PojoIndexingPlan<EntityReference> delegate) {
+		this.typeContextProvider = typeContextProvider;
+		this.session = session;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		change( typeIdentifier, entity ).allDirty();
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		change( typeIdentifier, entity ).allDirty();
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity,
+			String... dirtyPaths) {
+		change( typeIdentifier, entity ).dirty( dirtyPaths );
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		change( typeIdentifier, entity ).allDirty();
+	}
+
+	@Override
+	public void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey) {
+		delegate.purge( typeIdentifier, providedId, providedRoutingKey );
+	}
+
+	@Override
+	public void process() {
+		delegate.process();
+		if ( changes.isEmpty() ) {
+			return;
+		}
+		// Use a child session sharing the connection and transaction,
+		// so that events are written if and only if the transaction is committed.
+		try ( Session childSession = session.sessionWithOptions()
+				.connection()
+				.autoClose( false )
+				.openSession() ) {
+			for ( Map<Object, OutboxEntityChange> changesForEntityName : changes.values() ) {
+				for ( OutboxEntityChange change : changesForEntityName.values() ) {
+					HibernateOrmOutboxTypeContext typeContext =
+							typeContextProvider.forHibernateOrmEntityName( change.entityName() );
+					childSession.persist( OutboxEvent.ENTITY_NAME, new OutboxEvent(
+							change.entityName(),
+							typeContext.entityIdToString( change.entityId() ),
+							change.serializedDirtyPaths(),
+							0
+					) );
+				}
+			}
+			childSession.flush();
+		}
+		changes.clear();
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> executeAndReport() {
+		return delegate.executeAndReport();
+	}
+
+	@Override
+	public void discard() {
+		changes.clear();
+		delegate.discard();
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		changes.clear();
+		delegate.discardNotProcessed();
+	}
+
+	private OutboxEntityChange change(PojoRawTypeIdentifier<?> typeIdentifier, Object entity) {
+		HibernateOrmOutboxTypeContext typeContext = typeContextProvider.forExactType( typeIdentifier );
+		String entityName = typeContext.entityPersister().getEntityName();
+		Object entityId = typeContext.entityPersister().getIdentifier( entity, session );
+		return changes.computeIfAbsent( entityName, ignored -> new LinkedHashMap<>() )
+				.computeIfAbsent( entityId, ignored -> new OutboxEntityChange( entityName, entityId ) );
+	}
+}
@@ -8,8 +8,12 @@
 
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.search.engine.environment.classpath.spi.AggregatedClassLoader;
@@ -71,6 +75,14 @@ public URL locateResource(String name) {
 		return url;
 	}
 
+	@Override
+	public List<URL> locateResources(String name) {
+		// Use a LinkedHashSet for deterministic iteration and to remove duplicates
+		Set<URL> urls = new LinkedHashSet<>( hibernateClassLoaderService.locateResources( name ) );
+		urls.addAll( internalResourceResolver.locateResources( name ) );
+		return new ArrayList<>( urls );
+	}
+
 	@Override
 	public InputStream locateResourceStream(String name) {
 		InputStream in = hibernateClassLoaderService.locateResourceStream( name );
@@ -95,7 +95,10 @@ public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactor
 		// Listen to Hibernate ORM events to index automatically
 		AutomaticIndexingStrategyName automaticIndexingStrategyName =
 				AUTOMATIC_INDEXING_STRATEGY.get( propertySource );
-		if ( AutomaticIndexingStrategyName.SESSION.equals( automaticIndexingStrategyName ) ) {
+		if ( AutomaticIndexingStrategyName.SESSION.equals( automaticIndexingStrategyName )
+				|| AutomaticIndexingStrategyName.OUTBOX.equals( automaticIndexingStrategyName ) ) {
+			// With the outbox strategy, the listener still collects entity changes,
+			// but the indexing plans record them as outbox events instead of indexing.
 			log.debug( "Hibernate Search event listeners activated" );
 			HibernateSearchEventListener hibernateSearchEventListener = new HibernateSearchEventListener(
 					contextFuture.thenApply( Supplier::get ),
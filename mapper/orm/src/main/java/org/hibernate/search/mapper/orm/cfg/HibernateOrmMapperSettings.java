@@ -78,6 +78,46 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * The maximum number of outbox events processed in a single transaction
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 50},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE;
+
+	/**
+	 * The interval between two polls of the outbox table, in milliseconds,
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * The outbox table is polled again immediately as long as polls return full batches of events.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 100},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL;
+
+	/**
+	 * The maximum number of times the processing of an outbox event will be retried after a failure
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Events whose processing failed are moved to the end of the outbox table,
+	 * so that they do not prevent other events from being processed.
+	 * Once an event exceeded the maximum number of retries, the failure is reported to the failure handler
+	 * and the event is removed from the outbox table.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 3},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -110,6 +150,21 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_PROCESS_ANNOTATIONS = PREFIX + Radicals.MAPPING_PROCESS_ANNOTATIONS;
 
+	/**
+	 * Whether Jandex indexes found in the classpath, at {@code META-INF/jandex.idx},
+	 * should be used to skip entity types that do not bear any mapping annotation
+	 * without inspecting them through reflection.
+	 * <p>
+	 * Entity types that are not in any Jandex index are always inspected through reflection.
+	 * Only relevant when {@link #MAPPING_PROCESS_ANNOTATIONS annotation processing} is enabled.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAPPING_DISCOVER_JANDEX_INDEXES}.
+	 */
+	public static final String MAPPING_DISCOVER_JANDEX_INDEXES = PREFIX + Radicals.MAPPING_DISCOVER_JANDEX_INDEXES;
+
 	/**
 	 * The mapping configurer to use.
 	 * <p>
@@ -122,6 +177,17 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * Whether the indexing processor of each indexed entity type should be compiled on startup
+	 * into a flattened, specialized processor, for better indexing throughput.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAPPING_COMPILE_INDEXING_PROCESSORS}.
+	 */
+	public static final String MAPPING_COMPILE_INDEXING_PROCESSORS = PREFIX + Radicals.MAPPING_COMPILE_INDEXING_PROCESSORS;
+
 	/**
 	 * The schema management strategy, controlling how indexes and their schema
 	 * are created, updated, validated or dropped on startup and shutdown.
@@ -146,10 +212,15 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = "automatic_indexing.strategy";
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = "automatic_indexing.synchronization.strategy";
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = "automatic_indexing.enable_dirty_check";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = "automatic_indexing.outbox.batch_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = "automatic_indexing.outbox.polling_interval";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES = "automatic_indexing.outbox.max_retries";
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
+		public static final String MAPPING_DISCOVER_JANDEX_INDEXES = "mapping.discover_jandex_indexes";
 		public static final String MAPPING_CONFIGURER = "mapping.configurer";
+		public static final String MAPPING_COMPILE_INDEXING_PROCESSORS = "mapping.compile_indexing_processors";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
 	}
 
@@ -167,10 +238,15 @@ private Defaults() {
 		public static final BeanReference<AutomaticIndexingSynchronizationStrategy> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( AutomaticIndexingSynchronizationStrategy.class, "write-sync" );
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = 50;
+		public static final long AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = 100L;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES = 3;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
 		public static final boolean MAPPING_PROCESS_ANNOTATIONS = true;
+		public static final boolean MAPPING_DISCOVER_JANDEX_INDEXES = false;
+		public static final boolean MAPPING_COMPILE_INDEXING_PROCESSORS = false;
 		public static final SchemaManagementStrategyName SCHEMA_MANAGEMENT_STRATEGY = SchemaManagementStrategyName.CREATE_OR_VALIDATE;
 	}
 
@@ -26,7 +26,18 @@ public enum HibernateOrmReflectionStrategyName {
 	 * This means using {@link java.lang.invoke.MethodHandles.Lookup} and {@link java.lang.invoke.MethodHandle}
 	 * in particular.
 	 */
-	METHOD_HANDLE( "method-handle" );
+	METHOD_HANDLE( "method-handle" ),
+
+	/**
+	 * Use {@link java.lang.invoke.LambdaMetafactory} to generate accessors for getters,
+	 * which the JIT optimizes better than {@link java.lang.invoke.MethodHandle}s.
+	 * Fields and getters that cannot be called directly from Hibernate Search
+	 * (non-public members, members of non-public classes,
+	 * members of classes not visible from the Hibernate Search class loader, ...)
+	 * rely on {@link java.lang.invoke.MethodHandle}s instead.
+	 * The first such fallback for a getter is logged at the INFO level, the others at the DEBUG level.
+	 */
+	LAMBDA_METAFACTORY( "lambda-metafactory" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -12,6 +12,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 
@@ -277,4 +278,78 @@ SearchException invalidEntitySuperType(String entityName,
 	@Message(id = ID_OFFSET_2 + 35, value = "Hibernate Search shutdown failed: %1$s")
 	void shutdownFailed(String causeMessage, @Cause Throwable cause);
 
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 36, value = "Resuming mass indexing from a checkpoint:"
+			+ " indexes will not be purged, and entities indexed before the checkpoint will be skipped.")
+	void resumingMassIndexingFromCheckpoint();
+
+	@Message(id = ID_OFFSET_2 + 37, value = "Unable to load the mass indexing checkpoint from file '%1$s': %2$s")
+	SearchException unableToLoadMassIndexingCheckpoint(Path file, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 38, value = "Unable to save the mass indexing checkpoint to file '%1$s': %2$s")
+	SearchException unableToSaveMassIndexingCheckpoint(Path file, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 39, value = "Invalid mass indexing checkpoint for entity '%1$s': %2$s")
+	SearchException invalidMassIndexingCheckpoint(String entityName, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 40, value = "Cannot rebuild indexes in shadow indexes when a checkpoint store is set:"
+			+ " an interrupted rebuild cannot be resumed, since shadow indexes are dropped when a rebuild is interrupted."
+			+ " Either disable 'rebuildInShadowIndex' or do not set a checkpoint store.")
+	SearchException massIndexingShadowIndexRebuildWithCheckpoints();
+
+	@Message(id = ID_OFFSET_2 + 41, value = "Unable to read the outbox table mapping: %1$s")
+	SearchException unableToReadOutboxMapping(String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 42, value = "The '%1$s' automatic indexing strategy does not support multi-tenancy."
+			+ " Either disable multi-tenancy or use a different automatic indexing strategy.")
+	SearchException outboxMultiTenancyNotSupported(String strategyName);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 43, value = "Unable to delete the document of entity '%1$s' with identifier '%2$s'"
+			+ " from the outbox processor: the entity no longer exists in the database,"
+			+ " and its document identifier cannot be inferred from its entity identifier."
+			+ " The document may remain in the index until the next mass indexing.")
+	void outboxUnableToDeleteDocument(String entityName, Object entityId);
+
+	@Message(id = ID_OFFSET_2 + 44, value = "Cannot restrict mass indexing of type '%1$s':"
+			+ " this type is not one of the root entity types being mass indexed."
+			+ " Restrictions can only be applied to the following types: %2$s.")
+	SearchException massIndexingConditionOnInvalidType(@FormatWith(ClassFormatter.class) Class<?> type,
+			Collection<String> rootEntityTypes);
+
+	@Message(id = ID_OFFSET_2 + 45, value = "Cannot rebuild indexes in shadow indexes when restricting the entities to mass index:"
+			+ " the shadow indexes would only contain the restricted entities."
+			+ " Either disable 'rebuildInShadowIndex' or do not restrict the entities to mass index.")
+	SearchException massIndexingShadowIndexRebuildWithConditions();
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 46, value = "Mass indexing throttled to %1$.2f entities per second")
+	void indexingThrottled(double entitiesPerSecond);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 47, value = "Mass indexing no longer throttled")
+	void indexingNoLongerThrottled();
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 48, value = "Unable to load the identifiers of entity type '%1$s' using keyset pagination:"
+			+ " its identifier is not a single, comparable value. Identifiers will be loaded in a single scroll instead.")
+	void keysetPaginationNotSupported(String entityName);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET_2 + 50, value = "The outbox event processor did not stop within %1$d milliseconds;"
+			+ " interrupting it. Events being processed will be processed again on the next start.")
+	void outboxEventProcessorStopTimeout(long timeoutMs);
+
+	@Message(id = ID_OFFSET_2 + 51, value = "The '%1$s' automatic indexing strategy does not support the identifier type"
+			+ " of entity '%2$s': identifiers of type '%3$s' cannot be converted to a string."
+			+ " Either use a basic identifier type for this entity or use a different automatic indexing strategy.")
+	SearchException outboxUnsupportedIdentifierType(String strategyName, String entityName, String identifierTypeName);
+
+	@Message(value = "Processing of automatic indexing events from the outbox table")
+	String outboxEventProcessing();
+
+	@Message(value = "Processing of automatic indexing events from the outbox table."
+			+ " Gave up after %1$d attempts: the event was removed from the outbox table")
+	String outboxEventProcessingAbandoned(int attempts);
+
 }
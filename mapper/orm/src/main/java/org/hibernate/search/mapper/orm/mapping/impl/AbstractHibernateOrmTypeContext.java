@@ -12,16 +12,19 @@
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContext;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContext;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContext;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
 
 abstract class AbstractHibernateOrmTypeContext<E>
 		implements HibernateOrmScopeTypeContext<E>, HibernateOrmListenerTypeContext,
-				HibernateOrmSessionTypeContext<E> {
+				HibernateOrmSessionTypeContext<E>, HibernateOrmOutboxTypeContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final PojoRawTypeIdentifier<E> typeIdentifier;
@@ -52,10 +55,26 @@ public String hibernateOrmEntityName() {
 		return entityPersister.getEntityName();
 	}
 
+	@Override
 	public EntityPersister entityPersister() {
 		return entityPersister;
 	}
 
+	@Override
+	public void checkEntityIdToStringSupported() {
+		identifierStringRepresentableType();
+	}
+
+	@Override
+	public String entityIdToString(Object entityId) {
+		return identifierStringRepresentableType().toString( entityId );
+	}
+
+	@Override
+	public Object entityIdFromString(String entityIdString) {
+		return identifierStringRepresentableType().fromStringValue( entityIdString );
+	}
+
 	public EntityTypeDescriptor<E> entityTypeDescriptor() {
 		if ( entityTypeDescriptor == null ) {
 			// TODO HSEARCH-3771 Mass indexing for ORM's dynamic-map entity types
@@ -64,4 +83,13 @@ public EntityTypeDescriptor<E> entityTypeDescriptor() {
 		}
 		return entityTypeDescriptor;
 	}
+
+	@SuppressWarnings("unchecked") // The identifier type handles values of the identifier type, by definition
+	private StringRepresentableType<Object> identifierStringRepresentableType() {
+		Type identifierType = entityPersister.getIdentifierType();
+		if ( !( identifierType instanceof StringRepresentableType ) ) {
+			throw log.outboxUnsupportedIdentifierType( "outbox", hibernateOrmEntityName(), identifierType.getName() );
+		}
+		return (StringRepresentableType<Object>) identifierType;
+	}
 }
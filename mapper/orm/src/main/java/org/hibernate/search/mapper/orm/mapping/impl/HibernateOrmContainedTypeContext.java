@@ -19,6 +19,11 @@ private HibernateOrmContainedTypeContext(HibernateOrmContainedTypeContext.Builde
 		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName );
 	}
 
+	@Override
+	public boolean indexed() {
+		return false;
+	}
+
 	@Override
 	public Object toIndexingPlanProvidedId(Object entityId) {
 		// The concept of document ID is not relevant for contained types,
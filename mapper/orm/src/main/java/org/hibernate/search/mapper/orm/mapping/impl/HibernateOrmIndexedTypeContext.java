@@ -67,6 +67,11 @@ public IndexManager indexManager() {
 		return indexManager.toAPI();
 	}
 
+	@Override
+	public boolean indexed() {
+		return true;
+	}
+
 	@Override
 	public Object toIndexingPlanProvidedId(Object entityId) {
 		if ( documentIdIsEntityId ) {
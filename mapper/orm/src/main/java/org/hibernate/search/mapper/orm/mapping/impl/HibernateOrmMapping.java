@@ -33,6 +33,9 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPreStopContext;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxMappingContext;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxEventProcessor;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
@@ -60,16 +63,42 @@
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeDelegate;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class HibernateOrmMapping extends AbstractPojoMappingImplementor<HibernateOrmMapping>
 		implements SearchMapping, HibernateOrmMappingContext,
 				HibernateOrmListenerContextProvider,
-				HibernateOrmScopeMappingContext, HibernateOrmSearchSessionMappingContext {
+				HibernateOrmScopeMappingContext, HibernateOrmSearchSessionMappingContext,
+				HibernateOrmOutboxMappingContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.asLong()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends AutomaticIndexingSynchronizationStrategy>> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY )
 					.asBeanReference( AutomaticIndexingSynchronizationStrategy.class )
@@ -112,11 +141,21 @@ public static MappingImplementor<HibernateOrmMapping> create(
 			SchemaManagementStrategyName schemaManagementStrategyName = SCHEMA_MANAGEMENT_STRATEGY.get( propertySource );
 			SchemaManagementListener schemaManagementListener = new SchemaManagementListener( schemaManagementStrategyName );
 
+			OutboxEventProcessor outboxEventProcessor = null;
+			if ( AutomaticIndexingStrategyName.OUTBOX.equals( AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) ) ) {
+				outboxEventProcessor = new OutboxEventProcessor(
+						AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE.get( propertySource ),
+						AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL.get( propertySource ),
+						AUTOMATIC_INDEXING_OUTBOX_MAX_RETRIES.get( propertySource )
+				);
+			}
+
 			return new HibernateOrmMapping(
 					mappingDelegate, typeContextContainer, sessionFactory,
 					synchronizationStrategyHolder,
 					cacheLookupStrategy, fetchSize,
-					schemaManagementListener
+					schemaManagementListener,
+					outboxEventProcessor
 			);
 		}
 		catch (RuntimeException e) {
@@ -133,6 +172,7 @@ public static MappingImplementor<HibernateOrmMapping> create(
 	private final int fetchSize;
 
 	private final SchemaManagementListener schemaManagementListener;
+	private final OutboxEventProcessor outboxEventProcessor;
 
 	private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
@@ -140,7 +180,8 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
 			int fetchSize,
-			SchemaManagementListener schemaManagementListener) {
+			SchemaManagementListener schemaManagementListener,
+			OutboxEventProcessor outboxEventProcessor) {
 		super( mappingDelegate );
 		this.typeContextContainer = typeContextContainer;
 		this.sessionFactory = sessionFactory;
@@ -148,6 +189,7 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
 		this.schemaManagementListener = schemaManagementListener;
+		this.outboxEventProcessor = outboxEventProcessor;
 	}
 
 	@Override
@@ -158,11 +200,20 @@ public CompletableFuture<?> start(MappingStartContext context) {
 			return CompletableFuture.completedFuture( null );
 		}
 		PojoScopeSchemaManager schemaManager = scope.get().schemaManagerDelegate();
-		return schemaManagementListener.onStart( context, schemaManager );
+		CompletableFuture<?> future = schemaManagementListener.onStart( context, schemaManager );
+		if ( outboxEventProcessor != null ) {
+			// Only start processing outbox events once indexes exist
+			future = future.thenRun( () -> outboxEventProcessor.start( this ) );
+		}
+		return future;
 	}
 
 	@Override
 	public CompletableFuture<?> preStop(MappingPreStopContext context) {
+		if ( outboxEventProcessor != null ) {
+			// Stop processing outbox events before indexes get dropped or backends get stopped
+			outboxEventProcessor.stop();
+		}
 		Optional<SearchScopeImpl<Object>> scope = createAllScope();
 		if ( !scope.isPresent() ) {
 			// No indexed type
@@ -244,6 +295,11 @@ public PojoIndexer createIndexer(SessionImplementor sessionImplementor) {
 		return HibernateOrmSearchSession.get( this, sessionImplementor ).createIndexer();
 	}
 
+	@Override
+	public PojoWorkSessionContext<?> workSessionContext(SessionImplementor sessionImplementor) {
+		return HibernateOrmSearchSession.get( this, sessionImplementor );
+	}
+
 	@Override
 	public EntityLoadingCacheLookupStrategy cacheLookupStrategy() {
 		return cacheLookupStrategy;
@@ -292,6 +348,16 @@ public ConfiguredAutomaticIndexingSynchronizationStrategy currentAutomaticIndexi
 				.configuredAutomaticIndexingSynchronizationStrategy();
 	}
 
+	@Override
+	public boolean automaticIndexingThroughOutbox() {
+		return outboxEventProcessor != null;
+	}
+
+	@Override
+	public PojoIndexingPlan<EntityReference> createIndexingPlan(SessionImplementor session) {
+		return HibernateOrmSearchSession.get( this, session ).createIndexingPlan();
+	}
+
 	@Override
 	public HibernateOrmTypeContextContainer typeContextProvider() {
 		return typeContextContainer;
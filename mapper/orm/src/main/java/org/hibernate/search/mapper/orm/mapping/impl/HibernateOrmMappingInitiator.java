@@ -38,6 +38,18 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_PROCESS_ANNOTATIONS )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> MAPPING_DISCOVER_JANDEX_INDEXES =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_DISCOVER_JANDEX_INDEXES )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_DISCOVER_JANDEX_INDEXES )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> MAPPING_COMPILE_INDEXING_PROCESSORS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_COMPILE_INDEXING_PROCESSORS )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_COMPILE_INDEXING_PROCESSORS )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends HibernateOrmSearchMappingConfigurer>> MAPPING_CONFIGURER =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_CONFIGURER )
 					.asBeanReference( HibernateOrmSearchMappingConfigurer.class )
@@ -97,6 +109,7 @@ public void configure(MappingBuildContext buildContext,
 			annotatedTypeDiscoveryEnabled( true );
 
 			AnnotationMappingConfigurationContext annotationMapping = annotationMapping();
+			annotationMapping.discoverJandexIndexesFromClasspath( MAPPING_DISCOVER_JANDEX_INDEXES.get( propertySource ) );
 			for ( PersistentClass persistentClass : basicTypeMetadataProvider.getPersistentClasses() ) {
 				if ( persistentClass.hasPojoRepresentation() ) {
 					annotationMapping.add( persistentClass.getMappedClass() );
@@ -104,6 +117,8 @@ public void configure(MappingBuildContext buildContext,
 			}
 		}
 
+		indexingProcessorCompilationEnabled( MAPPING_COMPILE_INDEXING_PROCESSORS.get( propertySource ) );
+
 		// Apply the user-provided mapping configurer if necessary
 		final BeanResolver beanResolver = buildContext.beanResolver();
 		MAPPING_CONFIGURER.getAndMap( propertySource, beanResolver::resolve )
@@ -71,6 +71,25 @@ public <E> HibernateOrmContainedTypeContext<E> containedForExactType(PojoRawType
 		return (HibernateOrmContainedTypeContext<E>) containedTypeContexts.get( typeIdentifier );
 	}
 
+	@Override
+	public AbstractHibernateOrmTypeContext<?> forExactType(PojoRawTypeIdentifier<?> typeIdentifier) {
+		AbstractHibernateOrmTypeContext<?> result = indexedTypeContexts.get( typeIdentifier );
+		if ( result != null ) {
+			return result;
+		}
+
+		result = containedTypeContexts.get( typeIdentifier );
+
+		return result;
+	}
+
+	@Override
+	public Collection<AbstractHibernateOrmTypeContext<?>> allTypeContexts() {
+		List<AbstractHibernateOrmTypeContext<?>> result = new ArrayList<>( indexedTypeContexts.values() );
+		result.addAll( containedTypeContexts.values() );
+		return result;
+	}
+
 	@Override
 	public AbstractHibernateOrmTypeContext<?> forHibernateOrmEntityName(String hibernateOrmEntityName) {
 		AbstractHibernateOrmTypeContext<?> result =
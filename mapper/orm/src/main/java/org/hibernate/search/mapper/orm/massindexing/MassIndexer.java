@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.massindexing;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.CacheMode;
@@ -39,6 +40,25 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of each entity type.
+	 * <p>
+	 * When using more than one thread, the identifiers of each entity type
+	 * are split into ranges of values, based on the lowest and highest identifier,
+	 * and each range is loaded by a different thread, with its own session and transaction.
+	 * This is only possible for entity types whose identifier is an integer ({@code long}, {@code int}, ...):
+	 * the identifiers of other entity types are always loaded by a single thread.
+	 * <p>
+	 * This setting is ignored when {@link #limitIndexedObjectsTo(long) limiting the number of indexed objects}.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -46,6 +66,22 @@ public interface MassIndexer {
 	 */
 	MassIndexer batchSizeToLoadObjects(int batchSize);
 
+	/**
+	 * Sets the maximum number of batches each entity loading thread may submit to the backend
+	 * before waiting for the oldest one to be indexed.
+	 * <p>
+	 * Higher values allow loading to proceed while the backend is busy,
+	 * at the cost of holding more loaded entities in memory:
+	 * up to {@code threadsToLoadObjects * batchSizeToLoadObjects * maxInFlightBatchesPerThread}
+	 * entities per type indexed in parallel.
+	 * <p>
+	 * Defaults to {@code 4}.
+	 * @param maxInFlightBatches the maximum number of batches in flight per thread; must be at least 1
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer maxInFlightBatchesPerThread(int maxInFlightBatches);
+
 	/**
 	 * Sets the cache interaction mode for the data loading tasks.
 	 * <p>
@@ -146,6 +182,26 @@ public interface MassIndexer {
 	 */
 	MassIndexer idFetchSize(int idFetchSize);
 
+	/**
+	 * Enables loading primary keys page by page, using keyset pagination,
+	 * instead of scrolling through all primary keys in a single, long transaction.
+	 * <p>
+	 * Each page of primary keys is loaded with a separate query and in a separate, short transaction,
+	 * selecting the primary keys following the last one of the previous page in ascending order.
+	 * This avoids keeping a cursor and a database snapshot open for the whole duration of mass indexing,
+	 * and avoids long transactions being killed by the {@link #transactionTimeout(int) transaction timeout},
+	 * which then applies to each page individually.
+	 * <p>
+	 * Only supported for entity types whose identifier is a single, comparable value:
+	 * primary keys of other entity types are always loaded in a single scroll.
+	 * <p>
+	 * Defaults to {@code 0}, meaning primary keys are loaded in a single scroll.
+	 * @param pageSize the number of primary keys to load in each page, or {@code 0} to load them in a single scroll
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer idLoadingPageSize(int pageSize);
+
 	/**
 	 * Timeout of transactions for loading ids and entities to be re-indexed.
 	 * <p>
@@ -181,4 +237,162 @@ public interface MassIndexer {
 	 * @return {@code this} for method chaining
 	 */
 	MassIndexer failureHandler(MassIndexingFailureHandler failureHandler);
+
+	/**
+	 * Sets the {@link MassIndexingCheckpointStore} used to persist the progress of mass indexing,
+	 * so that it can be {@link #resumeFromCheckpoint(boolean) resumed} after a crash or an interruption.
+	 * <p>
+	 * Progress is saved periodically (see {@link #checkpointInterval(int)}),
+	 * always after the indexes have been flushed,
+	 * as well as when mass indexing is interrupted or fails.
+	 * The checkpoint is cleared when mass indexing completes successfully.
+	 * <p>
+	 * Progress within an entity type is only tracked for entity types whose identifier is an integer
+	 * ({@code long}, {@code int}, ...): other entity types are either completely indexed or not indexed at all.
+	 * <p>
+	 * Defaults to no store, i.e. progress is not saved.
+	 *
+	 * @param store The store for checkpoints, or {@code null} to disable checkpoints.
+	 * @return {@code this} for method chaining
+	 * @see #checkpointFile(Path)
+	 */
+	@Incubating
+	MassIndexer checkpointStore(MassIndexingCheckpointStore store);
+
+	/**
+	 * Sets a file as the {@link #checkpointStore(MassIndexingCheckpointStore) checkpoint store}.
+	 *
+	 * @param file The file to save checkpoints to.
+	 * @return {@code this} for method chaining
+	 * @see #checkpointStore(MassIndexingCheckpointStore)
+	 */
+	@Incubating
+	MassIndexer checkpointFile(Path file);
+
+	/**
+	 * Sets the interval between two checkpoints.
+	 * <p>
+	 * Each checkpoint requires flushing the indexes,
+	 * so a lower interval means less work to redo when resuming, but slower mass indexing.
+	 * <p>
+	 * Only relevant when a {@link #checkpointStore(MassIndexingCheckpointStore) checkpoint store} is set.
+	 * <p>
+	 * Defaults to {@code 60}.
+	 *
+	 * @param intervalInSeconds The interval between two checkpoints, in seconds.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer checkpointInterval(int intervalInSeconds);
+
+	/**
+	 * Whether to resume mass indexing from the last checkpoint saved in the
+	 * {@link #checkpointStore(MassIndexingCheckpointStore) checkpoint store}, if any.
+	 * <p>
+	 * When resuming, the indexes are neither dropped nor purged,
+	 * entities that were already indexed according to the checkpoint are skipped,
+	 * and other entities are added or updated in the indexes.
+	 * Entities deleted from the database since the checkpoint was saved
+	 * will remain in the indexes.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @param enable {@code true} to resume from the last checkpoint, {@code false} to start from scratch.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer resumeFromCheckpoint(boolean enable);
+
+	/**
+	 * Whether to rebuild indexes in new, "shadow" indexes,
+	 * which will replace the current indexes only after mass indexing completes successfully.
+	 * <p>
+	 * While mass indexing is in progress, search queries keep targeting the current indexes,
+	 * and automatic indexing applies changes to both the current indexes and the shadow indexes.
+	 * If mass indexing fails or is interrupted, the shadow indexes are dropped
+	 * and the current indexes are left untouched.
+	 * <p>
+	 * When enabled, {@link #dropAndCreateSchemaOnStart(boolean)} and {@link #purgeAllOnStart(boolean)} are ignored,
+	 * since shadow indexes are always created from scratch with the current schema.
+	 * This option cannot be combined with a {@link #checkpointStore(MassIndexingCheckpointStore) checkpoint store}.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @param enable {@code true} to rebuild indexes in shadow indexes, {@code false} to rebuild the current indexes.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer rebuildInShadowIndex(boolean enable);
+
+	/**
+	 * Restricts the entities of the given type to index to those matching the given condition.
+	 * <p>
+	 * The condition is applied both when counting entities to index and when loading their identifiers,
+	 * so only matching entities are loaded from the database,
+	 * e.g. only entities updated since the last run of a periodic mass indexing,
+	 * see {@link MassIndexingCondition#atLeast(String, Comparable)}.
+	 * <p>
+	 * When at least one type is restricted, the indexes are neither dropped nor purged on start,
+	 * regardless of {@link #dropAndCreateSchemaOnStart(boolean)} and {@link #purgeAllOnStart(boolean)},
+	 * and documents of matching entities are added or updated in the indexes.
+	 * Documents of entities that do not match the condition are left untouched:
+	 * in particular, entities deleted from the database are not removed from the indexes.
+	 * This option cannot be combined with {@link #rebuildInShadowIndex(boolean)}.
+	 * <p>
+	 * Defaults to no restriction.
+	 *
+	 * @param type An entity type being mass indexed.
+	 * The condition also applies to subtypes of this type,
+	 * but restricting a subtype of an entity type being mass indexed is not supported.
+	 * @param condition The condition entities of the given type must match in order to be indexed.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer restrict(Class<?> type, MassIndexingCondition condition);
+
+	/**
+	 * Sets the maximum number of entities to load and index per second, across all threads.
+	 * <p>
+	 * Use this to limit the load put on the database and on the backend,
+	 * e.g. when mass indexing while the application is serving requests.
+	 * <p>
+	 * Defaults to {@code 0}, meaning no limit.
+	 * @param maxEntitiesPerSecond the maximum number of entities per second, or {@code 0} for no limit
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer maxEntitiesPerSecond(double maxEntitiesPerSecond);
+
+	/**
+	 * Sets the maximum number of indexing works submitted to the backend but not completed yet,
+	 * across all threads.
+	 * <p>
+	 * When the limit is reached, threads loading entities wait for some works to complete
+	 * before loading the next batch.
+	 * <p>
+	 * Defaults to {@code 0}, meaning no limit other than the one induced by
+	 * {@link #threadsToLoadObjects(int)} and {@link #batchSizeToLoadObjects(int)}.
+	 * @param maxInFlightWorks the maximum number of indexing works in flight, or {@code 0} for no limit
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer maxInFlightWorks(int maxInFlightWorks);
+
+	/**
+	 * Enables adaptive throttling of mass indexing, based on the latency of the backend.
+	 * <p>
+	 * When the backend takes longer than the given threshold to complete the indexing works of a batch,
+	 * e.g. because of slow bulk requests to Elasticsearch or of a full Lucene indexing queue,
+	 * the rate of mass indexing is halved;
+	 * when it no longer does, the rate is raised back progressively,
+	 * up to {@link #maxEntitiesPerSecond(double) the maximum rate} if any.
+	 * Changes of the rate are reported through {@link MassIndexingMonitor#throttlingRateChanged(double)}.
+	 * <p>
+	 * Defaults to {@code 0}, meaning adaptive throttling is disabled.
+	 * @param latencyThresholdInMilliseconds the latency above which mass indexing should slow down,
+	 * in milliseconds, or {@code 0} to disable adaptive throttling
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer adaptiveThrottling(int latencyThresholdInMilliseconds);
 }
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import java.util.Map;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A store for mass indexing checkpoints,
+ * allowing to resume mass indexing after a crash or an interruption.
+ * <p>
+ * A checkpoint is represented as a map of strings:
+ * implementations should persist it as-is, and should not make any assumption regarding its content.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see MassIndexer#checkpointStore(MassIndexingCheckpointStore)
+ */
+@Incubating
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * @return The last checkpoint passed to {@link #save(Map)}, or an empty map if there is none.
+	 */
+	Map<String, String> load();
+
+	/**
+	 * Persists a checkpoint, replacing the previous one.
+	 * <p>
+	 * When this method returns, the checkpoint must have been persisted durably.
+	 *
+	 * @param checkpoint The checkpoint to persist.
+	 */
+	void save(Map<String, String> checkpoint);
+
+	/**
+	 * Removes the persisted checkpoint, if any.
+	 * <p>
+	 * Called when mass indexing completes.
+	 */
+	void clear();
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A condition restricting the entities to mass index,
+ * expressed as a JPA Criteria predicate.
+ *
+ * @see MassIndexer#restrict(Class, MassIndexingCondition)
+ */
+@Incubating
+@FunctionalInterface
+public interface MassIndexingCondition {
+
+	/**
+	 * @param criteriaBuilder A criteria builder.
+	 * @param root The root of the queries counting and loading entities to index,
+	 * i.e. the entity type passed to {@link MassIndexer#restrict(Class, MassIndexingCondition)}.
+	 * @return A predicate that entities must match in order to be indexed.
+	 */
+	Predicate toPredicate(CriteriaBuilder criteriaBuilder, Root<?> root);
+
+	/**
+	 * @param attributeName The name of an attribute of the entity, typically a timestamp of the last update.
+	 * @param lowerBound The lower bound, included.
+	 * @param <Y> The type of the attribute.
+	 * @return A condition matching entities whose given attribute is greater than or equal to the given lower bound.
+	 */
+	static <Y extends Comparable<? super Y>> MassIndexingCondition atLeast(String attributeName, Y lowerBound) {
+		return (criteriaBuilder, root) -> criteriaBuilder.greaterThanOrEqualTo( root.<Y>get( attributeName ), lowerBound );
+	}
+
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.massindexing;
 
+import org.hibernate.search.util.common.annotation.Incubating;
+
 /**
  * A component that monitors progress of mass indexing.
  * <p>
@@ -93,6 +95,21 @@ public interface MassIndexingMonitor {
 	 */
 	void addToTotalCount(long increment);
 
+	/**
+	 * Notify the monitor that throttling changed the maximum indexing rate.
+	 * <p>
+	 * This method is only invoked when {@link MassIndexer#adaptiveThrottling(int) adaptive throttling} is enabled.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entitiesPerSecond the new maximum number of entities indexed per second,
+	 * or {@code 0} if indexing is no longer throttled
+	 */
+	@Incubating
+	default void throttlingRateChanged(double entitiesPerSecond) {
+		// No-op by default
+	}
+
 	/**
 	 * Notify the monitor that indexing is complete.
 	 */
@@ -9,19 +9,27 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
 import org.hibernate.search.mapper.orm.logging.impl.HibernateOrmEventContextMessages;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCondition;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeIndexRebuild;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
 import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -42,16 +50,28 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final PojoScopeWorkspace scopeWorkspace;
 
 	private final int typesToIndexInParallel;
+	private final int identifierLoadingThreads;
 	private final int documentBuilderThreads;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final int maxInFlightBatchesPerThread;
 	private final boolean mergeSegmentsOnFinish;
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	private final int idLoadingPageSize;
 	private final Integer transactionTimeout;
+	private final MassIndexingCheckpointer checkpointer;
+	private final int checkpointIntervalInSeconds;
+	// Starts a rebuild in shadow indexes, or null to rebuild the current indexes
+	private final Supplier<CompletableFuture<PojoScopeIndexRebuild>> indexRebuildStarter;
+	// Conditions restricting the entities to reindex, by root entity type
+	private final Map<HibernateOrmMassIndexingIndexedTypeContext<?>, MassIndexingCondition> conditions;
+	private final MassIndexingThrottle throttle;
+	private PojoScopeIndexRebuild indexRebuild;
+	private PojoScopeWorkspace indexRebuildWorkspace;
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 
 	BatchCoordinator(HibernateOrmMassIndexingMappingContext mappingContext,
@@ -59,10 +79,14 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			MassIndexingNotifier notifier,
 			Set<HibernateOrmMassIndexingIndexedTypeContext<?>> rootEntityTypes,
 			PojoScopeSchemaManager scopeSchemaManager, PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
-			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
+			int typesToIndexInParallel, int identifierLoadingThreads, int documentBuilderThreads, CacheMode cacheMode,
+			int objectLoadingBatchSize, int maxInFlightBatchesPerThread, long objectsLimit, boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
-			int idFetchSize, Integer transactionTimeout) {
+			int idFetchSize, int idLoadingPageSize, Integer transactionTimeout,
+			MassIndexingCheckpointer checkpointer, int checkpointIntervalInSeconds,
+			Supplier<CompletableFuture<PojoScopeIndexRebuild>> indexRebuildStarter,
+			Map<HibernateOrmMassIndexingIndexedTypeContext<?>, MassIndexingCondition> conditions,
+			MassIndexingThrottle throttle) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -71,16 +95,24 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.scopeWorkspace = scopeWorkspace;
 
 		this.idFetchSize = idFetchSize;
+		this.idLoadingPageSize = idLoadingPageSize;
 		this.transactionTimeout = transactionTimeout;
 		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = documentBuilderThreads;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
+		this.maxInFlightBatchesPerThread = maxInFlightBatchesPerThread;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
 		this.objectsLimit = objectsLimit;
+		this.checkpointer = checkpointer;
+		this.checkpointIntervalInSeconds = checkpointIntervalInSeconds;
+		this.indexRebuildStarter = indexRebuildStarter;
+		this.conditions = conditions;
+		this.throttle = throttle;
 	}
 
 	@Override
@@ -89,6 +121,10 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchCoordinator instance not expected to be reused" );
 		}
 
+		if ( checkpointer != null ) {
+			checkpointer.start();
+		}
+
 		beforeBatch(); // purgeAll and mergeSegments if enabled
 		doBatchWork();
 		afterBatch(); // mergeSegments if enabled and flush
@@ -97,14 +133,32 @@ public void runWithFailureHandler() throws InterruptedException {
 	@Override
 	protected void cleanUpOnInterruption() throws InterruptedException {
 		cancelPendingTasks();
+		if ( indexRebuild != null ) {
+			// The current indexes were left untouched: just drop the shadow indexes
+			abortIndexRebuild();
+			return;
+		}
+		Map<String, String> checkpoint = checkpointer == null ? null : checkpointer.snapshot();
 		// Indexing performed before the exception must still be committed,
 		// in order to leave the index in a consistent state
 		afterBatchOnInterruption();
+		if ( checkpoint != null ) {
+			checkpointer.save( checkpoint );
+		}
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
+	protected void cleanUpOnFailure() throws InterruptedException {
 		cancelPendingTasks();
+		if ( indexRebuild != null ) {
+			// The current indexes were left untouched: just drop the shadow indexes
+			abortIndexRebuild();
+			return;
+		}
+		if ( checkpointer != null ) {
+			// Save progress so that mass indexing can be resumed once the cause of the failure is fixed
+			checkpoint();
+		}
 	}
 
 	@Override
@@ -122,6 +176,12 @@ protected void notifyFailure(RuntimeException exception) {
 		getNotifier().notifyIndexingCompletedWithFailure( exception );
 	}
 
+	private void abortIndexRebuild() throws InterruptedException {
+		PojoScopeIndexRebuild abortedIndexRebuild = indexRebuild;
+		indexRebuild = null;
+		Futures.unwrappedExceptionGet( abortedIndexRebuild.abort() );
+	}
+
 	private void cancelPendingTasks() {
 		for ( Future<?> task : indexingFutures ) {
 			if ( !task.isDone() ) {
@@ -145,9 +205,37 @@ private void doBatchWork() throws InterruptedException {
 		executor.shutdown();
 
 		// Wait for the executor to finish
-		Futures.unwrappedExceptionGet(
-				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
-		);
+		CompletableFuture<Void> allIndexingFuture =
+				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) );
+		if ( checkpointer == null ) {
+			Futures.unwrappedExceptionGet( allIndexingFuture );
+			return;
+		}
+		while ( true ) {
+			try {
+				allIndexingFuture.get( checkpointIntervalInSeconds, TimeUnit.SECONDS );
+				return;
+			}
+			catch (TimeoutException e) {
+				checkpoint();
+			}
+			catch (ExecutionException e) {
+				throw Throwables.toRuntimeException( e.getCause() );
+			}
+		}
+	}
+
+	/**
+	 * Saves the progress to the checkpoint store,
+	 * after flushing the indexes so that the progress reflects what is actually persisted.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for the flush.
+	 */
+	private void checkpoint() throws InterruptedException {
+		// Take the snapshot first: any work it accounts for was submitted before the flush
+		Map<String, String> checkpoint = checkpointer.snapshot();
+		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		checkpointer.save( checkpoint );
 	}
 
 	private <E> BatchIndexingWorkspace<E, ?> createBatchIndexingWorkspace(HibernateOrmMassIndexingIndexedTypeContext<E> type) {
@@ -157,9 +245,10 @@ private void doBatchWork() throws InterruptedException {
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
 				type, idAttributeOfType,
-				documentBuilderThreads, cacheMode,
-				objectLoadingBatchSize,
-				objectsLimit, idFetchSize, transactionTimeout
+				identifierLoadingThreads, documentBuilderThreads, cacheMode,
+				objectLoadingBatchSize, maxInFlightBatchesPerThread,
+				objectsLimit, idFetchSize, idLoadingPageSize, transactionTimeout,
+				checkpointer, indexRebuild, conditions.get( type ), throttle
 		);
 	}
 
@@ -167,11 +256,22 @@ mappingContext, sessionContext, getNotifier(),
 	 * Operations to do after all subthreads finished their work on index
 	 */
 	private void afterBatch() throws InterruptedException {
+		PojoScopeWorkspace workspace = indexRebuild != null ? indexRebuildWorkspace : scopeWorkspace;
 		if ( this.mergeSegmentsOnFinish ) {
-			Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
+			Futures.unwrappedExceptionGet( workspace.mergeSegments() );
+		}
+		Futures.unwrappedExceptionGet( workspace.flush() );
+		Futures.unwrappedExceptionGet( workspace.refresh() );
+		if ( indexRebuild != null ) {
+			PojoScopeIndexRebuild completedIndexRebuild = indexRebuild;
+			// Whatever happens next, the rebuild must not be aborted: the shadow indexes may already be in use
+			indexRebuild = null;
+			Futures.unwrappedExceptionGet( completedIndexRebuild.complete() );
+		}
+		if ( checkpointer != null ) {
+			// Mass indexing is complete: the next one must start from scratch
+			checkpointer.clear();
 		}
-		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
-		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
 	}
 
 	/**
@@ -186,6 +286,23 @@ private void afterBatchOnInterruption() throws InterruptedException {
 	 * Optional operations to do before the multiple-threads start indexing
 	 */
 	private void beforeBatch() throws InterruptedException {
+		if ( indexRebuildStarter != null ) {
+			// Shadow indexes are created from scratch: no need to drop or purge anything
+			indexRebuild = Futures.unwrappedExceptionGet( indexRebuildStarter.get() );
+			indexRebuildWorkspace = indexRebuild.workspace( sessionContext );
+			return;
+		}
+
+		if ( checkpointer != null && checkpointer.isResuming() ) {
+			// Documents indexed before the checkpoint must be preserved
+			return;
+		}
+
+		if ( !conditions.isEmpty() ) {
+			// Only some entities will be reindexed: documents of other entities must be preserved
+			return;
+		}
+
 		if ( this.dropAndCreateSchemaOnStart ) {
 			RootFailureCollector failureCollector = new RootFailureCollector(
 					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
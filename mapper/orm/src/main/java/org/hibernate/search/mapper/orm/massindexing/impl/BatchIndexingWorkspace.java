@@ -13,11 +13,14 @@
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.CacheMode;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCondition;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeIndexRebuild;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -41,17 +44,26 @@
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
 
-	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
+	private final MassIndexingCheckpointer checkpointer;
+	private final PojoScopeIndexRebuild indexRebuild;
+	// Restricts the entities to index, or null to index all entities
+	private final MassIndexingCondition condition;
+	private final MassIndexingThrottle throttle;
 
+	private ProducerConsumerQueue<IdentifierBatch<I>> primaryKeyStream;
+
+	private final int identifierLoadingThreads;
 	private final int documentBuilderThreads;
 
 	// loading options
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final int maxInFlightBatchesPerThread;
 
 	private final long objectsLimit;
 
 	private final int idFetchSize;
+	private final int idLoadingPageSize;
 	private final Integer transactionTimeout;
 
 	private final List<CompletableFuture<?>> identifierProducingFutures = new ArrayList<>();
@@ -61,9 +73,11 @@
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
-			long objectsLimit,
-			int idFetchSize, Integer transactionTimeout) {
+			int identifierLoadingThreads, int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int maxInFlightBatchesPerThread, long objectsLimit,
+			int idFetchSize, int idLoadingPageSize, Integer transactionTimeout,
+			MassIndexingCheckpointer checkpointer, PojoScopeIndexRebuild indexRebuild,
+			MassIndexingCondition condition, MassIndexingThrottle throttle) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -71,19 +85,24 @@
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
 		this.idFetchSize = idFetchSize;
+		this.idLoadingPageSize = idLoadingPageSize;
 		this.transactionTimeout = transactionTimeout;
 
 		//thread pool sizing:
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = objectLoadingThreads;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
-
-		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
+		this.maxInFlightBatchesPerThread = maxInFlightBatchesPerThread;
 
 		this.objectsLimit = objectsLimit;
+
+		this.checkpointer = checkpointer;
+		this.indexRebuild = indexRebuild;
+		this.condition = condition;
+		this.throttle = throttle;
 	}
 
 	@Override
@@ -94,9 +113,22 @@ public void runWithFailureHandler() throws InterruptedException {
 
 		final BatchTransactionalContext transactionalContext =
 				new BatchTransactionalContext( mappingContext.sessionFactory() );
+		IdentifierPartitioner<E, I> partitioner = new IdentifierPartitioner<>(
+				mappingContext.sessionFactory(), sessionContext.tenantIdentifier(),
+				type, idAttributeOfType, condition
+		);
+		List<IdentifierPartitionProgress<I>> partitions = createIdentifierPartitions( partitioner );
+		if ( partitions.isEmpty() ) {
+			log.debugf( "Indexing for %s was already completed according to the checkpoint", type.jpaEntityName() );
+			return;
+		}
+		// Identifiers must be loaded in order to know which range was indexed
+		boolean orderByIdentifier = checkpointer != null && partitioner.isPartitionable();
+		//pipelining queues:
+		this.primaryKeyStream = new ProducerConsumerQueue<>( partitions.size() );
 		// First start the consumers, then the producers (reverse order):
 		startIndexing();
-		startProducingPrimaryKeys( transactionalContext );
+		startProducingPrimaryKeys( transactionalContext, partitions, orderByIdentifier );
 		// Wait for indexing to finish.
 		Futures.unwrappedExceptionGet(
 				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
@@ -124,42 +156,88 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
-				transactionalContext,
-				getNotifier(),
-				new IdentifierProducer<>(
+	private List<IdentifierPartitionProgress<I>> createIdentifierPartitions(IdentifierPartitioner<E, I> partitioner) {
+		// When there is a limit, it is enforced by each producer: we need a single one.
+		int maxPartitionCount = objectsLimit != 0 ? 1 : identifierLoadingThreads;
+		if ( checkpointer != null ) {
+			return checkpointer.createPartitions( type.jpaEntityName(), partitioner, maxPartitionCount );
+		}
+		List<IdentifierPartitionProgress<I>> progresses = new ArrayList<>();
+		for ( IdentifierPartition<I> partition : partitioner.createPartitions( maxPartitionCount ) ) {
+			progresses.add( IdentifierPartitionProgress.start( partition ) );
+		}
+		return progresses;
+	}
+
+	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext,
+			List<IdentifierPartitionProgress<I>> partitions, boolean orderByIdentifier) {
+		int effectiveIdLoadingPageSize = idLoadingPageSize;
+		if ( effectiveIdLoadingPageSize > 0 && !supportsKeysetPagination() ) {
+			log.keysetPaginationNotSupported( type.jpaEntityName() );
+			effectiveIdLoadingPageSize = 0;
+		}
+		//one thread per partition: each list is consistent as produced by one transaction,
+		//unless using keyset pagination, in which case each page is loaded in its own transaction
+		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
+				partitions.size(),
+				MassIndexerImpl.THREAD_NAME_PREFIX + type.jpaEntityName() + " - ID loading"
+		);
+		try {
+			for ( IdentifierPartitionProgress<I> partition : partitions ) {
+				IdentifierProducer<E, I> producer = new IdentifierProducer<>(
 						mappingContext.sessionFactory(), sessionContext.tenantIdentifier(),
 						getNotifier(),
 						primaryKeyStream,
 						objectLoadingBatchSize,
-						type, idAttributeOfType,
+						type, idAttributeOfType, condition,
+						partition, orderByIdentifier,
 						objectsLimit,
-						idFetchSize
-				),
-				transactionTimeout, sessionContext.tenantIdentifier()
-		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
-				1,
-				MassIndexerImpl.THREAD_NAME_PREFIX + type.jpaEntityName() + " - ID loading"
-		);
-		try {
-			identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+						idFetchSize, effectiveIdLoadingPageSize, transactionTimeout
+				);
+				final Runnable primaryKeyOutputter;
+				if ( effectiveIdLoadingPageSize > 0 ) {
+					// The producer handles its own, short transactions
+					primaryKeyOutputter = () -> producer.run( null );
+				}
+				else {
+					primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+							transactionalContext,
+							getNotifier(),
+							producer,
+							transactionTimeout, sessionContext.tenantIdentifier()
+					);
+				}
+				identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
 		}
 	}
 
+	/**
+	 * @return {@code true} if identifiers can be compared in queries, i.e. if they are comparable basic values.
+	 */
+	private boolean supportsKeysetPagination() {
+		Class<?> idType = idAttributeOfType.getJavaType();
+		return Attribute.PersistentAttributeType.BASIC.equals( idAttributeOfType.getPersistentAttributeType() )
+				&& ( idType.isPrimitive() || Comparable.class.isAssignableFrom( idType ) );
+	}
+
 	private void startIndexing() {
 		final Runnable documentOutputter = new IdentifierConsumerDocumentProducer<>(
 				mappingContext, sessionContext.tenantIdentifier(),
 				getNotifier(),
 				type, idAttributeOfType,
 				primaryKeyStream,
+				// When resuming, documents indexed after the last checkpoint may already exist in the index;
+				// when restricted, the index was not purged and documents of matching entities may already exist
+				checkpointer != null && checkpointer.isResuming() || condition != null,
 				cacheMode,
-				transactionTimeout
+				maxInFlightBatchesPerThread,
+				transactionTimeout,
+				indexRebuild,
+				throttle
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
 				documentBuilderThreads,
@@ -0,0 +1,109 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A checkpoint store persisting checkpoints to a properties file.
+ * <p>
+ * Checkpoints are first written to a temporary file, then moved to the target file,
+ * so that a crash while saving a checkpoint does not corrupt the previous checkpoint.
+ */
+public final class FileMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Path file;
+	private final Path temporaryFile;
+
+	public FileMassIndexingCheckpointStore(Path file) {
+		this.file = file.toAbsolutePath();
+		this.temporaryFile = this.file.resolveSibling( this.file.getFileName() + ".tmp" );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + file + "]";
+	}
+
+	@Override
+	public synchronized Map<String, String> load() {
+		Properties properties = new Properties();
+		try ( Reader reader = Files.newBufferedReader( file, StandardCharsets.UTF_8 ) ) {
+			properties.load( reader );
+		}
+		catch (NoSuchFileException e) {
+			return Collections.emptyMap();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToLoadMassIndexingCheckpoint( file, e.getMessage(), e );
+		}
+		Map<String, String> checkpoint = new LinkedHashMap<>();
+		for ( String key : properties.stringPropertyNames() ) {
+			checkpoint.put( key, properties.getProperty( key ) );
+		}
+		return checkpoint;
+	}
+
+	@Override
+	public synchronized void save(Map<String, String> checkpoint) {
+		Properties properties = new Properties();
+		properties.putAll( checkpoint );
+		try {
+			Path directory = file.getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			try ( FileOutputStream out = new FileOutputStream( temporaryFile.toFile() ) ) {
+				Writer writer = new OutputStreamWriter( out, StandardCharsets.UTF_8 );
+				properties.store( writer, "Hibernate Search mass indexing checkpoint" );
+				writer.flush();
+				// Make sure the checkpoint is on disk before it replaces the previous one
+				out.getFD().sync();
+			}
+			try {
+				Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoint( file, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public synchronized void clear() {
+		try {
+			Files.deleteIfExists( file );
+		}
+		catch (IOException e) {
+			throw log.unableToSaveMassIndexingCheckpoint( file, e.getMessage(), e );
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 
 public interface HibernateOrmMassIndexingMappingContext {
@@ -22,4 +23,6 @@ public interface HibernateOrmMassIndexingMappingContext {
 
 	PojoIndexer createIndexer(SessionImplementor sessionImplementor);
 
+	PojoWorkSessionContext<?> workSessionContext(SessionImplementor sessionImplementor);
+
 }
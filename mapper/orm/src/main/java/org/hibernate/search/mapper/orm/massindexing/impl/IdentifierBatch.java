@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.List;
+
+/**
+ * A batch of identifiers, sent from an {@link IdentifierProducer}
+ * to an {@link IdentifierConsumerDocumentProducer}.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierBatch<I> {
+
+	private final IdentifierPartitionProgress<I> progress;
+	private final long sequenceNumber;
+	private final List<I> identifiers;
+	private final I lastIdentifier;
+
+	IdentifierBatch(IdentifierPartitionProgress<I> progress, long sequenceNumber, List<I> identifiers,
+			I lastIdentifier) {
+		this.progress = progress;
+		this.sequenceNumber = sequenceNumber;
+		this.identifiers = identifiers;
+		this.lastIdentifier = lastIdentifier;
+	}
+
+	@Override
+	public String toString() {
+		return identifiers.toString();
+	}
+
+	List<I> identifiers() {
+		return identifiers;
+	}
+
+	long sequenceNumber() {
+		return sequenceNumber;
+	}
+
+	I lastIdentifier() {
+		return lastIdentifier;
+	}
+
+	/**
+	 * To be called once all the entities in this batch have been indexed,
+	 * successfully or not.
+	 */
+	void markIndexed() {
+		progress.onBatchIndexed( this );
+	}
+
+}
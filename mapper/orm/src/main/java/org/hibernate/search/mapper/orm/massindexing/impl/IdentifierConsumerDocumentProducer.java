@@ -7,6 +7,8 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import javax.persistence.LockModeType;
@@ -28,6 +30,7 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeIndexRebuild;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -36,7 +39,13 @@
  * producing corresponding {@code AddLuceneWork} instances being forwarded
  * to the index writing backend.
  * It will finish when the queue it is consuming from will
- * signal there are no more identifiers.
+ * signal there are no more identifiers,
+ * and all the indexing works it submitted have completed.
+ * <p>
+ * Indexing works are executed asynchronously:
+ * this runnable does not wait for the works of one batch to complete before loading the next batch,
+ * unless {@code maxInFlightBatches} batches are already being indexed,
+ * see {@link org.hibernate.search.mapper.orm.massindexing.MassIndexer#maxInFlightBatchesPerThread(int)}.
  *
  * @param <E> The entity type
  * @param <I> The identifier type
@@ -54,9 +63,14 @@
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
 
-	private final ProducerConsumerQueue<List<I>> source;
+	private final ProducerConsumerQueue<IdentifierBatch<I>> source;
+	private final boolean addOrUpdate;
 	private final CacheMode cacheMode;
+	private final int maxInFlightBatches;
 	private final Integer transactionTimeout;
+	// The rebuild to write to instead of the current indexes, or null
+	private final PojoScopeIndexRebuild indexRebuild;
+	private final MassIndexingThrottle throttle;
 
 	/**
 	 * The JTA transaction manager or {@code null} if not in a JTA environment
@@ -67,18 +81,26 @@
 			HibernateOrmMassIndexingMappingContext mappingContext, String tenantId,
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
+			ProducerConsumerQueue<IdentifierBatch<I>> fromIdentifierListToEntities,
+			boolean addOrUpdate,
 			CacheMode cacheMode,
-			Integer transactionTimeout
+			int maxInFlightBatches,
+			Integer transactionTimeout,
+			PojoScopeIndexRebuild indexRebuild,
+			MassIndexingThrottle throttle
 			) {
 		this.mappingContext = mappingContext;
 		this.tenantId = tenantId;
 		this.notifier = notifier;
 		this.source = fromIdentifierListToEntities;
+		this.addOrUpdate = addOrUpdate;
 		this.cacheMode = cacheMode;
+		this.maxInFlightBatches = maxInFlightBatches;
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
 		this.transactionTimeout = transactionTimeout;
+		this.indexRebuild = indexRebuild;
+		this.throttle = throttle;
 		this.transactionManager = mappingContext.sessionFactory()
 				.getServiceRegistry()
 				.getService( JtaPlatform.class )
@@ -110,17 +132,34 @@ public void run() {
 
 	private void loadAllFromQueue(SessionImplementor session) throws SystemException, NotSupportedException {
 		// The search session will be closed automatically with the ORM session
-		PojoIndexer indexer = mappingContext.createIndexer( session );
+		PojoIndexer indexer = indexRebuild == null
+				? mappingContext.createIndexer( session )
+				: indexRebuild.createIndexer( mappingContext.workSessionContext( session ) );
+		Deque<CompletableFuture<?>> inFlightBatches = new ArrayDeque<>( maxInFlightBatches );
 		try {
-			List<I> idList;
+			IdentifierBatch<I> batch;
 			do {
-				idList = source.take();
-				if ( idList != null ) {
-					log.tracef( "received list of ids %s", idList );
-					loadList( idList, session, indexer );
+				batch = source.take();
+				if ( batch != null ) {
+					log.tracef( "received list of ids %s", batch );
+					awaitInFlightBatches( inFlightBatches, maxInFlightBatches - 1 );
+					int batchSize = batch.identifiers().size();
+					throttle.beforeBatch( batchSize );
+					CompletableFuture<?> batchFuture;
+					try {
+						batchFuture = loadList( batch.identifiers(), session, indexer );
+					}
+					catch (RuntimeException | InterruptedException | NotSupportedException | SystemException e) {
+						throttle.afterBatch( batchSize );
+						throw e;
+					}
+					batchFuture = batchFuture.whenComplete( (ignored, throwable) -> throttle.afterBatch( batchSize ) );
+					inFlightBatches.addLast( batchFuture.thenRun( batch::markIndexed ) );
 				}
 			}
-			while ( idList != null );
+			while ( batch != null );
+			// The session must not be closed before all works are done, as it's used to report failures
+			awaitInFlightBatches( inFlightBatches, 0 );
 		}
 		catch (InterruptedException e) {
 			// just quit
@@ -128,6 +167,23 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 		}
 	}
 
+	/**
+	 * Waits until at most {@code maxRemaining} batches are being indexed.
+	 *
+	 * @param inFlightBatches the futures of batches being indexed, oldest first
+	 * @param maxRemaining the maximum number of batches that may still be indexed when this method returns
+	 */
+	private void awaitInFlightBatches(Deque<CompletableFuture<?>> inFlightBatches, int maxRemaining)
+			throws InterruptedException {
+		// Always drop completed batches, so that failures are propagated early
+		while ( !inFlightBatches.isEmpty() && inFlightBatches.peekFirst().isDone() ) {
+			Futures.unwrappedExceptionGet( inFlightBatches.removeFirst() );
+		}
+		while ( inFlightBatches.size() > maxRemaining ) {
+			Futures.unwrappedExceptionGet( inFlightBatches.removeFirst() );
+		}
+	}
+
 	/**
 	 * Loads a list of entities of defined type using their identifiers.
 	 * entities are then transformed into Lucene Documents
@@ -136,8 +192,10 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 	 * @param listIds the list of entity identifiers (of type
 	 * @param session the session to be used
 	 * @param indexer the indexer to be used
+	 * @return a future that will be completed when all entities have been indexed,
+	 * and failures have been reported.
 	 */
-	private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer)
+	private CompletableFuture<?> loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer)
 			throws InterruptedException, NotSupportedException, SystemException {
 		try {
 			beginTransaction( session );
@@ -155,8 +213,9 @@ private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer i
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() );
 
-			indexAllQueue( session, indexer, query.getResultList() );
+			CompletableFuture<?> future = indexAllQueue( session, indexer, query.getResultList() );
 			session.clear();
+			return future;
 		}
 		finally {
 			// it's read-only, so no need to commit
@@ -191,33 +250,57 @@ private void rollbackTransaction(SessionImplementor session) {
 		}
 	}
 
-	private void indexAllQueue(Session session, PojoIndexer indexer, List<E> entities) throws InterruptedException {
+	private CompletableFuture<?> indexAllQueue(SessionImplementor session, PojoIndexer indexer, List<E> entities)
+			throws InterruptedException {
 		if ( entities == null || entities.isEmpty() ) {
-			return;
+			return CompletableFuture.completedFuture( null );
 		}
 
 		notifier.notifyEntitiesLoaded( entities.size() );
 		CompletableFuture<?>[] indexingFutures = new CompletableFuture<?>[entities.size()];
+		// Failures are reported after the session is cleared,
+		// so we need to extract identifiers while entities are still managed.
+		Object[] entityIdentifiers = new Object[entities.size()];
 
 		for ( int i = 0; i < entities.size(); i++ ) {
 			final E entity = entities.get( i );
+			entityIdentifiers[i] = extractIdentifierOrNull( session, entity );
 			indexingFutures[i] = index( indexer, entity );
 		}
 
-		Futures.unwrappedExceptionGet(
-				CompletableFuture.allOf( indexingFutures )
-						// We handle exceptions on a per-entity basis below, so we ignore them here.
-						.exceptionally( exception -> null )
-		);
+		// Documents are built at this point:
+		// the next batch can be loaded while the backend executes the works.
+		long submittedNanos = System.nanoTime();
+		return CompletableFuture.allOf( indexingFutures )
+				// We handle exceptions on a per-entity basis below, so we ignore them here.
+				.exceptionally( exception -> null )
+				.thenRun( () -> {
+					throttle.onWorksCompleted( entities.size(), System.nanoTime() - submittedNanos );
+					notifyIndexingResults( entityIdentifiers, indexingFutures );
+				} );
+	}
 
+	private Object extractIdentifierOrNull(Session session, E entity) {
+		try {
+			return session.getIdentifier( entity );
+		}
+		catch (RuntimeException e) {
+			// We're being extra careful here because we don't want to throw an exception
+			// just because we may need the identifier to report a failure later.
+			log.debugf( e, "Unable to extract the identifier of an entity of type %s", type.jpaEntityName() );
+			return null;
+		}
+	}
+
+	private void notifyIndexingResults(Object[] entityIdentifiers, CompletableFuture<?>[] indexingFutures) {
 		int successfulEntities = 0;
-		for ( int i = 0; i < entities.size(); i++ ) {
+		for ( int i = 0; i < indexingFutures.length; i++ ) {
 			CompletableFuture<?> future = indexingFutures[i];
 
 			if ( future.isCompletedExceptionally() ) {
 				notifier.notifyEntityIndexingFailure(
 						type,
-						session, entities.get( i ),
+						entityIdentifiers[i],
 						Futures.getThrowableNow( future )
 				);
 			}
@@ -238,9 +321,17 @@ private CompletableFuture<?> index(PojoIndexer indexer, E entity) throws Interru
 
 		CompletableFuture<?> future;
 		try {
-			future = indexer.add( type.typeIdentifier(), null, entity,
-					// Commit and refresh are handled globally after all documents are indexed.
-					DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			if ( addOrUpdate ) {
+				// When resuming from a checkpoint, the document may already have been indexed.
+				future = indexer.addOrUpdate( type.typeIdentifier(), null, entity,
+						// Commit and refresh are handled globally after all documents are indexed.
+						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			}
+			else {
+				future = indexer.add( type.typeIdentifier(), null, entity,
+						// Commit and refresh are handled globally after all documents are indexed.
+						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			}
 		}
 		catch (RuntimeException e) {
 			future = new CompletableFuture<>();
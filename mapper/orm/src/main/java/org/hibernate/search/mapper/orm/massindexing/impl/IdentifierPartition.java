@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+
+/**
+ * A range of identifiers to load during mass indexing,
+ * so that multiple threads can load the identifiers of a single entity type in parallel.
+ * <p>
+ * Bounds are optional: a partition without bounds includes all identifiers.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierPartition<I> {
+
+	private static final IdentifierPartition<?> ALL = new IdentifierPartition<>( null, null );
+
+	@SuppressWarnings("unchecked")
+	static <I> IdentifierPartition<I> all() {
+		return (IdentifierPartition<I>) ALL;
+	}
+
+	static <I> IdentifierPartition<I> of(I lowerBoundInclusive, I upperBoundExclusive) {
+		return new IdentifierPartition<>( lowerBoundInclusive, upperBoundExclusive );
+	}
+
+	/**
+	 * @param boundaries The boundaries between partitions, in ascending order.
+	 * @param <I> The identifier type
+	 * @return Partitions covering all identifiers: one before the first boundary,
+	 * one between each pair of consecutive boundaries, and one after the last boundary.
+	 */
+	static <I> List<IdentifierPartition<I>> fromBoundaries(List<I> boundaries) {
+		List<IdentifierPartition<I>> partitions = new ArrayList<>( boundaries.size() + 1 );
+		I lowerBound = null;
+		for ( I boundary : boundaries ) {
+			partitions.add( new IdentifierPartition<>( lowerBound, boundary ) );
+			lowerBound = boundary;
+		}
+		partitions.add( new IdentifierPartition<>( lowerBound, null ) );
+		return partitions;
+	}
+
+	private final I lowerBoundInclusive;
+	private final I upperBoundExclusive;
+
+	private IdentifierPartition(I lowerBoundInclusive, I upperBoundExclusive) {
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+	}
+
+	/**
+	 * @return The lower bound of this partition (inclusive), or {@code null} if there is none.
+	 */
+	I lowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	/**
+	 * @return The upper bound of this partition (exclusive), or {@code null} if there is none.
+	 */
+	I upperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + ( lowerBoundInclusive == null ? "" : lowerBoundInclusive )
+				+ ", " + ( upperBoundExclusive == null ? "" : upperBoundExclusive ) + ")";
+	}
+
+	/**
+	 * @param criteriaBuilder The criteria builder.
+	 * @param idPath The path to the identifier in the query.
+	 * @return A predicate matching identifiers within this partition, or {@code null} if this partition has no bounds.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Partitions are only created for comparable identifiers
+	Predicate toPredicate(CriteriaBuilder criteriaBuilder, Path<I> idPath) {
+		Expression<Comparable> comparableIdPath = (Expression<Comparable>) (Expression) idPath;
+		Predicate lowerBoundPredicate = lowerBoundInclusive == null ? null
+				: criteriaBuilder.greaterThanOrEqualTo( comparableIdPath, (Comparable) lowerBoundInclusive );
+		Predicate upperBoundPredicate = upperBoundExclusive == null ? null
+				: criteriaBuilder.lessThan( comparableIdPath, (Comparable) upperBoundExclusive );
+		if ( lowerBoundPredicate == null ) {
+			return upperBoundPredicate;
+		}
+		else if ( upperBoundPredicate == null ) {
+			return lowerBoundPredicate;
+		}
+		else {
+			return criteriaBuilder.and( lowerBoundPredicate, upperBoundPredicate );
+		}
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the batches of identifiers produced and indexed for a given {@link IdentifierPartition},
+ * so that the progress of mass indexing can be checkpointed.
+ * <p>
+ * Batches are produced in order, but may be indexed in any order by multiple threads:
+ * the {@link #lastIndexedIdentifier() last indexed identifier} is only updated
+ * when all the batches produced before a given batch have been indexed.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierPartitionProgress<I> {
+
+	static <I> IdentifierPartitionProgress<I> start(IdentifierPartition<I> partition) {
+		return new IdentifierPartitionProgress<>( partition, partition, null, false );
+	}
+
+	private final IdentifierPartition<I> partition;
+	private final IdentifierPartition<I> remainingPartition;
+
+	private long producedBatchCount = 0;
+	private long acknowledgedBatchCount = 0;
+	/*
+	 * Batches that were indexed, but cannot be acknowledged yet
+	 * because a batch produced before them hasn't been indexed yet.
+	 */
+	private final Map<Long, IdentifierBatch<I>> indexedBatchesOutOfOrder = new HashMap<>();
+
+	private I lastIndexedIdentifier;
+	private boolean producerFinished;
+	private boolean completed;
+
+	/**
+	 * @param partition The partition, as initially computed.
+	 * @param remainingPartition The part of the partition that remains to be indexed.
+	 * @param lastIndexedIdentifier The last identifier that was indexed in a previous execution, or {@code null}.
+	 * @param completed Whether the partition was completely indexed in a previous execution.
+	 */
+	IdentifierPartitionProgress(IdentifierPartition<I> partition, IdentifierPartition<I> remainingPartition,
+			I lastIndexedIdentifier, boolean completed) {
+		this.partition = partition;
+		this.remainingPartition = remainingPartition;
+		this.lastIndexedIdentifier = lastIndexedIdentifier;
+		this.producerFinished = completed;
+		this.completed = completed;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[partition=" + partition + ", remainingPartition=" + remainingPartition + "]";
+	}
+
+	/**
+	 * @return The partition, as initially computed.
+	 */
+	IdentifierPartition<I> partition() {
+		return partition;
+	}
+
+	/**
+	 * @return The part of the partition whose identifiers remain to be loaded.
+	 */
+	IdentifierPartition<I> remainingPartition() {
+		return remainingPartition;
+	}
+
+	/**
+	 * @param identifiers The identifiers in the batch.
+	 * @param lastIdentifier The highest identifier in the batch, if identifiers are produced in order,
+	 * or {@code null}.
+	 * @return The batch to send to consumers.
+	 */
+	synchronized IdentifierBatch<I> createBatch(List<I> identifiers, I lastIdentifier) {
+		return new IdentifierBatch<>( this, producedBatchCount++, identifiers, lastIdentifier );
+	}
+
+	synchronized void onBatchIndexed(IdentifierBatch<I> batch) {
+		indexedBatchesOutOfOrder.put( batch.sequenceNumber(), batch );
+		IdentifierBatch<I> next = indexedBatchesOutOfOrder.remove( acknowledgedBatchCount );
+		while ( next != null ) {
+			if ( next.lastIdentifier() != null ) {
+				lastIndexedIdentifier = next.lastIdentifier();
+			}
+			++acknowledgedBatchCount;
+			next = indexedBatchesOutOfOrder.remove( acknowledgedBatchCount );
+		}
+		updateCompleted();
+	}
+
+	/**
+	 * @param successful Whether the producer produced all identifiers in this partition.
+	 */
+	synchronized void onProducerFinished(boolean successful) {
+		producerFinished = successful;
+		updateCompleted();
+	}
+
+	/**
+	 * @return The highest identifier such that it and all identifiers before it in this partition were indexed,
+	 * or {@code null}.
+	 * Only available if identifiers are produced in order.
+	 */
+	synchronized I lastIndexedIdentifier() {
+		return lastIndexedIdentifier;
+	}
+
+	/**
+	 * @return {@code true} if all the identifiers in this partition were indexed.
+	 */
+	synchronized boolean isCompleted() {
+		return completed;
+	}
+
+	private void updateCompleted() {
+		if ( producerFinished && acknowledgedBatchCount == producedBatchCount ) {
+			completed = true;
+		}
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCondition;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Splits the identifiers of an entity type into ranges of approximately the same width,
+ * based on the minimum and maximum identifier,
+ * so that identifiers can be loaded by multiple {@link IdentifierProducer}s in parallel.
+ * <p>
+ * Only integer identifiers can be partitioned;
+ * for other identifier types, a single partition including all identifiers is returned.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+public class IdentifierPartitioner<E, I> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final String tenantId;
+
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final MassIndexingCondition condition;
+
+	/**
+	 * @param sessionFactory the Hibernate SessionFactory to use to load identifier bounds
+	 * @param tenantId the tenant identifier
+	 * @param type the entity type whose identifiers are to be partitioned
+	 * @param idAttributeOfType the id attribute
+	 * @param condition the condition restricting the entities to index, or null
+	 */
+	IdentifierPartitioner(SessionFactory sessionFactory, String tenantId,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			MassIndexingCondition condition) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.type = type;
+		this.idAttributeOfType = idAttributeOfType;
+		this.condition = condition;
+	}
+
+	/**
+	 * @param maxPartitionCount The maximum number of partitions.
+	 * @return Partitions covering all identifiers of the entity type. Never empty.
+	 */
+	List<IdentifierPartition<I>> createPartitions(int maxPartitionCount) {
+		if ( maxPartitionCount <= 1 || !isPartitionable() ) {
+			return Collections.singletonList( IdentifierPartition.all() );
+		}
+
+		Object[] bounds;
+		try ( StatelessSession session = openSession() ) {
+			bounds = createBoundsQuery( session ).getSingleResult();
+		}
+		if ( bounds[0] == null || bounds[1] == null ) {
+			// No entity at all
+			return Collections.singletonList( IdentifierPartition.all() );
+		}
+
+		List<I> boundaries = computeBoundaries(
+				toBigInteger( bounds[0] ), toBigInteger( bounds[1] ), maxPartitionCount
+		);
+		List<IdentifierPartition<I>> partitions = IdentifierPartition.fromBoundaries( boundaries );
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Identifiers of %s between %s and %s will be loaded in %d partitions: %s",
+					type.jpaEntityName(), bounds[0], bounds[1], partitions.size(), partitions );
+		}
+		return partitions;
+	}
+
+	private List<I> computeBoundaries(BigInteger min, BigInteger max, int maxPartitionCount) {
+		BigInteger width = max.subtract( min ).add( BigInteger.ONE );
+		BigInteger partitionCount = BigInteger.valueOf( maxPartitionCount );
+		List<I> boundaries = new ArrayList<>( maxPartitionCount - 1 );
+		BigInteger previousBoundary = min;
+		for ( int i = 1; i < maxPartitionCount; i++ ) {
+			BigInteger boundary = min.add( width.multiply( BigInteger.valueOf( i ) ).divide( partitionCount ) );
+			// When there are fewer identifiers than partitions, some boundaries would be duplicates
+			if ( boundary.compareTo( previousBoundary ) > 0 ) {
+				boundaries.add( fromBigInteger( boundary ) );
+				previousBoundary = boundary;
+			}
+		}
+		return boundaries;
+	}
+
+	private StatelessSession openSession() {
+		if ( tenantId == null ) {
+			return sessionFactory.openStatelessSession();
+		}
+		else {
+			return sessionFactory.withStatelessOptions().tenantIdentifier( tenantId ).openStatelessSession();
+		}
+	}
+
+	@SuppressWarnings("unchecked") // We checked that the identifier is an integer in isPartitionable()
+	private TypedQuery<Object[]> createBoundsQuery(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery( Object[].class );
+
+		Root<E> root = criteriaQuery.from( type.entityTypeDescriptor() );
+		Path<I> idPath = root.get( idAttributeOfType );
+		Expression<Number> numberIdPath = (Expression<Number>) (Expression<?>) idPath;
+		criteriaQuery.multiselect( criteriaBuilder.min( numberIdPath ), criteriaBuilder.max( numberIdPath ) );
+		if ( condition != null ) {
+			// Partitions should be balanced with respect to the entities that will actually be indexed
+			criteriaQuery.where( condition.toPredicate( criteriaBuilder, root ) );
+		}
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false );
+	}
+
+	/**
+	 * @return {@code true} if identifiers can be split into ranges, i.e. if they are integers.
+	 */
+	boolean isPartitionable() {
+		Class<?> idType = idAttributeOfType.getJavaType();
+		return Long.class.equals( idType ) || long.class.equals( idType )
+				|| Integer.class.equals( idType ) || int.class.equals( idType )
+				|| Short.class.equals( idType ) || short.class.equals( idType )
+				|| BigInteger.class.equals( idType );
+	}
+
+	/**
+	 * @param representation The string representation of an identifier, as returned by {@link Object#toString()}.
+	 * @return The corresponding identifier.
+	 * @throws NumberFormatException If the representation is invalid.
+	 */
+	I parseIdentifier(String representation) {
+		return fromBigInteger( new BigInteger( representation ) );
+	}
+
+	/**
+	 * @param identifier An identifier.
+	 * @return The identifier immediately following the given one.
+	 */
+	I nextIdentifier(I identifier) {
+		return fromBigInteger( toBigInteger( identifier ).add( BigInteger.ONE ) );
+	}
+
+	private static BigInteger toBigInteger(Object value) {
+		if ( value instanceof BigInteger ) {
+			return (BigInteger) value;
+		}
+		return BigInteger.valueOf( ( (Number) value ).longValue() );
+	}
+
+	@SuppressWarnings("unchecked") // We checked that the identifier is an integer in isPartitionable()
+	private I fromBigInteger(BigInteger value) {
+		Class<?> idType = idAttributeOfType.getJavaType();
+		Object result;
+		if ( Long.class.equals( idType ) || long.class.equals( idType ) ) {
+			result = value.longValue();
+		}
+		else if ( Integer.class.equals( idType ) || int.class.equals( idType ) ) {
+			result = value.intValue();
+		}
+		else if ( Short.class.equals( idType ) || short.class.equals( idType ) ) {
+			result = value.shortValue();
+		}
+		else {
+			result = value;
+		}
+		return (I) result;
+	}
+
+}
@@ -9,9 +9,11 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -23,17 +25,23 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Query;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCondition;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * This Runnable is going to feed the indexing queue
- * with the identifiers of all the entities going to be indexed.
- * This step in the indexing process is not parallel (should be
- * done by one thread per type) so that a single transaction is used
- * to define the group of entities to be indexed.
+ * with the identifiers of all the entities going to be indexed,
+ * or of the entities within a given {@link IdentifierPartition partition}.
+ * Each producer uses a single transaction to define the group of entities
+ * to be indexed; when multiple producers are used for a single type,
+ * each of them handles a distinct partition of identifiers.
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
+ * <p>
+ * Alternatively, identifiers can be loaded page by page using keyset pagination,
+ * i.e. {@code where id > :lastId order by id}, each page in its own short transaction,
+ * which avoids holding a cursor and a database snapshot for the whole duration of the scan.
  *
  * @param <E> The entity type
  * @param <I> The identifier type
@@ -50,11 +58,18 @@
 
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final MassIndexingCondition condition;
+	private final IdentifierPartitionProgress<I> progress;
+	private final IdentifierPartition<I> partition;
+	private final boolean orderByIdentifier;
 
-	private final ProducerConsumerQueue<List<I>> destination;
+	private final ProducerConsumerQueue<IdentifierBatch<I>> destination;
 	private final int batchSize;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	// 0 means a single scroll in a single transaction
+	private final int idLoadingPageSize;
+	private final Integer transactionTimeout;
 
 	/**
 	 * @param sessionFactory the Hibernate SessionFactory to use to load entities
@@ -64,43 +79,58 @@
 	 * @param objectLoadingBatchSize affects mostly the next consumer: IdentifierConsumerEntityProducer
 	 * @param type the entity type whose identifiers are to be loaded
 	 * @param idAttributeOfType the id attribute to be loaded
+	 * @param condition the condition restricting the entities to index, or null
+	 * @param progress the progress of the partition of identifiers to be loaded
+	 * @param orderByIdentifier whether identifiers must be loaded in ascending order, to allow checkpointing
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
+	 * @param idLoadingPageSize the size of pages when using keyset pagination, or 0 to use a single scroll
+	 * @param transactionTimeout the timeout of each page's transaction when using keyset pagination, or null
 	 */
 	IdentifierProducer(SessionFactory sessionFactory, String tenantId,
 			MassIndexingNotifier notifier,
-			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
+			ProducerConsumerQueue<IdentifierBatch<I>> fromIdentifierListToEntities,
 			int objectLoadingBatchSize,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			long objectsLimit, int idFetchSize) {
+			MassIndexingCondition condition,
+			IdentifierPartitionProgress<I> progress, boolean orderByIdentifier,
+			long objectsLimit, int idFetchSize, int idLoadingPageSize, Integer transactionTimeout) {
 		this.sessionFactory = sessionFactory;
 		this.tenantId = tenantId;
 		this.notifier = notifier;
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
+		this.condition = condition;
+		this.progress = progress;
+		this.partition = progress.remainingPartition();
+		this.orderByIdentifier = orderByIdentifier;
 		this.destination = fromIdentifierListToEntities;
 		this.batchSize = objectLoadingBatchSize;
 		this.objectsLimit = objectsLimit;
 		this.idFetchSize = idFetchSize;
+		this.idLoadingPageSize = idLoadingPageSize;
+		this.transactionTimeout = transactionTimeout;
 		log.trace( "created" );
 	}
 
 	@Override
 	public void run(StatelessSession upperSession) {
 		log.trace( "started" );
+		boolean successful = false;
 		try {
-			inTransactionWrapper( upperSession );
+			successful = inTransactionWrapper( upperSession );
 		}
 		catch (RuntimeException exception) {
 			notifier.notifyRunnableFailure( exception, log.massIndexerFetchingIds( type.jpaEntityName() ) );
 		}
 		finally {
+			progress.onProducerFinished( successful );
 			destination.producerStopping();
 		}
 		log.trace( "finished" );
 	}
 
-	private void inTransactionWrapper(StatelessSession upperSession) {
+	private boolean inTransactionWrapper(StatelessSession upperSession) {
 		StatelessSession session = upperSession;
 		if ( upperSession == null ) {
 			if ( tenantId == null ) {
@@ -111,6 +141,10 @@ private void inTransactionWrapper(StatelessSession upperSession) {
 			}
 		}
 		try {
+			if ( idLoadingPageSize > 0 ) {
+				loadAllIdentifiersByPage( session );
+				return true;
+			}
 			Transaction transaction = ( (SharedSessionContractImplementor) session ).accessTransaction();
 			final boolean controlTransactions = ! transaction.isActive();
 			if ( controlTransactions ) {
@@ -118,6 +152,7 @@ private void inTransactionWrapper(StatelessSession upperSession) {
 			}
 			try {
 				loadAllIdentifiers( session );
+				return true;
 			}
 			finally {
 				if ( controlTransactions ) {
@@ -128,6 +163,7 @@ private void inTransactionWrapper(StatelessSession upperSession) {
 		catch (InterruptedException e) {
 			// just quit
 			Thread.currentThread().interrupt();
+			return false;
 		}
 		finally {
 			if ( upperSession == null ) {
@@ -142,7 +178,7 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 			totalCount = objectsLimit;
 		}
 		if ( log.isDebugEnabled() ) {
-			log.debugf( "going to fetch %d primary keys", (Long) totalCount );
+			log.debugf( "going to fetch %d primary keys in partition %s", (Long) totalCount, partition );
 		}
 		notifier.notifyAddedTotalCount( totalCount );
 
@@ -175,12 +211,67 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 		enqueueList( destinationList );
 	}
 
+	private void loadAllIdentifiersByPage(StatelessSession session) throws InterruptedException {
+		long totalCount = inShortTransaction( session, () -> createTotalCountQuery( session ).uniqueResult() );
+		if ( objectsLimit != 0 && objectsLimit < totalCount ) {
+			totalCount = objectsLimit;
+		}
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "going to fetch %d primary keys in partition %s, by pages of %d",
+					(Object) totalCount, partition, idLoadingPageSize );
+		}
+		notifier.notifyAddedTotalCount( totalCount );
+
+		ArrayList<I> destinationList = new ArrayList<>( batchSize );
+		long counter = 0;
+		I lastIdentifier = null;
+		while ( counter < totalCount ) {
+			int pageSize = (int) Math.min( idLoadingPageSize, totalCount - counter );
+			I lowerBoundExclusive = lastIdentifier;
+			List<I> page = inShortTransaction( session,
+					() -> createIdentifiersPageQuery( session, lowerBoundExclusive, pageSize ).list() );
+			for ( I id : page ) {
+				destinationList.add( id );
+				if ( destinationList.size() == batchSize ) {
+					enqueueList( destinationList );
+					destinationList = new ArrayList<>( batchSize );
+				}
+			}
+			counter += page.size();
+			if ( page.size() < pageSize ) {
+				// No more identifiers
+				break;
+			}
+			lastIdentifier = page.get( page.size() - 1 );
+		}
+		enqueueList( destinationList );
+	}
+
+	private <T> T inShortTransaction(StatelessSession session, Supplier<T> action) {
+		Transaction transaction = ( (SharedSessionContractImplementor) session ).accessTransaction();
+		if ( transaction.isActive() ) {
+			// We were given a session with an ongoing transaction: we cannot use short transactions.
+			return action.get();
+		}
+		if ( transactionTimeout != null ) {
+			transaction.setTimeout( transactionTimeout );
+		}
+		transaction.begin();
+		try {
+			return action.get();
+		}
+		finally {
+			transaction.commit();
+		}
+	}
+
 	private Query<Long> createTotalCountQuery(StatelessSession session) {
 		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
 		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
 
 		Root<E> root = criteriaQuery.from( type.entityTypeDescriptor() );
 		criteriaQuery.select( criteriaBuilder.count( root ) );
+		restrict( criteriaBuilder, criteriaQuery, root, root.get( idAttributeOfType ) );
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false );
@@ -193,15 +284,63 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 		Root<E> root = criteriaQuery.from( type.entityTypeDescriptor() );
 		Path<I> idPath = root.get( idAttributeOfType );
 		criteriaQuery.select( idPath );
+		restrict( criteriaBuilder, criteriaQuery, root, idPath );
+		if ( orderByIdentifier ) {
+			criteriaQuery.orderBy( criteriaBuilder.asc( idPath ) );
+		}
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false )
 				.setFetchSize( idFetchSize );
 	}
 
+	@SuppressWarnings({"unchecked", "rawtypes"}) // Keyset pagination is only enabled for comparable identifiers
+	private Query<I> createIdentifiersPageQuery(StatelessSession session, I lowerBoundExclusive, int pageSize) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( idAttributeOfType.getJavaType() );
+
+		Root<E> root = criteriaQuery.from( type.entityTypeDescriptor() );
+		Path<I> idPath = root.get( idAttributeOfType );
+		criteriaQuery.select( idPath );
+		List<Predicate> predicates = restrictionPredicates( criteriaBuilder, root, idPath );
+		if ( lowerBoundExclusive != null ) {
+			predicates.add( criteriaBuilder.greaterThan( (Path<Comparable>) (Path) idPath, (Comparable) lowerBoundExclusive ) );
+		}
+		if ( !predicates.isEmpty() ) {
+			criteriaQuery.where( predicates.toArray( new Predicate[0] ) );
+		}
+		criteriaQuery.orderBy( criteriaBuilder.asc( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false )
+				.setMaxResults( pageSize )
+				.setFetchSize( pageSize );
+	}
+
+	private void restrict(CriteriaBuilder criteriaBuilder, CriteriaQuery<?> criteriaQuery,
+			Root<E> root, Path<I> idPath) {
+		List<Predicate> predicates = restrictionPredicates( criteriaBuilder, root, idPath );
+		if ( !predicates.isEmpty() ) {
+			criteriaQuery.where( predicates.toArray( new Predicate[0] ) );
+		}
+	}
+
+	private List<Predicate> restrictionPredicates(CriteriaBuilder criteriaBuilder, Root<E> root, Path<I> idPath) {
+		List<Predicate> predicates = new ArrayList<>( 3 );
+		Predicate partitionPredicate = partition.toPredicate( criteriaBuilder, idPath );
+		if ( partitionPredicate != null ) {
+			predicates.add( partitionPredicate );
+		}
+		if ( condition != null ) {
+			predicates.add( condition.toPredicate( criteriaBuilder, root ) );
+		}
+		return predicates;
+	}
+
 	private void enqueueList(final List<I> idsList) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
-			destination.put( idsList );
+			I lastIdentifier = orderByIdentifier ? idsList.get( idsList.size() - 1 ) : null;
+			destination.put( progress.createBatch( idsList, lastIdentifier ) );
 			log.tracef( "produced a list of ids %s", idsList );
 		}
 	}
@@ -83,6 +83,16 @@ public void addToTotalCount(long count) {
 		log.indexingEntities( count );
 	}
 
+	@Override
+	public void throttlingRateChanged(double entitiesPerSecond) {
+		if ( entitiesPerSecond == 0 ) {
+			log.indexingNoLongerThrottled();
+		}
+		else {
+			log.indexingThrottled( entitiesPerSecond );
+		}
+	}
+
 	@Override
 	public void indexingCompleted() {
 		log.indexingEntitiesCompleted( totalCounter.longValue() );
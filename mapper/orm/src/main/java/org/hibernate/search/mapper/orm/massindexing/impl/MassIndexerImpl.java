@@ -7,11 +7,18 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.hibernate.CacheMode;
 import org.hibernate.persister.entity.EntityPersister;
@@ -19,9 +26,12 @@
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCondition;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeIndexRebuild;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -46,11 +56,14 @@ public class MassIndexerImpl implements MassIndexer {
 	private final Set<HibernateOrmMassIndexingIndexedTypeContext<?>> rootEntityTypes;
 	private final PojoScopeSchemaManager scopeSchemaManager;
 	private final PojoScopeWorkspace scopeWorkspace;
+	private final Supplier<CompletableFuture<PojoScopeIndexRebuild>> indexRebuildStarter;
 
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
+	private int identifierLoadingThreads = 1;
 	private int documentBuilderThreads = 6; //loading the main entity, also responsible for loading of lazy @IndexedEmbedded collections
 	private int objectLoadingBatchSize = 10;
+	private int maxInFlightBatchesPerThread = 4;
 	private long objectsLimit = 0; //means no limit at all
 	private CacheMode cacheMode = CacheMode.IGNORE;
 	private boolean mergeSegmentsOnFinish = false;
@@ -58,7 +71,16 @@ public class MassIndexerImpl implements MassIndexer {
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
+	private int idLoadingPageSize = 0; //means a single scroll
 	private Integer idLoadingTransactionTimeout;
+	private MassIndexingCheckpointStore checkpointStore;
+	private int checkpointIntervalInSeconds = 60;
+	private boolean resumeFromCheckpoint = false;
+	private boolean rebuildInShadowIndex = false;
+	private final Map<Class<?>, MassIndexingCondition> conditions = new LinkedHashMap<>();
+	private double maxEntitiesPerSecond = 0; //means no limit at all
+	private int maxInFlightWorks = 0; //means no limit at all
+	private int adaptiveThrottlingLatencyThresholdInMilliseconds = 0; //means disabled
 
 	private MassIndexingFailureHandler failureHandler;
 	private MassIndexingMonitor monitor;
@@ -67,12 +89,14 @@ public MassIndexerImpl(HibernateOrmMassIndexingMappingContext mappingContext,
 			Set<? extends HibernateOrmMassIndexingIndexedTypeContext<?>> targetedIndexedTypes,
 			DetachedBackendSessionContext sessionContext,
 			PojoScopeSchemaManager scopeSchemaManager,
-			PojoScopeWorkspace scopeWorkspace) {
+			PojoScopeWorkspace scopeWorkspace,
+			Supplier<CompletableFuture<PojoScopeIndexRebuild>> indexRebuildStarter) {
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
 		this.rootEntityTypes = toRootEntityTypes( targetedIndexedTypes );
 		this.scopeSchemaManager = scopeSchemaManager;
 		this.scopeWorkspace = scopeWorkspace;
+		this.indexRebuildStarter = indexRebuildStarter;
 	}
 
 	/*
@@ -132,6 +156,15 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.identifierLoadingThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		if ( batchSize < 1 ) {
@@ -141,6 +174,15 @@ public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer maxInFlightBatchesPerThread(int maxInFlightBatches) {
+		if ( maxInFlightBatches < 1 ) {
+			throw new IllegalArgumentException( "maxInFlightBatches must be at least 1" );
+		}
+		this.maxInFlightBatchesPerThread = maxInFlightBatches;
+		return this;
+	}
+
 	@Override
 	public MassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -201,21 +243,59 @@ public void startAndWait() throws InterruptedException {
 	}
 
 	protected BatchCoordinator createCoordinator() {
+		if ( rebuildInShadowIndex && checkpointStore != null ) {
+			throw log.massIndexingShadowIndexRebuildWithCheckpoints();
+		}
+		if ( rebuildInShadowIndex && !conditions.isEmpty() ) {
+			throw log.massIndexingShadowIndexRebuildWithConditions();
+		}
 		MassIndexingNotifier notifier = new MassIndexingNotifier(
 				getOrCreateFailureHandler(),
 				getOrCreateMonitor()
 		);
+		MassIndexingThrottle throttle = new MassIndexingThrottle(
+				notifier, maxEntitiesPerSecond, maxInFlightWorks,
+				adaptiveThrottlingLatencyThresholdInMilliseconds, TimeUnit.MILLISECONDS
+		);
 		return new BatchCoordinator(
 				mappingContext, sessionContext,
 				notifier,
 				rootEntityTypes, scopeSchemaManager, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
-				cacheMode, objectLoadingBatchSize, objectsLimit,
+				typesToIndexInParallel, identifierLoadingThreads, documentBuilderThreads,
+				cacheMode, objectLoadingBatchSize, maxInFlightBatchesPerThread, objectsLimit,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart, purgeAtStart, mergeSegmentsAfterPurge,
-				idFetchSize, idLoadingTransactionTimeout
+				idFetchSize, idLoadingPageSize, idLoadingTransactionTimeout,
+				checkpointStore == null ? null : new MassIndexingCheckpointer( checkpointStore, resumeFromCheckpoint ),
+				checkpointIntervalInSeconds,
+				rebuildInShadowIndex ? indexRebuildStarter : null,
+				toConditionsByRootEntityType(),
+				throttle
 		);
 	}
 
+	private Map<HibernateOrmMassIndexingIndexedTypeContext<?>, MassIndexingCondition> toConditionsByRootEntityType() {
+		Map<HibernateOrmMassIndexingIndexedTypeContext<?>, MassIndexingCondition> result = new LinkedHashMap<>();
+		for ( Map.Entry<Class<?>, MassIndexingCondition> entry : conditions.entrySet() ) {
+			Class<?> type = entry.getKey();
+			HibernateOrmMassIndexingIndexedTypeContext<?> rootEntityType = null;
+			for ( HibernateOrmMassIndexingIndexedTypeContext<?> candidate : rootEntityTypes ) {
+				if ( candidate.typeIdentifier().javaClass().equals( type ) ) {
+					rootEntityType = candidate;
+					break;
+				}
+			}
+			if ( rootEntityType == null ) {
+				List<String> rootEntityNames = new ArrayList<>();
+				for ( HibernateOrmMassIndexingIndexedTypeContext<?> candidate : rootEntityTypes ) {
+					rootEntityNames.add( candidate.jpaEntityName() );
+				}
+				throw log.massIndexingConditionOnInvalidType( type, rootEntityNames );
+			}
+			result.put( rootEntityType, entry.getValue() );
+		}
+		return result;
+	}
+
 	@Override
 	public MassIndexer limitIndexedObjectsTo(long maximum) {
 		this.objectsLimit = maximum;
@@ -230,12 +310,96 @@ public MassIndexer idFetchSize(int idFetchSize) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer idLoadingPageSize(int pageSize) {
+		if ( pageSize < 0 ) {
+			throw new IllegalArgumentException( "pageSize must be positive or zero" );
+		}
+		this.idLoadingPageSize = pageSize;
+		return this;
+	}
+
 	@Override
 	public MassIndexer failureHandler(MassIndexingFailureHandler failureHandler) {
 		this.failureHandler = failureHandler;
 		return this;
 	}
 
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		this.checkpointStore = store;
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointFile(Path file) {
+		if ( file == null ) {
+			throw new IllegalArgumentException( "file must not be null" );
+		}
+		this.checkpointStore = new FileMassIndexingCheckpointStore( file );
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointInterval(int intervalInSeconds) {
+		if ( intervalInSeconds < 1 ) {
+			throw new IllegalArgumentException( "intervalInSeconds must be at least 1" );
+		}
+		this.checkpointIntervalInSeconds = intervalInSeconds;
+		return this;
+	}
+
+	@Override
+	public MassIndexer resumeFromCheckpoint(boolean enable) {
+		this.resumeFromCheckpoint = enable;
+		return this;
+	}
+
+	@Override
+	public MassIndexer rebuildInShadowIndex(boolean enable) {
+		this.rebuildInShadowIndex = enable;
+		return this;
+	}
+
+	@Override
+	public MassIndexer restrict(Class<?> type, MassIndexingCondition condition) {
+		if ( type == null ) {
+			throw new IllegalArgumentException( "type must not be null" );
+		}
+		if ( condition == null ) {
+			throw new IllegalArgumentException( "condition must not be null" );
+		}
+		this.conditions.put( type, condition );
+		return this;
+	}
+
+	@Override
+	public MassIndexer maxEntitiesPerSecond(double maxEntitiesPerSecond) {
+		if ( maxEntitiesPerSecond < 0 ) {
+			throw new IllegalArgumentException( "maxEntitiesPerSecond must be positive or zero" );
+		}
+		this.maxEntitiesPerSecond = maxEntitiesPerSecond;
+		return this;
+	}
+
+	@Override
+	public MassIndexer maxInFlightWorks(int maxInFlightWorks) {
+		if ( maxInFlightWorks < 0 ) {
+			throw new IllegalArgumentException( "maxInFlightWorks must be positive or zero" );
+		}
+		this.maxInFlightWorks = maxInFlightWorks;
+		return this;
+	}
+
+	@Override
+	public MassIndexer adaptiveThrottling(int latencyThresholdInMilliseconds) {
+		if ( latencyThresholdInMilliseconds < 0 ) {
+			throw new IllegalArgumentException( "latencyThresholdInMilliseconds must be positive or zero" );
+		}
+		this.adaptiveThrottlingLatencyThresholdInMilliseconds = latencyThresholdInMilliseconds;
+		return this;
+	}
+
 	private MassIndexingFailureHandler getOrCreateFailureHandler() {
 		MassIndexingFailureHandler result = failureHandler;
 		if ( result == null ) {
@@ -0,0 +1,214 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Tracks the progress of mass indexing for each entity type and each partition of identifiers,
+ * so that it can be persisted to a {@link MassIndexingCheckpointStore}
+ * and restored when resuming mass indexing.
+ * <p>
+ * For each entity type, the checkpoint contains the following keys:
+ * <ul>
+ *     <li>{@code <entity name>.partitions}: the number of partitions.</li>
+ *     <li>{@code <entity name>.<partition index>.lower}: the lower bound of the partition (inclusive), if any.</li>
+ *     <li>{@code <entity name>.<partition index>.upper}: the upper bound of the partition (exclusive), if any.</li>
+ *     <li>{@code <entity name>.<partition index>.last}: the last identifier indexed in that partition, if any.</li>
+ *     <li>{@code <entity name>.<partition index>.completed}: whether the partition was completely indexed.</li>
+ * </ul>
+ * Bounds and last identifiers are only available for integer identifiers:
+ * for other identifiers, progress is only tracked per entity type.
+ */
+final class MassIndexingCheckpointer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String PARTITIONS_KEY = "partitions";
+	private static final String LOWER_BOUND_KEY = "lower";
+	private static final String UPPER_BOUND_KEY = "upper";
+	private static final String LAST_KEY = "last";
+	private static final String COMPLETED_KEY = "completed";
+
+	private final MassIndexingCheckpointStore store;
+	private final boolean resume;
+
+	private Map<String, String> restoredCheckpoint = Collections.emptyMap();
+	private final Map<String, EntityProgress<?>> entityProgresses = new LinkedHashMap<>();
+
+	MassIndexingCheckpointer(MassIndexingCheckpointStore store, boolean resume) {
+		this.store = store;
+		this.resume = resume;
+	}
+
+	/**
+	 * Loads the checkpoint from the store, if resuming.
+	 */
+	void start() {
+		if ( resume ) {
+			restoredCheckpoint = store.load();
+			if ( !restoredCheckpoint.isEmpty() ) {
+				log.resumingMassIndexingFromCheckpoint();
+			}
+		}
+	}
+
+	/**
+	 * @return {@code true} if mass indexing resumes from a previous checkpoint,
+	 * in which case the index must not be purged.
+	 */
+	boolean isResuming() {
+		return !restoredCheckpoint.isEmpty();
+	}
+
+	/**
+	 * @param entityName The name of the entity type.
+	 * @param partitioner The partitioner for identifiers of that entity type.
+	 * @param maxPartitionCount The maximum number of partitions, if partitions are not restored from a checkpoint.
+	 * @param <I> The identifier type
+	 * @return The progress of partitions that were not completely indexed yet. May be empty.
+	 */
+	<I> List<IdentifierPartitionProgress<I>> createPartitions(String entityName,
+			IdentifierPartitioner<?, I> partitioner, int maxPartitionCount) {
+		List<IdentifierPartitionProgress<I>> progresses = restorePartitions( entityName, partitioner );
+		if ( progresses == null ) {
+			progresses = new ArrayList<>();
+			for ( IdentifierPartition<I> partition : partitioner.createPartitions( maxPartitionCount ) ) {
+				progresses.add( IdentifierPartitionProgress.start( partition ) );
+			}
+		}
+
+		synchronized ( entityProgresses ) {
+			entityProgresses.put( entityName, new EntityProgress<>( partitioner.isPartitionable(), progresses ) );
+		}
+
+		List<IdentifierPartitionProgress<I>> incomplete = new ArrayList<>( progresses.size() );
+		for ( IdentifierPartitionProgress<I> progress : progresses ) {
+			if ( !progress.isCompleted() ) {
+				incomplete.add( progress );
+			}
+		}
+		return incomplete;
+	}
+
+	/**
+	 * @return A snapshot of the current progress, to be {@link #save(Map) saved}
+	 * once all indexing works submitted so far have been flushed.
+	 */
+	Map<String, String> snapshot() {
+		Map<String, String> checkpoint = new LinkedHashMap<>( restoredCheckpoint );
+		synchronized ( entityProgresses ) {
+			for ( Map.Entry<String, EntityProgress<?>> entry : entityProgresses.entrySet() ) {
+				String entityName = entry.getKey();
+				checkpoint.keySet().removeIf( key -> key.startsWith( entityName + "." ) );
+				entry.getValue().writeTo( entityName, checkpoint );
+			}
+		}
+		return checkpoint;
+	}
+
+	void save(Map<String, String> checkpoint) {
+		store.save( checkpoint );
+	}
+
+	/**
+	 * Removes the checkpoint from the store, once mass indexing completed successfully.
+	 */
+	void clear() {
+		store.clear();
+	}
+
+	private <I> List<IdentifierPartitionProgress<I>> restorePartitions(String entityName,
+			IdentifierPartitioner<?, I> partitioner) {
+		String partitionCountValue = restoredCheckpoint.get( key( entityName, PARTITIONS_KEY ) );
+		if ( partitionCountValue == null ) {
+			return null;
+		}
+		try {
+			int partitionCount = Integer.parseInt( partitionCountValue );
+			boolean partitionable = partitioner.isPartitionable();
+			List<IdentifierPartitionProgress<I>> progresses = new ArrayList<>( partitionCount );
+			for ( int i = 0; i < partitionCount; i++ ) {
+				boolean completed = Boolean.parseBoolean(
+						restoredCheckpoint.get( key( entityName, i, COMPLETED_KEY ) )
+				);
+				if ( !partitionable ) {
+					progresses.add( new IdentifierPartitionProgress<>( IdentifierPartition.all(),
+							IdentifierPartition.all(), null, completed ) );
+					continue;
+				}
+				I lowerBound = parse( partitioner, restoredCheckpoint.get( key( entityName, i, LOWER_BOUND_KEY ) ) );
+				I upperBound = parse( partitioner, restoredCheckpoint.get( key( entityName, i, UPPER_BOUND_KEY ) ) );
+				I last = parse( partitioner, restoredCheckpoint.get( key( entityName, i, LAST_KEY ) ) );
+				IdentifierPartition<I> partition = IdentifierPartition.of( lowerBound, upperBound );
+				IdentifierPartition<I> remainingPartition = last == null ? partition
+						: IdentifierPartition.of( partitioner.nextIdentifier( last ), upperBound );
+				progresses.add( new IdentifierPartitionProgress<>( partition, remainingPartition, last, completed ) );
+			}
+			return progresses;
+		}
+		catch (RuntimeException e) {
+			throw log.invalidMassIndexingCheckpoint( entityName, e.getMessage(), e );
+		}
+	}
+
+	private static <I> I parse(IdentifierPartitioner<?, I> partitioner, String value) {
+		return value == null ? null : partitioner.parseIdentifier( value );
+	}
+
+	private static String key(String entityName, String key) {
+		return entityName + "." + key;
+	}
+
+	private static String key(String entityName, int partitionIndex, String key) {
+		return entityName + "." + partitionIndex + "." + key;
+	}
+
+	private static final class EntityProgress<I> {
+		private final boolean partitionable;
+		private final List<IdentifierPartitionProgress<I>> partitions;
+
+		private EntityProgress(boolean partitionable, List<IdentifierPartitionProgress<I>> partitions) {
+			this.partitionable = partitionable;
+			this.partitions = partitions;
+		}
+
+		void writeTo(String entityName, Map<String, String> checkpoint) {
+			checkpoint.put( key( entityName, PARTITIONS_KEY ), String.valueOf( partitions.size() ) );
+			for ( int i = 0; i < partitions.size(); i++ ) {
+				IdentifierPartitionProgress<I> progress = partitions.get( i );
+				// Read the last identifier first:
+				// the partition may be completed concurrently, but not the other way around.
+				I last = progress.lastIndexedIdentifier();
+				checkpoint.put( key( entityName, i, COMPLETED_KEY ), String.valueOf( progress.isCompleted() ) );
+				if ( !partitionable ) {
+					continue;
+				}
+				IdentifierPartition<I> partition = progress.partition();
+				putIfNotNull( checkpoint, key( entityName, i, LOWER_BOUND_KEY ), partition.lowerBoundInclusive() );
+				putIfNotNull( checkpoint, key( entityName, i, UPPER_BOUND_KEY ), partition.upperBoundExclusive() );
+				putIfNotNull( checkpoint, key( entityName, i, LAST_KEY ), last );
+			}
+		}
+
+		private static void putIfNotNull(Map<String, String> checkpoint, String key, Object value) {
+			if ( value != null ) {
+				checkpoint.put( key, value.toString() );
+			}
+		}
+	}
+
+}
@@ -10,7 +10,6 @@
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
-import org.hibernate.Session;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
@@ -60,8 +59,12 @@ void notifyDocumentsAdded(int size) {
 		monitor.documentsAdded( size );
 	}
 
+	void notifyThrottlingRateChanged(double entitiesPerSecond) {
+		monitor.throttlingRateChanged( entitiesPerSecond );
+	}
+
 	<T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
-			Session session, T entity, Throwable throwable) {
+			Object entityIdentifier, Throwable throwable) {
 		RecordedEntityIndexingFailure recordedFailure = new RecordedEntityIndexingFailure( throwable );
 		entityIndexingFirstFailure.compareAndSet( null, recordedFailure );
 		entityIndexingFailureCount.increment();
@@ -70,10 +73,11 @@ <T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<
 		contextBuilder.throwable( throwable );
 		// Add minimal information here, but information we're sure we can get
 		contextBuilder.failingOperation( log.massIndexerIndexingInstance( type.jpaEntityName() ) );
-		// Add more information here, but information that may not be available if the session completely broke down
-		// (we're being extra careful here because we don't want to throw an exception while handling and exception)
-		EntityReference entityReference = extractReferenceOrSuppress( type, session, entity, throwable );
-		if ( entityReference != null ) {
+		// The identifier may not be available if we failed to extract it
+		if ( entityIdentifier != null ) {
+			EntityReference entityReference = new EntityReferenceImpl(
+					type.typeIdentifier(), type.jpaEntityName(), entityIdentifier
+			);
 			contextBuilder.entityReference( entityReference );
 			recordedFailure.entityReference = entityReference;
 		}
@@ -121,21 +125,6 @@ private SearchException createEntityIndexingExceptionOrNull() {
 		);
 	}
 
-	private <T> EntityReference extractReferenceOrSuppress(HibernateOrmMassIndexingIndexedTypeContext<T> type,
-			Session session, Object entity, Throwable throwable) {
-		try {
-			return new EntityReferenceImpl(
-					type.typeIdentifier(), type.jpaEntityName(), session.getIdentifier( entity )
-			);
-		}
-		catch (RuntimeException e) {
-			// We failed to extract a reference.
-			// Let's just give up and suppress the exception.
-			throwable.addSuppressed( e );
-			return null;
-		}
-	}
-
 	private static class RecordedEntityIndexingFailure {
 		private Throwable throwable;
 		private EntityReference entityReference;
@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the load mass indexing puts on the database and on the backend,
+ * shared by all the threads loading entities.
+ * <p>
+ * Three limits can be enabled independently:
+ * <ul>
+ *     <li>a maximum rate, in entities per second, enforced before loading each batch of entities;</li>
+ *     <li>a maximum number of indexing works submitted to the backend but not completed yet;</li>
+ *     <li>an adaptive rate, lowered when the backend takes longer than a given threshold
+ *     to complete the works of a batch, and raised back progressively when it no longer does.</li>
+ * </ul>
+ */
+class MassIndexingThrottle {
+
+	// The adaptive rate never goes below this, so that mass indexing always makes progress
+	private static final double MIN_ADAPTIVE_RATE = 1.0;
+	private static final double ADAPTIVE_DECREASE_FACTOR = 0.5;
+	private static final double ADAPTIVE_INCREASE_FACTOR = 1.1;
+
+	private final MassIndexingNotifier notifier;
+	// 0 means no limit
+	private final double maxEntitiesPerSecond;
+	// null means no limit
+	private final Semaphore inFlightWorks;
+	private final int maxInFlightWorks;
+	// 0 means adaptive throttling is disabled
+	private final long latencyThresholdNanos;
+
+	private final LongAdder completedEntities = new LongAdder();
+	private final long startNanos;
+
+	// 0 means no limit; guarded by "this"
+	private double currentEntitiesPerSecond;
+	// guarded by "this"
+	private long nextPermitNanos;
+
+	MassIndexingThrottle(MassIndexingNotifier notifier, double maxEntitiesPerSecond, int maxInFlightWorks,
+			long latencyThreshold, TimeUnit latencyThresholdUnit) {
+		this.notifier = notifier;
+		this.maxEntitiesPerSecond = maxEntitiesPerSecond;
+		this.inFlightWorks = maxInFlightWorks > 0 ? new Semaphore( maxInFlightWorks ) : null;
+		this.maxInFlightWorks = maxInFlightWorks;
+		this.latencyThresholdNanos = latencyThresholdUnit.toNanos( latencyThreshold );
+		this.startNanos = System.nanoTime();
+		this.currentEntitiesPerSecond = maxEntitiesPerSecond;
+		this.nextPermitNanos = startNanos;
+	}
+
+	/**
+	 * Blocks until a batch of entities can be loaded and indexed without exceeding the limits.
+	 * <p>
+	 * Each successful call must be followed by a call to {@link #afterBatch(int)}
+	 * once the indexing works of the batch are completed, or failed.
+	 *
+	 * @param entityCount The number of entities in the batch.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	void beforeBatch(int entityCount) throws InterruptedException {
+		long waitNanos = reserveRatePermits( entityCount );
+		if ( waitNanos > 0 ) {
+			TimeUnit.NANOSECONDS.sleep( waitNanos );
+		}
+		if ( inFlightWorks != null ) {
+			inFlightWorks.acquire( inFlightPermits( entityCount ) );
+		}
+	}
+
+	/**
+	 * @param entityCount The number of entities in the batch, as passed to {@link #beforeBatch(int)}.
+	 */
+	void afterBatch(int entityCount) {
+		if ( inFlightWorks != null ) {
+			inFlightWorks.release( inFlightPermits( entityCount ) );
+		}
+	}
+
+	/**
+	 * @param entityCount The number of entities whose indexing works completed.
+	 * @param backendLatencyNanos The time the backend took to complete the works,
+	 * after they were all submitted.
+	 */
+	void onWorksCompleted(int entityCount, long backendLatencyNanos) {
+		completedEntities.add( entityCount );
+		if ( latencyThresholdNanos <= 0 ) {
+			return;
+		}
+		double newRate;
+		synchronized ( this ) {
+			double oldRate = currentEntitiesPerSecond;
+			if ( backendLatencyNanos > latencyThresholdNanos ) {
+				double observedRate = observedEntitiesPerSecond();
+				double baseRate = oldRate == 0 ? observedRate : Math.min( oldRate, observedRate );
+				newRate = Math.max( MIN_ADAPTIVE_RATE, baseRate * ADAPTIVE_DECREASE_FACTOR );
+			}
+			else if ( oldRate != 0 && oldRate != maxEntitiesPerSecond ) {
+				newRate = oldRate * ADAPTIVE_INCREASE_FACTOR;
+				if ( maxEntitiesPerSecond != 0 && newRate >= maxEntitiesPerSecond ) {
+					newRate = maxEntitiesPerSecond;
+				}
+				else if ( maxEntitiesPerSecond == 0 && newRate >= 2 * observedEntitiesPerSecond() ) {
+					// The limit is no longer what keeps the rate down: remove it
+					newRate = 0;
+				}
+			}
+			else {
+				return;
+			}
+			if ( newRate == oldRate ) {
+				return;
+			}
+			currentEntitiesPerSecond = newRate;
+		}
+		notifier.notifyThrottlingRateChanged( newRate );
+	}
+
+	private synchronized long reserveRatePermits(int entityCount) {
+		if ( currentEntitiesPerSecond == 0 ) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		// Do not let unused permits accumulate while the rate was not reached
+		long permitNanos = Math.max( now, nextPermitNanos );
+		nextPermitNanos = permitNanos + (long) ( entityCount * TimeUnit.SECONDS.toNanos( 1 ) / currentEntitiesPerSecond );
+		return permitNanos - now;
+	}
+
+	private double observedEntitiesPerSecond() {
+		long elapsedNanos = Math.max( 1L, System.nanoTime() - startNanos );
+		return completedEntities.doubleValue() * TimeUnit.SECONDS.toNanos( 1 ) / elapsedNanos;
+	}
+
+	private int inFlightPermits(int entityCount) {
+		// A batch larger than the limit must still be able to proceed, alone
+		return Math.min( entityCount, maxInFlightWorks );
+	}
+
+}
@@ -101,7 +101,8 @@ public MassIndexer massIndexer(DetachedBackendSessionContext detachedSessionCont
 				delegate.includedIndexedTypes(),
 				detachedSessionContext,
 				delegate.schemaManager(),
-				delegate.workspace( detachedSessionContext )
+				delegate.workspace( detachedSessionContext ),
+				delegate::startIndexRebuild
 		);
 	}
 
@@ -115,6 +115,12 @@ public SearchLoadingOptionsStep graph(String graphName, GraphSemantic semantic)
 			return graph( sessionContext.session().getEntityGraph( graphName ), semantic );
 		}
 
+		@Override
+		public SearchLoadingOptionsStep readOnly(boolean readOnly) {
+			loadingOptions.readOnly( readOnly );
+			return this;
+		}
+
 		@Override
 		public LoadingContext<EntityReference, E> build() {
 			DocumentReferenceConverter<EntityReference> referenceHitMapper = sessionContext.referenceHitMapper();
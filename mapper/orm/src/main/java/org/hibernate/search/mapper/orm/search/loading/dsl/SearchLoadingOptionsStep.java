@@ -13,6 +13,7 @@
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.query.Query;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * The DSL entry point passed to consumers in
@@ -65,4 +66,21 @@ public interface SearchLoadingOptionsStep {
 	 */
 	SearchLoadingOptionsStep graph(String graphName, GraphSemantic semantic);
 
+	/**
+	 * Set whether entities loaded from the database for this query should be read-only.
+	 * <p>
+	 * Read-only entities are not dirty-checked when the session is flushed,
+	 * and no snapshot of their state is kept in the session,
+	 * which reduces the cost of loading entities that are only meant to be displayed.
+	 * Changes to read-only entities are not persisted.
+	 * <p>
+	 * Entities that are already managed by the session are returned as-is.
+	 *
+	 * @param readOnly {@code true} to load entities as read-only, {@code false} to use the session's default.
+	 * @return {@code this} for method chaining.
+	 * @see Query#setReadOnly(boolean)
+	 */
+	@Incubating
+	SearchLoadingOptionsStep readOnly(boolean readOnly);
+
 }
@@ -8,6 +8,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -82,6 +83,10 @@ public void loadBlocking(List<EntityReference> references, Map<? super EntityRef
 	}
 
 	private List<E> doLoadEntities(List<EntityReference> references) {
+		if ( loadingOptions.readOnly() ) {
+			return doLoadEntitiesReadOnly( references );
+		}
+
 		EntityKey[] keys = toEntityKeys( references );
 		List<E> loadedEntities = createListContainingNulls( references.size() );
 
@@ -131,6 +136,63 @@ private List<E> doLoadEntities(List<EntityReference> references) {
 		return loadedEntities;
 	}
 
+	/*
+	 * Read-only entities may be returned as-is by the query:
+	 * we put them in the right order directly instead of looking them up in the persistence context,
+	 * and they are never dirty-checked.
+	 * Entities retrieved from the second-level cache are made read-only as well,
+	 * but entities that were already managed before the search are left untouched.
+	 */
+	private List<E> doLoadEntitiesReadOnly(List<EntityReference> references) {
+		EntityKey[] keys = toEntityKeys( references );
+		List<E> loadedEntities = createListContainingNulls( references.size() );
+		Map<EntityKey, Integer> positionsByKey = new HashMap<>( keys.length );
+
+		int fetchSize = loadingOptions.fetchSize();
+		Query<?> query = createQuery( fetchSize );
+
+		List<Object> ids = new ArrayList<>( fetchSize );
+		for ( int i = 0; i < keys.length; i++ ) {
+			EntityKey key = keys[i];
+			if ( cacheLookupStrategyImplementor != null ) {
+				boolean alreadyManaged = persistenceContextLookup.lookup( key ) != null;
+				Object cacheHit = cacheLookupStrategyImplementor.lookup( key );
+				if ( cacheHit != null ) {
+					if ( !alreadyManaged ) {
+						session.setReadOnly( cacheHit, true );
+					}
+					loadedEntities.set( i, castOrNull( references.get( i ), cacheHit ) );
+					continue;
+				}
+			}
+
+			positionsByKey.put( key, i );
+			ids.add( key.getIdentifier() );
+			if ( ids.size() >= fetchSize ) {
+				query.setParameterList( IDS_PARAMETER_NAME, ids );
+				putInPosition( query.getResultList(), positionsByKey, references, loadedEntities );
+				ids.clear();
+			}
+		}
+		if ( !ids.isEmpty() ) {
+			query.setParameterList( IDS_PARAMETER_NAME, ids );
+			putInPosition( query.getResultList(), positionsByKey, references, loadedEntities );
+		}
+
+		return loadedEntities;
+	}
+
+	private void putInPosition(List<?> results, Map<EntityKey, Integer> positionsByKey,
+			List<EntityReference> references, List<E> loadedEntities) {
+		for ( Object loaded : results ) {
+			Serializable id = entityPersister.getIdentifier( loaded, session );
+			Integer position = positionsByKey.get( session.generateEntityKey( id, entityPersister ) );
+			if ( position != null ) {
+				loadedEntities.set( position, castOrNull( references.get( position ), loaded ) );
+			}
+		}
+	}
+
 	// The cast is safe because we check is an instance of the type from the entity reference.
 	@SuppressWarnings("unchecked")
 	private E castOrNull(EntityReference reference, Object loadedEntity) {
@@ -148,6 +210,9 @@ private Query<?> createQuery(int fetchSize) {
 		);
 
 		query.setFetchSize( fetchSize );
+		if ( loadingOptions.readOnly() ) {
+			query.setReadOnly( true );
+		}
 
 		EntityGraphHint<?> entityGraphHint = loadingOptions.entityGraphHintOrNullForType( entityPersister );
 		if ( entityGraphHint != null ) {
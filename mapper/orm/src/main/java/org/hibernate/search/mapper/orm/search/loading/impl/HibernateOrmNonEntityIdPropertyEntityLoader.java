@@ -120,6 +120,9 @@ private Query<? extends E> createQuery(int fetchSize) {
 		);
 
 		query.setFetchSize( fetchSize );
+		if ( loadingOptions.readOnly() ) {
+			query.setReadOnly( true );
+		}
 
 		EntityGraphHint<?> entityGraphHint = loadingOptions.entityGraphHintOrNullForType( entityPersister );
 		if ( entityGraphHint != null ) {
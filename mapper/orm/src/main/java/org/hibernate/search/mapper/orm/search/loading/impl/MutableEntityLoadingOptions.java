@@ -14,6 +14,7 @@
 
 public class MutableEntityLoadingOptions {
 	private int fetchSize;
+	private boolean readOnly;
 
 	private List<EntityGraphHint> entityGraphHints;
 
@@ -30,6 +31,14 @@ public void fetchSize(int fetchSize) {
 		this.fetchSize = fetchSize;
 	}
 
+	boolean readOnly() {
+		return readOnly;
+	}
+
+	public void readOnly(boolean readOnly) {
+		this.readOnly = readOnly;
+	}
+
 	public EntityGraphHint<?> entityGraphHintOrNullForType(EntityPersister entityPersister) {
 		if ( entityGraphHints == null ) {
 			return null;
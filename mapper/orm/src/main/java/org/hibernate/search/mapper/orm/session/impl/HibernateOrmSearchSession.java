@@ -24,6 +24,7 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxIndexingPlan;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
@@ -286,10 +287,10 @@ public PojoIndexingPlan<EntityReference> currentIndexingPlan(boolean createIfDoe
 
 		ConfiguredAutomaticIndexingSynchronizationStrategy currentSynchronizationStrategy =
 				configuredAutomaticIndexingSynchronizationStrategy;
-		plan = createIndexingPlan(
-				currentSynchronizationStrategy.getDocumentCommitStrategy(),
-				currentSynchronizationStrategy.getDocumentRefreshStrategy()
-		);
+		plan = createIndexingPlan();
+		if ( mappingContext.automaticIndexingThroughOutbox() ) {
+			plan = new OutboxIndexingPlan( typeContextProvider, sessionImplementor, plan );
+		}
 		planPerTransaction.put( transactionIdentifier, plan );
 
 		if ( sessionImplementor.isTransactionInProgress() ) {
@@ -302,6 +303,17 @@ public PojoIndexingPlan<EntityReference> currentIndexingPlan(boolean createIfDoe
 		return plan;
 	}
 
+	/**
+	 * @return A new indexing plan, independent from the current transaction,
+	 * using the commit and refresh strategies of the configured synchronization strategy.
+	 */
+	public PojoIndexingPlan<EntityReference> createIndexingPlan() {
+		return createIndexingPlan(
+				configuredAutomaticIndexingSynchronizationStrategy.getDocumentCommitStrategy(),
+				configuredAutomaticIndexingSynchronizationStrategy.getDocumentRefreshStrategy()
+		);
+	}
+
 	@Override
 	public ConfiguredAutomaticIndexingSynchronizationStrategy configuredAutomaticIndexingSynchronizationStrategy() {
 		return configuredAutomaticIndexingSynchronizationStrategy;
@@ -17,6 +17,12 @@ public interface HibernateOrmSearchSessionMappingContext extends PojoSearchSessi
 
 	FailureHandler failureHandler();
 
+	/**
+	 * @return {@code true} if automatic indexing must record entity changes in the outbox table
+	 * instead of indexing entities directly.
+	 */
+	boolean automaticIndexingThroughOutbox();
+
 	<T> SearchScopeImpl<T> createScope(Collection<? extends Class<? extends T>> types);
 
 	<T> SearchScopeImpl<T> createScope(Class<T> expectedSuperType, Collection<String> entityNames);
@@ -6,13 +6,14 @@
  */
 package org.hibernate.search.mapper.orm.session.impl;
 
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContextProvider;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospectorTypeContextProvider;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContextProvider;
 import org.hibernate.search.mapper.orm.work.impl.SearchIndexingPlanTypeContextProvider;
 
 public interface HibernateOrmSessionTypeContextProvider
 		extends HibernateOrmScopeTypeContextProvider, HibernateOrmRuntimeIntrospectorTypeContextProvider,
-				SearchIndexingPlanTypeContextProvider {
+				SearchIndexingPlanTypeContextProvider, HibernateOrmOutboxTypeContextProvider {
 
 	HibernateOrmSessionIndexedTypeContext<?> indexedForJpaEntityName(String indexName);
 
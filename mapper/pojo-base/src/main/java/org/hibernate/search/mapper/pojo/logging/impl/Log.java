@@ -8,6 +8,7 @@
 
 import java.lang.annotation.Annotation;
 import java.net.MalformedURLException;
+import java.net.URL;
 import java.net.URISyntaxException;
 import java.util.Collection;
 import java.util.Set;
@@ -422,4 +423,10 @@ SearchException missingProcessorReferenceInMappingAnnotation(
 	@Message(id = ID_OFFSET_2 + 70,
 			value = "Index field name '%1$s' is invalid: field names cannot contain a dot ('.').")
 	SearchException invalidFieldNameDotNotAllowed(String relativeFieldName);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Unable to read Jandex index '%1$s': %2$s"
+					+ " Ignoring this index; annotations of the corresponding types will be discovered through reflection.")
+	void unableToReadJandexIndex(URL url, String causeMessage, @Cause Exception cause);
 }
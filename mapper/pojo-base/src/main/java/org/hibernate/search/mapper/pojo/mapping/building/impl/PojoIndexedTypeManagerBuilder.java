@@ -44,6 +44,7 @@
 
 	private final PojoIdentityMappingCollectorImpl<E> identityMappingCollector;
 	private final PojoIndexingProcessorOriginalTypeNodeBuilder<E> processorBuilder;
+	private final boolean indexingProcessorCompilationEnabled;
 
 	private PojoIndexingProcessor<E> preBuiltIndexingProcessor;
 
@@ -55,7 +56,8 @@
 			MappedIndexManagerBuilder indexManagerBuilder,
 			PojoIndexedTypeExtendedMappingCollector extendedMappingCollector,
 			BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge,
-			BeanResolver beanResolver) {
+			BeanResolver beanResolver,
+			boolean indexingProcessorCompilationEnabled) {
 		this.typeModel = typeModel;
 		this.indexManagerBuilder = indexManagerBuilder;
 		this.extendedMappingCollector = extendedMappingCollector;
@@ -72,6 +74,7 @@
 				Optional.of( identityMappingCollector ),
 				Collections.emptyList()
 		);
+		this.indexingProcessorCompilationEnabled = indexingProcessorCompilationEnabled;
 	}
 
 	void closeOnFailure() {
@@ -100,6 +103,9 @@ void preBuild(PojoImplicitReindexingResolverBuildingHelper reindexingResolverBui
 				reindexingResolverBuildingHelper.createDependencyCollector( typeModel );
 		preBuiltIndexingProcessor = processorBuilder.build( dependencyCollector )
 				.orElseGet( PojoIndexingProcessor::noOp );
+		if ( indexingProcessorCompilationEnabled ) {
+			preBuiltIndexingProcessor = preBuiltIndexingProcessor.compile();
+		}
 	}
 
 	void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
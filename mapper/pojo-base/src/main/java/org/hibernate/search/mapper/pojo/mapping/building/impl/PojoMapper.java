@@ -74,6 +74,7 @@
 	private final BeanResolver beanResolver;
 	private final boolean multiTenancyEnabled;
 	private final ReindexOnUpdate defaultReindexOnUpdate;
+	private final boolean indexingProcessorCompilationEnabled;
 
 	private final FailureHandler failureHandler;
 	private final ThreadPoolProvider threadPoolProvider;
@@ -100,11 +101,13 @@ public PojoMapper(MappingBuildContext buildContext,
 			ContainerExtractorRegistry containerExtractorRegistry,
 			BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge,
 			boolean multiTenancyEnabled, ReindexOnUpdate defaultReindexOnUpdate,
+			boolean indexingProcessorCompilationEnabled,
 			PojoMapperDelegate<MPBS> delegate) {
 		this.failureCollector = buildContext.failureCollector();
 		this.contributorProvider = contributorProvider;
 		this.multiTenancyEnabled = multiTenancyEnabled;
 		this.defaultReindexOnUpdate = defaultReindexOnUpdate;
+		this.indexingProcessorCompilationEnabled = indexingProcessorCompilationEnabled;
 
 		this.failureHandler = buildContext.failureHandler();
 		this.threadPoolProvider = buildContext.threadPoolProvider();
@@ -384,7 +387,8 @@ private <E> PojoIndexedTypeManagerBuilder<E> createIndexedTypeManagerBuilder(
 				delegate.createIndexedTypeExtendedMappingCollector(
 						entityTypeModel, entityTypeMetadata.getEntityName(), indexManagerBuilder.indexName()
 				),
-				providedIdentifierBridge, beanResolver
+				providedIdentifierBridge, beanResolver,
+				indexingProcessorCompilationEnabled
 		);
 	}
 
@@ -8,6 +8,10 @@
 
 import java.util.Set;
 
+import org.hibernate.search.util.common.annotation.Incubating;
+
+import org.jboss.jandex.IndexView;
+
 /**
  * A context to configure annotation mapping.
  */
@@ -25,4 +29,23 @@ public interface AnnotationMappingConfigurationContext {
 	 */
 	AnnotationMappingConfigurationContext add(Set<Class<?>> annotatedTypes);
 
+	/**
+	 * @param jandexIndex A Jandex index of classes that may be scanned for annotations.
+	 * Hibernate Search will use this index to skip, without reflection,
+	 * the types that do not bear any mapping annotation.
+	 * Types that are not in the index will still be scanned through reflection.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	AnnotationMappingConfigurationContext addJandexIndex(IndexView jandexIndex);
+
+	/**
+	 * @param enabled {@code true} to look for Jandex indexes in the classpath,
+	 * at the conventional location {@code META-INF/jandex.idx},
+	 * and use them as if they had been passed to {@link #addJandexIndex(IndexView)}.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	AnnotationMappingConfigurationContext discoverJandexIndexesFromClasspath(boolean enabled);
+
 }
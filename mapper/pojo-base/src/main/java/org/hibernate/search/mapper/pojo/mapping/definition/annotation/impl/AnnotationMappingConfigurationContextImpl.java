@@ -6,12 +6,18 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.definition.annotation.impl;
 
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
 import org.hibernate.search.engine.mapper.mapping.building.spi.TypeMetadataDiscoverer;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingBuildContext;
@@ -19,19 +25,31 @@
 import org.hibernate.search.engine.reporting.spi.FailureCollector;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AnnotationMappingConfigurationContext;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingConfigurationContributor;
 import org.hibernate.search.mapper.pojo.model.spi.PojoBootstrapIntrospector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reflect.spi.AnnotationHelper;
 
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+
 public class AnnotationMappingConfigurationContextImpl implements AnnotationMappingConfigurationContext,
 		PojoMappingConfigurationContributor {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String JANDEX_INDEX_RESOURCE_NAME = "META-INF/jandex.idx";
+
 	private final PojoBootstrapIntrospector introspector;
 	// Use a LinkedHashSet for deterministic iteration
 	private final Set<Class<?>> annotatedTypes = new LinkedHashSet<>();
+	private final List<IndexView> jandexIndexes = new ArrayList<>();
 
 	private boolean annotatedTypeDiscoveryEnabled = false;
+	private boolean jandexIndexDiscoveryEnabled = false;
 
 	public AnnotationMappingConfigurationContextImpl(PojoBootstrapIntrospector introspector) {
 		this.introspector = introspector;
@@ -53,6 +71,18 @@ public AnnotationMappingConfigurationContext add(Set<Class<?>> annotatedTypes) {
 		return this;
 	}
 
+	@Override
+	public AnnotationMappingConfigurationContext addJandexIndex(IndexView jandexIndex) {
+		this.jandexIndexes.add( jandexIndex );
+		return this;
+	}
+
+	@Override
+	public AnnotationMappingConfigurationContext discoverJandexIndexesFromClasspath(boolean enabled) {
+		this.jandexIndexDiscoveryEnabled = enabled;
+		return this;
+	}
+
 	@Override
 	public void configure(MappingBuildContext buildContext,
 			MappingConfigurationCollector<PojoTypeMetadataContributor> collector) {
@@ -61,6 +91,7 @@ public void configure(MappingBuildContext buildContext,
 		AnnotationHelper annotationHelper = new AnnotationHelper( introspector.annotationValueReadHandleFactory() );
 		AnnotationPojoTypeMetadataContributorFactory contributorFactory =
 				new AnnotationPojoTypeMetadataContributorFactory( beanResolver, failureCollector, annotationHelper );
+		JandexMappingAnnotationFilter jandexFilter = createJandexFilter( buildContext.resourceResolver() );
 
 		/*
 		 * For types that were explicitly requested for annotation scanning and their supertypes,
@@ -69,6 +100,10 @@ public void configure(MappingBuildContext buildContext,
 		Set<PojoRawTypeModel<?>> alreadyContributedTypes = new HashSet<>();
 		Set<PojoRawTypeModel<?>> typesToInspect = new LinkedHashSet<>();
 		for ( Class<?> annotatedType : annotatedTypes ) {
+			if ( jandexFilter != null && !jandexFilter.mayContributeThroughHierarchy( annotatedType ) ) {
+				// Skip the type without creating a type model, which would involve reflection
+				continue;
+			}
 			introspector.typeModel( annotatedType ).ascendingSuperTypes()
 					.forEach( typesToInspect::add );
 		}
@@ -76,7 +111,7 @@ public void configure(MappingBuildContext buildContext,
 			boolean neverContributed = alreadyContributedTypes.add( typeModel );
 			// Ignore types that were already contributed
 			// TODO optimize by completely ignoring standard Java types, e.g. Object or standard Java interfaces such as Serializable?
-			if ( neverContributed ) {
+			if ( neverContributed && mayContribute( jandexFilter, typeModel ) ) {
 				Optional<PojoTypeMetadataContributor> contributorOptional =
 						contributorFactory.createIfAnnotated( typeModel );
 				if ( contributorOptional.isPresent() ) {
@@ -91,22 +126,47 @@ public void configure(MappingBuildContext buildContext,
 		 */
 		if ( annotatedTypeDiscoveryEnabled ) {
 			PojoAnnotationTypeMetadataDiscoverer discoverer =
-					new PojoAnnotationTypeMetadataDiscoverer( contributorFactory, alreadyContributedTypes );
+					new PojoAnnotationTypeMetadataDiscoverer( contributorFactory, jandexFilter, alreadyContributedTypes );
 			collector.collectDiscoverer( discoverer );
 		}
 	}
 
+	private JandexMappingAnnotationFilter createJandexFilter(ResourceResolver resourceResolver) {
+		List<IndexView> indexes = new ArrayList<>( jandexIndexes );
+		if ( jandexIndexDiscoveryEnabled ) {
+			for ( URL url : resourceResolver.locateResources( JANDEX_INDEX_RESOURCE_NAME ) ) {
+				try ( InputStream stream = url.openStream() ) {
+					indexes.add( new IndexReader( stream ).read() );
+				}
+				catch (Exception e) {
+					log.unableToReadJandexIndex( url, e.getMessage(), e );
+				}
+			}
+		}
+		if ( indexes.isEmpty() ) {
+			return null;
+		}
+		return new JandexMappingAnnotationFilter( CompositeIndex.create( indexes ) );
+	}
+
+	private static boolean mayContribute(JandexMappingAnnotationFilter jandexFilter, PojoRawTypeModel<?> typeModel) {
+		return jandexFilter == null || jandexFilter.mayContribute( typeModel.typeIdentifier().javaClass() );
+	}
+
 	/**
 	 * A type metadata discoverer that will provide annotation-based metadata
 	 * for types that were not explicitly requested .
 	 */
 	private static class PojoAnnotationTypeMetadataDiscoverer implements TypeMetadataDiscoverer<PojoTypeMetadataContributor> {
 		private final AnnotationPojoTypeMetadataContributorFactory contributorFactory;
+		private final JandexMappingAnnotationFilter jandexFilter;
 		private final Set<PojoRawTypeModel<?>> alreadyContributedTypes;
 
 		PojoAnnotationTypeMetadataDiscoverer(AnnotationPojoTypeMetadataContributorFactory contributorFactory,
+				JandexMappingAnnotationFilter jandexFilter,
 				Set<PojoRawTypeModel<?>> alreadyContributedTypes) {
 			this.contributorFactory = contributorFactory;
+			this.jandexFilter = jandexFilter;
 			this.alreadyContributedTypes = alreadyContributedTypes;
 		}
 
@@ -118,7 +178,7 @@ public Optional<PojoTypeMetadataContributor> discover(MappableTypeModel typeMode
 			 * for instance a field being declared twice.
 			 */
 			boolean neverContributed = alreadyContributedTypes.add( pojoTypeModel );
-			if ( neverContributed ) {
+			if ( neverContributed && mayContribute( jandexFilter, pojoTypeModel ) ) {
 				// TODO optimize by completely ignoring standard Java types, e.g. Object or standard Java interfaces such as Serializable?
 				return contributorFactory.createIfAnnotated( pojoTypeModel );
 			}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.definition.annotation.impl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.PropertyMapping;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.TypeMapping;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+/**
+ * Relies on a Jandex index to tell, without loading or reflecting on a class,
+ * whether it may contribute to the mapping through annotations.
+ * <p>
+ * This filter is conservative:
+ * classes that are not in the index, or that bear annotations we cannot inspect in the index,
+ * are assumed to contribute to the mapping, and will be inspected through reflection.
+ */
+final class JandexMappingAnnotationFilter {
+
+	private static final String HIBERNATE_SEARCH_PACKAGE_PREFIX = "org.hibernate.search.";
+	private static final String[] NON_MAPPING_PACKAGE_PREFIXES = new String[] {
+			"java.", "javax.", "jakarta.", "kotlin.", "org.hibernate."
+	};
+	private static final DotName TYPE_MAPPING = DotName.createSimple( TypeMapping.class.getName() );
+	private static final DotName PROPERTY_MAPPING = DotName.createSimple( PropertyMapping.class.getName() );
+
+	private final IndexView index;
+
+	private final Map<DotName, Boolean> mappingAnnotationCache = new HashMap<>();
+	private final Map<DotName, Boolean> typeCache = new HashMap<>();
+
+	JandexMappingAnnotationFilter(IndexView index) {
+		this.index = index;
+	}
+
+	/**
+	 * @param type A type.
+	 * @return {@code true} if this type or one of its supertypes may contribute to the mapping,
+	 * {@code false} if we know for sure they do not.
+	 */
+	boolean mayContributeThroughHierarchy(Class<?> type) {
+		return mayContributeThroughHierarchy( DotName.createSimple( type.getName() ), new HashSet<>() );
+	}
+
+	/**
+	 * @param type A type.
+	 * @return {@code true} if annotations declared in this type (ignoring supertypes) may contribute to the mapping,
+	 * {@code false} if we know for sure they do not.
+	 */
+	boolean mayContribute(Class<?> type) {
+		return mayContribute( DotName.createSimple( type.getName() ) );
+	}
+
+	private boolean mayContributeThroughHierarchy(DotName typeName, Set<DotName> visited) {
+		if ( !visited.add( typeName ) ) {
+			return false;
+		}
+		if ( mayContribute( typeName ) ) {
+			return true;
+		}
+		ClassInfo classInfo = index.getClassByName( typeName );
+		if ( classInfo == null ) {
+			// Standard Java type, known not to contribute
+			return false;
+		}
+		DotName superName = classInfo.superName();
+		if ( superName != null && mayContributeThroughHierarchy( superName, visited ) ) {
+			return true;
+		}
+		for ( DotName interfaceName : classInfo.interfaceNames() ) {
+			if ( mayContributeThroughHierarchy( interfaceName, visited ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean mayContribute(DotName typeName) {
+		Boolean result = typeCache.get( typeName );
+		if ( result == null ) {
+			result = computeMayContribute( typeName );
+			typeCache.put( typeName, result );
+		}
+		return result;
+	}
+
+	private boolean computeMayContribute(DotName typeName) {
+		ClassInfo classInfo = index.getClassByName( typeName );
+		if ( classInfo == null ) {
+			// Not indexed: we cannot tell without reflection, unless it's a standard Java type
+			return !typeName.toString().startsWith( "java." );
+		}
+		// This includes annotations on the class itself, but also on its fields and methods
+		for ( DotName annotationName : classInfo.annotations().keySet() ) {
+			if ( isMappingAnnotation( annotationName ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isMappingAnnotation(DotName annotationName) {
+		Boolean result = mappingAnnotationCache.get( annotationName );
+		if ( result == null ) {
+			// Prevent infinite recursion on (invalid) self-referencing containers
+			mappingAnnotationCache.put( annotationName, true );
+			result = computeIsMappingAnnotation( annotationName );
+			mappingAnnotationCache.put( annotationName, result );
+		}
+		return result;
+	}
+
+	private boolean computeIsMappingAnnotation(DotName annotationName) {
+		ClassInfo annotationInfo = index.getClassByName( annotationName );
+		if ( annotationInfo == null ) {
+			// Not indexed: assume Hibernate Search and custom annotations may be mapping annotations
+			String name = annotationName.toString();
+			if ( name.startsWith( HIBERNATE_SEARCH_PACKAGE_PREFIX ) ) {
+				return true;
+			}
+			for ( String prefix : NON_MAPPING_PACKAGE_PREFIXES ) {
+				if ( name.startsWith( prefix ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if ( annotationInfo.classAnnotation( TYPE_MAPPING ) != null
+				|| annotationInfo.classAnnotation( PROPERTY_MAPPING ) != null ) {
+			return true;
+		}
+		// Containers of repeatable mapping annotations are mapping annotations too
+		MethodInfo valueMethod = annotationInfo.method( "value" );
+		if ( valueMethod != null && valueMethod.returnType().kind() == Type.Kind.ARRAY ) {
+			Type componentType = valueMethod.returnType().asArrayType().component();
+			return componentType.kind() == Type.Kind.CLASS && isMappingAnnotation( componentType.name() );
+		}
+		return false;
+	}
+}
@@ -7,8 +7,10 @@
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -175,6 +177,11 @@ public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionConte
 		return indexManager.createWorkspace( sessionContext );
 	}
 
+	@Override
+	public CompletableFuture<IndexRebuild> startRebuild() {
+		return indexManager.startRebuild();
+	}
+
 	@Override
 	public <R> PojoIndexedTypeIndexingPlan<I, E, R> createIndexingPlan(PojoWorkSessionContext<R> sessionContext,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
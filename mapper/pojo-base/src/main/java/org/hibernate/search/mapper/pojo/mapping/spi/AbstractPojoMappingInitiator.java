@@ -37,6 +37,7 @@
 	private BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge;
 	private boolean multiTenancyEnabled;
 	private ReindexOnUpdate defaultReindexOnUpdate = ReindexOnUpdate.DEFAULT;
+	private boolean indexingProcessorCompilationEnabled;
 
 	private final AnnotationMappingConfigurationContextImpl annotationMappingConfiguration;
 
@@ -86,6 +87,14 @@ public void defaultReindexOnUpdate(ReindexOnUpdate defaultReindexOnUpdate) {
 		this.defaultReindexOnUpdate = defaultReindexOnUpdate;
 	}
 
+	/**
+	 * @param indexingProcessorCompilationEnabled {@code true} to compile the indexing processor of each indexed type
+	 * into a flattened, specialized processor on bootstrap, for better indexing throughput.
+	 */
+	public void indexingProcessorCompilationEnabled(boolean indexingProcessorCompilationEnabled) {
+		this.indexingProcessorCompilationEnabled = indexingProcessorCompilationEnabled;
+	}
+
 	public void annotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabled) {
 		annotationMappingConfiguration.setAnnotatedTypeDiscoveryEnabled( annotatedTypeDiscoveryEnabled );
 	}
@@ -108,6 +117,7 @@ public Mapper<MPBS> createMapper(MappingBuildContext buildContext,
 				providedIdentifierBridge,
 				multiTenancyEnabled,
 				defaultReindexOnUpdate,
+				indexingProcessorCompilationEnabled,
 				createMapperDelegate()
 		);
 	}
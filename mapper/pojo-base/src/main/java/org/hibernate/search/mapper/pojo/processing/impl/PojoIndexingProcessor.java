@@ -29,6 +29,20 @@ public void close() {
 
 	public abstract void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext);
 
+	/**
+	 * Compile this processor into an equivalent processor optimized for throughput:
+	 * nested lists of processors are flattened into arrays,
+	 * and some chains of nodes are fused into a single, specialized node.
+	 * <p>
+	 * The returned processor takes over the resources of this processor:
+	 * after this call, only the returned processor should be used and closed.
+	 *
+	 * @return A processor equivalent to this one. May be {@code this}.
+	 */
+	public PojoIndexingProcessor<T> compile() {
+		return this;
+	}
+
 	public static <T> PojoIndexingProcessor<T> noOp() {
 		return NoOpPojoIndexingProcessor.get();
 	}
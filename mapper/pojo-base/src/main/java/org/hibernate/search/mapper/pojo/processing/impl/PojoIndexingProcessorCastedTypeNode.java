@@ -50,6 +50,11 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "nested", nested );
 	}
 
+	@Override
+	public PojoIndexingProcessor<T> compile() {
+		return new PojoIndexingProcessorCastedTypeNode<>( caster, parentIndexObjectReferences, nested.compile() );
+	}
+
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
 		if ( source == null ) {
@@ -47,6 +47,11 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "nested", nested );
 	}
 
+	@Override
+	public PojoIndexingProcessor<C> compile() {
+		return new PojoIndexingProcessorContainerElementNode<>( extractorHolder, nested.compile() );
+	}
+
 	@Override
 	public final void process(DocumentElement target, C source, PojoIndexingProcessorSessionContext sessionContext) {
 		try ( Stream<V> stream = extractorHolder.get().extract( source ) ) {
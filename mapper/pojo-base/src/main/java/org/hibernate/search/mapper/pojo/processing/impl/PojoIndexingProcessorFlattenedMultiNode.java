@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * A node inside a {@link PojoIndexingProcessor} responsible for applying multiple processors,
+ * resulting from the {@link PojoIndexingProcessor#compile() compilation} of a {@link PojoIndexingProcessorMultiNode}.
+ * <p>
+ * Nested multi-nodes are inlined, and elements are stored in an array,
+ * so that processing does not involve any iterator.
+ *
+ * @param <T> The processed type
+ */
+public class PojoIndexingProcessorFlattenedMultiNode<T> extends PojoIndexingProcessor<T> {
+
+	static <T> PojoIndexingProcessor<T> create(List<PojoIndexingProcessor<? super T>> elements) {
+		if ( elements.isEmpty() ) {
+			return PojoIndexingProcessor.noOp();
+		}
+		else if ( elements.size() == 1 ) {
+			@SuppressWarnings("unchecked") // A processor for a supertype of T is also a processor for T
+			PojoIndexingProcessor<T> singleElement = (PojoIndexingProcessor<T>) elements.get( 0 );
+			return singleElement;
+		}
+		else {
+			@SuppressWarnings("unchecked") // Generic arrays cannot be created
+			PojoIndexingProcessor<? super T>[] array = elements.toArray( new PojoIndexingProcessor[0] );
+			return new PojoIndexingProcessorFlattenedMultiNode<>( array );
+		}
+	}
+
+	@SuppressWarnings("unchecked") // A processor for a supertype of T is also a processor for T
+	static <T> void addFlattened(List<PojoIndexingProcessor<? super T>> collector,
+			PojoIndexingProcessor<? super T> element) {
+		if ( element instanceof PojoIndexingProcessorFlattenedMultiNode ) {
+			Collections.addAll( collector, ( (PojoIndexingProcessorFlattenedMultiNode<T>) element ).elements );
+		}
+		else if ( !( element instanceof NoOpPojoIndexingProcessor ) ) {
+			collector.add( element );
+		}
+	}
+
+	private final PojoIndexingProcessor<? super T>[] elements;
+
+	private PojoIndexingProcessorFlattenedMultiNode(PojoIndexingProcessor<? super T>[] elements) {
+		this.elements = elements;
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			for ( PojoIndexingProcessor<? super T> element : elements ) {
+				closer.push( PojoIndexingProcessor::close, element );
+			}
+		}
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.startList();
+		for ( PojoIndexingProcessor<? super T> element : elements ) {
+			builder.value( element );
+		}
+		builder.endList();
+	}
+
+	@Override
+	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+		for ( int i = 0; i < elements.length; i++ ) {
+			// Recursion here
+			elements[i].process( target, source, sessionContext );
+		}
+	}
+
+}
@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
@@ -42,6 +44,15 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.endList();
 	}
 
+	@Override
+	public PojoIndexingProcessor<T> compile() {
+		List<PojoIndexingProcessor<? super T>> flattenedElements = new ArrayList<>();
+		for ( PojoIndexingProcessor<? super T> element : elements ) {
+			PojoIndexingProcessorFlattenedMultiNode.addFlattened( flattenedElements, element.compile() );
+		}
+		return PojoIndexingProcessorFlattenedMultiNode.create( flattenedElements );
+	}
+
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
 		for ( PojoIndexingProcessor<? super T> element : elements ) {
@@ -41,6 +41,11 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "nested", nested );
 	}
 
+	@Override
+	public PojoIndexingProcessor<T> compile() {
+		return new PojoIndexingProcessorOriginalTypeNode<>( parentIndexObjectReferences, nested.compile() );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
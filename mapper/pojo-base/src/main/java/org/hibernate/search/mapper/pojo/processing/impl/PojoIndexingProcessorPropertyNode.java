@@ -44,6 +44,16 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "nested", nested );
 	}
 
+	@Override
+	public PojoIndexingProcessor<T> compile() {
+		PojoIndexingProcessor<? super P> compiledNested = nested.compile();
+		if ( compiledNested instanceof PojoIndexingProcessorValueBridgeNode ) {
+			// Read the property and apply the bridge in a single node
+			return ( (PojoIndexingProcessorValueBridgeNode<? super P, ?>) compiledNested ).withPropertySource( handle );
+		}
+		return new PojoIndexingProcessorPropertyNode<>( handle, compiledNested );
+	}
+
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
 		P propertyValue = handle.get( source );
@@ -13,6 +13,7 @@
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
 
 /**
  * A node inside a {@link PojoIndexingProcessor} responsible for applying a {@link ValueBridge} to a value.
@@ -46,6 +47,10 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "indexField", indexFieldReference );
 	}
 
+	<T> PojoIndexingProcessor<T> withPropertySource(ValueReadHandle<? extends V> handle) {
+		return new PojoIndexingProcessorPropertyValueBridgeNode<>( handle, bridgeHolder, indexFieldReference );
+	}
+
 	@Override
 	public void process(DocumentElement target, V source, PojoIndexingProcessorSessionContext sessionContext) {
 		F indexFieldValue = bridgeHolder.get().toIndexedValue( source, sessionContext.mappingContext().valueBridgeToIndexedValueContext() );
@@ -12,6 +12,7 @@
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -31,7 +32,9 @@
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeTypeExtendedContextProvider;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.mapper.pojo.work.impl.PojoScopeIndexRebuildImpl;
 import org.hibernate.search.mapper.pojo.work.impl.PojoScopeWorkspaceImpl;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeIndexRebuild;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -135,6 +138,11 @@ public PojoScopeWorkspace workspace(DetachedBackendSessionContext sessionContext
 		);
 	}
 
+	@Override
+	public CompletableFuture<PojoScopeIndexRebuild> startIndexRebuild() {
+		return PojoScopeIndexRebuildImpl.start( targetedTypeContexts );
+	}
+
 	@Override
 	public PojoScopeSchemaManager schemaManager() {
 		return new PojoScopeSchemaManagerImpl( targetedTypeContexts );
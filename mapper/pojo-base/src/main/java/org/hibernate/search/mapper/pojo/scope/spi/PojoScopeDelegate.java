@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.scope.spi;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
@@ -17,6 +18,7 @@
 import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeIndexRebuild;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 
 /**
@@ -47,6 +49,14 @@
 
 	PojoScopeWorkspace workspace(DetachedBackendSessionContext sessionContext);
 
+	/**
+	 * Start rebuilding all indexes in this scope into new, initially empty indexes.
+	 *
+	 * @return A future that completes when the new indexes are ready to accept documents.
+	 * @see PojoScopeIndexRebuild
+	 */
+	CompletableFuture<PojoScopeIndexRebuild> startIndexRebuild();
+
 	PojoScopeSchemaManager schemaManager();
 
 }
@@ -12,6 +12,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
@@ -26,13 +27,22 @@ public class PojoIndexerImpl implements PojoIndexer {
 
 	private final PojoWorkIndexedTypeContextProvider indexedTypeContextProvider;
 	private final PojoWorkSessionContext<?> sessionContext;
+	// The rebuilds to write to instead of the indexes, or null to write to the indexes directly
+	private final Map<PojoRawTypeIdentifier<?>, IndexRebuild> rebuilds;
 
 	private final Map<PojoRawTypeIdentifier<?>, PojoTypeIndexer<?, ?>> delegates = new ConcurrentHashMap<>();
 
 	public PojoIndexerImpl(PojoWorkIndexedTypeContextProvider indexedTypeContextProvider,
 			PojoWorkSessionContext<?> sessionContext) {
+		this( indexedTypeContextProvider, sessionContext, null );
+	}
+
+	PojoIndexerImpl(PojoWorkIndexedTypeContextProvider indexedTypeContextProvider,
+			PojoWorkSessionContext<?> sessionContext,
+			Map<PojoRawTypeIdentifier<?>, IndexRebuild> rebuilds) {
 		this.indexedTypeContextProvider = indexedTypeContextProvider;
 		this.sessionContext = sessionContext;
+		this.rebuilds = rebuilds;
 	}
 
 	@Override
@@ -78,6 +88,15 @@ public CompletableFuture<?> purge(PojoRawTypeIdentifier<?> typeIdentifier, Objec
 			throw log.notDirectlyIndexedType( typeIdentifier );
 		}
 
+		IndexRebuild rebuild = rebuilds == null ? null : rebuilds.get( typeIdentifier );
+		if ( rebuild != null ) {
+			return createTypeIndexer( typeContext.get(), rebuild );
+		}
 		return typeContext.get().createIndexer( sessionContext );
 	}
+
+	private <I, E> PojoTypeIndexer<I, E> createTypeIndexer(PojoWorkIndexedTypeContext<I, E> typeContext,
+			IndexRebuild rebuild) {
+		return new PojoTypeIndexer<>( typeContext, sessionContext, rebuild.createIndexer( sessionContext ) );
+	}
 }
@@ -0,0 +1,104 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
+import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeIndexRebuild;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.impl.Throwables;
+
+public final class PojoScopeIndexRebuildImpl implements PojoScopeIndexRebuild, PojoWorkIndexedTypeContextProvider {
+
+	public static CompletableFuture<PojoScopeIndexRebuild> start(
+			Set<? extends PojoWorkIndexedTypeContext<?, ?>> targetedTypeContexts) {
+		Map<PojoWorkIndexedTypeContext<?, ?>, CompletableFuture<IndexRebuild>> futures = new LinkedHashMap<>();
+		for ( PojoWorkIndexedTypeContext<?, ?> typeContext : targetedTypeContexts ) {
+			futures.put( typeContext, Futures.create( typeContext::startRebuild ) );
+		}
+		return CompletableFuture.allOf( futures.values().toArray( new CompletableFuture<?>[0] ) )
+				.<PojoScopeIndexRebuild>handle( Futures.handler( (ignored, throwable) -> {
+					if ( throwable == null ) {
+						return new PojoScopeIndexRebuildImpl( futures );
+					}
+					// Drop the indexes that were successfully created
+					List<IndexRebuild> startedRebuilds = new ArrayList<>();
+					for ( CompletableFuture<IndexRebuild> future : futures.values() ) {
+						if ( !future.isCompletedExceptionally() ) {
+							startedRebuilds.add( future.join() );
+						}
+					}
+					new SuppressingCloser( throwable )
+							.pushAll( rebuild -> Futures.unwrappedExceptionJoin( rebuild.abort() ), startedRebuilds );
+					throw Throwables.toRuntimeException( throwable );
+				} ) );
+	}
+
+	private final Map<PojoRawTypeIdentifier<?>, PojoWorkIndexedTypeContext<?, ?>> typeContexts = new LinkedHashMap<>();
+	private final Map<PojoRawTypeIdentifier<?>, IndexRebuild> rebuilds = new LinkedHashMap<>();
+
+	private PojoScopeIndexRebuildImpl(Map<PojoWorkIndexedTypeContext<?, ?>, CompletableFuture<IndexRebuild>> futures) {
+		for ( Map.Entry<PojoWorkIndexedTypeContext<?, ?>, CompletableFuture<IndexRebuild>> entry : futures.entrySet() ) {
+			PojoRawTypeIdentifier<?> typeIdentifier = entry.getKey().getTypeIdentifier();
+			typeContexts.put( typeIdentifier, entry.getKey() );
+			rebuilds.put( typeIdentifier, entry.getValue().join() );
+		}
+	}
+
+	@Override
+	public PojoIndexer createIndexer(PojoWorkSessionContext<?> sessionContext) {
+		return new PojoIndexerImpl( this, sessionContext, rebuilds );
+	}
+
+	@Override
+	public PojoScopeWorkspace workspace(DetachedBackendSessionContext sessionContext) {
+		return new PojoScopeWorkspaceImpl( rebuilds.values(), sessionContext );
+	}
+
+	@Override
+	public CompletableFuture<?> complete() {
+		return doOperationOnRebuilds( IndexRebuild::complete );
+	}
+
+	@Override
+	public CompletableFuture<?> abort() {
+		return doOperationOnRebuilds( IndexRebuild::abort );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The map is populated with type contexts matching their type identifier
+	public <E> Optional<? extends PojoWorkIndexedTypeContext<?, E>> getByExactType(
+			PojoRawTypeIdentifier<E> typeIdentifier) {
+		return Optional.ofNullable( (PojoWorkIndexedTypeContext<?, E>) typeContexts.get( typeIdentifier ) );
+	}
+
+	private CompletableFuture<?> doOperationOnRebuilds(Function<IndexRebuild, CompletableFuture<?>> operation) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[rebuilds.size()];
+		int typeCounter = 0;
+
+		for ( IndexRebuild rebuild : rebuilds.values() ) {
+			futures[typeCounter++] = Futures.create( () -> operation.apply( rebuild ) );
+		}
+
+		return CompletableFuture.allOf( futures );
+	}
+
+}
@@ -7,11 +7,13 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
@@ -27,6 +29,12 @@ public PojoScopeWorkspaceImpl(Set<? extends PojoWorkIndexedTypeContext<?, ?>> ta
 		}
 	}
 
+	PojoScopeWorkspaceImpl(Collection<IndexRebuild> rebuilds, DetachedBackendSessionContext sessionContext) {
+		for ( IndexRebuild rebuild : rebuilds ) {
+			delegates.add( rebuild.createWorkspace( sessionContext ) );
+		}
+	}
+
 	@Override
 	public CompletableFuture<?> mergeSegments() {
 		return doOperationOnTypes( IndexWorkspace::mergeSegments );
@@ -7,8 +7,10 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -53,4 +55,6 @@ <R> PojoIndexedTypeIndexingPlan<I, E, R> createIndexingPlan(PojoWorkSessionConte
 
 	IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionContext);
 
+	CompletableFuture<IndexRebuild> startRebuild();
+
 }
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+
+/**
+ * A rebuild of all indexes in a scope into new, initially empty indexes,
+ * which will replace the original indexes when the rebuild completes.
+ * <p>
+ * While the rebuild is in progress, searches still target the original indexes,
+ * and indexing plans write to both the original indexes and the rebuilt indexes.
+ * <p>
+ * Exactly one of {@link #complete()} or {@link #abort()} must be called eventually.
+ */
+public interface PojoScopeIndexRebuild {
+
+	/**
+	 * @param sessionContext The session context.
+	 * @return An indexer writing to the rebuilt indexes only.
+	 */
+	PojoIndexer createIndexer(PojoWorkSessionContext<?> sessionContext);
+
+	/**
+	 * @param sessionContext The session context.
+	 * @return A workspace targeting the rebuilt indexes only.
+	 */
+	PojoScopeWorkspace workspace(DetachedBackendSessionContext sessionContext);
+
+	/**
+	 * Replace the original indexes with the rebuilt indexes.
+	 *
+	 * @return A future that completes when the rebuilt indexes replaced the original indexes.
+	 */
+	CompletableFuture<?> complete();
+
+	/**
+	 * Drop the rebuilt indexes, leaving the original indexes untouched.
+	 *
+	 * @return A future that completes when the rebuilt indexes have been dropped.
+	 */
+	CompletableFuture<?> abort();
+
+}
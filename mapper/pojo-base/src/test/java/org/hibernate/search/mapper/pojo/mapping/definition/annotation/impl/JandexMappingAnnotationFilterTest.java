@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.definition.annotation.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.PropertyMapping;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.PropertyMappingAnnotationProcessorRef;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.jboss.jandex.Indexer;
+
+public class JandexMappingAnnotationFilterTest {
+
+	private JandexMappingAnnotationFilter filter;
+
+	@Before
+	public void setup() throws IOException {
+		Indexer indexer = new Indexer();
+		for ( Class<?> clazz : new Class<?>[] {
+				NotAnnotated.class, NonMappingAnnotated.class, TypeAnnotated.class, PropertyAnnotated.class,
+				RepeatedPropertyAnnotated.class, CustomAnnotated.class, CustomMapping.class, NonMapping.class,
+				SubclassOfTypeAnnotated.class
+		} ) {
+			String resourceName = clazz.getName().replace( '.', '/' ) + ".class";
+			try ( InputStream stream = clazz.getClassLoader().getResourceAsStream( resourceName ) ) {
+				indexer.index( stream );
+			}
+		}
+		filter = new JandexMappingAnnotationFilter( indexer.complete() );
+	}
+
+	@Test
+	public void notAnnotated() {
+		assertThat( filter.mayContribute( NotAnnotated.class ) ).isFalse();
+		assertThat( filter.mayContributeThroughHierarchy( NotAnnotated.class ) ).isFalse();
+	}
+
+	@Test
+	public void nonMappingAnnotation() {
+		assertThat( filter.mayContribute( NonMappingAnnotated.class ) ).isFalse();
+		assertThat( filter.mayContributeThroughHierarchy( NonMappingAnnotated.class ) ).isFalse();
+	}
+
+	@Test
+	public void builtinTypeAnnotation() {
+		assertThat( filter.mayContribute( TypeAnnotated.class ) ).isTrue();
+	}
+
+	@Test
+	public void builtinPropertyAnnotation() {
+		assertThat( filter.mayContribute( PropertyAnnotated.class ) ).isTrue();
+	}
+
+	@Test
+	public void builtinRepeatedPropertyAnnotation() {
+		assertThat( filter.mayContribute( RepeatedPropertyAnnotated.class ) ).isTrue();
+	}
+
+	@Test
+	public void customMappingAnnotation() {
+		assertThat( filter.mayContribute( CustomAnnotated.class ) ).isTrue();
+	}
+
+	@Test
+	public void hierarchy() {
+		assertThat( filter.mayContribute( SubclassOfTypeAnnotated.class ) ).isFalse();
+		assertThat( filter.mayContributeThroughHierarchy( SubclassOfTypeAnnotated.class ) ).isTrue();
+	}
+
+	@Test
+	public void notInIndex() {
+		// We cannot tell without reflection: assume it may contribute
+		assertThat( filter.mayContribute( NotInIndex.class ) ).isTrue();
+		assertThat( filter.mayContributeThroughHierarchy( NotInIndex.class ) ).isTrue();
+	}
+
+	@Test
+	public void standardJavaType() {
+		assertThat( filter.mayContribute( String.class ) ).isFalse();
+		assertThat( filter.mayContributeThroughHierarchy( String.class ) ).isFalse();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ ElementType.METHOD, ElementType.FIELD })
+	@PropertyMapping(processor = @PropertyMappingAnnotationProcessorRef(name = "someProcessor"))
+	public @interface CustomMapping {
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.FIELD })
+	public @interface NonMapping {
+	}
+
+	public static class NotAnnotated implements Serializable {
+		private String text;
+	}
+
+	@NonMapping
+	public static class NonMappingAnnotated {
+		@NonMapping
+		private String text;
+	}
+
+	@Indexed
+	public static class TypeAnnotated {
+	}
+
+	public static class PropertyAnnotated {
+		@GenericField
+		private String text;
+	}
+
+	public static class RepeatedPropertyAnnotated {
+		@GenericField
+		@GenericField(name = "text2")
+		private String text;
+	}
+
+	public static class CustomAnnotated {
+		@CustomMapping
+		public String getText() {
+			return null;
+		}
+	}
+
+	public static class SubclassOfTypeAnnotated extends TypeAnnotated {
+	}
+
+	public static class NotInIndex {
+	}
+}
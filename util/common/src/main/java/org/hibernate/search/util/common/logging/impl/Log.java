@@ -109,4 +109,22 @@ void cannotAccessRepeateableContainingAnnotationValue(
 			value = "'%1$s' must be strictly positive.")
 	IllegalArgumentException mustBeStrictlyPositive(String objectDescription);
 
+	@Message(id = ID_OFFSET_2 + 11,
+			value = "Exception while generating an accessor for '%1$s' using LambdaMetafactory.")
+	SearchException errorGeneratingAccessor(Member member, @Cause Throwable e);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 12,
+			value = "Unable to generate an accessor for '%1$s' using LambdaMetafactory; falling back to method handles."
+					+ " Accessors can only be generated for public, non-static getters of public classes"
+					+ " visible from '%2$s'."
+					+ " Further fallbacks will only be logged at the DEBUG level.")
+	void lambdaMetafactoryFallback(Member member, @FormatWith(ClassFormatter.class) Class<?> lookupClass,
+			@Cause Throwable e);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 13,
+			value = "Unable to generate an accessor for '%1$s' using LambdaMetafactory; falling back to method handles.")
+	void lambdaMetafactoryFallbackDebug(Member member, @Cause Throwable e);
+
 }
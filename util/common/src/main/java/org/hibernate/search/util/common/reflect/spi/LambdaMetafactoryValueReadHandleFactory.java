@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.impl.FunctionValueReadHandle;
+
+final class LambdaMetafactoryValueReadHandleFactory implements ValueReadHandleFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_APPLY_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final MethodHandles.Lookup lookup;
+	private final ValueReadHandleFactory fallback;
+	private final AtomicBoolean fallbackLogged = new AtomicBoolean( false );
+
+	LambdaMetafactoryValueReadHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+		this.fallback = new MethodHandleValueReadHandleFactory( lookup );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForField(Field field) throws IllegalAccessException {
+		// LambdaMetafactory only accepts method handles to methods and constructors, not to fields.
+		return fallback.createForField( field );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForMethod(Method method) throws IllegalAccessException {
+		if ( !canGenerateFunction( method ) ) {
+			return fallback( method, null );
+		}
+		MethodHandle methodHandle = lookup.unreflect( method );
+		Function<Object, ?> getter;
+		try {
+			CallSite callSite = LambdaMetafactory.metafactory(
+					lookup, "apply", FUNCTION_FACTORY_TYPE, FUNCTION_APPLY_TYPE,
+					methodHandle, methodHandle.type().wrap()
+			);
+			@SuppressWarnings("unchecked")
+			Function<Object, ?> function = (Function<Object, ?>) callSite.getTarget().invoke();
+			getter = function;
+		}
+		catch (LambdaConversionException | RuntimeException | LinkageError e) {
+			// The member is not accessible to the generated class after all: give up on generation.
+			return fallback( method, e );
+		}
+		catch (Throwable e) {
+			throw log.errorGeneratingAccessor( method, e );
+		}
+		return new FunctionValueReadHandle<>( method, getter );
+	}
+
+	private ValueReadHandle<?> fallback(Method method, Throwable cause) throws IllegalAccessException {
+		// Log the first fallback prominently: users explicitly asked for generated accessors.
+		if ( fallbackLogged.compareAndSet( false, true ) ) {
+			log.lambdaMetafactoryFallback( method, lookup.lookupClass(), cause );
+		}
+		else {
+			log.lambdaMetafactoryFallbackDebug( method, cause );
+		}
+		return fallback.createForMethod( method );
+	}
+
+	/*
+	 * The generated class is defined in the lookup class' class loader and package,
+	 * and calls the method directly, without the access overrides granted by setAccessible(true).
+	 * Thus, we can only generate functions for public methods of public classes
+	 * that are visible from the lookup class.
+	 * Also, LambdaMetafactory requires a lookup with private access.
+	 */
+	private boolean canGenerateFunction(Method method) {
+		if ( ( lookup.lookupModes() & MethodHandles.Lookup.PRIVATE ) == 0 ) {
+			return false;
+		}
+		int modifiers = method.getModifiers();
+		if ( Modifier.isStatic( modifiers ) || !Modifier.isPublic( modifiers ) || method.getParameterCount() != 0 ) {
+			return false;
+		}
+		Class<?> declaringClass = method.getDeclaringClass();
+		return Modifier.isPublic( declaringClass.getModifiers() )
+				&& isVisibleFromLookupClass( declaringClass )
+				&& isVisibleFromLookupClass( method.getReturnType() );
+	}
+
+	private boolean isVisibleFromLookupClass(Class<?> type) {
+		if ( type.isPrimitive() ) {
+			return true;
+		}
+		while ( type.isArray() ) {
+			type = type.getComponentType();
+		}
+		try {
+			return Class.forName( type.getName(), false, lookup.lookupClass().getClassLoader() ) == type;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -34,4 +34,17 @@ static ValueReadHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueReadHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with private access and sufficient access rights to access all relevant fields and methods,
+	 * whose lookup class can see the classes declaring these fields and methods.
+	 * @return A factory producing value handles that rely on functions generated through
+	 * {@link java.lang.invoke.LambdaMetafactory} to call methods directly,
+	 * which the JIT can optimize better than calls to a {@link java.lang.invoke.MethodHandle}.
+	 * Fields, as well as methods that cannot be called directly from the lookup class
+	 * (non-public methods or classes in particular), rely on {@link java.lang.invoke.MethodHandle} instead.
+	 */
+	static ValueReadHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryValueReadHandleFactory( lookup );
+	}
+
 }
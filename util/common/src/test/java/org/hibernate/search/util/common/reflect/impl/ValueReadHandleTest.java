@@ -38,6 +38,7 @@ public static List<Object[]> data() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList( new Object[][] {
 				{ ValueReadHandleFactory.usingMethodHandle( lookup ) },
+				{ ValueReadHandleFactory.usingLambdaMetafactory( lookup ) },
 				{ ValueReadHandleFactory.usingJavaLangReflect() }
 		} );
 	}
@@ -108,6 +109,23 @@ public void publicMethod() throws Exception {
 		testMethodValueReadHandleSuccess( "publicMethod" );
 	}
 
+	@Test
+	public void publicMethod_publicClass() throws Exception {
+		Method method = PublicEntityType.class.getDeclaredMethod( "getValue" );
+
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+		assertThat( valueReadHandle.get( new PublicEntityType() ) ).isEqualTo( "publicEntityTypeValue" );
+
+		if ( isLambdaMetafactory() ) {
+			// Public methods of public classes get a generated accessor
+			assertThat( valueReadHandle ).isInstanceOf( FunctionValueReadHandle.class );
+		}
+
+		ValueReadHandle<?> equalValueReadHandle = factory.createForMethod( method );
+		assertThat( valueReadHandle ).isEqualTo( equalValueReadHandle );
+		assertThat( valueReadHandle.hashCode() ).isEqualTo( equalValueReadHandle.hashCode() );
+	}
+
 	@Test
 	public void failure_method_error() throws Exception {
 		Method method = EntityType.class.getDeclaredMethod( "errorThrowingMethod" );
@@ -145,7 +163,7 @@ public void failure_method_illegalAccessException() throws Exception {
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
-				factory.getClass().getSimpleName().contains( "MethodHandle" )
+				factory.getClass().getSimpleName().contains( "MethodHandle" ) || isLambdaMetafactory()
 		);
 
 		Method method = EntityType.class.getDeclaredMethod( "illegalAccessExceptionThrowingMethod" );
@@ -167,7 +185,7 @@ public void failure_field_illegalAccessException() throws Exception {
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
-				factory.getClass().getSimpleName().contains( "MethodHandle" )
+				factory.getClass().getSimpleName().contains( "MethodHandle" ) || isLambdaMetafactory()
 		);
 
 		Field field = EntityType.class.getDeclaredField( "illegalAccessExceptionThrowingField" );
@@ -246,6 +264,11 @@ private void testMethodValueReadHandleSuccess(String methodName) throws IllegalA
 		assertThat( valueReadHandle ).isNotEqualTo( differentMethodValueReadHandle );
 	}
 
+	private boolean isLambdaMetafactory() {
+		// The LambdaMetafactory-based factory relies on MethodHandles for everything it cannot generate
+		return factory.getClass().getSimpleName().contains( "LambdaMetafactory" );
+	}
+
 	private static void setAccessible(Member member) {
 		if ( !Modifier.isPublic( member.getModifiers() ) ) {
 			( (AccessibleObject) member ).setAccessible( true );
@@ -305,6 +328,12 @@ private String illegalAccessExceptionThrowingMethod() {
 		}
 	}
 
+	public static class PublicEntityType {
+		public String getValue() {
+			return "publicEntityTypeValue";
+		}
+	}
+
 	private static class SimulatedRuntimeException extends RuntimeException {
 		public SimulatedRuntimeException(String message) {
 			super( message );
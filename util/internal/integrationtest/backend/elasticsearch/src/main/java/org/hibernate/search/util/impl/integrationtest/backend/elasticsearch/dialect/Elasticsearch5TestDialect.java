@@ -68,6 +68,11 @@ public boolean supportsIsWriteIndex() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsTotalHitCountThreshold() {
+		return false;
+	}
+
 	@Override
 	public boolean hasBugForSortMaxOnNegativeFloats() {
 		return true;
@@ -71,6 +71,11 @@ public boolean supportsIsWriteIndex() {
 		return false;
 	}
 
+	@Override
+	public boolean supportsTotalHitCountThreshold() {
+		return false;
+	}
+
 	@Override
 	public boolean hasBugForBigIntegerValuesForDynamicField() {
 		return true;
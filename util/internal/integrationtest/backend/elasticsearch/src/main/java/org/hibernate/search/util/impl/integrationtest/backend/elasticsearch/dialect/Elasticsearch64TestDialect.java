@@ -71,6 +71,11 @@ public boolean supportsIsWriteIndex() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsTotalHitCountThreshold() {
+		return false;
+	}
+
 	@Override
 	public boolean hasBugForBigIntegerValuesForDynamicField() {
 		return true;
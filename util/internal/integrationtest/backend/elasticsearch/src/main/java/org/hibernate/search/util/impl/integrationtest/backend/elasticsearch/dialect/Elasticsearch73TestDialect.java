@@ -70,6 +70,11 @@ public boolean supportsIsWriteIndex() {
 		return true;
 	}
 
+	@Override
+	public boolean supportsTotalHitCountThreshold() {
+		return true;
+	}
+
 	@Override
 	public boolean normalizesStringArgumentToWildcardPredicateForAnalyzedStringField() {
 		return false;
@@ -69,4 +69,9 @@ public boolean zonedDateTimeDocValueHasUTCZoneId() {
 	public boolean supportsIsWriteIndex() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsTotalHitCountThreshold() {
+		return true;
+	}
 }
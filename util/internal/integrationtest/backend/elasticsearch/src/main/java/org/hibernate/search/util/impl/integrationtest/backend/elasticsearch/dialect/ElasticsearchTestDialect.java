@@ -64,6 +64,8 @@ default String getConcatenatedLocalDateDefaultMappingFormats() {
 
 	boolean supportsIsWriteIndex();
 
+	boolean supportsTotalHitCountThreshold();
+
 	default boolean hasBugForSortMaxOnNegativeFloats() {
 		return false;
 	}
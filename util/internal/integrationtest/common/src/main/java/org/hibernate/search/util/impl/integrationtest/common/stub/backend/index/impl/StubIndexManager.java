@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -116,6 +117,12 @@ public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionConte
 		return new StubIndexWorkspace( name, backend.getBehavior(), sessionContext );
 	}
 
+	@Override
+	public CompletableFuture<IndexRebuild> startRebuild() {
+		checkStarted();
+		return CompletableFuture.completedFuture( new StubIndexRebuild( this ) );
+	}
+
 	@Override
 	public IndexScopeBuilder createScopeBuilder(BackendMappingContext mappingContext) {
 		checkStarted();
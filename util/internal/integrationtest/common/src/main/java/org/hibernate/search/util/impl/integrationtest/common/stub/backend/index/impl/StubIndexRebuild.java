@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+
+/**
+ * A rebuild that simply applies works to the original index,
+ * so that tests can set expectations on the original index name.
+ */
+class StubIndexRebuild implements IndexRebuild {
+
+	private final StubIndexManager indexManager;
+
+	StubIndexRebuild(StubIndexManager indexManager) {
+		this.indexManager = indexManager;
+	}
+
+	@Override
+	public IndexIndexer createIndexer(BackendSessionContext sessionContext) {
+		return indexManager.createIndexer( sessionContext );
+	}
+
+	@Override
+	public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionContext) {
+		return indexManager.createWorkspace( sessionContext );
+	}
+
+	@Override
+	public CompletableFuture<?> complete() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> abort() {
+		return CompletableFuture.completedFuture( null );
+	}
+}
@@ -12,6 +12,7 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.index.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexRebuild;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
@@ -24,6 +25,7 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.engine.mapper.scope.spi.MappedIndexScopeBuilder;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.util.common.impl.Futures;
 
 /**
  * A wrapper around {@link MappedIndexManager} providing some syntactic sugar,
@@ -157,6 +159,10 @@ public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionConte
 		return delegate().createWorkspace( sessionContext );
 	}
 
+	public IndexRebuild startRebuild() {
+		return Futures.unwrappedExceptionJoin( delegate().startRebuild() );
+	}
+
 	/**
 	 * @return {@code createScope().query()}.
 	 */